@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Query data flush advice.
+ */
+public final class QueryDataFlushAdvice implements InstanceMethodAdvice {
+    
+    public static final String FLUSH = "flush";
+    
+    public static final String AWAIT_WRITABLE = "awaitWritable";
+    
+    static {
+        MetricsPool.create(MetricIds.PROXY_FRONTEND_FLUSH_PACKETS);
+        MetricsPool.create(MetricIds.PROXY_FRONTEND_BACKPRESSURE_WAIT_MILLIS);
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result) {
+        if (!(result instanceof Number) || ((Number) result).longValue() <= 0L) {
+            return;
+        }
+        String methodName = method.getName();
+        if (FLUSH.equals(methodName)) {
+            MetricsPool.get(MetricIds.PROXY_FRONTEND_FLUSH_PACKETS).ifPresent(optional -> optional.observe(((Number) result).doubleValue()));
+        } else if (AWAIT_WRITABLE.equals(methodName)) {
+            MetricsPool.get(MetricIds.PROXY_FRONTEND_BACKPRESSURE_WAIT_MILLIS).ifPresent(optional -> optional.observe(((Number) result).doubleValue()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * Zone map prune advice.
+ */
+public final class ZoneMapPruneAdvice implements InstanceMethodAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.ROUTE_ZONE_MAP_CANDIDATE_SHARD);
+        MetricsPool.create(MetricIds.ROUTE_ZONE_MAP_PRUNED_SHARD);
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result) {
+        if (!(result instanceof Collection)) {
+            return;
+        }
+        String logicTableName = String.valueOf(args[0]);
+        int candidateCount = ((Collection<?>) args[1]).size();
+        int prunedCount = candidateCount - ((Collection<?>) result).size();
+        MetricsPool.get(MetricIds.ROUTE_ZONE_MAP_CANDIDATE_SHARD).ifPresent(optional -> optional.inc(candidateCount, logicTableName));
+        if (prunedCount > 0) {
+            MetricsPool.get(MetricIds.ROUTE_ZONE_MAP_PRUNED_SHARD).ifPresent(optional -> optional.inc(prunedCount, logicTableName));
+        }
+    }
+}
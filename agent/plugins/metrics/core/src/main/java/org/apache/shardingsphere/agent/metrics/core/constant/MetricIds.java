@@ -42,10 +42,20 @@ public final class MetricIds {
     
     public static final String ROUTE_TABLE = "route_table_total";
     
+    public static final String ROUTE_ZONE_MAP_CANDIDATE_SHARD = "route_zone_map_candidate_shard_total";
+    
+    public static final String ROUTE_ZONE_MAP_PRUNED_SHARD = "route_zone_map_pruned_shard_total";
+    
     public static final String TRANSACTION_COMMIT = "proxy_transaction_commit_total";
     
     public static final String TRANSACTION_ROLLBACK = "proxy_transaction_rollback_total";
     
+    public static final String PROXY_BACKEND_CONNECTION_PIN = "proxy_backend_connection_pin_total";
+    
+    public static final String PROXY_FRONTEND_FLUSH_PACKETS = "proxy_frontend_flush_packets";
+    
+    public static final String PROXY_FRONTEND_BACKPRESSURE_WAIT_MILLIS = "proxy_frontend_backpressure_wait_millis";
+    
     public static final String PROXY_INFO = "proxy_info";
     
     public static final String BUILD_INFO = "build_info";
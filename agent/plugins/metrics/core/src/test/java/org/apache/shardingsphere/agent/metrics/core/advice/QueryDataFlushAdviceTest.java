@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class QueryDataFlushAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final QueryDataFlushAdvice queryDataFlushAdvice = new QueryDataFlushAdvice();
+    
+    @Test
+    public void assertFlush() {
+        Method flush = mock(Method.class);
+        when(flush.getName()).thenReturn(QueryDataFlushAdvice.FLUSH);
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        queryDataFlushAdvice.afterMethod(targetObject, flush, new Object[]{}, 128);
+        queryDataFlushAdvice.afterMethod(targetObject, flush, new Object[]{}, 0);
+        FixtureWrapper wrapper = (FixtureWrapper) MetricsPool.get(MetricIds.PROXY_FRONTEND_FLUSH_PACKETS).get();
+        assertThat(wrapper.getFixtureValue(), is(128.0));
+    }
+    
+    @Test
+    public void assertAwaitWritable() {
+        Method awaitWritable = mock(Method.class);
+        when(awaitWritable.getName()).thenReturn(QueryDataFlushAdvice.AWAIT_WRITABLE);
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        queryDataFlushAdvice.afterMethod(targetObject, awaitWritable, new Object[]{}, 200L);
+        queryDataFlushAdvice.afterMethod(targetObject, awaitWritable, new Object[]{}, 0L);
+        FixtureWrapper wrapper = (FixtureWrapper) MetricsPool.get(MetricIds.PROXY_FRONTEND_BACKPRESSURE_WAIT_MILLIS).get();
+        assertThat(wrapper.getFixtureValue(), is(200.0));
+    }
+}
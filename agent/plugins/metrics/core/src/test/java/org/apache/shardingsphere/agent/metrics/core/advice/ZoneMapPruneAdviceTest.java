@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ZoneMapPruneAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final ZoneMapPruneAdvice zoneMapPruneAdvice = new ZoneMapPruneAdvice();
+    
+    @Test
+    public void assertPrune() {
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        zoneMapPruneAdvice.afterMethod(targetObject, mock(Method.class), new Object[]{"t_order", Arrays.asList("ds_0.t_order_0", "ds_0.t_order_1", "ds_1.t_order_0")},
+                Collections.singletonList("ds_0.t_order_1"));
+        zoneMapPruneAdvice.afterMethod(targetObject, mock(Method.class), new Object[]{"t_order", Arrays.asList("ds_0.t_order_0", "ds_0.t_order_1")}, Arrays.asList("ds_0.t_order_0", "ds_0.t_order_1"));
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.ROUTE_ZONE_MAP_CANDIDATE_SHARD).get()).getFixtureValue(), is(5.0));
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.ROUTE_ZONE_MAP_PRUNED_SHARD).get()).getFixtureValue(), is(2.0));
+    }
+}
@@ -44,7 +44,7 @@ public abstract class AbstractCommandExecutorTaskAdviceTest extends ProxyContext
     public final void prepare() {
         ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
         ConnectionSession connectionSession = new ConnectionSession(mock(MySQLDatabaseType.class), TransactionType.BASE, new DefaultAttributeMap());
-        Object executorTask = new CommandExecutorTask(null, connectionSession, null, null);
+        Object executorTask = new CommandExecutorTask(null, connectionSession, null, null, null);
         targetObject = (TargetAdviceObject) executorTask;
     }
 }
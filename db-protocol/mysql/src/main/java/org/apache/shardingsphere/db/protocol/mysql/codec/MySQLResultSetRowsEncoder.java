@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowsPacket;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encoder of result set rows packet for MySQL.
+ * 
+ * <p>Packet headers are written when rows are encoded, so sequence IDs are assigned in the same order as packets encoded by {@link MySQLPacketCodecEngine}.</p>
+ */
+@Sharable
+public final class MySQLResultSetRowsEncoder extends MessageToByteEncoder<MySQLResultSetRowsPacket> {
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int PACKET_HEADER_LENGTH = 4;
+    
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext context, final MySQLResultSetRowsPacket message, final boolean preferDirect) {
+        int initialCapacity = message.content().readableBytes() + message.getRowCount() * PACKET_HEADER_LENGTH;
+        return preferDirect ? context.alloc().ioBuffer(initialCapacity) : context.alloc().heapBuffer(initialCapacity);
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final MySQLResultSetRowsPacket message, final ByteBuf out) {
+        ByteBuf rows = message.content();
+        AtomicInteger sequenceId = context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get();
+        while (rows.isReadable()) {
+            int remainPayloadLength = rows.readInt();
+            int packetLength;
+            do {
+                packetLength = Math.min(remainPayloadLength, MAX_PACKET_LENGTH);
+                out.writeMediumLE(packetLength);
+                out.writeByte(sequenceId.getAndIncrement());
+                out.writeBytes(rows, packetLength);
+                remainPayloadLength -= packetLength;
+            } while (MAX_PACKET_LENGTH == packetLength);
+        }
+    }
+}
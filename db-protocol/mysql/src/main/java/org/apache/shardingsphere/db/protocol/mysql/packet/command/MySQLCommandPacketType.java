@@ -254,7 +254,14 @@ public enum MySQLCommandPacketType implements CommandPacketType {
      * 
      * @see <a href="https://dev.mysql.com/doc/internals/en/com-reset-connection.html">COM_RESET_CONNECTION</a>
      */
-    COM_RESET_CONNECTION(0x1f);
+    COM_RESET_CONNECTION(0x1f),
+    
+    /**
+     * Content of local file, which is sent by client after LOCAL INFILE request without command byte.
+     * 
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#local-infile-request">LOCAL INFILE Request</a>
+     */
+    LOCAL_INFILE_DATA(0x100);
     
     private static final Map<Integer, MySQLCommandPacketType> MYSQL_COMMAND_PACKET_TYPE_CACHE = new HashMap<>();
     
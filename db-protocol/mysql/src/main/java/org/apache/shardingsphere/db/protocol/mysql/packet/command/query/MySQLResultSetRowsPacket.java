@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Result set rows packet for MySQL.
+ * 
+ * <p>Payloads of result set row packets are written into pooled byte buffer directly, each payload is prefixed with 4 bytes payload length.
+ * Packet headers with sequence IDs are written by result set rows encoder when the packet is encoded.</p>
+ */
+public final class MySQLResultSetRowsPacket extends DefaultByteBufHolder {
+    
+    private static final int PAYLOAD_LENGTH = 4;
+    
+    private final MySQLPacketPayload payload;
+    
+    @Getter
+    private int rowCount;
+    
+    private int rowStartIndex;
+    
+    public MySQLResultSetRowsPacket(final ByteBuf rows, final Charset charset) {
+        super(rows);
+        payload = new MySQLPacketPayload(rows, charset);
+    }
+    
+    /**
+     * Start row.
+     *
+     * @return payload to write row
+     */
+    public MySQLPacketPayload startRow() {
+        rowStartIndex = content().writerIndex();
+        content().writeInt(0);
+        return payload;
+    }
+    
+    /**
+     * Finish row.
+     */
+    public void finishRow() {
+        content().setInt(rowStartIndex, content().writerIndex() - rowStartIndex - PAYLOAD_LENGTH);
+        rowCount++;
+    }
+    
+    /**
+     * Get written bytes.
+     *
+     * @return written bytes
+     */
+    public int getWrittenBytes() {
+        return content().readableBytes();
+    }
+}
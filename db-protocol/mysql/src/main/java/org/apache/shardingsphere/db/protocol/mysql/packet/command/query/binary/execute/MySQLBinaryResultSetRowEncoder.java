@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.List;
+
+/**
+ * Binary result set row encoder for MySQL.
+ * 
+ * <p>Binary protocol values of columns are chosen once by column types and reused for all rows of result set.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final MySQLBinaryColumnType[] columnTypes;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final int nullBitmapLength;
+    
+    public MySQLBinaryResultSetRowEncoder(final List<MySQLBinaryColumnType> columnTypes) {
+        this.columnTypes = columnTypes.toArray(new MySQLBinaryColumnType[0]);
+        binaryProtocolValues = new MySQLBinaryProtocolValue[columnTypes.size()];
+        nullBitmapLength = (columnTypes.size() + NULL_BITMAP_OFFSET + 7) / 8;
+    }
+    
+    /**
+     * Encode row values.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param values row values
+     */
+    public void encode(final MySQLPacketPayload payload, final Object[] values) {
+        payload.writeInt1(PACKET_HEADER);
+        writeNullBitmap(payload, values);
+        for (int i = 0; i < columnTypes.length; i++) {
+            if (null != values[i]) {
+                getBinaryProtocolValue(i).write(payload, values[i]);
+            }
+        }
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload, final Object[] values) {
+        for (int bytePosition = 0; bytePosition < nullBitmapLength; bytePosition++) {
+            int nullBits = 0;
+            for (int bitPosition = 0; bitPosition < 8; bitPosition++) {
+                int columnIndex = bytePosition * 8 + bitPosition - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < columnTypes.length && null == values[columnIndex]) {
+                    nullBits |= 1 << bitPosition;
+                }
+            }
+            payload.writeInt1(nullBits);
+        }
+    }
+    
+    private MySQLBinaryProtocolValue getBinaryProtocolValue(final int columnIndex) {
+        if (null == binaryProtocolValues[columnIndex]) {
+            binaryProtocolValues[columnIndex] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[columnIndex]);
+        }
+        return binaryProtocolValues[columnIndex];
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Text result set row encoder for MySQL.
+ * 
+ * <p>Encoders of columns are chosen once by column types, integral values are written as digits without creating strings.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+ */
+public final class MySQLTextResultSetRowEncoder {
+    
+    private static final int NULL = 0xfb;
+    
+    private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    private final boolean[] integralColumns;
+    
+    public MySQLTextResultSetRowEncoder(final List<Integer> columnTypes) {
+        integralColumns = new boolean[columnTypes.size()];
+        int index = 0;
+        for (int each : columnTypes) {
+            integralColumns[index++] = isIntegralColumnType(each);
+        }
+    }
+    
+    private boolean isIntegralColumnType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
+    
+    /**
+     * Encode row values.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param values row values
+     */
+    public void encode(final MySQLPacketPayload payload, final Object[] values) {
+        for (int i = 0; i < integralColumns.length; i++) {
+            Object value = values[i];
+            if (integralColumns[i] && isIntegralValue(value)) {
+                writeIntegral(payload.getByteBuf(), ((Number) value).longValue());
+            } else {
+                writeValue(payload, value);
+            }
+        }
+    }
+    
+    private boolean isIntegralValue(final Object value) {
+        return (value instanceof Long && Long.MIN_VALUE != (Long) value) || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void writeIntegral(final ByteBuf byteBuf, final long value) {
+        int length = getDigitsLength(value);
+        byteBuf.ensureWritable(length + 1);
+        byteBuf.writeByte(length);
+        int endIndex = byteBuf.writerIndex() + length;
+        int index = endIndex;
+        long remaining = Math.abs(value);
+        do {
+            byteBuf.setByte(--index, (int) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(endIndex);
+    }
+    
+    private int getDigitsLength(final long value) {
+        int result = value < 0 ? 2 : 1;
+        long remaining = Math.abs(value);
+        while (remaining >= 10) {
+            remaining /= 10;
+            result++;
+        }
+        return result;
+    }
+    
+    static void writeValue(final MySQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt1(NULL);
+        } else if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if ((value instanceof Timestamp) && (0 == ((Timestamp) value).getNanos())) {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        } else if (value instanceof BigDecimal) {
+            payload.writeStringLenenc(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            payload.writeBytesLenenc((Boolean) value ? new byte[]{1} : new byte[]{0});
+        } else if (value instanceof LocalDateTime) {
+            payload.writeStringLenenc(DT_FMT.format((LocalDateTime) value));
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Local infile data packet for MySQL, empty data means the end of local file.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#local-infile-request">LOCAL INFILE Request</a>
+ */
+@Getter
+public final class MySQLLocalInfileDataPacket extends MySQLCommandPacket {
+    
+    private final byte[] data;
+    
+    public MySQLLocalInfileDataPacket(final MySQLPacketPayload payload) {
+        super(MySQLCommandPacketType.LOCAL_INFILE_DATA);
+        data = payload.readStringEOFByBytes();
+    }
+    
+    /**
+     * Judge whether is end of local file.
+     *
+     * @return is end of local file or not
+     */
+    public boolean isEndOfFile() {
+        return 0 == data.length;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowsPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+
+public final class MySQLResultSetRowsEncoderTest {
+    
+    @Test
+    public void assertEncode() {
+        MySQLResultSetRowsPacket rowsPacket = new MySQLResultSetRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        rowsPacket.startRow().writeStringLenenc("foo");
+        rowsPacket.finishRow();
+        rowsPacket.startRow().writeInt1(0xfb);
+        rowsPacket.finishRow();
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLResultSetRowsEncoder());
+        channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID).set(new AtomicInteger(3));
+        channel.writeOutbound(rowsPacket);
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(4));
+        assertThat(actual.readUnsignedByte(), is((short) 3));
+        assertThat(new MySQLPacketPayload(actual, StandardCharsets.UTF_8).readStringLenenc(), is("foo"));
+        assertThat(actual.readUnsignedMediumLE(), is(1));
+        assertThat(actual.readUnsignedByte(), is((short) 4));
+        assertThat(actual.readUnsignedByte(), is((short) 0xfb));
+        assertFalse(actual.isReadable());
+        assertThat(rowsPacket.refCnt(), is(0));
+        assertThat(channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().get(), is(5));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLTextResultSetRowEncoderTest {
+    
+    @Test
+    public void assertEncode() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        MySQLTextResultSetRowEncoder encoder = new MySQLTextResultSetRowEncoder(Arrays.asList(Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.VARCHAR));
+        encoder.encode(payload, new Object[]{Long.MIN_VALUE, -120, 0, null, new BigDecimal("1.50"), "foo"});
+        assertThat(payload.readStringLenenc(), is(Long.toString(Long.MIN_VALUE)));
+        assertThat(payload.readStringLenenc(), is("-120"));
+        assertThat(payload.readStringLenenc(), is("0"));
+        assertThat(payload.readInt1(), is(0xfb));
+        assertThat(payload.readStringLenenc(), is("1.50"));
+        assertThat(payload.readStringLenenc(), is("foo"));
+        assertFalse(byteBuf.isReadable());
+    }
+    
+    @Test
+    public void assertEncodeWithMaxLong() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowEncoder(Arrays.asList(Types.BIGINT, Types.SMALLINT)).encode(payload, new Object[]{Long.MAX_VALUE, (short) 7});
+        assertThat(payload.readStringLenenc(), is(Long.toString(Long.MAX_VALUE)));
+        assertThat(payload.readStringLenenc(), is("7"));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query;
+
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLLocalInfileDataPacketTest {
+    
+    @Mock
+    private MySQLPacketPayload payload;
+    
+    @Test
+    public void assertNew() {
+        when(payload.readStringEOFByBytes()).thenReturn(new byte[]{'1', '\t', 'a', '\n'});
+        MySQLLocalInfileDataPacket actual = new MySQLLocalInfileDataPacket(payload);
+        assertThat(actual.getData(), is(new byte[]{'1', '\t', 'a', '\n'}));
+        assertFalse(actual.isEndOfFile());
+    }
+    
+    @Test
+    public void assertNewEndOfFile() {
+        when(payload.readStringEOFByBytes()).thenReturn(new byte[0]);
+        assertTrue(new MySQLLocalInfileDataPacket(payload).isEndOfFile());
+    }
+}
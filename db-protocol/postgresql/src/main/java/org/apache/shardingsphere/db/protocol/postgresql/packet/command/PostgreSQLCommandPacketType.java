@@ -54,6 +54,12 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType, PostgreSQL
     
     FLUSH_COMMAND('H'),
     
+    COPY_DATA('d'),
+    
+    COPY_DONE('c'),
+    
+    COPY_FAIL('f'),
+    
     TERMINATE('X');
     
     private static final Set<PostgreSQLCommandPacketType> EXTENDED_PROTOCOL_PACKET_TYPE = new HashSet<>(Arrays.asList(PostgreSQLCommandPacketType.PARSE_COMMAND,
@@ -86,4 +92,14 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType, PostgreSQL
     public static boolean isExtendedProtocolPacketType(final CommandPacketType commandPacketType) {
         return EXTENDED_PROTOCOL_PACKET_TYPE.contains(commandPacketType);
     }
+    
+    /**
+     * Check if the packet type is copy sub-protocol packet type.
+     *
+     * @param commandPacketType command packet type
+     * @return is copy sub-protocol packet type
+     */
+    public static boolean isCopyProtocolPacketType(final CommandPacketType commandPacketType) {
+        return COPY_DATA == commandPacketType || COPY_DONE == commandPacketType || COPY_FAIL == commandPacketType;
+    }
 }
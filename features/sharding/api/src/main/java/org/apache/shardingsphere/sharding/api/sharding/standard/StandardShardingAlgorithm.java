@@ -19,7 +19,9 @@ package org.apache.shardingsphere.sharding.api.sharding.standard;
 
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Standard sharding algorithm.
@@ -37,6 +39,21 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      */
     String doSharding(Collection<String> availableTargetNames, PreciseShardingValue<T> shardingValue);
     
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue sharding values in batch
+     * @return sharding results for data source or table name, one for each sharding value in order
+     */
+    default List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<T> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (T each : shardingValue.getValues()) {
+            result.add(doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each)));
+        }
+        return result;
+    }
+    
     /**
      * Sharding.
      *
@@ -18,11 +18,10 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.complex;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
@@ -51,7 +50,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Getter
     private Properties props;
     
-    private String algorithmExpression;
+    private CompiledInlineExpression compiledAlgorithmExpression;
     
     private Collection<String> shardingColumns;
     
@@ -60,7 +59,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         this.props = props;
-        algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = new InlineExpressionParser(getAlgorithmExpression(props)).compile();
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -91,15 +90,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         Preconditions.checkArgument(shardingColumns.isEmpty() || shardingColumns.size() == columnNameAndShardingValuesMap.size(),
                 "Complex inline need %s sharing columns, but only found %s", shardingColumns.size(), columnNameAndShardingValuesMap.size());
         Collection<Map<String, Comparable<?>>> combine = combine(columnNameAndShardingValuesMap);
-        return combine.stream().map(this::doSharding).collect(Collectors.toList());
-    }
-    
-    private String doSharding(final Map<String, Comparable<?>> shardingValues) {
-        Closure<?> closure = createClosure();
-        for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            closure.setProperty(entry.getKey(), entry.getValue());
-        }
-        return closure.call().toString();
+        return combine.stream().map(compiledAlgorithmExpression::evaluate).collect(Collectors.toList());
     }
     
     private static <K, V> Collection<Map<K, V>> combine(final Map<K, Collection<V>> map) {
@@ -127,12 +118,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
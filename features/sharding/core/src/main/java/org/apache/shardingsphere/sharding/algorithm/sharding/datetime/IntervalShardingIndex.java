@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Interval sharding index.
+ *
+ * <p>Intervals between datetime lower and datetime upper are computed once and sorted by lower endpoint,
+ * sharding values are located by binary search and ranges are resolved by slicing intervals between located endpoints.
+ * Target names of intervals are cached for each available target names, such as actual tables of each data source.</p>
+ *
+ * @param <T> type of datetime
+ */
+final class IntervalShardingIndex<T extends Comparable<? super T>> {
+    
+    private static final int MAX_CACHED_AVAILABLE_TARGET_NAMES = 1024;
+    
+    private final T dateTimeLower;
+    
+    private final T dateTimeUpper;
+    
+    private final Function<Comparable<?>, T> valueParser;
+    
+    private final List<T> intervalLowers = new ArrayList<>();
+    
+    private final List<T> intervalUppers = new ArrayList<>();
+    
+    private final Map<String, Collection<Integer>> suffixIntervalIndexes = new HashMap<>();
+    
+    private final Collection<Integer> suffixLengths = new TreeSet<>();
+    
+    private final Map<Collection<String>, List<Collection<String>>> intervalTargetNamesCache = new ConcurrentHashMap<>();
+    
+    IntervalShardingIndex(final T dateTimeLower, final T dateTimeUpper, final UnaryOperator<T> stepper, final Predicate<T> steppable,
+                          final Function<T, String> suffixFormatter, final Function<Comparable<?>, T> valueParser) {
+        this.dateTimeLower = dateTimeLower;
+        this.dateTimeUpper = dateTimeUpper;
+        this.valueParser = valueParser;
+        T intervalLower = dateTimeLower;
+        while (intervalLower.compareTo(dateTimeUpper) <= 0 && steppable.test(intervalLower)) {
+            T intervalUpper = stepper.apply(intervalLower);
+            if (intervalUpper.compareTo(intervalLower) <= 0) {
+                break;
+            }
+            String suffix = suffixFormatter.apply(intervalLower);
+            suffixIntervalIndexes.computeIfAbsent(suffix, unused -> new LinkedList<>()).add(intervalLowers.size());
+            suffixLengths.add(suffix.length());
+            intervalLowers.add(intervalLower);
+            intervalUppers.add(intervalUpper);
+            intervalLower = intervalUpper;
+        }
+    }
+    
+    /**
+     * Get target names matched with sharding value range.
+     *
+     * @param availableTargetNames available target names
+     * @param range sharding value range
+     * @return matched target names
+     */
+    Collection<String> getMatchedTargetNames(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        T lower = range.hasLowerBound() ? valueParser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? valueParser.apply(range.upperEndpoint()) : dateTimeUpper;
+        Range<T> valueRange = Range.range(lower, range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED, upper, range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED);
+        int fromIndex = Math.max(findFloorIntervalIndex(lower), 0);
+        int toIndex = findFloorIntervalIndex(upper);
+        List<Collection<String>> intervalTargetNames = getIntervalTargetNames(availableTargetNames);
+        Collection<String> result = new LinkedHashSet<>();
+        for (int i = fromIndex; i <= toIndex; i++) {
+            if (i > fromIndex && i < toIndex || hasIntersection(i, valueRange)) {
+                result.addAll(intervalTargetNames.get(i));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get first target names matched with sharding values.
+     *
+     * @param availableTargetNames available target names
+     * @param values sharding values
+     * @return first matched target names, one for each sharding value in order, null if sharding value is not matched
+     */
+    List<String> getFirstMatchedTargetNames(final Collection<String> availableTargetNames, final List<? extends Comparable<?>> values) {
+        List<Collection<String>> intervalTargetNames = getIntervalTargetNames(availableTargetNames);
+        List<String> result = new ArrayList<>(values.size());
+        for (Comparable<?> each : values) {
+            T value = valueParser.apply(each);
+            int intervalIndex = findFloorIntervalIndex(value);
+            boolean matched = intervalIndex >= 0 && value.compareTo(intervalUppers.get(intervalIndex)) < 0 && !intervalTargetNames.get(intervalIndex).isEmpty();
+            result.add(matched ? intervalTargetNames.get(intervalIndex).iterator().next() : null);
+        }
+        return result;
+    }
+    
+    private int findFloorIntervalIndex(final T value) {
+        int result = Collections.binarySearch(intervalLowers, value);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private boolean hasIntersection(final int intervalIndex, final Range<T> valueRange) {
+        Range<T> intervalRange = Range.closedOpen(intervalLowers.get(intervalIndex), intervalUppers.get(intervalIndex));
+        return intervalRange.isConnected(valueRange) && !intervalRange.intersection(valueRange).isEmpty();
+    }
+    
+    private List<Collection<String>> getIntervalTargetNames(final Collection<String> availableTargetNames) {
+        List<Collection<String>> result = intervalTargetNamesCache.get(availableTargetNames);
+        if (null != result) {
+            return result;
+        }
+        if (intervalTargetNamesCache.size() >= MAX_CACHED_AVAILABLE_TARGET_NAMES) {
+            intervalTargetNamesCache.clear();
+        }
+        return intervalTargetNamesCache.computeIfAbsent(availableTargetNames, this::createIntervalTargetNames);
+    }
+    
+    private List<Collection<String>> createIntervalTargetNames(final Collection<String> availableTargetNames) {
+        List<Collection<String>> result = new ArrayList<>(intervalLowers.size());
+        for (int i = 0; i < intervalLowers.size(); i++) {
+            result.add(new LinkedList<>());
+        }
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (suffixLength > each.length()) {
+                    break;
+                }
+                for (int intervalIndex : suffixIntervalIndexes.getOrDefault(each.substring(each.length() - suffixLength), Collections.emptyList())) {
+                    result.get(intervalIndex).add(each);
+                }
+            }
+        }
+        return result;
+    }
+}
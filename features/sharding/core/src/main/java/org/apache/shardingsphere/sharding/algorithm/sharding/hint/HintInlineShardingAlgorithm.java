@@ -18,14 +18,14 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.hint;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -43,12 +43,12 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     @Getter
     private Properties props = new Properties();
     
-    private String algorithmExpression;
+    private CompiledInlineExpression compiledAlgorithmExpression;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
-        algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = new InlineExpressionParser(getAlgorithmExpression(props)).compile();
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -63,15 +63,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     }
     
     private String doSharding(final Comparable<?> shardingValue) {
-        Closure<?> closure = createClosure();
-        closure.setProperty(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
-        return closure.call().toString();
-    }
-    
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
+        return compiledAlgorithmExpression.evaluate(Collections.singletonMap(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue));
     }
     
     @Override
@@ -18,19 +18,24 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -47,12 +52,15 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = new InlineExpressionParser(algorithmExpression).compile();
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -68,10 +76,22 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
-        Comparable<?> value = shardingValue.getValue();
-        closure.setProperty(shardingValue.getColumnName(), value);
-        return getTargetShardingNode(closure, shardingValue.getColumnName());
+        return getTargetShardingNode(shardingValue.getColumnName(), shardingValue.getValue());
+    }
+    
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        Map<Comparable<?>, String> targetShardingNodes = new HashMap<>(shardingValue.getValues().size(), 1);
+        for (Comparable<?> each : shardingValue.getValues()) {
+            String targetShardingNode = targetShardingNodes.get(each);
+            if (null == targetShardingNode) {
+                targetShardingNode = getTargetShardingNode(shardingValue.getColumnName(), each);
+                targetShardingNodes.put(each, targetShardingNode);
+            }
+            result.add(targetShardingNode);
+        }
+        return result;
     }
     
     @Override
@@ -81,15 +101,9 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return availableTargetNames;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final String columnName, final Comparable<?> value) {
         try {
-            return closure.call().toString();
+            return compiledAlgorithmExpression.evaluate(Collections.singletonMap(columnName, value));
         } catch (final MissingMethodException | NullPointerException ex) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
@@ -21,11 +21,14 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtil;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -57,6 +60,22 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        String[] targetNames = new String[shardingCount];
+        boolean[] matched = new boolean[shardingCount];
+        for (Comparable<?> each : shardingValue.getValues()) {
+            int shardingIndex = (int) (hashShardingValue(each) % shardingCount);
+            if (!matched[shardingIndex]) {
+                targetNames[shardingIndex] = ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, String.valueOf(shardingIndex), shardingValue.getDataNodeInfo()).orElse(null);
+                matched[shardingIndex] = true;
+            }
+            result.add(targetNames[shardingIndex]);
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return availableTargetNames;
@@ -21,13 +21,16 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtil;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -95,10 +98,27 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
+        String shardingResultSuffix = getShardingResultSuffix(String.valueOf(getShardingIndex(shardingValue.getValue())));
         return ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        String[] targetNames = new String[shardingCount];
+        boolean[] matched = new boolean[shardingCount];
+        for (Comparable<?> each : shardingValue.getValues()) {
+            int shardingIndex = getShardingIndex(each);
+            if (!matched[shardingIndex]) {
+                String shardingResultSuffix = getShardingResultSuffix(String.valueOf(shardingIndex));
+                targetNames[shardingIndex] = ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
+                matched[shardingIndex] = true;
+            }
+            result.add(targetNames[shardingIndex]);
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
@@ -129,6 +149,13 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return String.format("%0" + maxPaddingSize + "d", Integer.parseInt(value));
     }
     
+    private int getShardingIndex(final Comparable<?> shardingValue) {
+        if (0 == startOffset && 0 == stopOffset && shardingValue instanceof Number) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), shardingCount);
+        }
+        return cutShardingValue(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
+    }
+    
     private BigInteger cutShardingValue(final Comparable<?> shardingValue) {
         checkOffsetArgument(shardingValue);
         return 0 == startOffset && 0 == stopOffset ? getBigInteger(shardingValue) : new BigInteger(shardingValue.toString().substring(startOffset, shardingValue.toString().length() - stopOffset));
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtil;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
@@ -42,14 +44,39 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private long[] partitionLowerEndpoints;
+    
     @Override
     public final void init(final Properties props) {
         this.props = props;
         partitionRange = calculatePartitionRange(props);
+        partitionLowerEndpoints = createPartitionLowerEndpoints();
     }
     
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
     
+    private long[] createPartitionLowerEndpoints() {
+        if (partitionRange.isEmpty()) {
+            return null;
+        }
+        long[] result = new long[partitionRange.size() - 1];
+        for (int i = 1; i < partitionRange.size(); i++) {
+            Range<Comparable<?>> range = partitionRange.get(i);
+            Range<Comparable<?>> previousRange = partitionRange.get(i - 1);
+            if (null == range || null == previousRange || !range.hasLowerBound() || BoundType.CLOSED != range.lowerBoundType() || !(range.lowerEndpoint() instanceof Long)
+                    || !previousRange.hasUpperBound() || !(previousRange.upperEndpoint() instanceof Long)) {
+                return null;
+            }
+            long lowerEndpoint = (Long) range.lowerEndpoint();
+            long previousUpperEndpoint = (Long) previousRange.upperEndpoint();
+            if (previousUpperEndpoint > lowerEndpoint || previousUpperEndpoint == lowerEndpoint && BoundType.OPEN != previousRange.upperBoundType()) {
+                return null;
+            }
+            result[i - 1] = lowerEndpoint;
+        }
+        return result;
+    }
+    
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         String suffix = String.valueOf(getPartition(shardingValue.getValue()));
@@ -69,23 +96,60 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
-        return valueRange.hasLowerBound() ? getPartition(valueRange.lowerEndpoint()) : 0;
+        if (!valueRange.hasLowerBound()) {
+            return 0;
+        }
+        int result = getPartition(valueRange.lowerEndpoint());
+        if (null != partitionLowerEndpoints && BoundType.OPEN == valueRange.lowerBoundType() && result < partitionLowerEndpoints.length
+                && partitionLowerEndpoints[result] - 1 == getLongValue(valueRange.lowerEndpoint())) {
+            return result + 1;
+        }
+        return result;
     }
     
     private int getLastPartition(final Range<Comparable<?>> valueRange) {
-        return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
+        if (!valueRange.hasUpperBound()) {
+            return partitionRange.size() - 1;
+        }
+        int result = getPartition(valueRange.upperEndpoint());
+        long upperValue = getLongValue(valueRange.upperEndpoint());
+        if (null != partitionLowerEndpoints && BoundType.OPEN == valueRange.upperBoundType() && result > 0
+                && partitionLowerEndpoints[result - 1] == upperValue && partitionRange.get(result - 1).contains(upperValue - 1)) {
+            return result - 1;
+        }
+        return result;
     }
     
-    private Integer getPartition(final Comparable<?> value) {
+    private int getPartition(final Comparable<?> value) {
+        long longValue = getLongValue(value);
+        if (null != partitionLowerEndpoints) {
+            int result = getPartitionByLowerEndpoints(longValue);
+            ShardingSpherePreconditions.checkState(partitionRange.get(result).contains(longValue), () -> new UnsupportedSQLOperationException(""));
+            return result;
+        }
         for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(getLongValue(value))) {
+            if (entry.getValue().contains(longValue)) {
                 return entry.getKey();
             }
         }
         throw new UnsupportedSQLOperationException("");
     }
     
-    private Long getLongValue(final Comparable<?> value) {
+    private int getPartitionByLowerEndpoints(final long value) {
+        int low = 0;
+        int high = partitionLowerEndpoints.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionLowerEndpoints[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    private long getLongValue(final Comparable<?> value) {
         return Long.parseLong(value.toString());
     }
     
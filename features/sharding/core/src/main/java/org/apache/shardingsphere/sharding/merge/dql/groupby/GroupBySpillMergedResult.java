@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.ExternalRowSorter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFile;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillRowCodec;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>
+ * Groups are aggregated in memory until memory limit exceeded, rows of new groups are spilled to partition files by hash of group by values after that,
+ * and each partition file is aggregated independently later. Partitions which still exceed memory limit at max spill depth are sorted by group by values
+ * and aggregated sequentially. Aggregated rows are sorted by external sorter, which spills sorted runs and merges them back.
+ * Memory limit is shared by hash aggregation and external sorter, and spill files are deleted when merged result closed.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 4;
+    
+    private static final int AGGREGATION_UNIT_SIZE = 64;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimit;
+    
+    private final Collection<Closeable> spillResources = new LinkedList<>();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                    final long memoryLimit) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimit = memoryLimit;
+        memoryResultSetRows = init(queryResults, schema);
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return getEmptyResultSetRows();
+        }
+        boolean initialized = false;
+        try {
+            Iterator<MemoryQueryResultRow> result = aggregateAndSort(queryResults, schema);
+            initialized = true;
+            return result;
+        } catch (final IOException ex) {
+            throw new SQLException("Spill rows of group by merged result failed.", ex);
+        } finally {
+            if (!initialized) {
+                deleteSpillFiles();
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> aggregateAndSort(final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException, IOException {
+        QueryResult firstQueryResult = queryResults.iterator().next();
+        List<Boolean> valueCaseSensitive = GroupByMemoryMergedResult.getValueCaseSensitive(firstQueryResult, selectStatementContext, schema);
+        int columnCount = firstQueryResult.getMetaData().getColumnCount();
+        long sorterMemoryLimit = memoryLimit / 2;
+        ExternalRowSorter sorter = createSorter(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), sorterMemoryLimit, columnCount);
+        HashAggregation aggregation = new HashAggregation(0, memoryLimit - sorterMemoryLimit, columnCount);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregation.add(load(each));
+            }
+        }
+        return aggregation.finish(sorter) ? sorter.sort() : getEmptyResultSetRows();
+    }
+    
+    private ExternalRowSorter createSorter(final Comparator<MemoryQueryResultRow> comparator, final long sorterMemoryLimit, final int columnCount) {
+        ExternalRowSorter result = new ExternalRowSorter(comparator, sorterMemoryLimit, columnCount);
+        spillResources.add(result);
+        return result;
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile();
+        spillResources.add(result);
+        return result;
+    }
+    
+    private void deleteSpillFiles() {
+        for (Closeable each : spillResources) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        spillResources.clear();
+    }
+    
+    private Object[] load(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> getEmptyResultSetRows() {
+        Object[] data = GroupByMemoryMergedResult.generateReturnData(selectStatementContext);
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)).iterator() : Collections.emptyIterator();
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(Blob.class != type && Clob.class != type && Reader.class != type && InputStream.class != type && SQLXML.class != type,
+                () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        IOException ex = null;
+        for (Closeable each : spillResources) {
+            try {
+                each.close();
+            } catch (final IOException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.addSuppressed(closeException);
+                }
+            }
+        }
+        spillResources.clear();
+        if (null != ex) {
+            throw new SQLException("Delete spill files of group by merged result failed.", ex);
+        }
+    }
+    
+    private final class HashAggregation {
+        
+        private final int depth;
+        
+        private final long groupsMemoryLimit;
+        
+        private final long overflowMemoryLimit;
+        
+        private final int columnCount;
+        
+        private final Map<GroupByValue, GroupByAggregation> groups = new LinkedHashMap<>(1024);
+        
+        private SpillFile[] partitions;
+        
+        private ExternalRowSorter overflowRows;
+        
+        private long memorySize;
+        
+        HashAggregation(final int depth, final long memoryLimit, final int columnCount) {
+            this.depth = depth;
+            groupsMemoryLimit = depth < MAX_SPILL_DEPTH ? memoryLimit : memoryLimit / 2;
+            overflowMemoryLimit = memoryLimit - groupsMemoryLimit;
+            this.columnCount = columnCount;
+        }
+        
+        void add(final Object[] row) throws IOException {
+            GroupByValue groupByValue = new GroupByValue(getGroupByValues(row));
+            GroupByAggregation aggregation = groups.get(groupByValue);
+            if (null == aggregation) {
+                long groupSize = SpillRowCodec.estimateSize(row) + (long) AGGREGATION_UNIT_SIZE * selectStatementContext.getProjectionsContext().getAggregationProjections().size();
+                if (!groups.isEmpty() && memorySize + groupSize > groupsMemoryLimit) {
+                    spill(groupByValue, row);
+                    return;
+                }
+                aggregation = new GroupByAggregation(row);
+                groups.put(groupByValue, aggregation);
+                memorySize += groupSize;
+            }
+            aggregation.aggregate(row);
+        }
+        
+        private List<Object> getGroupByValues(final Object[] row) {
+            Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+            List<Object> result = new ArrayList<>(groupByItems.size());
+            for (OrderByItem each : groupByItems) {
+                result.add(row[each.getIndex() - 1]);
+            }
+            return result;
+        }
+        
+        private void spill(final GroupByValue groupByValue, final Object[] row) throws IOException {
+            if (depth >= MAX_SPILL_DEPTH) {
+                if (null == overflowRows) {
+                    overflowRows = createSorter(this::compareGroupByValues, overflowMemoryLimit, columnCount);
+                }
+                overflowRows.add(row);
+                return;
+            }
+            if (null == partitions) {
+                partitions = new SpillFile[PARTITION_COUNT];
+            }
+            int partitionIndex = getPartitionIndex(groupByValue);
+            if (null == partitions[partitionIndex]) {
+                partitions[partitionIndex] = createSpillFile();
+            }
+            partitions[partitionIndex].write(row);
+        }
+        
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private int compareGroupByValues(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            for (OrderByItem each : selectStatementContext.getGroupByContext().getItems()) {
+                Object value1 = o1.getCell(each.getIndex());
+                Object value2 = o2.getCell(each.getIndex());
+                Preconditions.checkState((null == value1 || value1 instanceof Comparable) && (null == value2 || value2 instanceof Comparable), "Group by value must implements Comparable");
+                int result = CompareUtil.compareTo((Comparable) value1, (Comparable) value2, OrderDirection.ASC, NullsOrderType.FIRST, true);
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+        
+        private int getPartitionIndex(final GroupByValue groupByValue) {
+            int hash = groupByValue.hashCode() ^ (depth + 1) * 0x9E3779B9;
+            hash ^= hash >>> 16;
+            hash *= 0x85EBCA6B;
+            hash ^= hash >>> 13;
+            return Math.floorMod(hash, PARTITION_COUNT);
+        }
+        
+        boolean finish(final ExternalRowSorter sorter) throws IOException {
+            boolean result = !groups.isEmpty();
+            for (GroupByAggregation each : groups.values()) {
+                sorter.add(each.getResult());
+            }
+            groups.clear();
+            if (null != overflowRows) {
+                result |= finishOverflowRows(sorter);
+            }
+            if (null == partitions) {
+                return result;
+            }
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    result |= finishPartition(each, sorter);
+                }
+            }
+            return result;
+        }
+        
+        private boolean finishOverflowRows(final ExternalRowSorter sorter) throws IOException {
+            Iterator<MemoryQueryResultRow> sortedRows = overflowRows.sort();
+            MemoryQueryResultRow groupFirstRow = null;
+            GroupByAggregation aggregation = null;
+            while (sortedRows.hasNext()) {
+                MemoryQueryResultRow row = sortedRows.next();
+                if (null == groupFirstRow || 0 != compareGroupByValues(groupFirstRow, row)) {
+                    if (null != aggregation) {
+                        sorter.add(aggregation.getResult());
+                    }
+                    groupFirstRow = row;
+                    aggregation = new GroupByAggregation(toData(row));
+                }
+                aggregation.aggregate(toData(row));
+            }
+            if (null != aggregation) {
+                sorter.add(aggregation.getResult());
+            }
+            overflowRows.close();
+            return null != aggregation;
+        }
+        
+        private Object[] toData(final MemoryQueryResultRow row) {
+            Object[] result = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = row.getCell(i + 1);
+            }
+            return result;
+        }
+        
+        private boolean finishPartition(final SpillFile partition, final ExternalRowSorter sorter) throws IOException {
+            try {
+                HashAggregation aggregation = new HashAggregation(depth + 1, groupsMemoryLimit + overflowMemoryLimit, columnCount);
+                Object[] row = partition.read();
+                while (null != row) {
+                    aggregation.add(row);
+                    row = partition.read();
+                }
+                return aggregation.finish(sorter);
+            } finally {
+                partition.close();
+            }
+        }
+    }
+    
+    private final class GroupByAggregation {
+        
+        private final Object[] row;
+        
+        private final Map<AggregationProjection, AggregationUnit> aggregationUnits;
+        
+        GroupByAggregation(final Object[] row) {
+            this.row = row;
+            Collection<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+            aggregationUnits = new HashMap<>(aggregationProjections.size(), 1);
+            for (AggregationProjection each : aggregationProjections) {
+                aggregationUnits.put(each, AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection));
+            }
+        }
+        
+        void aggregate(final Object[] row) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                List<Comparable<?>> values = new ArrayList<>(2);
+                if (each.getDerivedAggregationProjections().isEmpty()) {
+                    values.add(getAggregationValue(row, each));
+                } else {
+                    for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                        values.add(getAggregationValue(row, derived));
+                    }
+                }
+                aggregationUnits.get(each).merge(values);
+            }
+        }
+        
+        private Comparable<?> getAggregationValue(final Object[] row, final AggregationProjection aggregationProjection) {
+            Object result = row[aggregationProjection.getIndex() - 1];
+            Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+            return (Comparable<?>) result;
+        }
+        
+        Object[] getResult() {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                row[each.getIndex() - 1] = aggregationUnits.get(each).getResult();
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External row sorter, rows are spilled to files as sorted runs when memory limit exceeded, and merged back when iterating.
+ */
+public final class ExternalRowSorter implements Closeable {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final long memoryLimit;
+    
+    private final int columnCount;
+    
+    private final List<MemoryQueryResultRow> rows = new ArrayList<>();
+    
+    private final Collection<SpillFile> runs = new LinkedList<>();
+    
+    private long memorySize;
+    
+    public ExternalRowSorter(final Comparator<MemoryQueryResultRow> comparator, final long memoryLimit, final int columnCount) {
+        this.comparator = comparator;
+        this.memoryLimit = memoryLimit;
+        this.columnCount = columnCount;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be sorted
+     * @throws IOException IO exception
+     */
+    public void add(final Object[] row) throws IOException {
+        rows.add(new MemoryQueryResultRow(row));
+        memorySize += SpillRowCodec.estimateSize(row);
+        if (memorySize > memoryLimit) {
+            spill();
+        }
+    }
+    
+    private void spill() throws IOException {
+        rows.sort(comparator);
+        SpillFile run = new SpillFile();
+        runs.add(run);
+        for (MemoryQueryResultRow each : rows) {
+            run.write(toData(each));
+        }
+        rows.clear();
+        memorySize = 0L;
+    }
+    
+    private Object[] toData(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether rows have been spilled.
+     *
+     * @return rows have been spilled or not
+     */
+    public boolean isSpilled() {
+        return !runs.isEmpty();
+    }
+    
+    /**
+     * Sort all added rows.
+     *
+     * @return iterator of sorted rows
+     * @throws IOException IO exception
+     */
+    public Iterator<MemoryQueryResultRow> sort() throws IOException {
+        rows.sort(comparator);
+        if (runs.isEmpty()) {
+            return rows.iterator();
+        }
+        PriorityQueue<RunCursor> cursors = new PriorityQueue<>(runs.size() + 1, (o1, o2) -> comparator.compare(o1.current, o2.current));
+        addCursor(cursors, new RunCursor(rows.iterator(), null));
+        for (SpillFile each : runs) {
+            addCursor(cursors, new RunCursor(null, each));
+        }
+        return new MergingIterator(cursors);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        IOException ex = null;
+        for (SpillFile each : runs) {
+            try {
+                each.close();
+            } catch (final IOException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.addSuppressed(closeException);
+                }
+            }
+        }
+        runs.clear();
+        rows.clear();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    private static void addCursor(final PriorityQueue<RunCursor> cursors, final RunCursor cursor) throws IOException {
+        if (cursor.next()) {
+            cursors.offer(cursor);
+        }
+    }
+    
+    private static final class RunCursor {
+        
+        private final Iterator<MemoryQueryResultRow> memoryRows;
+        
+        private final SpillFile run;
+        
+        private MemoryQueryResultRow current;
+        
+        RunCursor(final Iterator<MemoryQueryResultRow> memoryRows, final SpillFile run) {
+            this.memoryRows = memoryRows;
+            this.run = run;
+        }
+        
+        boolean next() throws IOException {
+            if (null != memoryRows) {
+                current = memoryRows.hasNext() ? memoryRows.next() : null;
+                return null != current;
+            }
+            Object[] data = run.read();
+            current = null == data ? null : new MemoryQueryResultRow(data);
+            return null != current;
+        }
+    }
+    
+    private static final class MergingIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<RunCursor> cursors;
+        
+        MergingIterator(final PriorityQueue<RunCursor> cursors) {
+            this.cursors = cursors;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public MemoryQueryResultRow next() {
+            RunCursor cursor = cursors.poll();
+            if (null == cursor) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultRow result = cursor.current;
+            addCursor(cursors, cursor);
+            return result;
+        }
+    }
+}
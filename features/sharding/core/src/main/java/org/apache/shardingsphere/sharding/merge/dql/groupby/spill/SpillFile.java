@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file, rows are written sequentially and then read back once, file is deleted when closed.
+ */
+public final class SpillFile implements Closeable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path path;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private long rowCount;
+    
+    private long readRowCount;
+    
+    public SpillFile() throws IOException {
+        path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Read next row, file will be deleted after all rows read.
+     *
+     * @return next row, null if all rows have been read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        if (readRowCount >= rowCount) {
+            close();
+            return null;
+        }
+        if (null == input) {
+            output.close();
+            output = null;
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        }
+        readRowCount++;
+        return SpillRowCodec.read(input);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            closeStreams();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    private void closeStreams() throws IOException {
+        if (null != output) {
+            DataOutputStream closingOutput = output;
+            output = null;
+            closingOutput.close();
+        }
+        if (null != input) {
+            DataInputStream closingInput = input;
+            input = null;
+            closingInput.close();
+        }
+    }
+}
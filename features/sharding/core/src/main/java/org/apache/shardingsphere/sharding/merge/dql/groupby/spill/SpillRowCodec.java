@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Compact codec of spilled row.
+ *
+ * <p>Each cell is written as one type tag followed by its binary value, values of common JDBC types keep their types after decoding.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte BOOLEAN = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte TIMESTAMP = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte SERIALIZABLE = 19;
+    
+    private static final int ROW_OVERHEAD_SIZE = 64;
+    
+    private static final int CELL_OVERHEAD_SIZE = 24;
+    
+    /**
+     * Write row.
+     *
+     * @param output data output
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutput output, final Object[] row) throws IOException {
+        output.writeInt(row.length);
+        for (Object each : row) {
+            writeCell(output, each);
+        }
+    }
+    
+    private static void writeCell(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (java.util.Date.class == value.getClass()) {
+            output.writeByte(UTIL_DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input
+     * @return read row
+     * @throws IOException IO exception
+     */
+    public static Object[] read(final DataInput input) throws IOException {
+        Object[] result = new Object[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readCell(input);
+        }
+        return result;
+    }
+    
+    private static Object readCell(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown spilled cell type `%s`.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    /**
+     * Estimate heap size of row.
+     *
+     * @param row row
+     * @return estimated heap size in bytes
+     */
+    public static long estimateSize(final Object[] row) {
+        long result = ROW_OVERHEAD_SIZE;
+        for (Object each : row) {
+            result += CELL_OVERHEAD_SIZE;
+            if (each instanceof String) {
+                result += ((String) each).length() * 2L;
+            } else if (each instanceof byte[]) {
+                result += ((byte[]) each).length;
+            } else if (each instanceof BigDecimal || each instanceof BigInteger) {
+                result += CELL_OVERHEAD_SIZE;
+            }
+        }
+        return result;
+    }
+}
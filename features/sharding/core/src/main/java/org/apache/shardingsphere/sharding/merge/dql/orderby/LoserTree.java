@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merging.
+ *
+ * <p>
+ * Each internal node keeps the loser of the match between its children and the overall winner is kept at the top,
+ * so only one comparison for each level is needed to replay matches from the leaf of the advanced winner to the top.
+ * Empty leaves lose every match. Equal values are emitted in the order their leaves were advanced,
+ * and leaves which were never advanced follow in leaf index order.
+ * </p>
+ *
+ * @param <T> type of merged value
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> leaves;
+    
+    private final int[] tree;
+    
+    private final long[] advancedSequences;
+    
+    private long advancedSequence;
+    
+    private int size;
+    
+    public LoserTree(final Collection<T> values) {
+        leaves = new ArrayList<>(values);
+        tree = new int[Math.max(leaves.size(), 1)];
+        advancedSequences = new long[leaves.size()];
+        for (int i = 0; i < leaves.size(); i++) {
+            advancedSequences[i] = Long.MAX_VALUE - leaves.size() + i;
+            if (null != leaves.get(i)) {
+                size++;
+            }
+        }
+        build();
+    }
+    
+    private void build() {
+        int leafCount = leaves.size();
+        if (0 == leafCount) {
+            return;
+        }
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all leaves are empty.
+     *
+     * @return all leaves are empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Get winner.
+     *
+     * @return winner, null if all leaves are empty
+     */
+    public T peek() {
+        return isEmpty() ? null : leaves.get(tree[0]);
+    }
+    
+    /**
+     * Adjust tree after winner advanced to its next value in place.
+     *
+     * @param hasNext whether winner has next value, leaf of winner becomes empty if not
+     */
+    public void adjust(final boolean hasNext) {
+        if (isEmpty()) {
+            return;
+        }
+        int leaf = tree[0];
+        if (hasNext) {
+            advancedSequences[leaf] = ++advancedSequence;
+        } else {
+            leaves.set(leaf, null);
+            size--;
+        }
+        int winner = leaf;
+        for (int node = (leaf + leaves.size()) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        T value = leaves.get(leaf);
+        if (null == value) {
+            return false;
+        }
+        T otherValue = leaves.get(otherLeaf);
+        if (null == otherValue) {
+            return true;
+        }
+        int result = value.compareTo(otherValue);
+        return result < 0 || 0 == result && advancedSequences[leaf] < advancedSequences[otherLeaf];
+    }
+}
@@ -25,33 +25,54 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.Date;
 import java.util.Map;
 
 /**
  * Order by value.
+ *
+ * <p>Order by values of current row are extracted once when iterating, and integral or temporal values are compared as primitive long values.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte NON_PRIMITIVE = 0;
+    
+    private static final byte INTEGRAL = 1;
+    
+    private static final byte EPOCH_MILLI = 2;
+    
+    private static final byte EPOCH_DAY = 3;
+    
     @Getter
     private final QueryResult queryResult;
     
     private final Collection<OrderByItem> orderByItems;
     
-    private final List<Boolean> orderValuesCaseSensitive;
-    
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] primitiveOrderValues;
+    
+    private final byte[] primitiveOrderValueTypes;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -59,12 +80,24 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[index] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType());
+            index++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
+        primitiveOrderValues = new long[orderByItems.size()];
+        primitiveOrderValueTypes = new byte[orderByItems.size()];
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+    private boolean[] getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
+        boolean[] result = new boolean[orderByItems.size()];
+        int index = 0;
         for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+            result[index++] = getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem);
         }
         return result;
     }
@@ -101,31 +134,58 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+            Arrays.fill(primitiveOrderValueTypes, NON_PRIMITIVE);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int index = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[index] = (Comparable<?>) value;
+            loadPrimitiveOrderValue(index, value);
+            index++;
+        }
+    }
+    
+    private void loadPrimitiveOrderValue(final int index, final Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            primitiveOrderValueTypes[index] = INTEGRAL;
+            primitiveOrderValues[index] = ((Number) value).longValue();
+        } else if (value instanceof Date && !(value instanceof Timestamp)) {
+            primitiveOrderValueTypes[index] = EPOCH_MILLI;
+            primitiveOrderValues[index] = ((Date) value).getTime();
+        } else if (value instanceof LocalDate) {
+            primitiveOrderValueTypes[index] = EPOCH_DAY;
+            primitiveOrderValues[index] = ((LocalDate) value).toEpochDay();
+        } else {
+            primitiveOrderValueTypes[index] = NON_PRIMITIVE;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        byte primitiveOrderValueType = primitiveOrderValueTypes[index];
+        if (NON_PRIMITIVE != primitiveOrderValueType && primitiveOrderValueType == orderByValue.primitiveOrderValueTypes[index]) {
+            int result = Long.compare(primitiveOrderValues[index], orderByValue.primitiveOrderValues[index]);
+            return OrderDirection.ASC == orderDirections[index] ? result : -result;
+        }
+        return CompareUtil.compareTo(orderValues[index], orderByValue.orderValues[index], orderDirections[index], nullsOrderTypes[index], orderValuesCaseSensitive[index]);
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.data.collector.ShardingSphereDataCollector;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Sharding column statistics table data collector.
+ * 
+ * <p>Distinct value counts of columns are read from statistics in database catalogs, and summed up from actual tables for logic tables.
+ * The sum is exact for sharding columns whose values do not overlap between shards, and an upper bound for other columns.</p>
+ */
+public final class ShardingColumnStatisticsTableCollector implements ShardingSphereDataCollector {
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final String MYSQL_COLUMN_DISTINCT_COUNTS = "SELECT COLUMN_NAME, MAX(CARDINALITY) AS DISTINCT_COUNT FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s' AND SEQ_IN_INDEX = 1 GROUP BY COLUMN_NAME";
+    
+    private static final String POSTGRESQL_COLUMN_DISTINCT_COUNTS = "SELECT S.ATTNAME AS COLUMN_NAME, "
+            + "CASE WHEN S.N_DISTINCT < 0 THEN -S.N_DISTINCT * C.RELTUPLES ELSE S.N_DISTINCT END AS DISTINCT_COUNT FROM PG_STATS S "
+            + "JOIN PG_NAMESPACE N ON S.SCHEMANAME = N.NSPNAME JOIN PG_CLASS C ON C.RELNAMESPACE = N.OID AND C.RELNAME = S.TABLENAME WHERE S.SCHEMANAME = '%s' AND S.TABLENAME = '%s'";
+    
+    @Override
+    public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
+                                                     final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
+        ShardingSphereTableData result = new ShardingSphereTableData(SHARDING_COLUMN_STATISTICS);
+        DatabaseType protocolType = shardingSphereDatabases.values().iterator().next().getProtocolType();
+        if (protocolType instanceof PostgreSQLDatabaseType || protocolType instanceof OpenGaussDatabaseType) {
+            collectFromDatabase(shardingSphereDatabases.get(databaseName), result);
+        } else {
+            for (ShardingSphereDatabase each : shardingSphereDatabases.values()) {
+                collectFromDatabase(each, result);
+            }
+        }
+        return result.getRows().isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private void collectFromDatabase(final ShardingSphereDatabase shardingSphereDatabase, final ShardingSphereTableData tableData) throws SQLException {
+        Optional<ShardingRule> shardingRule = shardingSphereDatabase.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!shardingRule.isPresent()) {
+            return;
+        }
+        collectForShardingStatisticTable(shardingSphereDatabase, shardingRule.get(), tableData);
+    }
+    
+    private void collectForShardingStatisticTable(final ShardingSphereDatabase shardingSphereDatabase, final ShardingRule shardingRule, final ShardingSphereTableData tableData) throws SQLException {
+        int count = tableData.getRows().size() + 1;
+        for (TableRule each : shardingRule.getTableRules().values()) {
+            Map<String, BigDecimal> distinctCounts = new LinkedHashMap<>();
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                addColumnDistinctCounts(shardingSphereDatabase.getResourceMetaData().getDataSources(), dataNode, shardingSphereDatabase.getProtocolType(), distinctCounts);
+            }
+            if (distinctCounts.isEmpty()) {
+                continue;
+            }
+            String logicSchemaName = getLogicSchemaName(shardingSphereDatabase, each.getLogicTable(), each.getActualDataNodes().get(0));
+            for (Entry<String, BigDecimal> entry : distinctCounts.entrySet()) {
+                tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(count++, shardingSphereDatabase.getName(), logicSchemaName, each.getLogicTable(), entry.getKey(), entry.getValue())));
+            }
+        }
+    }
+    
+    private void addColumnDistinctCounts(final Map<String, DataSource> dataSources, final DataNode dataNode, final DatabaseType databaseType,
+                                         final Map<String, BigDecimal> distinctCounts) throws SQLException {
+        if (databaseType instanceof MySQLDatabaseType) {
+            addColumnDistinctCounts(dataSources.get(dataNode.getDataSourceName()), MYSQL_COLUMN_DISTINCT_COUNTS, null, dataNode, distinctCounts);
+        } else if (databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType) {
+            addColumnDistinctCounts(dataSources.get(dataNode.getDataSourceName()), POSTGRESQL_COLUMN_DISTINCT_COUNTS, dataNode.getSchemaName(), dataNode, distinctCounts);
+        }
+    }
+    
+    private void addColumnDistinctCounts(final DataSource dataSource, final String sql, final String schemaName, final DataNode dataNode,
+                                         final Map<String, BigDecimal> distinctCounts) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format(sql, getActualSchemaName(connection, schemaName), dataNode.getTableName()))) {
+            while (resultSet.next()) {
+                BigDecimal distinctCount = resultSet.getBigDecimal("DISTINCT_COUNT");
+                if (null != distinctCount && distinctCount.signum() > 0) {
+                    distinctCounts.merge(resultSet.getString("COLUMN_NAME").toLowerCase(), distinctCount, BigDecimal::add);
+                }
+            }
+        }
+    }
+    
+    private String getActualSchemaName(final Connection connection, final String schemaName) throws SQLException {
+        if (null != schemaName) {
+            return schemaName;
+        }
+        return null == connection.getSchema() ? connection.getCatalog() : connection.getSchema();
+    }
+    
+    private String getLogicSchemaName(final ShardingSphereDatabase shardingSphereDatabase, final String logicTableName, final DataNode dataNode) {
+        String schemaName = dataNode.getSchemaName();
+        if (null != schemaName && shardingSphereDatabase.containsSchema(schemaName) && shardingSphereDatabase.getSchema(schemaName).containsTable(logicTableName)) {
+            return schemaName;
+        }
+        return DatabaseTypeEngine.getDefaultSchemaName(shardingSphereDatabase.getProtocolType(), shardingSphereDatabase.getName());
+    }
+    
+    @Override
+    public String getType() {
+        return SHARDING_COLUMN_STATISTICS;
+    }
+}
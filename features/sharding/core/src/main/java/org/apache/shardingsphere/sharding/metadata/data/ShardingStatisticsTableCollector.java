@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.metadata.data;
 
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
@@ -50,6 +51,9 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
     
     private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s'";
     
+    private static final String POSTGRESQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT C.RELTUPLES AS TABLE_ROWS, PG_TABLE_SIZE(C.OID) AS DATA_LENGTH "
+            + "FROM PG_CLASS C JOIN PG_NAMESPACE N ON C.RELNAMESPACE = N.OID WHERE N.NSPNAME = '%s' AND C.RELNAME = '%s' AND C.RELKIND = 'r'";
+    
     @Override
     public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
                                                      final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
@@ -84,6 +88,7 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
                 row.add(dataNode.getDataSourceName());
                 row.add(dataNode.getTableName());
                 addTableRowsAndDataLength(shardingSphereDatabase.getResourceMetaData().getDataSources(), dataNode, row, shardingSphereDatabase.getProtocolType());
+                row.add(getLogicSchemaName(shardingSphereDatabase, each.getLogicTable(), dataNode));
                 tableData.getRows().add(new ShardingSphereRowData(row));
             }
         }
@@ -93,9 +98,7 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
         if (databaseType instanceof MySQLDatabaseType) {
             addForMySQL(dataSources, dataNode, row);
         } else if (databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType) {
-            // TODO get postgres rows and data length
-            row.add(BigDecimal.ZERO);
-            row.add(BigDecimal.ZERO);
+            addForPostgreSQL(dataSources, dataNode, row);
         }
     }
     
@@ -117,6 +120,36 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
         row.add(dataLength);
     }
     
+    private void addForPostgreSQL(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row) throws SQLException {
+        DataSource dataSource = dataSources.get(dataNode.getDataSourceName());
+        BigDecimal tableRows = BigDecimal.ZERO;
+        BigDecimal dataLength = BigDecimal.ZERO;
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(String.format(POSTGRESQL_TABLE_ROWS_AND_DATA_LENGTH, getSchemaName(connection, dataNode), dataNode.getTableName()))) {
+                if (resultSet.next()) {
+                    tableRows = resultSet.getBigDecimal("TABLE_ROWS").max(BigDecimal.ZERO);
+                    dataLength = resultSet.getBigDecimal("DATA_LENGTH");
+                }
+            }
+        }
+        row.add(tableRows);
+        row.add(dataLength);
+    }
+    
+    private String getSchemaName(final Connection connection, final DataNode dataNode) throws SQLException {
+        return null == dataNode.getSchemaName() ? connection.getSchema() : dataNode.getSchemaName();
+    }
+    
+    private String getLogicSchemaName(final ShardingSphereDatabase shardingSphereDatabase, final String logicTableName, final DataNode dataNode) {
+        String schemaName = dataNode.getSchemaName();
+        if (null != schemaName && shardingSphereDatabase.containsSchema(schemaName) && shardingSphereDatabase.getSchema(schemaName).containsTable(logicTableName)) {
+            return schemaName;
+        }
+        return DatabaseTypeEngine.getDefaultSchemaName(shardingSphereDatabase.getProtocolType(), shardingSphereDatabase.getName());
+    }
+    
     @Override
     public String getType() {
         return SHARDING_TABLE_STATISTICS;
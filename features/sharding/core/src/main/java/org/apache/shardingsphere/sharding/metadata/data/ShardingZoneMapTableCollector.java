@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.data.collector.ShardingSphereDataCollector;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingZoneMap;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Sharding zone maps table data collector.
+ * 
+ * <p>Min and max values of tracked columns which lead indexes are read for each actual table, and refreshed into zone map of sharding rule.
+ * Only exact numeric values are collected, columns of other types are not pruned.</p>
+ */
+public final class ShardingZoneMapTableCollector implements ShardingSphereDataCollector {
+    
+    private static final String SHARDING_ZONE_MAPS = "sharding_zone_maps";
+    
+    private static final String MYSQL_INDEXED_COLUMNS = "SELECT DISTINCT COLUMN_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s' AND SEQ_IN_INDEX = 1";
+    
+    private static final String POSTGRESQL_INDEXED_COLUMNS = "SELECT DISTINCT A.ATTNAME AS COLUMN_NAME FROM PG_INDEX I JOIN PG_CLASS C ON C.OID = I.INDRELID "
+            + "JOIN PG_NAMESPACE N ON N.OID = C.RELNAMESPACE JOIN PG_ATTRIBUTE A ON A.ATTRELID = C.OID AND A.ATTNUM = I.INDKEY[0] WHERE N.NSPNAME = '%s' AND C.RELNAME = '%s'";
+    
+    private static final String MIN_MAX_VALUES = "SELECT MIN(%s) AS MIN_VALUE, MAX(%s) AS MAX_VALUE FROM %s";
+    
+    @Override
+    public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
+                                                     final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
+        ShardingSphereTableData result = new ShardingSphereTableData(SHARDING_ZONE_MAPS);
+        DatabaseType protocolType = shardingSphereDatabases.values().iterator().next().getProtocolType();
+        if (protocolType instanceof PostgreSQLDatabaseType || protocolType instanceof OpenGaussDatabaseType) {
+            collectFromDatabase(shardingSphereDatabases.get(databaseName), result);
+        } else {
+            for (ShardingSphereDatabase each : shardingSphereDatabases.values()) {
+                collectFromDatabase(each, result);
+            }
+        }
+        return result.getRows().isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private void collectFromDatabase(final ShardingSphereDatabase shardingSphereDatabase, final ShardingSphereTableData tableData) throws SQLException {
+        Optional<ShardingRule> shardingRule = shardingSphereDatabase.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!shardingRule.isPresent()) {
+            return;
+        }
+        collectForShardingZoneMapTable(shardingSphereDatabase, shardingRule.get(), tableData);
+    }
+    
+    private void collectForShardingZoneMapTable(final ShardingSphereDatabase shardingSphereDatabase, final ShardingRule shardingRule, final ShardingSphereTableData tableData) throws SQLException {
+        ShardingZoneMap zoneMap = shardingRule.getZoneMap();
+        for (Entry<String, Collection<String>> entry : zoneMap.getTrackedColumnNames().entrySet()) {
+            Optional<TableRule> tableRule = shardingRule.findTableRule(entry.getKey());
+            if (!tableRule.isPresent()) {
+                continue;
+            }
+            long version = zoneMap.getVersion(entry.getKey());
+            long collectedMillis = System.currentTimeMillis();
+            Map<DataNode, Map<String, Range<BigDecimal>>> zones = new LinkedHashMap<>();
+            for (DataNode each : tableRule.get().getActualDataNodes()) {
+                zones.put(each, getColumnZones(shardingSphereDatabase.getResourceMetaData().getDataSources().get(each.getDataSourceName()),
+                        shardingSphereDatabase.getProtocolType(), each, entry.getValue()));
+            }
+            zoneMap.refresh(entry.getKey(), version, collectedMillis, zones);
+            addRows(shardingSphereDatabase, tableRule.get(), zones, tableData);
+        }
+    }
+    
+    private Map<String, Range<BigDecimal>> getColumnZones(final DataSource dataSource, final DatabaseType databaseType, final DataNode dataNode,
+                                                          final Collection<String> trackedColumnNames) throws SQLException {
+        Map<String, Range<BigDecimal>> result = new LinkedHashMap<>();
+        if (!(databaseType instanceof MySQLDatabaseType) && !(databaseType instanceof PostgreSQLDatabaseType) && !(databaseType instanceof OpenGaussDatabaseType)) {
+            return result;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            String schemaName = getActualSchemaName(connection, databaseType instanceof MySQLDatabaseType ? null : dataNode.getSchemaName());
+            String sql = databaseType instanceof MySQLDatabaseType ? MYSQL_INDEXED_COLUMNS : POSTGRESQL_INDEXED_COLUMNS;
+            for (String each : getIndexedColumnNames(connection, String.format(sql, schemaName, dataNode.getTableName()))) {
+                if (trackedColumnNames.contains(each.toLowerCase())) {
+                    String tableName = databaseType instanceof MySQLDatabaseType
+                            ? databaseType.getQuoteCharacter().wrap(dataNode.getTableName())
+                            : databaseType.getQuoteCharacter().wrap(schemaName) + "." + databaseType.getQuoteCharacter().wrap(dataNode.getTableName());
+                    String columnName = databaseType.getQuoteCharacter().wrap(each);
+                    findZone(connection, String.format(MIN_MAX_VALUES, columnName, columnName, tableName)).ifPresent(optional -> result.put(each.toLowerCase(), optional));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getIndexedColumnNames(final Connection connection, final String sql) throws SQLException {
+        Collection<String> result = new LinkedList<>();
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                result.add(resultSet.getString("COLUMN_NAME"));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<Range<BigDecimal>> findZone(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            Object minValue = resultSet.getObject("MIN_VALUE");
+            Object maxValue = resultSet.getObject("MAX_VALUE");
+            if (null == minValue && null == maxValue) {
+                return Optional.of(Range.closedOpen(BigDecimal.ZERO, BigDecimal.ZERO));
+            }
+            return isExactNumber(minValue) && isExactNumber(maxValue)
+                    ? Optional.of(Range.closed(ShardingZoneMap.findZoneValue(minValue).get(), ShardingZoneMap.findZoneValue(maxValue).get()))
+                    : Optional.empty();
+        }
+    }
+    
+    private boolean isExactNumber(final Object value) {
+        return value instanceof BigDecimal || value instanceof BigInteger || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private String getActualSchemaName(final Connection connection, final String schemaName) throws SQLException {
+        if (null != schemaName) {
+            return schemaName;
+        }
+        return null == connection.getSchema() ? connection.getCatalog() : connection.getSchema();
+    }
+    
+    private void addRows(final ShardingSphereDatabase shardingSphereDatabase, final TableRule tableRule, final Map<DataNode, Map<String, Range<BigDecimal>>> zones,
+                         final ShardingSphereTableData tableData) {
+        int count = tableData.getRows().size() + 1;
+        String logicSchemaName = getLogicSchemaName(shardingSphereDatabase, tableRule.getLogicTable(), tableRule.getActualDataNodes().get(0));
+        for (Entry<DataNode, Map<String, Range<BigDecimal>>> entry : zones.entrySet()) {
+            for (Entry<String, Range<BigDecimal>> zone : entry.getValue().entrySet()) {
+                BigDecimal minValue = zone.getValue().isEmpty() ? null : zone.getValue().lowerEndpoint();
+                BigDecimal maxValue = zone.getValue().isEmpty() ? null : zone.getValue().upperEndpoint();
+                tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(count++, shardingSphereDatabase.getName(), logicSchemaName, tableRule.getLogicTable(),
+                        entry.getKey().getDataSourceName(), entry.getKey().getTableName(), zone.getKey(), minValue, maxValue)));
+            }
+        }
+    }
+    
+    private String getLogicSchemaName(final ShardingSphereDatabase shardingSphereDatabase, final String logicTableName, final DataNode dataNode) {
+        String schemaName = dataNode.getSchemaName();
+        if (null != schemaName && shardingSphereDatabase.containsSchema(schemaName) && shardingSphereDatabase.getSchema(schemaName).containsTable(logicTableName)) {
+            return schemaName;
+        }
+        return DatabaseTypeEngine.getDefaultSchemaName(shardingSphereDatabase.getProtocolType(), shardingSphereDatabase.getName());
+    }
+    
+    @Override
+    public String getType() {
+        return SHARDING_ZONE_MAPS;
+    }
+}
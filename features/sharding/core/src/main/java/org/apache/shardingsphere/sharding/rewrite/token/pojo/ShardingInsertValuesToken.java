@@ -21,13 +21,24 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Insert values token for sharding.
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private Map<String, Map<String, BitSet>> dataNodeInsertValueIndexes;
+    
+    private BitSet unroutedInsertValueIndexes;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
     }
@@ -46,22 +57,51 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
-        for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+        if (null == routeUnit) {
+            for (InsertValue each : getInsertValues()) {
                 stringBuilder.append(each).append(", ");
             }
+            return;
+        }
+        List<InsertValue> insertValues = getInsertValues();
+        BitSet insertValueIndexes = getInsertValueIndexes(routeUnit);
+        for (int i = insertValueIndexes.nextSetBit(0); i >= 0; i = insertValueIndexes.nextSetBit(i + 1)) {
+            stringBuilder.append(insertValues.get(i)).append(", ");
         }
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
-            return true;
+    private BitSet getInsertValueIndexes(final RouteUnit routeUnit) {
+        if (null == dataNodeInsertValueIndexes) {
+            createInsertValueIndexes();
+        }
+        BitSet result = (BitSet) unroutedInsertValueIndexes.clone();
+        Map<String, BitSet> tableInsertValueIndexes = dataNodeInsertValueIndexes.get(routeUnit.getDataSourceMapper().getLogicName().toLowerCase());
+        if (null == tableInsertValueIndexes) {
+            return result;
         }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet insertValueIndexes = tableInsertValueIndexes.get(each.getActualName().toLowerCase());
+            if (null != insertValueIndexes) {
+                result.or(insertValueIndexes);
+            }
+        }
+        return result;
+    }
+    
+    private void createInsertValueIndexes() {
+        dataNodeInsertValueIndexes = new HashMap<>();
+        unroutedInsertValueIndexes = new BitSet();
+        int index = 0;
+        for (InsertValue each : getInsertValues()) {
+            Collection<DataNode> dataNodes = ((ShardingInsertValue) each).getDataNodes();
+            if (dataNodes.isEmpty()) {
+                unroutedInsertValueIndexes.set(index);
+            }
+            for (DataNode dataNode : dataNodes) {
+                dataNodeInsertValueIndexes.computeIfAbsent(dataNode.getDataSourceName().toLowerCase(), unused -> new HashMap<>())
+                        .computeIfAbsent(dataNode.getTableName().toLowerCase(), unused -> new BitSet()).set(index);
             }
+            index++;
         }
-        return false;
     }
 }
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.sharding.route.engine;
 
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.type.CursorAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.SQLRouter;
@@ -29,6 +31,9 @@ import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditi
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngineFactory;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapConditionEngine;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapRouteStageContext;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineFactory;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
@@ -50,7 +55,7 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
     public RouteContext createRouteContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingRule rule,
                                            final ConfigurationProperties props, final ConnectionContext connectionContext) {
         SQLStatement sqlStatement = queryContext.getSqlStatementContext().getSqlStatement();
-        ShardingConditions shardingConditions = createShardingConditions(queryContext, database, rule);
+        ShardingConditions shardingConditions = createShardingConditions(queryContext, database, rule, props);
         Optional<ShardingStatementValidator> validator = ShardingStatementValidatorFactory.newInstance(sqlStatement, shardingConditions);
         validator.ifPresent(optional -> optional.preValidate(rule, queryContext.getSqlStatementContext(), queryContext.getParameters(), database, props));
         if (sqlStatement instanceof DMLStatement && shardingConditions.isNeedMerge()) {
@@ -58,11 +63,15 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         }
         RouteContext result = ShardingRouteEngineFactory.newInstance(rule, database, queryContext, shardingConditions, props, connectionContext).route(rule);
         validator.ifPresent(optional -> optional.postValidate(rule, queryContext.getSqlStatementContext(), queryContext.getHintValueContext(), queryContext.getParameters(), database, props, result));
+        if (!shardingConditions.getZoneMapConditions().isEmpty()) {
+            result.getRouteStageContexts().put(ShardingRule.class, new ZoneMapRouteStageContext());
+        }
+        rule.getZoneMap().invalidate(queryContext.getSqlStatementContext());
         return result;
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private ShardingConditions createShardingConditions(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingRule rule) {
+    private ShardingConditions createShardingConditions(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingRule rule, final ConfigurationProperties props) {
         List<ShardingCondition> shardingConditions;
         if (queryContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement || queryContext.getSqlStatementContext() instanceof CursorAvailable) {
             ShardingConditionEngine shardingConditionEngine = ShardingConditionEngineFactory.createShardingConditionEngine(queryContext, database, rule);
@@ -70,6 +79,11 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         } else {
             shardingConditions = Collections.emptyList();
         }
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SHARDING_ZONE_MAP_PRUNING_ENABLED) && queryContext.getSqlStatementContext() instanceof SelectStatementContext) {
+            ZoneMapConditions zoneMapConditions = new ZoneMapConditionEngine(rule, database)
+                    .createZoneMapConditions((SelectStatementContext) queryContext.getSqlStatementContext(), queryContext.getParameters());
+            return new ShardingConditions(shardingConditions, queryContext.getSqlStatementContext(), rule, zoneMapConditions);
+        }
         return new ShardingConditions(shardingConditions, queryContext.getSqlStatementContext(), rule);
     }
     
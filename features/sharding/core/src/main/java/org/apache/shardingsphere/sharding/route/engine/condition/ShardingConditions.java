@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingS
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapConditions;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
@@ -58,10 +59,17 @@ public final class ShardingConditions {
     
     private final boolean subqueryContainsShardingCondition;
     
+    private final ZoneMapConditions zoneMapConditions;
+    
     public ShardingConditions(final List<ShardingCondition> conditions, final SQLStatementContext<?> sqlStatementContext, final ShardingRule rule) {
+        this(conditions, sqlStatementContext, rule, ZoneMapConditions.empty());
+    }
+    
+    public ShardingConditions(final List<ShardingCondition> conditions, final SQLStatementContext<?> sqlStatementContext, final ShardingRule rule, final ZoneMapConditions zoneMapConditions) {
         this.conditions = conditions;
         this.sqlStatementContext = sqlStatementContext;
         this.rule = rule;
+        this.zoneMapConditions = zoneMapConditions;
         subqueryContainsShardingCondition = isSubqueryContainsShardingCondition(conditions, sqlStatementContext);
     }
     
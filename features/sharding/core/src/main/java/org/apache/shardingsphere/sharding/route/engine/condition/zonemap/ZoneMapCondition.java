@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.zonemap;
+
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Zone map condition, which holds value ranges of columns in one AND predicate.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ZoneMapCondition {
+    
+    private final Map<Column, Range<BigDecimal>> ranges;
+    
+    /**
+     * Judge whether data node of logic table is excluded by its zones.
+     *
+     * @param logicTableName logic table name
+     * @param columnZones value ranges of columns in data node, keyed by lower case column name
+     * @return data node is excluded or not
+     */
+    public boolean isExcluded(final String logicTableName, final Map<String, Range<BigDecimal>> columnZones) {
+        for (Entry<Column, Range<BigDecimal>> entry : ranges.entrySet()) {
+            if (!entry.getKey().getTableName().equalsIgnoreCase(logicTableName)) {
+                continue;
+            }
+            if (entry.getValue().isEmpty()) {
+                return true;
+            }
+            Range<BigDecimal> zone = columnZones.get(entry.getKey().getName().toLowerCase());
+            if (null != zone && (zone.isEmpty() || !isIntersected(zone, entry.getValue()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isIntersected(final Range<BigDecimal> zone, final Range<BigDecimal> range) {
+        return zone.isConnected(range) && !zone.intersection(range).isEmpty();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.zonemap;
+
+import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingZoneMap;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Zone map condition engine.
+ */
+@RequiredArgsConstructor
+public final class ZoneMapConditionEngine {
+    
+    private static final Range<BigDecimal> EMPTY_RANGE = Range.closedOpen(BigDecimal.ZERO, BigDecimal.ZERO);
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereDatabase database;
+    
+    /**
+     * Create zone map conditions of numeric range predicates on sharding tables, and track their columns in zone map.
+     *
+     * @param sqlStatementContext select statement context
+     * @param params parameters
+     * @return zone map conditions, empty if any AND predicate has no numeric range predicate
+     */
+    public ZoneMapConditions createZoneMapConditions(final SelectStatementContext sqlStatementContext, final List<Object> params) {
+        Optional<WhereSegment> whereSegment = sqlStatementContext.getSqlStatement().getWhere();
+        if (!whereSegment.isPresent() || sqlStatementContext.isContainsSubquery() || sqlStatementContext.isContainsCombine()) {
+            return ZoneMapConditions.empty();
+        }
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), database.getName());
+        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName().map(database::getSchema).orElseGet(() -> database.getSchema(defaultSchemaName));
+        Map<String, String> columnTableNames = sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(ColumnExtractor.extract(whereSegment.get().getExpr()), schema);
+        Collection<ZoneMapCondition> result = new LinkedList<>();
+        for (AndPredicate each : ExpressionExtractUtil.getAndPredicates(whereSegment.get().getExpr())) {
+            Map<Column, Range<BigDecimal>> ranges = createRanges(each.getPredicates(), params, columnTableNames);
+            if (ranges.isEmpty()) {
+                return ZoneMapConditions.empty();
+            }
+            result.add(new ZoneMapCondition(ranges));
+        }
+        track(result);
+        return new ZoneMapConditions(result);
+    }
+    
+    private Map<Column, Range<BigDecimal>> createRanges(final Collection<ExpressionSegment> predicates, final List<Object> params, final Map<String, String> columnTableNames) {
+        Map<Column, Range<BigDecimal>> result = new HashMap<>(predicates.size(), 1);
+        for (ExpressionSegment each : predicates) {
+            Optional<ColumnSegment> columnSegment = findColumnSegment(each);
+            Optional<String> tableName = columnSegment.map(optional -> columnTableNames.get(optional.getExpression()));
+            if (!tableName.isPresent() || !shardingRule.findTableRule(tableName.get()).isPresent()) {
+                continue;
+            }
+            Optional<Range<BigDecimal>> range = createRange(each, params);
+            if (range.isPresent()) {
+                result.merge(new Column(columnSegment.get().getIdentifier().getValue(), tableName.get()), range.get(), this::intersect);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<ColumnSegment> findColumnSegment(final ExpressionSegment predicate) {
+        if (predicate instanceof BinaryOperationExpression) {
+            BinaryOperationExpression binaryOperationExpression = (BinaryOperationExpression) predicate;
+            if (binaryOperationExpression.getLeft() instanceof ColumnSegment) {
+                return Optional.of((ColumnSegment) binaryOperationExpression.getLeft());
+            }
+            return binaryOperationExpression.getRight() instanceof ColumnSegment ? Optional.of((ColumnSegment) binaryOperationExpression.getRight()) : Optional.empty();
+        }
+        if (predicate instanceof BetweenExpression && ((BetweenExpression) predicate).getLeft() instanceof ColumnSegment) {
+            return Optional.of((ColumnSegment) ((BetweenExpression) predicate).getLeft());
+        }
+        if (predicate instanceof InExpression && ((InExpression) predicate).getLeft() instanceof ColumnSegment) {
+            return Optional.of((ColumnSegment) ((InExpression) predicate).getLeft());
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Range<BigDecimal>> createRange(final ExpressionSegment predicate, final List<Object> params) {
+        if (predicate instanceof BinaryOperationExpression) {
+            return createRange((BinaryOperationExpression) predicate, params);
+        }
+        if (predicate instanceof BetweenExpression) {
+            return createRange((BetweenExpression) predicate, params);
+        }
+        if (predicate instanceof InExpression) {
+            return createRange((InExpression) predicate, params);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Range<BigDecimal>> createRange(final BinaryOperationExpression predicate, final List<Object> params) {
+        boolean columnOnLeft = predicate.getLeft() instanceof ColumnSegment;
+        Optional<BigDecimal> value = findValue(columnOnLeft ? predicate.getRight() : predicate.getLeft(), params);
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+        switch (columnOnLeft ? predicate.getOperator() : reverse(predicate.getOperator())) {
+            case "=":
+                return Optional.of(Range.singleton(value.get()));
+            case ">":
+                return Optional.of(Range.greaterThan(value.get()));
+            case ">=":
+                return Optional.of(Range.atLeast(value.get()));
+            case "<":
+                return Optional.of(Range.lessThan(value.get()));
+            case "<=":
+                return Optional.of(Range.atMost(value.get()));
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private Optional<Range<BigDecimal>> createRange(final BetweenExpression predicate, final List<Object> params) {
+        if (predicate.isNot()) {
+            return Optional.empty();
+        }
+        Optional<BigDecimal> betweenValue = findValue(predicate.getBetweenExpr(), params);
+        Optional<BigDecimal> andValue = findValue(predicate.getAndExpr(), params);
+        if (!betweenValue.isPresent() || !andValue.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(betweenValue.get().compareTo(andValue.get()) > 0 ? EMPTY_RANGE : Range.closed(betweenValue.get(), andValue.get()));
+    }
+    
+    private Optional<Range<BigDecimal>> createRange(final InExpression predicate, final List<Object> params) {
+        if (predicate.isNot() || !(predicate.getRight() instanceof ListExpression)) {
+            return Optional.empty();
+        }
+        Collection<BigDecimal> values = new LinkedList<>();
+        for (ExpressionSegment each : ((ListExpression) predicate.getRight()).getItems()) {
+            Optional<BigDecimal> value = findValue(each, params);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(value.get());
+        }
+        return values.isEmpty() ? Optional.empty() : Optional.of(Range.encloseAll(values));
+    }
+    
+    private String reverse(final String operator) {
+        switch (operator) {
+            case ">":
+                return "<";
+            case ">=":
+                return "<=";
+            case "<":
+                return ">";
+            case "<=":
+                return ">=";
+            default:
+                return operator;
+        }
+    }
+    
+    private Optional<BigDecimal> findValue(final ExpressionSegment expression, final List<Object> params) {
+        if (expression instanceof LiteralExpressionSegment) {
+            return ShardingZoneMap.findZoneValue(((LiteralExpressionSegment) expression).getLiterals());
+        }
+        if (expression instanceof ParameterMarkerExpressionSegment) {
+            int parameterMarkerIndex = ((ParameterMarkerExpressionSegment) expression).getParameterMarkerIndex();
+            return parameterMarkerIndex < params.size() ? ShardingZoneMap.findZoneValue(params.get(parameterMarkerIndex)) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    private Range<BigDecimal> intersect(final Range<BigDecimal> range, final Range<BigDecimal> other) {
+        return range.isConnected(other) ? range.intersection(other) : EMPTY_RANGE;
+    }
+    
+    private void track(final Collection<ZoneMapCondition> conditions) {
+        Map<String, Collection<String>> columnNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (ZoneMapCondition each : conditions) {
+            for (Column column : each.getRanges().keySet()) {
+                columnNames.computeIfAbsent(column.getTableName(), unused -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)).add(column.getName());
+            }
+        }
+        for (Entry<String, Collection<String>> entry : columnNames.entrySet()) {
+            shardingRule.getZoneMap().track(entry.getKey(), entry.getValue());
+        }
+    }
+}
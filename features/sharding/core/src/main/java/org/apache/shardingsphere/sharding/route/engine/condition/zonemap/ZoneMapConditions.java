@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.zonemap;
+
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.rule.ShardingZoneMap;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Zone map conditions, which are joined by OR.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ZoneMapConditions {
+    
+    private final Collection<ZoneMapCondition> conditions;
+    
+    /**
+     * Create empty zone map conditions.
+     *
+     * @return empty zone map conditions
+     */
+    public static ZoneMapConditions empty() {
+        return new ZoneMapConditions(Collections.emptyList());
+    }
+    
+    /**
+     * Judge zone map conditions is empty or not.
+     *
+     * @return zone map conditions is empty or not
+     */
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+    
+    /**
+     * Prune data nodes of logic table by zones.
+     * 
+     * <p>Data node is pruned only if it is excluded by all conditions, and first data node is kept if all data nodes are pruned to return result of aggregation.</p>
+     *
+     * @param logicTableName logic table name
+     * @param dataNodes data nodes
+     * @param zones value ranges of columns for each data node, keyed by data node key
+     * @return data nodes which are not pruned
+     */
+    public Collection<DataNode> prune(final String logicTableName, final Collection<DataNode> dataNodes, final Map<String, Map<String, Range<BigDecimal>>> zones) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (DataNode each : dataNodes) {
+            Map<String, Range<BigDecimal>> columnZones = zones.get(ShardingZoneMap.getDataNodeKey(each));
+            if (null == columnZones || !isExcluded(logicTableName, columnZones)) {
+                result.add(each);
+            }
+        }
+        if (result.isEmpty() && !dataNodes.isEmpty()) {
+            result.add(dataNodes.iterator().next());
+        }
+        return result;
+    }
+    
+    private boolean isExcluded(final String logicTableName, final Map<String, Range<BigDecimal>> columnZones) {
+        for (ZoneMapCondition each : conditions) {
+            if (!each.isExcluded(logicTableName, columnZones)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
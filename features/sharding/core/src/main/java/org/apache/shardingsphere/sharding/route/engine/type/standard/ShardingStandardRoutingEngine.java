@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -38,17 +40,21 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -80,7 +86,7 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
-        Collection<DataNode> dataNodes = getDataNodes(shardingRule, shardingRule.getTableRule(logicTableName));
+        Collection<DataNode> dataNodes = pruneDataNodesByZoneMap(shardingRule, getDataNodes(shardingRule, shardingRule.getTableRule(logicTableName)));
         result.getOriginalDataNodes().addAll(originalDataNodes);
         for (DataNode each : dataNodes) {
             result.getRouteUnits().add(
@@ -89,6 +95,15 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private Collection<DataNode> pruneDataNodesByZoneMap(final ShardingRule shardingRule, final Collection<DataNode> dataNodes) {
+        if (shardingConditions.getZoneMapConditions().isEmpty() || dataNodes.size() < 2) {
+            return dataNodes;
+        }
+        Optional<Map<String, Map<String, Range<BigDecimal>>>> zones = shardingRule.getZoneMap().findZones(logicTableName,
+                props.<Long>getValue(ConfigurationPropertyKey.SHARDING_ZONE_MAP_MAX_STALENESS_MILLISECONDS));
+        return zones.isPresent() ? shardingConditions.getZoneMapConditions().prune(logicTableName, dataNodes, zones.get()) : dataNodes;
+    }
+    
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final TableRule tableRule) {
         ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule),
                 shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
@@ -136,17 +151,113 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule,
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+        List<List<ShardingConditionValue>> databaseShardingValues = new ArrayList<>(shardingConditions.getConditions().size());
+        List<List<ShardingConditionValue>> tableShardingValues = new ArrayList<>(shardingConditions.getConditions().size());
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule,
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+            databaseShardingValues.add(getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each));
+            tableShardingValues.add(getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+        }
+        if (shardingConditions.getConditions().size() > 1
+                && isBatchShardingValues(databaseShardingStrategy, databaseShardingValues) && isBatchShardingValues(tableShardingStrategy, tableShardingValues)) {
+            return routeInBatch(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
+        }
+        Collection<DataNode> result = new LinkedList<>();
+        for (int i = 0; i < databaseShardingValues.size(); i++) {
+            Collection<DataNode> dataNodes = route0(tableRule, databaseShardingStrategy, databaseShardingValues.get(i), tableShardingStrategy, tableShardingValues.get(i));
+            result.addAll(dataNodes);
+            originalDataNodes.add(dataNodes);
+        }
+        return result;
+    }
+    
+    private boolean isBatchShardingValues(final ShardingStrategy shardingStrategy, final List<List<ShardingConditionValue>> shardingValues) {
+        List<ShardingConditionValue> sample = shardingValues.get(0);
+        if (sample.isEmpty()) {
+            return shardingValues.stream().allMatch(Collection::isEmpty);
+        }
+        if (!(shardingStrategy instanceof StandardShardingStrategy)) {
+            return false;
+        }
+        for (List<ShardingConditionValue> each : shardingValues) {
+            if (1 != each.size() || !(each.get(0) instanceof ListShardingConditionValue) || 1 != ((ListShardingConditionValue<?>) each.get(0)).getValues().size()
+                    || !sample.get(0).getTableName().equals(each.get(0).getTableName()) || !sample.get(0).getColumnName().equals(each.get(0).getColumnName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<DataNode> routeInBatch(final TableRule tableRule, final ShardingStrategy databaseShardingStrategy, final List<List<ShardingConditionValue>> databaseShardingValues,
+                                              final ShardingStrategy tableShardingStrategy, final List<List<ShardingConditionValue>> tableShardingValues) {
+        List<String> routedDataSources = databaseShardingValues.get(0).isEmpty()
+                ? null
+                : routeDataSourcesInBatch(tableRule, (StandardShardingStrategy) databaseShardingStrategy, databaseShardingValues);
+        Map<String, List<String>> routedTables = tableShardingValues.get(0).isEmpty()
+                ? null
+                : routeTablesInBatch(tableRule, routedDataSources, (StandardShardingStrategy) tableShardingStrategy, tableShardingValues);
+        Collection<DataNode> result = new LinkedList<>();
+        for (int i = 0; i < tableShardingValues.size(); i++) {
+            Collection<DataNode> dataNodes = new LinkedList<>();
+            for (String each : getRoutedDataSources(tableRule, routedDataSources, i)) {
+                if (null == routedTables) {
+                    tableRule.getActualTableNames(each).forEach(optional -> dataNodes.add(new DataNode(each, optional)));
+                } else if (null != routedTables.get(each).get(i)) {
+                    dataNodes.add(new DataNode(each, routedTables.get(each).get(i)));
+                }
+            }
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private List<String> routeDataSourcesInBatch(final TableRule tableRule, final StandardShardingStrategy databaseShardingStrategy, final List<List<ShardingConditionValue>> databaseShardingValues) {
+        ShardingConditionValue sample = databaseShardingValues.get(0).get(0);
+        List<String> result = databaseShardingStrategy.doSharding(tableRule.getActualDataSourceNames(), sample.getTableName(), sample.getColumnName(), getSingleValues(databaseShardingValues),
+                tableRule.getDataSourceDataNode());
+        for (String each : result) {
+            Preconditions.checkState(null != each, "No database route info");
+        }
+        return result;
+    }
+    
+    private Map<String, List<String>> routeTablesInBatch(final TableRule tableRule, final List<String> routedDataSources,
+                                                         final StandardShardingStrategy tableShardingStrategy, final List<List<ShardingConditionValue>> tableShardingValues) {
+        Map<String, List<Integer>> dataSourceIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < tableShardingValues.size(); i++) {
+            for (String each : getRoutedDataSources(tableRule, routedDataSources, i)) {
+                dataSourceIndexes.computeIfAbsent(each, unused -> new ArrayList<>()).add(i);
+            }
+        }
+        ShardingConditionValue sample = tableShardingValues.get(0).get(0);
+        List<Comparable<?>> shardingValues = getSingleValues(tableShardingValues);
+        Map<String, List<String>> result = new LinkedHashMap<>(dataSourceIndexes.size(), 1);
+        for (Entry<String, List<Integer>> entry : dataSourceIndexes.entrySet()) {
+            List<Comparable<?>> dataSourceShardingValues = new ArrayList<>(entry.getValue().size());
+            entry.getValue().forEach(each -> dataSourceShardingValues.add(shardingValues.get(each)));
+            List<String> routedTables = tableShardingStrategy.doSharding(tableRule.getActualTableNames(entry.getKey()), sample.getTableName(), sample.getColumnName(), dataSourceShardingValues,
+                    tableRule.getTableDataNode());
+            List<String> tables = new ArrayList<>(Collections.nCopies(tableShardingValues.size(), null));
+            for (int i = 0; i < routedTables.size(); i++) {
+                tables.set(entry.getValue().get(i), routedTables.get(i));
+            }
+            result.put(entry.getKey(), tables);
+        }
+        return result;
+    }
+    
+    private Collection<String> getRoutedDataSources(final TableRule tableRule, final List<String> routedDataSources, final int index) {
+        return null == routedDataSources ? tableRule.getActualDataSourceNames() : Collections.singleton(routedDataSources.get(index));
+    }
+    
+    private List<Comparable<?>> getSingleValues(final List<List<ShardingConditionValue>> shardingValues) {
+        List<Comparable<?>> result = new ArrayList<>(shardingValues.size());
+        for (List<ShardingConditionValue> each : shardingValues) {
+            result.add(((ListShardingConditionValue<?>) each.get(0)).getValues().iterator().next());
+        }
+        return result;
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final TableRule tableRule,
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -67,6 +69,28 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param tableName table name of sharding values
+     * @param columnName column name of sharding values
+     * @param shardingValues sharding values
+     * @param dataNodeInfo data node info
+     * @return sharding results, one for each sharding value in order, null if sharding value is not routed to any target
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<String> doSharding(final Collection<String> availableTargetNames, final String tableName, final String columnName,
+                                   final List<Comparable<?>> shardingValues, final DataNodeInfo dataNodeInfo) {
+        List<String> result = shardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue(tableName, columnName, dataNodeInfo, shardingValues));
+        for (String each : result) {
+            if (null != each && !availableTargetNames.contains(each)) {
+                throw new ShardingRouteAlgorithmException(each, availableTargetNames);
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
         Collection<String> result = new LinkedList<>();
@@ -115,6 +115,12 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
+    private final Collection<String> actualTables;
+    
+    private final ShardingZoneMap zoneMap = new ShardingZoneMap();
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Collection<String> dataSourceNames, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSourceNames);
@@ -133,6 +139,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(ruleConfig.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = ruleConfig.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
+        actualTables = createActualTables(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms, ruleConfig.getBindingTableGroups(),
                 broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 "Invalid binding table configuration in ShardingRuleConfiguration.");
@@ -150,6 +158,26 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    private Map<String, Collection<TableRule>> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.computeIfAbsent(dataNode.getTableName().toLowerCase(), unused -> new LinkedHashSet<>()).add(each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Collection<String> createActualTables(final Map<String, TableRule> tableRules) {
+        Collection<String> result = new HashSet<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.add(dataNode.getTableName());
+            }
+        }
+        return Collections.unmodifiableCollection(result);
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -290,7 +318,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     public Collection<String> getAllTables() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(getTables());
-        result.addAll(getAllActualTables());
+        result.addAll(actualTables);
         return result;
     }
     
@@ -344,12 +372,11 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return getTableRulesByActualTable(actualTableName).stream().findFirst();
+    }
+    
+    private Collection<TableRule> getTableRulesByActualTable(final String actualTableName) {
+        return null == actualTableName ? Collections.emptyList() : actualTableRules.getOrDefault(actualTableName.toLowerCase(), Collections.emptyList());
     }
     
     /**
@@ -652,7 +679,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return logic tables
      */
     public Collection<String> getLogicTablesByActualTable(final String actualTable) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTable)).map(TableRule::getLogicTable).collect(Collectors.toSet());
+        return getTableRulesByActualTable(actualTable).stream().map(TableRule::getLogicTable).collect(Collectors.toSet());
     }
     
     @Override
@@ -665,10 +692,6 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return shardingTableDataNodes.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
     }
     
-    private Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
-    }
-    
     @Override
     public Optional<String> findFirstActualTable(final String logicTable) {
         return findTableRule(logicTable).map(optional -> optional.getActualDataNodes().get(0).getTableName());
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sharding zone map, which holds min and max values of columns for each data node of logic tables.
+ * 
+ * <p>Columns are tracked once they are used by range predicates with zone map pruning enabled, and their values are refreshed by data collector.
+ * Writes routed to logic table invalidate its values until next refresh started after the writes, and values older than max staleness are not used.
+ * Writes which are not routed by this instance, such as writes of other instances or writes to actual tables directly, are only covered by max staleness.</p>
+ */
+public final class ShardingZoneMap {
+    
+    private final Map<String, TableZoneMap> tableZoneMaps = new ConcurrentHashMap<>();
+    
+    /**
+     * Track columns of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param columnNames column names
+     */
+    public void track(final String logicTableName, final Collection<String> columnNames) {
+        Collection<String> trackedColumnNames = tableZoneMaps.computeIfAbsent(logicTableName.toLowerCase(), unused -> new TableZoneMap()).trackedColumnNames;
+        for (String each : columnNames) {
+            trackedColumnNames.add(each.toLowerCase());
+        }
+    }
+    
+    /**
+     * Get tracked column names.
+     *
+     * @return tracked column names of logic tables
+     */
+    public Map<String, Collection<String>> getTrackedColumnNames() {
+        Map<String, Collection<String>> result = new LinkedHashMap<>(tableZoneMaps.size(), 1);
+        for (Entry<String, TableZoneMap> entry : tableZoneMaps.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().trackedColumnNames);
+        }
+        return result;
+    }
+    
+    /**
+     * Get version of logic table, which is changed when logic table is invalidated.
+     *
+     * @param logicTableName logic table name
+     * @return version
+     */
+    public long getVersion(final String logicTableName) {
+        TableZoneMap tableZoneMap = tableZoneMaps.get(logicTableName.toLowerCase());
+        return null == tableZoneMap ? 0L : tableZoneMap.version.get();
+    }
+    
+    /**
+     * Invalidate zone map of logic table.
+     *
+     * @param logicTableName logic table name
+     */
+    public void invalidate(final String logicTableName) {
+        TableZoneMap tableZoneMap = tableZoneMaps.get(logicTableName.toLowerCase());
+        if (null != tableZoneMap) {
+            tableZoneMap.version.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Invalidate zone maps of logic tables which may be written by SQL statement.
+     * 
+     * <p>Delete statement is ignored, because zones which contain deleted values still cover remaining values.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     */
+    public void invalidate(final SQLStatementContext<?> sqlStatementContext) {
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        if (tableZoneMaps.isEmpty() || !(sqlStatement instanceof DMLStatement) || sqlStatement instanceof SelectStatement || sqlStatement instanceof DeleteStatement) {
+            return;
+        }
+        for (String each : sqlStatementContext.getTablesContext().getTableNames()) {
+            invalidate(each);
+        }
+    }
+    
+    /**
+     * Refresh zone map of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param version version of logic table when collecting started
+     * @param collectedMillis milliseconds when collecting started
+     * @param zones value ranges of columns for each data node, empty range means no value in data node
+     */
+    public void refresh(final String logicTableName, final long version, final long collectedMillis, final Map<DataNode, Map<String, Range<BigDecimal>>> zones) {
+        TableZoneMap tableZoneMap = tableZoneMaps.get(logicTableName.toLowerCase());
+        if (null == tableZoneMap) {
+            return;
+        }
+        Map<String, Map<String, Range<BigDecimal>>> dataNodeZones = new ConcurrentHashMap<>(zones.size(), 1);
+        for (Entry<DataNode, Map<String, Range<BigDecimal>>> entry : zones.entrySet()) {
+            dataNodeZones.put(getDataNodeKey(entry.getKey()), entry.getValue());
+        }
+        tableZoneMap.snapshot = new ZoneMapSnapshot(version, collectedMillis, dataNodeZones);
+    }
+    
+    /**
+     * Find zones of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param maxStalenessMillis max milliseconds since collecting started
+     * @return value ranges of columns for each data node, keyed by data node key
+     */
+    public Optional<Map<String, Map<String, Range<BigDecimal>>>> findZones(final String logicTableName, final long maxStalenessMillis) {
+        TableZoneMap tableZoneMap = tableZoneMaps.get(logicTableName.toLowerCase());
+        if (null == tableZoneMap) {
+            return Optional.empty();
+        }
+        ZoneMapSnapshot snapshot = tableZoneMap.snapshot;
+        if (null == snapshot || snapshot.version != tableZoneMap.version.get() || System.currentTimeMillis() - snapshot.collectedMillis > maxStalenessMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.zones);
+    }
+    
+    /**
+     * Get data node key.
+     *
+     * @param dataNode data node
+     * @return data node key
+     */
+    public static String getDataNodeKey(final DataNode dataNode) {
+        return dataNode.format().toLowerCase();
+    }
+    
+    /**
+     * Find zone value, only finite numbers are compared with zones.
+     *
+     * @param value value
+     * @return zone value
+     */
+    public static Optional<BigDecimal> findZoneValue(final Object value) {
+        if (value instanceof BigDecimal) {
+            return Optional.of((BigDecimal) value);
+        }
+        if (value instanceof Double && (((Double) value).isNaN() || ((Double) value).isInfinite()) || value instanceof Float && (((Float) value).isNaN() || ((Float) value).isInfinite())) {
+            return Optional.empty();
+        }
+        return value instanceof Number ? Optional.of(new BigDecimal(value.toString())) : Optional.empty();
+    }
+    
+    private static final class TableZoneMap {
+        
+        private final Collection<String> trackedColumnNames = ConcurrentHashMap.newKeySet();
+        
+        private final AtomicLong version = new AtomicLong();
+        
+        private volatile ZoneMapSnapshot snapshot;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ZoneMapSnapshot {
+        
+        private final long version;
+        
+        private final long collectedMillis;
+        
+        private final Map<String, Map<String, Range<BigDecimal>>> zones;
+    }
+}
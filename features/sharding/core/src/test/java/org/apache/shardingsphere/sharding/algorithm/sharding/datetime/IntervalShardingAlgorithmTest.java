@@ -42,12 +42,16 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public final class IntervalShardingAlgorithmTest {
@@ -319,6 +323,23 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(7));
     }
     
+    @Test
+    public void assertRangeDoShardingByMonthWithAlternateAvailableTargetNames() {
+        Collection<String> availableTablesForFirstDataSource = new LinkedList<>();
+        Collection<String> availableTablesForSecondDataSource = new LinkedList<>();
+        for (String each : availableTablesForMonthDataSources) {
+            (each.compareTo("t_order_201912") <= 0 ? availableTablesForFirstDataSource : availableTablesForSecondDataSource).add(each);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForFirstDataSource,
+                    new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2019-10-15 10:59:08", "2020-04-08 10:59:08"))),
+                    is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_201910", "t_order_201911", "t_order_201912"))));
+            assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForSecondDataSource,
+                    new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2019-10-15 10:59:08", "2020-04-08 10:59:08"))),
+                    is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_202001", "t_order_202002", "t_order_202003", "t_order_202004"))));
+        }
+    }
+    
     @Test
     public void assertLowerHalfRangeDoSharding() {
         Collection<String> actual = shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources,
@@ -362,6 +383,27 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(24));
     }
     
+    @Test
+    public void assertRangeDoShardingByMonthWithOpenEndpoints() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.open("2019-10-01 00:00:00", "2020-04-01 00:00:00")));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_201910", "t_order_201911", "t_order_201912", "t_order_202001", "t_order_202002", "t_order_202003"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingByMonthOutOfInterval() {
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2010-01-01 00:00:00", "2015-12-31 23:59:59"))).isEmpty());
+    }
+    
+    @Test
+    public void assertPreciseDoShardingAfterAvailableTargetNamesChanged() {
+        PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-01 00:00:01");
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, shardingValue), is("t_order_202001"));
+        assertNull(shardingAlgorithmByMonth.doSharding(Collections.singleton("t_order_202002"), shardingValue));
+        assertThat(shardingAlgorithmByMonth.doSharding(Arrays.asList("t_order_202001", "t_order_202002"), shardingValue), is("t_order_202001"));
+    }
+    
     @Test
     public void assertFormat() {
         String inputFormat = "yyyy-MM-dd HH:mm:ss.SSS";
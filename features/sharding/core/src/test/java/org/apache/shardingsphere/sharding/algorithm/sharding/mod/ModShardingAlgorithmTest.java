@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
@@ -27,6 +28,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,6 +51,14 @@ public final class ModShardingAlgorithmTest {
         assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "12345678910111213141516")), is("t_order_12"));
     }
     
+    @Test
+    public void assertBatchPreciseDoSharding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        List<String> actual = algorithm.doSharding(createAvailableTargetNames(),
+                new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(17, -1L, 33L, "12345678910111213141516")));
+        assertThat(actual, is(Arrays.asList("t_order_1", "t_order_15", "t_order_1", "t_order_12")));
+    }
+    
     @Test
     public void assertRangeDoShardingWithAllTargets() {
         ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
@@ -28,7 +29,10 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -86,8 +90,69 @@ public final class BoundaryBasedRangeShardingAlgorithmTest {
         assertRangeDoSharding(new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(2, 15)));
     }
     
+    @Test
+    public void assertRangeDoShardingWithOpenBounds() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(0L, 5L)));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_1"));
+    }
+    
     @Test
     public void assertGetAutoTablesAmount() {
         assertThat(shardingAlgorithm.getAutoTablesAmount(), is(4));
     }
+    
+    @Test
+    public void assertRangeDoShardingWithEmptyPartitionRange() {
+        AbstractRangeShardingAlgorithm emptyShardingAlgorithm = createShardingAlgorithm(Collections.emptyMap());
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+        assertTrue(emptyShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.all())).isEmpty());
+        assertThat(emptyShardingAlgorithm.getAutoTablesAmount(), is(0));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithDisjointPartitionRange() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+        assertThat(createDisjointShardingAlgorithm().doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 25L)), is("t_order_1"));
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertPreciseDoShardingWithValueBetweenPartitionRanges() {
+        createDisjointShardingAlgorithm().doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 15L));
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertPreciseDoShardingWithValueBelowPartitionRanges() {
+        createDisjointShardingAlgorithm().doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, -1L));
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertRangeDoShardingWithValueAbovePartitionRanges() {
+        createDisjointShardingAlgorithm().doSharding(Arrays.asList("t_order_0", "t_order_1"), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5L, 30L)));
+    }
+    
+    private AbstractRangeShardingAlgorithm createDisjointShardingAlgorithm() {
+        Map<Integer, Range<Comparable<?>>> partitionRange = new HashMap<>(2, 1);
+        partitionRange.put(0, Range.closedOpen(0L, 10L));
+        partitionRange.put(1, Range.closedOpen(20L, 30L));
+        return createShardingAlgorithm(partitionRange);
+    }
+    
+    private AbstractRangeShardingAlgorithm createShardingAlgorithm(final Map<Integer, Range<Comparable<?>>> partitionRange) {
+        AbstractRangeShardingAlgorithm result = new AbstractRangeShardingAlgorithm() {
+            
+            @Override
+            protected Map<Integer, Range<Comparable<?>>> calculatePartitionRange(final Properties props) {
+                return partitionRange;
+            }
+            
+            @Override
+            public String getType() {
+                return "FIXTURE_RANGE";
+            }
+        };
+        result.init(new Properties());
+        return result;
+    }
 }
@@ -126,6 +126,14 @@ public final class VolumeBasedRangeShardingAlgorithmTest {
         assertRangeDoSharding(new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(12, 55)));
     }
     
+    @Test
+    public void assertRangeDoShardingWithOpenBounds() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(19, 30)));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_2"));
+    }
+    
     @Test
     public void assertGetAutoTablesAmount() {
         VolumeBasedRangeShardingAlgorithm shardingAlgorithm = new VolumeBasedRangeShardingAlgorithm();
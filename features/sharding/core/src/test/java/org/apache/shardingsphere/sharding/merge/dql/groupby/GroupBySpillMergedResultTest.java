@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    private static final int GROUP_COUNT = 500;
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = merge(1024L, createQueryResult(Collections.emptyList()), createQueryResult(Collections.emptyList()));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertNull(actual.getValue(2, Object.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithinMemoryLimit() throws SQLException {
+        assertMergedResult(merge(Long.MAX_VALUE, createQueryResult(createRows()), createQueryResult(createRows()), createQueryResult(createRows())));
+    }
+    
+    @Test
+    public void assertNextWithSpilledRows() throws SQLException {
+        assertMergedResult(merge(1L, createQueryResult(createRows()), createQueryResult(createRows()), createQueryResult(createRows())));
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsIterated() throws SQLException, IOException {
+        long originalSpillFileCount = countSpillFiles();
+        MergedResult actual = merge(1L, createQueryResult(createRows()), createQueryResult(createRows()), createQueryResult(createRows()));
+        assertTrue(actual.next());
+        assertTrue(countSpillFiles() > originalSpillFileCount);
+        actual.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-merge-")).count();
+        }
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        for (int i = GROUP_COUNT - 1; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(6)));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal(i).setScale(4)));
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(6)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(i * 6)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private MergedResult merge(final long memoryLimit, final QueryResult... queryResults) throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("db_schema");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), memoryLimit);
+        return resultMerger.merge(Arrays.asList(queryResults), createSelectStatementContext(), database, mock(ConnectionContext.class));
+    }
+    
+    private List<Object[]> createRows() {
+        List<Object[]> result = new ArrayList<>(GROUP_COUNT * 2);
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            result.add(new Object[]{1, i, i, 1, i});
+            result.add(new Object[]{1, i, i, 1, i});
+        }
+        Collections.shuffle(result);
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.size());
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows.get(cursor.get())[(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ShardingSphereRuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+}
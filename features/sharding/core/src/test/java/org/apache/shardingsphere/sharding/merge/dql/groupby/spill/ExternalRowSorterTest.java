@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalRowSorterTest {
+    
+    private static final Comparator<MemoryQueryResultRow> COMPARATOR = Comparator.comparing(row -> (Integer) row.getCell(1));
+    
+    @Test
+    public void assertSortInMemory() throws IOException {
+        ExternalRowSorter sorter = new ExternalRowSorter(COMPARATOR, Long.MAX_VALUE, 2);
+        addRows(sorter);
+        assertFalse(sorter.isSpilled());
+        assertSortedRows(sorter.sort());
+    }
+    
+    @Test
+    public void assertSortWithSpilledRuns() throws IOException {
+        ExternalRowSorter sorter = new ExternalRowSorter(COMPARATOR, 512L, 2);
+        addRows(sorter);
+        assertTrue(sorter.isSpilled());
+        assertSortedRows(sorter.sort());
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsIterated() throws IOException {
+        ExternalRowSorter sorter = new ExternalRowSorter(COMPARATOR, 512L, 2);
+        long originalSpillFileCount = countSpillFiles();
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        actual.next();
+        assertTrue(countSpillFiles() > originalSpillFileCount);
+        sorter.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-merge-")).count();
+        }
+    }
+    
+    private void addRows(final ExternalRowSorter sorter) throws IOException {
+        for (int i = 0; i < 100; i++) {
+            int value = i * 37 % 100;
+            sorter.add(new Object[]{value, "value_" + value});
+        }
+    }
+    
+    private void assertSortedRows(final Iterator<MemoryQueryResultRow> actual) {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat(row.getCell(1), is(i));
+            assertThat(row.getCell(2), is("value_" + i));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
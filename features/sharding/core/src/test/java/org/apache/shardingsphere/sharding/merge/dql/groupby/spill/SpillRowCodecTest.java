@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, 1, 2L, (short) 3, (byte) 4, true, 5.5F, 6.6D, new BigDecimal("7.70"), new BigInteger("8"), "foo_中文", new byte[]{9, 10},
+                timestamp, new Date(11L), new Time(12L), new java.util.Date(13L), LocalDate.of(2022, 1, 1), LocalTime.of(1, 2, 3, 4), LocalDateTime.of(2022, 1, 1, 1, 2, 3, 4),
+                UUID.fromString("00000000-0000-0000-0000-000000000001")};
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(output), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertThat(actual.length, is(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i], is(expected[i]));
+        }
+    }
+    
+    @Test
+    public void assertEstimateSize() {
+        assertThat(SpillRowCodec.estimateSize(new Object[]{null, "foo", new byte[]{1, 2}}), is(64L + 24L * 3 + 6L + 2L));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmptyWithoutLeaves() {
+        LoserTree<IteratedValue> actual = new LoserTree<>(Collections.<IteratedValue>emptyList());
+        assertThat(actual.isEmpty(), is(true));
+        assertThat(actual.peek(), nullValue());
+    }
+    
+    @Test
+    public void assertEmptyWithEmptyLeaves() {
+        assertThat(new LoserTree<IteratedValue>(Arrays.asList(null, null)).isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertMergeSingleLeaf() {
+        assertThat(merge(Collections.singletonList(Arrays.asList(1, 2, 3))), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertMergeLeaves() {
+        List<List<Integer>> values = Arrays.asList(Arrays.asList(1, 4, 7), Collections.emptyList(), Arrays.asList(2, 2, 9), Arrays.asList(0, 8), Arrays.asList(3, 5, 6));
+        assertThat(merge(values), is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    public void assertMergeEqualValuesByLeafIndex() {
+        IteratedValue first = new IteratedValue(Collections.singletonList(1).iterator());
+        IteratedValue second = new IteratedValue(Collections.singletonList(1).iterator());
+        first.next();
+        second.next();
+        LoserTree<IteratedValue> actual = new LoserTree<>(Arrays.asList(first, second));
+        assertThat(actual.peek(), is(first));
+        actual.adjust(first.next());
+        assertThat(actual.peek(), is(second));
+        actual.adjust(second.next());
+        assertThat(actual.isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertMergeEqualValuesByAdvancedOrder() {
+        IteratedValue first = new IteratedValue(Collections.singletonList(2).iterator());
+        IteratedValue second = new IteratedValue(Arrays.asList(1, 2).iterator());
+        IteratedValue third = new IteratedValue(Arrays.asList(1, 2).iterator());
+        first.next();
+        second.next();
+        third.next();
+        LoserTree<IteratedValue> actual = new LoserTree<>(Arrays.asList(first, second, third));
+        assertThat(actual.peek(), is(second));
+        actual.adjust(second.next());
+        assertThat(actual.peek(), is(third));
+        actual.adjust(third.next());
+        assertThat(actual.peek(), is(second));
+        actual.adjust(second.next());
+        assertThat(actual.peek(), is(third));
+        actual.adjust(third.next());
+        assertThat(actual.peek(), is(first));
+        actual.adjust(first.next());
+        assertThat(actual.isEmpty(), is(true));
+    }
+    
+    private List<Integer> merge(final List<List<Integer>> values) {
+        List<IteratedValue> leaves = new ArrayList<>(values.size());
+        for (List<Integer> each : values) {
+            IteratedValue leaf = new IteratedValue(each.iterator());
+            leaves.add(leaf.next() ? leaf : null);
+        }
+        LoserTree<IteratedValue> tree = new LoserTree<>(leaves);
+        List<Integer> result = new ArrayList<>();
+        while (!tree.isEmpty()) {
+            result.add(tree.peek().current);
+            tree.adjust(tree.peek().next());
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IteratedValue implements Comparable<IteratedValue> {
+        
+        private final Iterator<Integer> iterator;
+        
+        private Integer current;
+        
+        boolean next() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final IteratedValue other) {
+            return Integer.compare(current, other.current);
+        }
+    }
+}
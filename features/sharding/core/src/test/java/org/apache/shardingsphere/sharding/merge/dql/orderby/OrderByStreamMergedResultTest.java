@@ -202,6 +202,37 @@ public final class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForEqualValuesInAdvancedOrder() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        for (int i = 0; i < 3; i++) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResults.get(i).getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            when(queryResults.get(i).getValue(3, Object.class)).thenReturn(i);
+        }
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        when(queryResults.get(0).getValue(2, Object.class)).thenReturn("b");
+        when(queryResults.get(1).next()).thenReturn(true, true, false);
+        when(queryResults.get(1).getValue(2, Object.class)).thenReturn("a", "b");
+        when(queryResults.get(2).next()).thenReturn(true, true, false);
+        when(queryResults.get(2).getValue(2, Object.class)).thenReturn("A", "B");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
     private ShardingSphereDatabase createDatabase() {
         ShardingSphereColumn column1 = new ShardingSphereColumn("col1", 0, false, false, true, true, false);
         ShardingSphereColumn column2 = new ShardingSphereColumn("col2", 0, false, false, false, true, false);
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.zonemap;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingZoneMap;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ZoneMapConditionEngineTest {
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private final SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+    
+    private final TablesContext tablesContext = mock(TablesContext.class);
+    
+    private final ShardingZoneMap zoneMap = new ShardingZoneMap();
+    
+    private ZoneMapConditionEngine zoneMapConditionEngine;
+    
+    @Before
+    public void setUp() {
+        zoneMapConditionEngine = new ZoneMapConditionEngine(shardingRule, ShardingSphereDatabase.create("foo_db", DatabaseTypeEngine.getDatabaseType("MySQL")));
+        when(sqlStatementContext.getDatabaseType()).thenReturn(DatabaseTypeEngine.getDatabaseType("MySQL"));
+        when(sqlStatementContext.getTablesContext()).thenReturn(tablesContext);
+        when(tablesContext.findTableNamesByColumnSegment(anyCollection(), any())).thenReturn(Collections.singletonMap("order_id", "t_order"));
+        when(shardingRule.findTableRule("t_order")).thenReturn(Optional.of(mock(TableRule.class)));
+        when(shardingRule.getZoneMap()).thenReturn(zoneMap);
+    }
+    
+    @Test
+    public void assertCreateZoneMapConditionsWithCompareOperators() {
+        ExpressionSegment left = new BinaryOperationExpression(0, 0, createColumnSegment(), new ParameterMarkerExpressionSegment(0, 0, 0), ">=", "order_id >= ?");
+        ExpressionSegment right = new BinaryOperationExpression(0, 0, new LiteralExpressionSegment(0, 0, 100), createColumnSegment(), ">", "100 > order_id");
+        setWhere(new BinaryOperationExpression(0, 0, left, right, "AND", "order_id >= ? AND 100 > order_id"));
+        ZoneMapConditions actual = zoneMapConditionEngine.createZoneMapConditions(sqlStatementContext, Collections.singletonList(10L));
+        assertThat(actual.getConditions().size(), is(1));
+        assertThat(getRange(actual), is(Range.closedOpen(BigDecimal.TEN, new BigDecimal("100"))));
+        assertThat(zoneMap.getTrackedColumnNames().get("t_order"), is(Collections.singleton("order_id")));
+    }
+    
+    @Test
+    public void assertCreateZoneMapConditionsWithDisjointRanges() {
+        ExpressionSegment left = new BinaryOperationExpression(0, 0, createColumnSegment(), new LiteralExpressionSegment(0, 0, 100), ">", "order_id > 100");
+        ExpressionSegment right = new BinaryOperationExpression(0, 0, createColumnSegment(), new LiteralExpressionSegment(0, 0, 10), "<", "order_id < 10");
+        setWhere(new BinaryOperationExpression(0, 0, left, right, "AND", "order_id > 100 AND order_id < 10"));
+        assertTrue(getRange(zoneMapConditionEngine.createZoneMapConditions(sqlStatementContext, Collections.emptyList())).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateZoneMapConditionsWithBetween() {
+        setWhere(new BetweenExpression(0, 0, createColumnSegment(), new LiteralExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, 10), false));
+        assertThat(getRange(zoneMapConditionEngine.createZoneMapConditions(sqlStatementContext, Collections.emptyList())), is(Range.closed(BigDecimal.ONE, BigDecimal.TEN)));
+    }
+    
+    @Test
+    public void assertCreateZoneMapConditionsWithNullParameter() {
+        setWhere(new BinaryOperationExpression(0, 0, createColumnSegment(), new ParameterMarkerExpressionSegment(0, 0, 0), "=", "order_id = ?"));
+        assertTrue(zoneMapConditionEngine.createZoneMapConditions(sqlStatementContext, Arrays.asList(new Object[]{null})).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateZoneMapConditionsWithOrBranchWithoutRange() {
+        ExpressionSegment left = new BinaryOperationExpression(0, 0, createColumnSegment(), new LiteralExpressionSegment(0, 0, 100), ">", "order_id > 100");
+        ExpressionSegment right = new BinaryOperationExpression(0, 0, createColumnSegment(), new LiteralExpressionSegment(0, 0, "foo"), "LIKE", "order_id LIKE 'foo'");
+        setWhere(new BinaryOperationExpression(0, 0, left, right, "OR", "order_id > 100 OR order_id LIKE 'foo'"));
+        assertTrue(zoneMapConditionEngine.createZoneMapConditions(sqlStatementContext, Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateZoneMapConditionsWithSubquery() {
+        when(sqlStatementContext.isContainsSubquery()).thenReturn(true);
+        setWhere(new BinaryOperationExpression(0, 0, createColumnSegment(), new LiteralExpressionSegment(0, 0, 100), ">", "order_id > 100"));
+        assertTrue(zoneMapConditionEngine.createZoneMapConditions(sqlStatementContext, Collections.emptyList()).isEmpty());
+    }
+    
+    private ColumnSegment createColumnSegment() {
+        return new ColumnSegment(0, 0, new IdentifierValue("order_id"));
+    }
+    
+    private void setWhere(final ExpressionSegment expression) {
+        when(sqlStatementContext.getSqlStatement().getWhere()).thenReturn(Optional.of(new WhereSegment(0, 0, expression)));
+    }
+    
+    private Range<BigDecimal> getRange(final ZoneMapConditions zoneMapConditions) {
+        Map<Column, Range<BigDecimal>> ranges = zoneMapConditions.getConditions().iterator().next().getRanges();
+        return ranges.get(new Column("order_id", "t_order"));
+    }
+}
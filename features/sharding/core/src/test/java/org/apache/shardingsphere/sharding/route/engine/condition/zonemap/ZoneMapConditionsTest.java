@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.zonemap;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ZoneMapConditionsTest {
+    
+    private final List<DataNode> dataNodes = Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_0", "t_order_1"), new DataNode("ds_1", "t_order_0"));
+    
+    @Test
+    public void assertPrune() {
+        ZoneMapConditions zoneMapConditions = new ZoneMapConditions(Collections.singleton(createCondition("t_order", Range.greaterThan(new BigDecimal("150")))));
+        assertThat(zoneMapConditions.prune("t_order", dataNodes, createZones()), is(Arrays.asList(dataNodes.get(1), dataNodes.get(2))));
+    }
+    
+    @Test
+    public void assertPruneWithOrConditions() {
+        ZoneMapConditions zoneMapConditions = new ZoneMapConditions(Arrays.asList(
+                createCondition("t_order", Range.singleton(new BigDecimal("50"))), createCondition("t_order", Range.singleton(new BigDecimal("150")))));
+        assertThat(zoneMapConditions.prune("t_order", dataNodes, createZones()), is(Arrays.asList(dataNodes.get(0), dataNodes.get(1), dataNodes.get(2))));
+    }
+    
+    @Test
+    public void assertPruneWithConditionOfOtherTable() {
+        ZoneMapConditions zoneMapConditions = new ZoneMapConditions(Collections.singleton(createCondition("t_order_item", Range.greaterThan(new BigDecimal("150")))));
+        assertThat(zoneMapConditions.prune("t_order", dataNodes, createZones()), is(dataNodes));
+    }
+    
+    @Test
+    public void assertPruneAllDataNodes() {
+        ZoneMapConditions zoneMapConditions = new ZoneMapConditions(Collections.singleton(createCondition("t_order", Range.greaterThan(new BigDecimal("1000")))));
+        assertThat(zoneMapConditions.prune("t_order", dataNodes.subList(0, 2), createZones()), is(Collections.singletonList(dataNodes.get(0))));
+    }
+    
+    private ZoneMapCondition createCondition(final String tableName, final Range<BigDecimal> range) {
+        return new ZoneMapCondition(Collections.singletonMap(new Column("order_id", tableName), range));
+    }
+    
+    private Map<String, Map<String, Range<BigDecimal>>> createZones() {
+        Map<String, Map<String, Range<BigDecimal>>> result = new HashMap<>(2, 1);
+        result.put("ds_0.t_order_0", Collections.singletonMap("order_id", Range.closed(BigDecimal.ONE, new BigDecimal("100"))));
+        result.put("ds_0.t_order_1", Collections.singletonMap("order_id", Range.closed(new BigDecimal("101"), new BigDecimal("200"))));
+        return result;
+    }
+}
@@ -17,22 +17,34 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.exception.algorithm.ShardingRouteAlgorithmException;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapConditions;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.After;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -86,6 +98,27 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsInBatch() {
+        List<ShardingCondition> shardingConditions = Arrays.asList(createShardingCondition("t_order", 1L, 1L), createShardingCondition("t_order", 2L, 3L), createShardingCondition("t_order", 1L, 2L));
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order",
+                new ShardingConditions(shardingConditions, mock(SQLStatementContext.class), mock(ShardingRule.class)), mock(SQLStatementContext.class), new HintValueContext());
+        RouteContext routeContext = standardRoutingEngine.route(createBasedShardingRule());
+        List<Collection<DataNode>> originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        assertThat(originalDataNodes.size(), is(3));
+        assertThat(originalDataNodes.get(0), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+        assertThat(originalDataNodes.get(1), is(Collections.singletonList(new DataNode("ds_0", "t_order_1"))));
+        assertThat(originalDataNodes.get(2), is(Collections.singletonList(new DataNode("ds_1", "t_order_0"))));
+        assertThat(routeContext.getRouteUnits().size(), is(3));
+    }
+    
+    private ShardingCondition createShardingCondition(final String tableName, final long userId, final long orderId) {
+        ShardingCondition result = new ShardingCondition();
+        result.getValues().add(new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(userId)));
+        result.getValues().add(new ListShardingConditionValue<>("order_id", tableName, Collections.singleton(orderId)));
+        return result;
+    }
+    
     @Test(expected = ShardingRouteAlgorithmException.class)
     public void assertRouteByErrorShardingTableStrategy() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createErrorShardingConditions("t_order"),
@@ -202,6 +235,29 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_interval_test"));
     }
     
+    @Test
+    public void assertRouteByNonConditionsWithZoneMapConditions() {
+        ShardingRule shardingRule = createBasedShardingRule();
+        shardingRule.getZoneMap().track("t_order", Collections.singleton("price"));
+        Map<DataNode, Map<String, Range<BigDecimal>>> zones = new HashMap<>(4, 1);
+        zones.put(new DataNode("ds_0", "t_order_0"), Collections.singletonMap("price", Range.closed(BigDecimal.ONE, BigDecimal.TEN)));
+        zones.put(new DataNode("ds_0", "t_order_1"), Collections.singletonMap("price", Range.closed(new BigDecimal("11"), new BigDecimal("20"))));
+        zones.put(new DataNode("ds_1", "t_order_0"), Collections.singletonMap("price", Range.closed(new BigDecimal("21"), new BigDecimal("30"))));
+        zones.put(new DataNode("ds_1", "t_order_1"), Collections.singletonMap("price", Range.closedOpen(BigDecimal.ZERO, BigDecimal.ZERO)));
+        shardingRule.getZoneMap().refresh("t_order", shardingRule.getZoneMap().getVersion("t_order"), System.currentTimeMillis(), zones);
+        ZoneMapCondition zoneMapCondition = new ZoneMapCondition(Collections.singletonMap(new Column("price", "t_order"), Range.atLeast(new BigDecimal("15"))));
+        ZoneMapConditions zoneMapConditions = new ZoneMapConditions(Collections.singleton(zoneMapCondition));
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order",
+                new ShardingConditions(Collections.emptyList(), mock(SQLStatementContext.class), shardingRule, zoneMapConditions), mock(SQLStatementContext.class), new HintValueContext());
+        RouteContext routeContext = standardRoutingEngine.route(shardingRule);
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_0"));
+    }
+    
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions,
                                                                               final SQLStatementContext<?> sqlStatementContext, final HintValueContext hintValueContext) {
         return new ShardingStandardRoutingEngine(logicTableName, shardingConditions, sqlStatementContext, hintValueContext, new ConfigurationProperties(new Properties()));
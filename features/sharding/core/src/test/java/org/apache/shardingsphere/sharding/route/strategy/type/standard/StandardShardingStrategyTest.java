@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -65,6 +66,12 @@ public final class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    public void assertDoShardingInBatch() {
+        List<String> actual = standardShardingStrategy.doSharding(targets, "logicTable", "column", Arrays.asList(1, 2, 3), dataNodeSegment);
+        assertThat(actual, is(Arrays.asList("1", null, "1")));
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
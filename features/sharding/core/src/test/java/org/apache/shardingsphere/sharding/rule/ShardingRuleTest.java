@@ -141,6 +141,17 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findLogicTableByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertFindLogicTableByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findLogicTableByActualTable("TABLE_0"), is(Optional.of("LOGIC_TABLE")));
+    }
+    
+    @Test
+    public void assertGetLogicTablesByActualTableWithSingleTableRule() {
+        assertThat(createMaximumShardingRule().getLogicTablesByActualTable("table_1"), is(Collections.singleton("LOGIC_TABLE")));
+        assertTrue(createMaximumShardingRule().getLogicTablesByActualTable("table_3").isEmpty());
+    }
+    
     @Test
     public void assertGetTableRuleWithShardingTable() {
         TableRule actual = createMaximumShardingRule().getTableRule("Logic_Table");
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingZoneMapTest {
+    
+    @Test
+    public void assertTrack() {
+        ShardingZoneMap zoneMap = new ShardingZoneMap();
+        zoneMap.track("T_ORDER", Collections.singleton("Order_Id"));
+        assertThat(zoneMap.getTrackedColumnNames().get("t_order"), is(Collections.singleton("order_id")));
+    }
+    
+    @Test
+    public void assertFindZones() {
+        ShardingZoneMap zoneMap = createZoneMap();
+        Optional<Map<String, Map<String, Range<BigDecimal>>>> actual = zoneMap.findZones("t_order", 60000L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().get("ds_0.t_order_0").get("order_id"), is(Range.closed(BigDecimal.ONE, BigDecimal.TEN)));
+    }
+    
+    @Test
+    public void assertFindZonesWithoutTrackedTable() {
+        assertFalse(createZoneMap().findZones("t_order_item", 60000L).isPresent());
+    }
+    
+    @Test
+    public void assertFindZonesWhenStale() {
+        ShardingZoneMap zoneMap = new ShardingZoneMap();
+        zoneMap.track("t_order", Collections.singleton("order_id"));
+        zoneMap.refresh("t_order", 0L, System.currentTimeMillis() - 60000L, createZones());
+        assertFalse(zoneMap.findZones("t_order", 1000L).isPresent());
+    }
+    
+    @Test
+    public void assertFindZonesAfterInvalidate() {
+        ShardingZoneMap zoneMap = createZoneMap();
+        zoneMap.invalidate("T_ORDER");
+        assertThat(zoneMap.getVersion("t_order"), is(1L));
+        assertFalse(zoneMap.findZones("t_order", 60000L).isPresent());
+    }
+    
+    @Test
+    public void assertFindZonesRefreshedWithVersionBeforeInvalidate() {
+        ShardingZoneMap zoneMap = new ShardingZoneMap();
+        zoneMap.track("t_order", Collections.singleton("order_id"));
+        long version = zoneMap.getVersion("t_order");
+        zoneMap.invalidate("t_order");
+        zoneMap.refresh("t_order", version, System.currentTimeMillis(), createZones());
+        assertFalse(zoneMap.findZones("t_order", 60000L).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateByUpdateStatement() {
+        ShardingZoneMap zoneMap = createZoneMap();
+        zoneMap.invalidate(createSQLStatementContext(mock(UpdateStatement.class)));
+        assertFalse(zoneMap.findZones("t_order", 60000L).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateByDeleteStatement() {
+        ShardingZoneMap zoneMap = createZoneMap();
+        zoneMap.invalidate(createSQLStatementContext(mock(DeleteStatement.class)));
+        assertTrue(zoneMap.findZones("t_order", 60000L).isPresent());
+    }
+    
+    @Test
+    public void assertFindZoneValue() {
+        assertThat(ShardingZoneMap.findZoneValue(1).orElse(null), is(BigDecimal.ONE));
+        assertThat(ShardingZoneMap.findZoneValue(1.5D).orElse(null), is(new BigDecimal("1.5")));
+        assertFalse(ShardingZoneMap.findZoneValue(Double.NaN).isPresent());
+        assertFalse(ShardingZoneMap.findZoneValue("1").isPresent());
+        assertFalse(ShardingZoneMap.findZoneValue(null).isPresent());
+    }
+    
+    private ShardingZoneMap createZoneMap() {
+        ShardingZoneMap result = new ShardingZoneMap();
+        result.track("t_order", Collections.singleton("order_id"));
+        result.refresh("t_order", result.getVersion("t_order"), System.currentTimeMillis(), createZones());
+        return result;
+    }
+    
+    private Map<DataNode, Map<String, Range<BigDecimal>>> createZones() {
+        return Collections.singletonMap(new DataNode("ds_0", "t_order_0"), Collections.singletonMap("order_id", Range.closed(BigDecimal.ONE, BigDecimal.TEN)));
+    }
+    
+    private SQLStatementContext<?> createSQLStatementContext(final SQLStatement sqlStatement) {
+        SQLStatementContext<?> result = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        doReturn(sqlStatement).when(result).getSqlStatement();
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        return result;
+    }
+}
@@ -34,4 +34,10 @@ public final class ShardingCacheRuleConfiguration implements DatabaseRuleConfigu
     private final int allowedMaxSqlLength;
     
     private final ShardingCacheOptions routeCache;
+    
+    private final ShardingCacheOptions planCache;
+    
+    public ShardingCacheRuleConfiguration(final int allowedMaxSqlLength, final ShardingCacheOptions routeCache) {
+        this(allowedMaxSqlLength, routeCache, null);
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.checker;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecoratorFactory;
+import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.SQLRouterFactory;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.zonemap.ZoneMapRouteStageContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.ParameterMarkerPaginationValueSegment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Sharding execution plan cacheable checker.
+ */
+@RequiredArgsConstructor
+public final class ShardingExecutionPlanCacheableChecker {
+    
+    private final ShardingCacheRule shardingCacheRule;
+    
+    /**
+     * Create execution plan cache key.
+     *
+     * @param database database
+     * @param queryContext query context
+     * @return execution plan cache key, empty if execution plan of query is not cacheable
+     */
+    public Optional<ExecutionPlanCacheKey> createExecutionPlanCacheKey(final ShardingSphereDatabase database, final QueryContext queryContext) {
+        if (queryContext.getSql().length() > shardingCacheRule.getConfiguration().getAllowedMaxSqlLength() || !(queryContext.getSqlStatementContext() instanceof SelectStatementContext)
+                || HintManager.isInstantiated() || !isDefaultHintValueContext(queryContext.getHintValueContext())) {
+            return Optional.empty();
+        }
+        ShardingRouteCacheableCheckResult cacheableCheckResult = shardingCacheRule.getRouteCacheableChecker().check(database, queryContext);
+        if (!cacheableCheckResult.isProbablyCacheable() || !isAllRulesCacheable(database, queryContext.getSqlStatementContext().getTablesContext().getTableNames())) {
+            return Optional.empty();
+        }
+        List<Object> routeParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
+        for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
+            if (each >= queryContext.getParameters().size()) {
+                return Optional.empty();
+            }
+            routeParams.add(queryContext.getParameters().get(each));
+        }
+        return Optional.of(new ExecutionPlanCacheKey(queryContext.getSql(), queryContext.getParameters().size(), routeParams));
+    }
+    
+    private boolean isDefaultHintValueContext(final HintValueContext hintValueContext) {
+        return hintValueContext.getShardingDatabaseValues().isEmpty() && hintValueContext.getShardingTableValues().isEmpty() && hintValueContext.getDataSourceName().isEmpty()
+                && !hintValueContext.isDatabaseShardingOnly() && !hintValueContext.isWriteRouteOnly() && !hintValueContext.isUseTraffic() && !hintValueContext.isSkipEncryptRewrite()
+                && !hintValueContext.isShadow();
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private boolean isAllRulesCacheable(final ShardingSphereDatabase database, final Collection<String> tableNames) {
+        Collection<ShardingSphereRule> rules = database.getRuleMetaData().getRules();
+        Map<ShardingSphereRule, SQLRouter> routers = SQLRouterFactory.getInstances(rules);
+        Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators = SQLRewriteContextDecoratorFactory.getInstance(rules);
+        Collection<String> caseInsensitiveTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveTableNames.addAll(tableNames);
+        for (ShardingSphereRule each : rules) {
+            if ((routers.containsKey(each) || decorators.containsKey(each)) && !isRuleCacheable(each, caseInsensitiveTableNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isRuleCacheable(final ShardingSphereRule rule, final Collection<String> tableNames) {
+        if (rule == shardingCacheRule || rule instanceof ShardingRule) {
+            return true;
+        }
+        return rule instanceof TableContainedRule && ((TableContainedRule) rule).getTables().stream().noneMatch(tableNames::contains);
+    }
+    
+    /**
+     * Judge whether routed query is cacheable.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return cacheable or not
+     */
+    public boolean isCacheable(final QueryContext queryContext, final RouteContext routeContext) {
+        if (routeContext.getRouteUnits().isEmpty() || routeContext.getRouteStageContexts().get(ShardingRule.class) instanceof ZoneMapRouteStageContext) {
+            return false;
+        }
+        if (routeContext.isSingleRouting() || !(queryContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return true;
+        }
+        PaginationContext paginationContext = ((SelectStatementContext) queryContext.getSqlStatementContext()).getPaginationContext();
+        return !(paginationContext.getOffsetSegment().orElse(null) instanceof ParameterMarkerPaginationValueSegment)
+                && !(paginationContext.getRowCountSegment().orElse(null) instanceof ParameterMarkerPaginationValueSegment);
+    }
+}
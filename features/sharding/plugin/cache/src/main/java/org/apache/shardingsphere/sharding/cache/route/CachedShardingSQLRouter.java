@@ -59,6 +59,9 @@ public final class CachedShardingSQLRouter implements SQLRouter<ShardingCacheRul
         }
         Optional<RouteContext> cachedRouteContext = rule.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        if (cachedRouteContext.isPresent()) {
+            rule.getShardingRule().getZoneMap().invalidate(queryContext.getSqlStatementContext());
+        }
         RouteContext result = cachedRouteContext.orElseGet(() -> new ShardingSQLRouter().createRouteContext(queryContext, database, rule.getShardingRule(), props, connectionContext));
         if (!cachedRouteContext.isPresent() && hitOneShardOnly(result)) {
             rule.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
@@ -18,17 +18,27 @@
 package org.apache.shardingsphere.sharding.cache.rule;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlan;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheRule;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
 import org.apache.shardingsphere.sharding.cache.api.ShardingCacheRuleConfiguration;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingExecutionPlanCacheableChecker;
+import org.apache.shardingsphere.sharding.cache.plan.ShardingExecutionPlanCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
+import java.util.Optional;
+
 /**
  * Sharding cache rule.
  */
 @Getter
-public final class ShardingCacheRule implements DatabaseRule {
+public final class ShardingCacheRule implements DatabaseRule, ExecutionPlanCacheRule {
     
     private final ShardingCacheRuleConfiguration configuration;
     
@@ -38,11 +48,37 @@ public final class ShardingCacheRule implements DatabaseRule {
     
     private final ShardingRouteCache routeCache;
     
+    private final ShardingExecutionPlanCacheableChecker executionPlanCacheableChecker;
+    
+    private final ShardingExecutionPlanCache executionPlanCache;
+    
     public ShardingCacheRule(final ShardingCacheRuleConfiguration configuration, final ShardingRule shardingRule) {
         this.configuration = configuration;
         this.shardingRule = shardingRule;
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(configuration.getRouteCache());
+        executionPlanCacheableChecker = new ShardingExecutionPlanCacheableChecker(this);
+        executionPlanCache = null == configuration.getPlanCache() ? null : new ShardingExecutionPlanCache(configuration.getPlanCache());
+    }
+    
+    @Override
+    public Optional<ExecutionPlanCacheKey> findExecutionPlanCacheKey(final QueryContext queryContext, final ShardingSphereDatabase database) {
+        return null == executionPlanCache ? Optional.empty() : executionPlanCacheableChecker.createExecutionPlanCacheKey(database, queryContext);
+    }
+    
+    @Override
+    public boolean isExecutionPlanCacheable(final QueryContext queryContext, final RouteContext routeContext) {
+        return executionPlanCacheableChecker.isCacheable(queryContext, routeContext);
+    }
+    
+    @Override
+    public Optional<ExecutionPlan> getExecutionPlan(final ExecutionPlanCacheKey key) {
+        return executionPlanCache.get(key);
+    }
+    
+    @Override
+    public void putExecutionPlan(final ExecutionPlanCacheKey key, final ExecutionPlan executionPlan) {
+        executionPlanCache.put(key, executionPlan);
     }
     
     @Override
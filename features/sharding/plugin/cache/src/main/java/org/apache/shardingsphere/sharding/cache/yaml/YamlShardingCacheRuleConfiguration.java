@@ -34,6 +34,8 @@ public final class YamlShardingCacheRuleConfiguration implements YamlRuleConfigu
     
     private YamlShardingCacheOptionsConfiguration routeCache;
     
+    private YamlShardingCacheOptionsConfiguration planCache;
+    
     @Override
     public Class<? extends RuleConfiguration> getRuleConfigurationType() {
         return ShardingCacheRuleConfiguration.class;
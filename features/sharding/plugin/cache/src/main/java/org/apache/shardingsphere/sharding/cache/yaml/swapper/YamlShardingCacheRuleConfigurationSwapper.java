@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache.yaml.swapper;
 
 import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapper;
+import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
 import org.apache.shardingsphere.sharding.cache.api.ShardingCacheRuleConfiguration;
 import org.apache.shardingsphere.sharding.cache.yaml.YamlShardingCacheRuleConfiguration;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
@@ -34,12 +35,16 @@ public final class YamlShardingCacheRuleConfigurationSwapper implements YamlRule
         YamlShardingCacheRuleConfiguration result = new YamlShardingCacheRuleConfiguration();
         result.setAllowedMaxSqlLength(data.getAllowedMaxSqlLength());
         result.setRouteCache(cacheOptionsConfigurationSwapper.swapToYamlConfiguration(data.getRouteCache()));
+        if (null != data.getPlanCache()) {
+            result.setPlanCache(cacheOptionsConfigurationSwapper.swapToYamlConfiguration(data.getPlanCache()));
+        }
         return result;
     }
     
     @Override
     public ShardingCacheRuleConfiguration swapToObject(final YamlShardingCacheRuleConfiguration yamlConfig) {
-        return new ShardingCacheRuleConfiguration(yamlConfig.getAllowedMaxSqlLength(), cacheOptionsConfigurationSwapper.swapToObject(yamlConfig.getRouteCache()));
+        ShardingCacheOptions planCache = null == yamlConfig.getPlanCache() ? null : cacheOptionsConfigurationSwapper.swapToObject(yamlConfig.getPlanCache());
+        return new ShardingCacheRuleConfiguration(yamlConfig.getAllowedMaxSqlLength(), cacheOptionsConfigurationSwapper.swapToObject(yamlConfig.getRouteCache()), planCache);
     }
     
     @Override
@@ -30,6 +30,8 @@ import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKe
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
 import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingZoneMap;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -125,10 +127,14 @@ public final class CachedShardingSQLRouterTest {
         expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t"))));
         expected.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t")));
         when(shardingCacheRule.getRouteCache().get(any(ShardingRouteCacheKey.class))).thenReturn(Optional.of(new ShardingRouteCacheValue(expected)));
+        ShardingZoneMap zoneMap = mock(ShardingZoneMap.class);
+        when(shardingCacheRule.getShardingRule()).thenReturn(mock(ShardingRule.class));
+        when(shardingCacheRule.getShardingRule().getZoneMap()).thenReturn(zoneMap);
         RouteContext actual = new CachedShardingSQLRouter().createRouteContext(queryContext, null, shardingCacheRule, null, null);
         assertThat(actual, not(expected));
         assertThat(actual.getOriginalDataNodes(), is(expected.getOriginalDataNodes()));
         assertThat(actual.getRouteUnits(), is(expected.getRouteUnits()));
+        verify(zoneMap).invalidate(queryContext.getSqlStatementContext());
     }
     
     @Test
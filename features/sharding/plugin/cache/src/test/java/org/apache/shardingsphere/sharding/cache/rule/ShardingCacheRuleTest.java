@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.rule;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlan;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
+import org.apache.shardingsphere.sharding.cache.api.ShardingCacheRuleConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sqltranslator.api.config.SQLTranslatorRuleConfiguration;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingCacheRuleTest {
+    
+    private static final String DATABASE_NAME = "sharding_db";
+    
+    private static final String SCHEMA_NAME = "public";
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingCacheRule shardingCacheRule;
+    
+    private ShardingSphereDatabase database;
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration())));
+    
+    @Before
+    public void setUp() {
+        shardingRule = createShardingRule();
+        shardingCacheRule = new ShardingCacheRule(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 0, 16), new ShardingCacheOptions(true, 0, 16)), shardingRule);
+        database = createDatabase(shardingCacheRule);
+    }
+    
+    @Test
+    public void assertFindExecutionPlanCacheKey() {
+        Optional<ExecutionPlanCacheKey> actual = shardingCacheRule.findExecutionPlanCacheKey(createQueryContext("select * from t_warehouse where id = ? and warehouse_name = ?", 1, "foo"), database);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterCount(), is(2));
+        assertThat(actual.get().getRouteParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertFindExecutionPlanCacheKeyWithoutPlanCache() {
+        ShardingCacheRule rule = new ShardingCacheRule(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 0, 16)), shardingRule);
+        assertFalse(rule.findExecutionPlanCacheKey(createQueryContext("select * from t_warehouse where id = ?", 1), createDatabase(rule)).isPresent());
+    }
+    
+    @Test
+    public void assertFindExecutionPlanCacheKeyWithUpdateStatement() {
+        assertFalse(shardingCacheRule.findExecutionPlanCacheKey(createQueryContext("update t_warehouse set warehouse_name = ? where id = ?", "foo", 1), database).isPresent());
+    }
+    
+    @Test
+    public void assertFindExecutionPlanCacheKeyWithHint() {
+        QueryContext queryContext = createQueryContext("select * from t_warehouse where id = ?", 1);
+        queryContext.getHintValueContext().setDataSourceName("ds_0");
+        assertFalse(shardingCacheRule.findExecutionPlanCacheKey(queryContext, database).isPresent());
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithCachedExecutionPlan() {
+        String sql = "select * from t_warehouse where id = ? and warehouse_name = ?";
+        assertExecutionUnit(generateExecutionContext(createQueryContext(sql, 1, "foo")), "ds_1", sql, Arrays.asList(1, "foo"));
+        ExecutionPlanCacheKey key = new ExecutionPlanCacheKey(sql, 2, Collections.singletonList(1));
+        Optional<ExecutionPlan> cachedExecutionPlan = shardingCacheRule.getExecutionPlan(key);
+        assertTrue(cachedExecutionPlan.isPresent());
+        assertExecutionUnit(generateExecutionContext(createQueryContext(sql, 1, "bar")), "ds_1", sql, Arrays.asList(1, "bar"));
+        assertThat(shardingCacheRule.getExecutionPlan(key).orElse(null), sameInstance(cachedExecutionPlan.get()));
+        assertExecutionUnit(generateExecutionContext(createQueryContext(sql, 2, "bar")), "ds_0", sql, Arrays.asList(2, "bar"));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextAfterTableMetaDataChanged() {
+        String sql = "select * from t_warehouse where id = ?";
+        generateExecutionContext(createQueryContext(sql, 1));
+        ExecutionPlanCacheKey key = new ExecutionPlanCacheKey(sql, 1, Collections.singletonList(1));
+        ExecutionPlan cachedExecutionPlan = shardingCacheRule.getExecutionPlan(key).orElse(null);
+        database.getSchema(SCHEMA_NAME).putTable("t_warehouse", createWarehouseTable());
+        assertExecutionUnit(generateExecutionContext(createQueryContext(sql, 1)), "ds_1", sql, Collections.singletonList(1));
+        assertThat(shardingCacheRule.getExecutionPlan(key).orElse(null), not(sameInstance(cachedExecutionPlan)));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithParameterizedPaginationOnMultipleDataSources() {
+        String sql = "select * from t_warehouse limit ? offset ?";
+        Collection<ExecutionUnit> actual = generateExecutionContext(createQueryContext(sql, 10, 5)).getExecutionUnits();
+        assertThat(actual.size(), is(2));
+        assertFalse(shardingCacheRule.getExecutionPlan(new ExecutionPlanCacheKey(sql, 2, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithZoneMapPruning() {
+        String sql = "select * from t_warehouse where id between ? and ?";
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SHARDING_ZONE_MAP_PRUNING_ENABLED.getKey(), Boolean.TRUE.toString());
+        assertThat(generateExecutionContext(createQueryContext(sql, 1, 5), new ConfigurationProperties(props)).getExecutionUnits().size(), is(2));
+        Map<DataNode, Map<String, Range<BigDecimal>>> zones = new HashMap<>(2, 1);
+        zones.put(new DataNode("ds_0", "t_warehouse"), Collections.singletonMap("id", Range.closed(BigDecimal.ZERO, BigDecimal.TEN)));
+        zones.put(new DataNode("ds_1", "t_warehouse"), Collections.singletonMap("id", Range.closed(new BigDecimal("11"), new BigDecimal("20"))));
+        shardingRule.getZoneMap().refresh("t_warehouse", shardingRule.getZoneMap().getVersion("t_warehouse"), System.currentTimeMillis(), zones);
+        assertExecutionUnit(generateExecutionContext(createQueryContext(sql, 1, 5), new ConfigurationProperties(props)), "ds_0", sql, Arrays.asList(1, 5));
+        assertFalse(shardingCacheRule.getExecutionPlan(new ExecutionPlanCacheKey(sql, 2, Arrays.asList(1, 5))).isPresent());
+    }
+    
+    private void assertExecutionUnit(final ExecutionContext actual, final String expectedDataSourceName, final String expectedSQL, final List<Object> expectedParams) {
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        ExecutionUnit actualExecutionUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(actualExecutionUnit.getDataSourceName(), is(expectedDataSourceName));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(expectedParams));
+        assertThat(actual.getRouteContext().getRouteUnits().iterator().next().getDataSourceMapper().getActualName(), is(expectedDataSourceName));
+    }
+    
+    private ExecutionContext generateExecutionContext(final QueryContext queryContext) {
+        return generateExecutionContext(queryContext, new ConfigurationProperties(new Properties()));
+    }
+    
+    private ExecutionContext generateExecutionContext(final QueryContext queryContext, final ConfigurationProperties props) {
+        return new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, new ConnectionContext());
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        Properties modShardingAlgorithmProps = new Properties();
+        modShardingAlgorithmProps.setProperty("sharding-count", "2");
+        ruleConfig.getShardingAlgorithms().put("mod", new AlgorithmConfiguration("MOD", modShardingAlgorithmProps));
+        ShardingTableRuleConfiguration warehouse = new ShardingTableRuleConfiguration("t_warehouse", "ds_${0..1}.t_warehouse");
+        warehouse.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("id", "mod"));
+        ruleConfig.getTables().add(warehouse);
+        return new ShardingRule(ruleConfig, Arrays.asList("ds_0", "ds_1"), new InstanceContext(mock(ComputeNodeInstance.class), props -> 0, null, null, null, null));
+    }
+    
+    private ShardingSphereDatabase createDatabase(final ShardingCacheRule shardingCacheRule) {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_warehouse", createWarehouseTable());
+        return new ShardingSphereDatabase(DATABASE_NAME, DatabaseTypeFactory.getInstance("PostgreSQL"), new ShardingSphereResourceMetaData(DATABASE_NAME, Collections.emptyMap()),
+                new ShardingSphereRuleMetaData(Arrays.asList(shardingCacheRule.getShardingRule(), shardingCacheRule)), Collections.singletonMap(SCHEMA_NAME, schema));
+    }
+    
+    private ShardingSphereTable createWarehouseTable() {
+        return new ShardingSphereTable("t_warehouse", Arrays.asList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false),
+                new ShardingSphereColumn("warehouse_name", Types.VARCHAR, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private QueryContext createQueryContext(final String sql, final Object... params) {
+        List<Object> parameters = Arrays.asList(params);
+        CacheOption cacheOption = new CacheOption(0, 0);
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DATABASE_NAME, database), mock(ShardingSphereRuleMetaData.class), mock(ConfigurationProperties.class));
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, parameters,
+                new SQLStatementParserEngine("PostgreSQL", cacheOption, cacheOption, false).parse(sql, false), DATABASE_NAME);
+        return new QueryContext(sqlStatementContext, sql, parameters, new HintValueContext());
+    }
+}
@@ -26,6 +26,8 @@ import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public final class YamlShardingCacheRuleConfigurationSwapperTest {
@@ -39,6 +41,17 @@ public final class YamlShardingCacheRuleConfigurationSwapperTest {
         assertTrue(actualRouteCache.isSoftValues());
         assertThat(actualRouteCache.getInitialCapacity(), is(128));
         assertThat(actualRouteCache.getMaximumSize(), is(1024));
+        assertNull(actual.getPlanCache());
+    }
+    
+    @Test
+    public void assertSwapToYamlConfigurationWithPlanCache() {
+        YamlShardingCacheRuleConfiguration actual = new YamlShardingCacheRuleConfigurationSwapper()
+                .swapToYamlConfiguration(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 128, 1024), new ShardingCacheOptions(false, 64, 512)));
+        YamlShardingCacheOptionsConfiguration actualPlanCache = actual.getPlanCache();
+        assertFalse(actualPlanCache.isSoftValues());
+        assertThat(actualPlanCache.getInitialCapacity(), is(64));
+        assertThat(actualPlanCache.getMaximumSize(), is(512));
     }
     
     @Test
@@ -56,6 +69,23 @@ public final class YamlShardingCacheRuleConfigurationSwapperTest {
         assertTrue(actualOptions.isSoftValues());
         assertThat(actualOptions.getInitialCapacity(), is(256));
         assertThat(actualOptions.getMaximumSize(), is(4096));
+        assertNull(actual.getPlanCache());
+    }
+    
+    @Test
+    public void assertSwapToObjectWithPlanCache() {
+        YamlShardingCacheRuleConfiguration input = new YamlShardingCacheRuleConfiguration();
+        input.setAllowedMaxSqlLength(200);
+        input.setRouteCache(new YamlShardingCacheOptionsConfiguration());
+        YamlShardingCacheOptionsConfiguration yamlConfig = new YamlShardingCacheOptionsConfiguration();
+        yamlConfig.setSoftValues(true);
+        yamlConfig.setInitialCapacity(64);
+        yamlConfig.setMaximumSize(512);
+        input.setPlanCache(yamlConfig);
+        ShardingCacheOptions actualOptions = new YamlShardingCacheRuleConfigurationSwapper().swapToObject(input).getPlanCache();
+        assertTrue(actualOptions.isSoftValues());
+        assertThat(actualOptions.getInitialCapacity(), is(64));
+        assertThat(actualOptions.getMaximumSize(), is(512));
     }
     
     @Test
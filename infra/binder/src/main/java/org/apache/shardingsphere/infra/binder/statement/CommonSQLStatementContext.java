@@ -57,6 +57,13 @@ public class CommonSQLStatementContext<T extends SQLStatement> implements SQLSta
         sqlHintExtractor = new SQLHintExtractor(sqlStatement);
     }
     
+    protected CommonSQLStatementContext(final CommonSQLStatementContext<T> sqlStatementContext) {
+        sqlStatement = sqlStatementContext.sqlStatement;
+        databaseType = sqlStatementContext.databaseType;
+        tablesContext = sqlStatementContext.tablesContext;
+        sqlHintExtractor = sqlStatementContext.sqlHintExtractor;
+    }
+    
     private DatabaseType getDatabaseType(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof MySQLStatement) {
             return DatabaseTypeFactory.getInstance("MySQL");
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.dialect.exception.syntax.database.NoDatabaseSelectedException;
 import org.apache.shardingsphere.dialect.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.aware.ParameterBindable;
 import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.segment.insert.keygen.engine.GeneratedKeyContextEngine;
 import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertSelectContext;
@@ -59,7 +60,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Insert SQL statement context.
  */
 @Getter
-public final class InsertStatementContext extends CommonSQLStatementContext<InsertStatement> implements TableAvailable, ParameterAware {
+public final class InsertStatementContext extends CommonSQLStatementContext<InsertStatement> implements TableAvailable, ParameterAware, ParameterBindable {
     
     private final TablesContext tablesContext;
     
@@ -97,6 +98,21 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         generatedKeyContext = new GeneratedKeyContextEngine(sqlStatement, schema).createGenerateKeyContext(insertColumnNames, getAllValueExpressions(sqlStatement), params).orElse(null);
     }
     
+    private InsertStatementContext(final InsertStatementContext sqlStatementContext, final List<Object> params) {
+        super(sqlStatementContext);
+        metaData = sqlStatementContext.metaData;
+        defaultDatabaseName = sqlStatementContext.defaultDatabaseName;
+        insertColumnNames = sqlStatementContext.insertColumnNames;
+        valueExpressions = sqlStatementContext.valueExpressions;
+        tablesContext = sqlStatementContext.tablesContext;
+        columnNames = sqlStatementContext.columnNames;
+        AtomicInteger parametersOffset = new AtomicInteger(0);
+        insertValueContexts = getInsertValueContexts(params, parametersOffset, valueExpressions);
+        insertSelectContext = null == sqlStatementContext.insertSelectContext ? null : bindInsertSelectContext(sqlStatementContext.insertSelectContext, params, parametersOffset);
+        onDuplicateKeyUpdateValueContext = getOnDuplicateKeyUpdateValueContext(params, parametersOffset).orElse(null);
+        generatedKeyContext = null == sqlStatementContext.generatedKeyContext ? null : bindGeneratedKeyContext(sqlStatementContext.generatedKeyContext, params);
+    }
+    
     private ShardingSphereSchema getSchema(final ShardingSphereMetaData metaData, final String defaultDatabaseName) {
         String databaseName = tablesContext.getDatabaseName().orElse(defaultDatabaseName);
         ShardingSpherePreconditions.checkNotNull(databaseName, NoDatabaseSelectedException::new);
@@ -134,6 +150,19 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         return Optional.of(insertSelectContext);
     }
     
+    private InsertSelectContext bindInsertSelectContext(final InsertSelectContext insertSelectContext, final List<Object> params, final AtomicInteger paramsOffset) {
+        InsertSelectContext result = new InsertSelectContext(insertSelectContext.getSelectStatementContext().bindParameters(params), params, paramsOffset.get());
+        paramsOffset.addAndGet(result.getParameterCount());
+        return result;
+    }
+    
+    private GeneratedKeyContext bindGeneratedKeyContext(final GeneratedKeyContext generatedKeyContext, final List<Object> params) {
+        if (generatedKeyContext.isGenerated()) {
+            return new GeneratedKeyContext(generatedKeyContext.getColumnName(), true);
+        }
+        return new GeneratedKeyContextEngine(getSqlStatement(), getSchema(metaData, defaultDatabaseName)).createGenerateKeyContext(insertColumnNames, valueExpressions, params).orElse(null);
+    }
+    
     private Optional<OnDuplicateUpdateContext> getOnDuplicateKeyUpdateValueContext(final List<Object> params, final AtomicInteger parametersOffset) {
         Optional<OnDuplicateKeyColumnsSegment> onDuplicateKeyColumnsSegment = InsertStatementHandler.getOnDuplicateKeyColumnsSegment(getSqlStatement());
         if (!onDuplicateKeyColumnsSegment.isPresent()) {
@@ -270,4 +299,9 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         ShardingSphereSchema schema = getSchema(metaData, defaultDatabaseName);
         generatedKeyContext = new GeneratedKeyContextEngine(getSqlStatement(), schema).createGenerateKeyContext(insertColumnNames, valueExpressions, params).orElse(null);
     }
+    
+    @Override
+    public InsertStatementContext bindParameters(final List<Object> params) {
+        return new InsertStatementContext(this, params);
+    }
 }
@@ -23,6 +23,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.dialect.exception.syntax.database.NoDatabaseSelectedException;
 import org.apache.shardingsphere.dialect.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.aware.ParameterBindable;
 import org.apache.shardingsphere.infra.binder.segment.select.groupby.GroupByContext;
 import org.apache.shardingsphere.infra.binder.segment.select.groupby.engine.GroupByContextEngine;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByContext;
@@ -83,7 +84,7 @@ import java.util.stream.Collectors;
  */
 @Getter
 @Setter
-public final class SelectStatementContext extends CommonSQLStatementContext<SelectStatement> implements TableAvailable, WhereAvailable, ParameterAware {
+public final class SelectStatementContext extends CommonSQLStatementContext<SelectStatement> implements TableAvailable, WhereAvailable, ParameterAware, ParameterBindable {
     
     private final TablesContext tablesContext;
     
@@ -119,6 +120,20 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         paginationContext = new PaginationContextEngine().createPaginationContext(sqlStatement, projectionsContext, params, whereSegments);
     }
     
+    private SelectStatementContext(final SelectStatementContext sqlStatementContext, final List<Object> params) {
+        super(sqlStatementContext);
+        whereSegments.addAll(sqlStatementContext.whereSegments);
+        columnSegments.addAll(sqlStatementContext.columnSegments);
+        subqueryContexts = sqlStatementContext.subqueryContexts;
+        tablesContext = sqlStatementContext.tablesContext;
+        groupByContext = sqlStatementContext.groupByContext;
+        orderByContext = sqlStatementContext.orderByContext;
+        projectionsContext = sqlStatementContext.projectionsContext;
+        subqueryType = sqlStatementContext.subqueryType;
+        needAggregateRewrite = sqlStatementContext.needAggregateRewrite;
+        paginationContext = new PaginationContextEngine().createPaginationContext(getSqlStatement(), projectionsContext, params, whereSegments);
+    }
+    
     private Map<Integer, SelectStatementContext> createSubqueryContexts(final ShardingSphereMetaData metaData, final List<Object> params, final String defaultDatabaseName) {
         Collection<SubquerySegment> subquerySegments = SubqueryExtractUtil.getSubquerySegments(getSqlStatement());
         Map<Integer, SelectStatementContext> result = new HashMap<>(subquerySegments.size(), 1);
@@ -335,4 +350,9 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     public void setUpParameters(final List<Object> params) {
         paginationContext = new PaginationContextEngine().createPaginationContext(getSqlStatement(), projectionsContext, params, whereSegments);
     }
+    
+    @Override
+    public SelectStatementContext bindParameters(final List<Object> params) {
+        return new SelectStatementContext(this, params);
+    }
 }
@@ -170,6 +170,34 @@ public final class InsertStatementContextTest {
         assertThat(actual.getGroupedParameters().iterator().next(), is(Collections.emptyList()));
     }
     
+    @Test
+    public void assertBindParameters() {
+        InsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("tbl"))));
+        setUpInsertValues(insertStatement);
+        InsertStatementContext preparedContext = createInsertStatementContext(Collections.emptyList(), insertStatement);
+        InsertStatementContext actual = preparedContext.bindParameters(Arrays.asList(1, "Tom", 2, "Jerry"));
+        assertInsertStatementContext(actual);
+        assertThat(actual.getTablesContext(), is(preparedContext.getTablesContext()));
+        assertThat(actual.getColumnNames(), is(preparedContext.getColumnNames()));
+        assertThat(preparedContext.getGroupedParameters().iterator().next(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertBindParametersWithInsertSelect() {
+        InsertStatement insertStatement = new MySQLInsertStatement();
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        insertStatement.setInsertSelect(new SubquerySegment(0, 0, selectStatement));
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("tbl"))));
+        InsertStatementContext preparedContext = createInsertStatementContext(Collections.emptyList(), insertStatement);
+        InsertStatementContext actual = preparedContext.bindParameters(Collections.singletonList("param"));
+        assertThat(actual.getInsertSelectContext().getParameterCount(), is(0));
+        assertThat(actual.getInsertSelectContext().getSelectStatementContext().getProjectionsContext(),
+                is(preparedContext.getInsertSelectContext().getSelectStatementContext().getProjectionsContext()));
+        assertThat(actual.getGroupedParameters().size(), is(1));
+    }
+    
     private void setUpInsertValues(final InsertStatement insertStatement) {
         insertStatement.getValues().add(new InsertValuesSegment(0, 0, Arrays.asList(
                 new ParameterMarkerExpressionSegment(0, 0, 1), new ParameterMarkerExpressionSegment(0, 0, 2), new LiteralExpressionSegment(0, 0, "init"))));
@@ -43,6 +43,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBy
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
@@ -397,6 +399,22 @@ public final class SelectStatementContextTest {
         assertThat(actual.getWhereSegments(), is(Collections.singletonList(whereSegment)));
     }
     
+    @Test
+    public void assertBindParameters() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(createProjectionsSegment());
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("table"))));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+        SelectStatementContext preparedContext = new SelectStatementContext(createShardingSphereMetaData(mock(ShardingSphereDatabase.class)), Collections.emptyList(), selectStatement,
+                DefaultDatabase.LOGIC_NAME);
+        SelectStatementContext actual = preparedContext.bindParameters(Collections.singletonList(10L));
+        assertThat(actual.getPaginationContext().getActualRowCount(), is(Optional.of(10L)));
+        assertThat(preparedContext.getPaginationContext().getActualRowCount(), is(Optional.of(0L)));
+        assertThat(actual.getTablesContext(), is(preparedContext.getTablesContext()));
+        assertThat(actual.getProjectionsContext(), is(preparedContext.getProjectionsContext()));
+        assertThat(actual.getOrderByContext(), is(preparedContext.getOrderByContext()));
+    }
+    
     @Test
     public void assertContainsSubqueryForMySQL() {
         assertContainsSubquery(new MySQLSelectStatement(), new MySQLSelectStatement());
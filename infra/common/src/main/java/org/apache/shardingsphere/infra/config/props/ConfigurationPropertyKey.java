@@ -47,11 +47,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Thread type of executors, VIRTUAL only takes effect on JDK 21 and later versions.
+     */
+    EXECUTOR_THREAD_TYPE("executor-thread-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Memory limit in bytes of group by merge which can not be streamed, rows are spilled to temporary files when exceeded, 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT("group-by-merge-memory-limit", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max rows of multiple rows insert statement coalesced from batched single row insert statements routed to same data node, 0 means no coalescing.
+     */
+    BATCH_INSERT_COALESCE_SIZE("batch-insert-coalesce-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether prune shards of select statements by min and max values of indexed columns collected for each shard.
+     */
+    SHARDING_ZONE_MAP_PRUNING_ENABLED("sharding-zone-map-pruning-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max milliseconds since collection which min and max values of shards are used for pruning.
+     */
+    SHARDING_ZONE_MAP_MAX_STALENESS_MILLISECONDS("sharding-zone-map-max-staleness-milliseconds", String.valueOf(120000), long.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -72,6 +97,26 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold for bytes of records from databases for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Max milliseconds for records from databases to wait for flushing in ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLIS("proxy-frontend-flush-interval-millis", String.valueOf(100), int.class, false),
+    
+    /**
+     * Low water mark of frontend channel write buffer for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK("proxy-frontend-write-buffer-low-water-mark", String.valueOf(128 * 1024), int.class, true),
+    
+    /**
+     * High water mark of frontend channel write buffer for ShardingSphere-Proxy, which is applied per frontend connection.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(256 * 1024), int.class, true),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -94,6 +139,18 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", BackendExecutorType.OLAP.name(), BackendExecutorType.class, false),
     
+    /**
+     * Available options of proxy backend driver type: JDBC(default), NETTY. The NETTY option is experimental, it talks MySQL and PostgreSQL protocols with storage units directly
+     * and executes non-transactional SQL without parameters asynchronously, other SQL are still executed by JDBC.
+     */
+    PROXY_BACKEND_DRIVER_TYPE("proxy-backend-driver-type", BackendDriverType.JDBC.name(), BackendDriverType.class, true),
+    
+    /**
+     * Available options of proxy frontend transport type: EPOLL(default), IO_URING, NIO. The IO_URING option requires netty-incubator-transport-io_uring in class path and Linux kernel 5.9 or later,
+     * it falls back to EPOLL if io_uring is unavailable, and EPOLL falls back to NIO if epoll is unavailable.
+     */
+    PROXY_FRONTEND_TRANSPORT_TYPE("proxy-frontend-transport-type", FrontendTransportType.EPOLL.name(), FrontendTransportType.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -114,6 +171,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * Whether parameterize literals of text protocol SQL, so that SQLs which only differ in literals can share cached SQL statement.
+     */
+    PROXY_TEXT_PROTOCOL_SQL_PARAMETERIZED("proxy-text-protocol-sql-parameterized", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy instance type.
      */
@@ -48,7 +48,7 @@ public final class PostgreSQLShardingSphereDataBuilder implements ShardingSphere
     private static final Map<String, Collection<String>> INIT_DATA_SCHEMA_TABLES = new LinkedHashMap<>();
     
     static {
-        COLLECTED_SCHEMA_TABLES.put("shardingsphere", Collections.singletonList("sharding_table_statistics"));
+        COLLECTED_SCHEMA_TABLES.put("shardingsphere", Arrays.asList("sharding_table_statistics", "sharding_column_statistics", "sharding_zone_maps"));
         COLLECTED_SCHEMA_TABLES.put("pg_catalog", Arrays.asList("pg_class", "pg_namespace"));
         INIT_DATA_SCHEMA_TABLES.put("shardingsphere", Collections.singletonList("cluster_information"));
     }
@@ -34,19 +34,31 @@ public final class ConfigurationPropertiesTest {
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE), is(ExecutorThreadType.VIRTUAL));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_LIMIT), is(1048576L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE), is(500));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SHARDING_ZONE_MAP_PRUNING_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SHARDING_ZONE_MAP_MAX_STALENESS_MILLISECONDS), is(60000L));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLIS), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK), is(2048));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLTP));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is(BackendDriverType.NETTY));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_TRANSPORT_TYPE), is(FrontendTransportType.IO_URING));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_SQL_PARAMETERIZED));
     }
     
     private Properties createProperties() {
@@ -54,19 +66,31 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE.getKey(), ExecutorThreadType.VIRTUAL.name());
         result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_LIMIT.getKey(), "1048576");
+        result.setProperty(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE.getKey(), "500");
+        result.setProperty(ConfigurationPropertyKey.SHARDING_ZONE_MAP_PRUNING_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.SHARDING_ZONE_MAP_MAX_STALENESS_MILLISECONDS.getKey(), "60000");
         result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLIS.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK.getKey(), "1024");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK.getKey(), "2048");
         result.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE.getKey(), BackendExecutorType.OLTP.name());
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE.getKey(), BackendDriverType.NETTY.name());
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_TRANSPORT_TYPE.getKey(), FrontendTransportType.IO_URING.name());
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION.getKey(), "5.7.22");
         result.setProperty(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308");
         result.setProperty(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024");
+        result.setProperty(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_SQL_PARAMETERIZED.getKey(), Boolean.TRUE.toString());
         return result;
     }
     
@@ -76,18 +100,30 @@ public final class ConfigurationPropertiesTest {
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE), is(ExecutorThreadType.PLATFORM));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_LIMIT), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SHARDING_ZONE_MAP_PRUNING_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SHARDING_ZONE_MAP_MAX_STALENESS_MILLISECONDS), is(120000L));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(65536));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLIS), is(100));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK), is(131072));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK), is(262144));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLAP));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE), is(BackendDriverType.JDBC));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_TRANSPORT_TYPE), is(FrontendTransportType.EPOLL));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_SQL_PARAMETERIZED));
     }
 }
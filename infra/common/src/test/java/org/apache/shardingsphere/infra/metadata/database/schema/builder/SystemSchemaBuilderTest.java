@@ -48,7 +48,7 @@ public final class SystemSchemaBuilderTest {
         assertTrue(actual.containsKey("shardingsphere"));
         assertThat(actual.get("information_schema").getTables().size(), is(3));
         assertThat(actual.get("pg_catalog").getTables().size(), is(6));
-        assertThat(actual.get("shardingsphere").getTables().size(), is(2));
+        assertThat(actual.get("shardingsphere").getTables().size(), is(4));
     }
     
     @Test
@@ -58,6 +58,6 @@ public final class SystemSchemaBuilderTest {
         assertTrue(actual.containsKey("pg_catalog"));
         assertTrue(actual.containsKey("shardingsphere"));
         assertThat(actual.get("pg_catalog").getTables().size(), is(2));
-        assertThat(actual.get("shardingsphere").getTables().size(), is(2));
+        assertThat(actual.get("shardingsphere").getTables().size(), is(4));
     }
 }
@@ -21,6 +21,10 @@ import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlan;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanBuilder;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheRule;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
@@ -30,6 +34,9 @@ import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+
+import java.util.Optional;
 
 /**
  * Kernel processor.
@@ -48,13 +55,37 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        RouteContext routeContext = route(queryContext, database, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
-        ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+        Optional<ExecutionPlanCacheRule> planCacheRule = database.getRuleMetaData().findSingleRule(ExecutionPlanCacheRule.class);
+        Optional<ExecutionPlanCacheKey> planCacheKey = planCacheRule.flatMap(optional -> optional.findExecutionPlanCacheKey(queryContext, database));
+        ExecutionContext result = planCacheKey.isPresent()
+                ? generateExecutionContext(queryContext, database, globalRuleMetaData, props, connectionContext, planCacheRule.get(), planCacheKey.get())
+                : generateExecutionContext(queryContext, database, globalRuleMetaData, props, connectionContext, route(queryContext, database, props, connectionContext));
         logSQL(queryContext, props, result);
         return result;
     }
     
+    private ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                      final ConfigurationProperties props, final ConnectionContext connectionContext, final RouteContext routeContext) {
+        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        return createExecutionContext(queryContext, database, routeContext, rewriteResult);
+    }
+    
+    private ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                      final ConfigurationProperties props, final ConnectionContext connectionContext,
+                                                      final ExecutionPlanCacheRule planCacheRule, final ExecutionPlanCacheKey planCacheKey) {
+        SQLTranslatorRule translatorRule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
+        Optional<ExecutionPlan> cachedExecutionPlan = planCacheRule.getExecutionPlan(planCacheKey).filter(optional -> optional.isAvailable(database, translatorRule));
+        if (cachedExecutionPlan.isPresent()) {
+            return cachedExecutionPlan.get().createExecutionContext(queryContext);
+        }
+        RouteContext routeContext = route(queryContext, database, props, connectionContext);
+        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        if (planCacheRule.isExecutionPlanCacheable(queryContext, routeContext)) {
+            ExecutionPlanBuilder.build(queryContext, database, translatorRule, routeContext, rewriteResult).ifPresent(optional -> planCacheRule.putExecutionPlan(planCacheKey, optional));
+        }
+        return createExecutionContext(queryContext, database, routeContext, rewriteResult);
+    }
+    
     private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, database);
     }
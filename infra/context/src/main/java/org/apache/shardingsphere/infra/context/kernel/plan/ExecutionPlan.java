@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Execution plan, which contains route result and rewritten SQL units of logic SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ExecutionPlan {
+    
+    private final String schemaName;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final Map<String, ShardingSphereTable> tables;
+    
+    private final SQLTranslatorRule translatorRule;
+    
+    private final RouteContext routeContext;
+    
+    private final Collection<ExecutionPlanUnit> executionPlanUnits;
+    
+    private final boolean needAggregateRewrite;
+    
+    /**
+     * Judge whether execution plan is still available, meta data of tables and SQL translator rule should not be changed after execution plan created.
+     *
+     * @param database database
+     * @param translatorRule SQL translator rule
+     * @return available or not
+     */
+    public boolean isAvailable(final ShardingSphereDatabase database, final SQLTranslatorRule translatorRule) {
+        if (this.translatorRule != translatorRule || schema != database.getSchema(schemaName)) {
+            return false;
+        }
+        for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
+            if (entry.getValue() != schema.getTable(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Create execution context.
+     *
+     * @param queryContext query context
+     * @return created execution context
+     */
+    public ExecutionContext createExecutionContext(final QueryContext queryContext) {
+        if (queryContext.getSqlStatementContext() instanceof SelectStatementContext) {
+            ((SelectStatementContext) queryContext.getSqlStatementContext()).setNeedAggregateRewrite(needAggregateRewrite);
+        }
+        Collection<ExecutionUnit> executionUnits = new LinkedHashSet<>(executionPlanUnits.size(), 1f);
+        for (ExecutionPlanUnit each : executionPlanUnits) {
+            executionUnits.add(each.createExecutionUnit(queryContext.getParameters()));
+        }
+        return new ExecutionContext(queryContext, executionUnits, RouteContextCopier.copy(routeContext));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Execution plan builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanBuilder {
+    
+    /**
+     * Build execution plan.
+     *
+     * <p>Only route SQL rewrite results whose parameter indexes in logic SQL are known by parameter builders can be built,
+     * because parameters of cached execution plan are bound by index when execution plan is reused.</p>
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param translatorRule SQL translator rule
+     * @param routeContext route context
+     * @param sqlRewriteResult SQL rewrite result
+     * @return built execution plan, empty if SQL rewrite result can not be reused by other parameters
+     */
+    public static Optional<ExecutionPlan> build(final QueryContext queryContext, final ShardingSphereDatabase database, final SQLTranslatorRule translatorRule,
+                                                final RouteContext routeContext, final SQLRewriteResult sqlRewriteResult) {
+        if (!(sqlRewriteResult instanceof RouteSQLRewriteResult)) {
+            return Optional.empty();
+        }
+        Collection<ExecutionPlanUnit> executionPlanUnits = new LinkedList<>();
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : ((RouteSQLRewriteResult) sqlRewriteResult).getSqlRewriteUnits().entrySet()) {
+            Optional<int[]> parameterIndexes = entry.getValue().findParameterIndexes();
+            if (!parameterIndexes.isPresent()) {
+                return Optional.empty();
+            }
+            executionPlanUnits.add(new ExecutionPlanUnit(entry.getKey().getDataSourceMapper().getActualName(), entry.getValue().getSql(), parameterIndexes.get(),
+                    copyTableRouteMappers(entry.getKey().getTableMappers())));
+        }
+        SQLStatementContext<?> sqlStatementContext = queryContext.getSqlStatementContext();
+        String schemaName = sqlStatementContext.getTablesContext().getSchemaName().orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), database.getName()));
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        if (null == schema) {
+            return Optional.empty();
+        }
+        boolean needAggregateRewrite = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
+        return Optional.of(new ExecutionPlan(schemaName, schema, getTables(schema, sqlStatementContext.getTablesContext().getTableNames()), translatorRule,
+                RouteContextCopier.copy(routeContext), executionPlanUnits, needAggregateRewrite));
+    }
+    
+    private static List<RouteMapper> copyTableRouteMappers(final Collection<RouteMapper> tableMappers) {
+        if (null == tableMappers) {
+            return new ArrayList<>();
+        }
+        List<RouteMapper> result = new ArrayList<>(tableMappers.size());
+        for (RouteMapper each : tableMappers) {
+            result.add(new RouteMapper(each.getLogicName(), each.getActualName()));
+        }
+        return result;
+    }
+    
+    private static Map<String, ShardingSphereTable> getTables(final ShardingSphereSchema schema, final Collection<String> tableNames) {
+        Map<String, ShardingSphereTable> result = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            result.put(each, schema.getTable(each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Optional;
+
+/**
+ * Execution plan cache rule.
+ */
+public interface ExecutionPlanCacheRule extends ShardingSphereRule {
+    
+    /**
+     * Find execution plan cache key.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @return execution plan cache key, empty if execution plan of query is not cacheable
+     */
+    Optional<ExecutionPlanCacheKey> findExecutionPlanCacheKey(QueryContext queryContext, ShardingSphereDatabase database);
+    
+    /**
+     * Judge whether routed query is cacheable.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return cacheable or not
+     */
+    boolean isExecutionPlanCacheable(QueryContext queryContext, RouteContext routeContext);
+    
+    /**
+     * Get cached execution plan.
+     *
+     * @param key execution plan cache key
+     * @return cached execution plan
+     */
+    Optional<ExecutionPlan> getExecutionPlan(ExecutionPlanCacheKey key);
+    
+    /**
+     * Cache execution plan.
+     *
+     * @param key execution plan cache key
+     * @param executionPlan execution plan
+     */
+    void putExecutionPlan(ExecutionPlanCacheKey key, ExecutionPlan executionPlan);
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execution plan unit.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ExecutionPlanUnit {
+    
+    private final String dataSourceName;
+    
+    private final String sql;
+    
+    private final int[] parameterIndexes;
+    
+    private final List<RouteMapper> tableRouteMappers;
+    
+    /**
+     * Create execution unit.
+     *
+     * @param params parameters of logic SQL
+     * @return created execution unit
+     */
+    public ExecutionUnit createExecutionUnit(final List<Object> params) {
+        List<Object> actualParams = new ArrayList<>(parameterIndexes.length);
+        for (int each : parameterIndexes) {
+            actualParams.add(params.get(each));
+        }
+        List<RouteMapper> actualTableRouteMappers = new ArrayList<>(tableRouteMappers.size());
+        for (RouteMapper each : tableRouteMappers) {
+            actualTableRouteMappers.add(new RouteMapper(each.getLogicName(), each.getActualName()));
+        }
+        return new ExecutionUnit(dataSourceName, new SQLUnit(sql, actualParams, actualTableRouteMappers));
+    }
+}
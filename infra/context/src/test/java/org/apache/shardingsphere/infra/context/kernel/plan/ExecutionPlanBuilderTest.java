@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutionPlanBuilderTest {
+    
+    private final SQLTranslatorRule translatorRule = mock(SQLTranslatorRule.class);
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order", mock(ShardingSphereTable.class)), Collections.emptyMap());
+    
+    private ShardingSphereDatabase database;
+    
+    private RouteContext routeContext;
+    
+    private RouteUnit routeUnit0;
+    
+    private RouteUnit routeUnit1;
+    
+    @Before
+    public void setUp() {
+        database = mock(ShardingSphereDatabase.class);
+        when(database.getSchema("foo_schema")).thenReturn(schema);
+        routeContext = new RouteContext();
+        routeUnit0 = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+        routeUnit1 = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+        routeContext.getRouteUnits().addAll(Arrays.asList(routeUnit0, routeUnit1));
+    }
+    
+    @Test
+    public void assertBuild() {
+        List<Object> params = Arrays.asList(1, "foo");
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(2, 1);
+        sqlRewriteUnits.put(routeUnit0, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE id > ? AND status = ?", new ArrayList<>(params), new int[]{0, 1}));
+        List<Object> aggregatedParams = new ArrayList<>(params);
+        aggregatedParams.addAll(params);
+        sqlRewriteUnits.put(routeUnit1, new SQLRewriteUnit(
+                "SELECT * FROM t_order_1 WHERE id > ? AND status = ? UNION ALL SELECT * FROM t_order_1 WHERE id > ? AND status = ?", aggregatedParams, new int[]{0, 1, 0, 1}));
+        Optional<ExecutionPlan> actual = ExecutionPlanBuilder.build(createQueryContext(params), database, translatorRule, routeContext, new RouteSQLRewriteResult(sqlRewriteUnits));
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().isAvailable(database, translatorRule));
+        ExecutionContext actualExecutionContext = actual.get().createExecutionContext(createQueryContext(Arrays.asList(2, "bar")));
+        assertThat(actualExecutionContext.getExecutionUnits().size(), is(2));
+        Iterator<ExecutionUnit> actualExecutionUnits = actualExecutionContext.getExecutionUnits().iterator();
+        ExecutionUnit actualExecutionUnit0 = actualExecutionUnits.next();
+        assertThat(actualExecutionUnit0.getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnit0.getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE id > ? AND status = ?"));
+        assertThat(actualExecutionUnit0.getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, "bar")));
+        assertThat(actualExecutionUnit0.getSqlUnit().getTableRouteMappers(), is(Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        ExecutionUnit actualExecutionUnit1 = actualExecutionUnits.next();
+        assertThat(actualExecutionUnit1.getDataSourceName(), is("ds_1"));
+        assertThat(actualExecutionUnit1.getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, "bar", 2, "bar")));
+        assertThat(actualExecutionContext.getRouteContext().getRouteUnits(), is(routeContext.getRouteUnits()));
+    }
+    
+    @Test
+    public void assertBuildWithRewrittenParameters() {
+        List<Object> params = Arrays.asList(10, 5);
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = Collections.singletonMap(routeUnit0, new SQLRewriteUnit("SELECT * FROM t_order_0 LIMIT ?, ?", Arrays.asList(0, 15)));
+        assertFalse(ExecutionPlanBuilder.build(createQueryContext(params), database, translatorRule, routeContext, new RouteSQLRewriteResult(sqlRewriteUnits)).isPresent());
+    }
+    
+    @Test
+    public void assertBuildWithRepeatedParameterValues() {
+        List<Object> params = Arrays.asList(1, 1);
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = Collections.singletonMap(routeUnit0, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE id > ? AND user_id = ?", params, new int[]{0, 1}));
+        Optional<ExecutionPlan> actual = ExecutionPlanBuilder.build(createQueryContext(params), database, translatorRule, routeContext, new RouteSQLRewriteResult(sqlRewriteUnits));
+        assertTrue(actual.isPresent());
+        ExecutionContext actualExecutionContext = actual.get().createExecutionContext(createQueryContext(Arrays.asList(2, 3)));
+        assertThat(actualExecutionContext.getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 3)));
+    }
+    
+    @Test
+    public void assertBuildWithGenericSQLRewriteResult() {
+        GenericSQLRewriteResult sqlRewriteResult = new GenericSQLRewriteResult(new SQLRewriteUnit("SELECT * FROM t_order", Collections.emptyList()));
+        assertFalse(ExecutionPlanBuilder.build(createQueryContext(Collections.emptyList()), database, translatorRule, new RouteContext(), sqlRewriteResult).isPresent());
+    }
+    
+    @Test
+    public void assertIsNotAvailableAfterTableChanged() {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = Collections.singletonMap(routeUnit0, new SQLRewriteUnit("SELECT * FROM t_order_0", Collections.emptyList(), new int[0]));
+        Optional<ExecutionPlan> actual = ExecutionPlanBuilder.build(createQueryContext(Collections.emptyList()), database, translatorRule, routeContext, new RouteSQLRewriteResult(sqlRewriteUnits));
+        assertTrue(actual.isPresent());
+        schema.putTable("t_order", mock(ShardingSphereTable.class));
+        assertFalse(actual.get().isAvailable(database, translatorRule));
+    }
+    
+    private QueryContext createQueryContext(final List<Object> params) {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        return new QueryContext(sqlStatementContext, "SELECT * FROM t_order", params);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -46,7 +47,11 @@ public final class ExecutorEngine implements AutoCloseable {
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, ExecutorThreadType.PLATFORM);
+    }
+    
+    private ExecutorEngine(final int executorSize, final ExecutorThreadType threadType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadType);
     }
     
     /**
@@ -59,6 +64,19 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * <p>Executor size is ignored when virtual thread is used, because virtual thread is created for each task.</p>
+     *
+     * @param executorSize executor size
+     * @param threadType executor thread type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final ExecutorThreadType threadType) {
+        return new ExecutorEngine(executorSize, threadType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
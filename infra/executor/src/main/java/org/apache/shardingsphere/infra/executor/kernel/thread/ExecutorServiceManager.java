@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,10 +42,21 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, ExecutorThreadType.PLATFORM);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    public ExecutorServiceManager(final int executorSize, final ExecutorThreadType threadType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, threadType);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        executorService = getExecutorService(executorSize, nameFormat, threadType);
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        if (VirtualThreadSupport.isVirtualThreadUsed(threadType)) {
+            return VirtualThreadSupport.newThreadPerTaskExecutor(ExecutorThreadFactoryBuilder.build(nameFormat, threadType));
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
 import java.util.concurrent.ThreadFactory;
 
@@ -51,4 +52,17 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build thread factory with thread name format and thread type.
+     *
+     * @param nameFormat thread name format
+     * @param threadType executor thread type
+     * @return thread factory
+     */
+    public static ThreadFactory build(final String nameFormat, final ExecutorThreadType threadType) {
+        return VirtualThreadSupport.isVirtualThreadUsed(threadType)
+                ? new ThreadFactoryBuilder().setThreadFactory(VirtualThreadSupport.newThreadFactory()).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build()
+                : build(nameFormat);
+    }
 }
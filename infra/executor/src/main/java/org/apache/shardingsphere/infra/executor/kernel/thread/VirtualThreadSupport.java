@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Virtual thread support.
+ *
+ * <p>Virtual threads are accessed by reflection because they are only provided by JDK 21 and later versions.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class VirtualThreadSupport {
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method FACTORY_METHOD = findMethod(findClass("java.lang.Thread$Builder"), "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static final AtomicBoolean UNAVAILABLE_WARNED = new AtomicBoolean();
+    
+    private static Class<?> findClass(final String className) {
+        try {
+            return Class.forName(className);
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+    }
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        if (null == clazz) {
+            return null;
+        }
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is available in current JVM.
+     *
+     * @return virtual thread is available or not
+     */
+    public static boolean isAvailable() {
+        return null != OF_VIRTUAL_METHOD && null != FACTORY_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Judge whether virtual thread should be used for thread type.
+     *
+     * @param threadType executor thread type
+     * @return use virtual thread or not
+     */
+    public static boolean isVirtualThreadUsed(final ExecutorThreadType threadType) {
+        if (ExecutorThreadType.VIRTUAL != threadType) {
+            return false;
+        }
+        if (isAvailable()) {
+            return true;
+        }
+        if (UNAVAILABLE_WARNED.compareAndSet(false, true)) {
+            log.warn("Virtual thread is not available in JDK `{}`, platform thread is used instead.", System.getProperty("java.version"));
+        }
+        return false;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException unsupported operation exception if virtual thread is not available
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ThreadFactory newThreadFactory() {
+        checkAvailable();
+        return (ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     *
+     * @param threadFactory thread factory
+     * @return executor service
+     * @throws UnsupportedOperationException unsupported operation exception if virtual thread is not available
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        checkAvailable();
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+    
+    private static void checkAvailable() {
+        if (!isAvailable()) {
+            throw new UnsupportedOperationException(String.format("Virtual thread is not available in JDK `%s`.", System.getProperty("java.version")));
+        }
+    }
+}
@@ -17,20 +17,111 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
 
+import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectQueryResultDataRowLoaderFactory;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultDataColumn;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.List;
 
 /**
  * JDBC query result for memory loading.
+ * 
+ * <p>Rows are loaded into columns, so that primitive values are not boxed and repeated strings are shared while kept in memory.</p>
  */
-public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
+public final class JDBCMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final List<MemoryQueryResultDataColumn> columns;
+    
+    private final int totalRowCount;
+    
+    private int currentRowIndex;
+    
+    @Getter
+    private long rowCount;
+    
+    private boolean wasNull;
     
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), DialectQueryResultDataRowLoaderFactory.getInstance(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        metaData = new JDBCQueryResultMetaData(resultSet.getMetaData());
+        columns = DialectQueryResultDataRowLoaderFactory.getInstance(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet);
+        totalRowCount = columns.isEmpty() ? 0 : columns.get(0).size();
+        currentRowIndex = -1;
+        rowCount = totalRowCount;
+    }
+    
+    @Override
+    public boolean next() {
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
+            rowCount--;
+            return true;
+        }
+        currentRowIndex = totalRowCount;
+        return false;
+    }
+    
+    /**
+     * Judge whether cursor is on a row.
+     *
+     * @return cursor is on a row or not
+     */
+    public boolean hasCurrentRow() {
+        return currentRowIndex >= 0 && currentRowIndex < totalRowCount;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = columns.get(columnIndex - 1).getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = columns.get(columnIndex - 1).getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = columns.get(columnIndex - 1).getValue(currentRowIndex);
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
     }
 }
@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultDataColumn;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -25,8 +25,6 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -35,19 +33,55 @@ import java.util.List;
 public abstract class AbstractQueryResultDataRowLoader implements DialectQueryResultDataRowLoader {
     
     @Override
-    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public List<MemoryQueryResultDataColumn> load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        List<MemoryQueryResultDataColumn> result = new ArrayList<>(columnCount);
+        int[] columnTypes = new int[columnCount];
+        boolean[] signed = new boolean[columnCount];
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int i = 0; i < columnCount; i++) {
+            result.add(new MemoryQueryResultDataColumn());
+            columnTypes[i] = metaData.getColumnType(i + 1);
+            signed[i] = (Types.INTEGER == columnTypes[i] || Types.BIGINT == columnTypes[i]) && metaData.isSigned(i + 1);
+        }
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            for (int i = 0; i < columnCount; i++) {
+                loadColumnValue(resultSet, i + 1, columnTypes[i], signed[i], result.get(i));
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+        }
+        for (MemoryQueryResultDataColumn each : result) {
+            each.trimToSize();
         }
         return result;
     }
     
+    private void loadColumnValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed, final MemoryQueryResultDataColumn column) throws SQLException {
+        if (Types.INTEGER == columnType && signed) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                column.appendInt(value);
+            }
+        } else if (Types.BIGINT == columnType && signed) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                column.appendLong(value);
+            }
+        } else if (Types.FLOAT == columnType || Types.DOUBLE == columnType) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                column.appendDouble(value);
+            }
+        } else {
+            Object value = loadRowValue(resultSet, columnIndex);
+            column.append(resultSet.wasNull() ? null : value);
+        }
+    }
+    
     @SuppressWarnings("ReturnOfNull")
     private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
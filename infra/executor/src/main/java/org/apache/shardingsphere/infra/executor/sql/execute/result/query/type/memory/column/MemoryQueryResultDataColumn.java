@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory query result data column.
+ * 
+ * <p>Integer, long, double and boolean values are kept in primitive storage, and string values are dictionary encoded while distinct values are few.
+ * Column falls back to object storage if values of different types are appended.</p>
+ */
+public final class MemoryQueryResultDataColumn {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final int MIN_DICTIONARY_SIZE = 256;
+    
+    private static final int MAX_DICTIONARY_SIZE = 65536;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private StorageType storageType = StorageType.NONE;
+    
+    private int[] intValues;
+    
+    private long[] longValues;
+    
+    private double[] doubleValues;
+    
+    private BitSet booleanValues;
+    
+    private int[] dictionaryCodes;
+    
+    private List<String> dictionary;
+    
+    private Map<String, Integer> dictionaryIndexes;
+    
+    private Object[] objectValues;
+    
+    private int size;
+    
+    /**
+     * Append value.
+     *
+     * @param value value to be appended
+     */
+    public void append(final Object value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (Integer.class == valueClass) {
+            appendInt((Integer) value);
+        } else if (Long.class == valueClass) {
+            appendLong((Long) value);
+        } else if (Double.class == valueClass) {
+            appendDouble((Double) value);
+        } else if (Boolean.class == valueClass) {
+            appendBoolean((Boolean) value);
+        } else if (String.class == valueClass) {
+            appendString((String) value);
+        } else {
+            appendObject(value);
+        }
+    }
+    
+    /**
+     * Append null.
+     */
+    public void appendNull() {
+        ensureCapacity();
+        nulls.set(size++);
+    }
+    
+    /**
+     * Append int value.
+     *
+     * @param value value to be appended
+     */
+    public void appendInt(final int value) {
+        if (prepare(StorageType.INT)) {
+            intValues[size++] = value;
+        } else {
+            appendObject(value);
+        }
+    }
+    
+    /**
+     * Append long value.
+     *
+     * @param value value to be appended
+     */
+    public void appendLong(final long value) {
+        if (prepare(StorageType.LONG)) {
+            longValues[size++] = value;
+        } else {
+            appendObject(value);
+        }
+    }
+    
+    /**
+     * Append double value.
+     *
+     * @param value value to be appended
+     */
+    public void appendDouble(final double value) {
+        if (prepare(StorageType.DOUBLE)) {
+            doubleValues[size++] = value;
+        } else {
+            appendObject(value);
+        }
+    }
+    
+    private void appendBoolean(final boolean value) {
+        if (prepare(StorageType.BOOLEAN)) {
+            booleanValues.set(size++, value);
+        } else {
+            appendObject(value);
+        }
+    }
+    
+    private void appendString(final String value) {
+        if (!prepare(StorageType.STRING)) {
+            appendObject(value);
+            return;
+        }
+        Integer code = dictionaryIndexes.get(value);
+        if (null == code) {
+            if (isDictionaryInefficient()) {
+                convertToObjectStorage();
+                appendObject(value);
+                return;
+            }
+            code = dictionary.size();
+            dictionary.add(value);
+            dictionaryIndexes.put(value, code);
+        }
+        dictionaryCodes[size++] = code;
+    }
+    
+    private boolean isDictionaryInefficient() {
+        return dictionary.size() >= MAX_DICTIONARY_SIZE || (dictionary.size() >= MIN_DICTIONARY_SIZE && dictionary.size() * 2 > size);
+    }
+    
+    private void appendObject(final Object value) {
+        if (StorageType.OBJECT != storageType) {
+            convertToObjectStorage();
+        }
+        ensureCapacity();
+        objectValues[size++] = value;
+    }
+    
+    private boolean prepare(final StorageType targetStorageType) {
+        if (StorageType.NONE == storageType) {
+            storageType = targetStorageType;
+            allocate(Math.max(INITIAL_CAPACITY, size + 1));
+        }
+        if (targetStorageType != storageType) {
+            return false;
+        }
+        ensureCapacity();
+        return true;
+    }
+    
+    private void allocate(final int capacity) {
+        switch (storageType) {
+            case INT:
+                intValues = new int[capacity];
+                break;
+            case LONG:
+                longValues = new long[capacity];
+                break;
+            case DOUBLE:
+                doubleValues = new double[capacity];
+                break;
+            case BOOLEAN:
+                booleanValues = new BitSet(capacity);
+                break;
+            case STRING:
+                dictionaryCodes = new int[capacity];
+                dictionary = new ArrayList<>();
+                dictionaryIndexes = new HashMap<>();
+                break;
+            case OBJECT:
+                objectValues = new Object[capacity];
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void ensureCapacity() {
+        int capacity = getCapacity();
+        if (size < capacity) {
+            return;
+        }
+        resize(capacity + (capacity >> 1) + 1);
+    }
+    
+    private int getCapacity() {
+        switch (storageType) {
+            case INT:
+                return intValues.length;
+            case LONG:
+                return longValues.length;
+            case DOUBLE:
+                return doubleValues.length;
+            case STRING:
+                return dictionaryCodes.length;
+            case OBJECT:
+                return objectValues.length;
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+    
+    private void resize(final int capacity) {
+        switch (storageType) {
+            case INT:
+                intValues = Arrays.copyOf(intValues, capacity);
+                break;
+            case LONG:
+                longValues = Arrays.copyOf(longValues, capacity);
+                break;
+            case DOUBLE:
+                doubleValues = Arrays.copyOf(doubleValues, capacity);
+                break;
+            case STRING:
+                dictionaryCodes = Arrays.copyOf(dictionaryCodes, capacity);
+                break;
+            case OBJECT:
+                objectValues = Arrays.copyOf(objectValues, capacity);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void convertToObjectStorage() {
+        Object[] values = new Object[Math.max(INITIAL_CAPACITY, size + 1)];
+        for (int i = 0; i < size; i++) {
+            values[i] = getValue(i);
+        }
+        intValues = null;
+        longValues = null;
+        doubleValues = null;
+        booleanValues = null;
+        dictionaryCodes = null;
+        dictionary = null;
+        dictionaryIndexes = null;
+        objectValues = values;
+        storageType = StorageType.OBJECT;
+    }
+    
+    /**
+     * Release unused capacity and dictionary index after all values appended.
+     */
+    public void trimToSize() {
+        if (size < getCapacity()) {
+            resize(size);
+        }
+        dictionaryIndexes = null;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    public Object getValue(final int rowIndex) {
+        if (nulls.get(rowIndex)) {
+            return null;
+        }
+        switch (storageType) {
+            case INT:
+                return intValues[rowIndex];
+            case LONG:
+                return longValues[rowIndex];
+            case DOUBLE:
+                return doubleValues[rowIndex];
+            case BOOLEAN:
+                return booleanValues.get(rowIndex);
+            case STRING:
+                return dictionary.get(dictionaryCodes[rowIndex]);
+            case OBJECT:
+                return objectValues[rowIndex];
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+    
+    private enum StorageType {
+        
+        NONE, INT, LONG, DOUBLE, BOOLEAN, STRING, OBJECT
+    }
+}
@@ -41,15 +41,21 @@ public final class StatementOption implements StorageResourceOption {
     
     private final String[] columns;
     
+    private final int fetchSize;
+    
     public StatementOption(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) {
-        this(resultSetType, resultSetConcurrency, resultSetHoldability, false, null);
+        this(resultSetType, resultSetConcurrency, resultSetHoldability, false, null, 0);
     }
     
     public StatementOption(final boolean returnGeneratedKeys) {
-        this(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, returnGeneratedKeys, null);
+        this(returnGeneratedKeys, 0);
+    }
+    
+    public StatementOption(final boolean returnGeneratedKeys, final int fetchSize) {
+        this(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, returnGeneratedKeys, null, fetchSize);
     }
     
     public StatementOption(final boolean returnGeneratedKeys, final String[] columns) {
-        this(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, returnGeneratedKeys, columns);
+        this(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, returnGeneratedKeys, columns, 0);
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+
+public final class VirtualThreadSupportTest {
+    
+    @Test
+    public void assertIsVirtualThreadUsedWithPlatformThreadType() {
+        assertFalse(VirtualThreadSupport.isVirtualThreadUsed(ExecutorThreadType.PLATFORM));
+    }
+    
+    @Test
+    public void assertIsVirtualThreadUsedWithVirtualThreadType() {
+        assertThat(VirtualThreadSupport.isVirtualThreadUsed(ExecutorThreadType.VIRTUAL), is(VirtualThreadSupport.isAvailable()));
+    }
+    
+    @Test
+    public void assertBuildThreadFactoryWithVirtualThreadType() {
+        Thread thread = ExecutorThreadFactoryBuilder.build("test-%d", ExecutorThreadType.VIRTUAL).newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+        assertThat(thread.isDaemon(), is(true));
+    }
+    
+    @Test
+    public void assertCreateExecutorServiceWithVirtualThreadType() {
+        ExecutorService executorService = new ExecutorServiceManager(1, ExecutorThreadType.VIRTUAL).getExecutorService();
+        try {
+            if (VirtualThreadSupport.isAvailable()) {
+                assertThat(executorService, not(instanceOf(ThreadPoolExecutor.class)));
+            } else {
+                assertThat(executorService, instanceOf(ThreadPoolExecutor.class));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
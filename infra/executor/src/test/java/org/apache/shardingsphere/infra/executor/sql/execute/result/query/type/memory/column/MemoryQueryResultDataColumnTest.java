@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MemoryQueryResultDataColumnTest {
+    
+    @Test
+    public void assertGetIntValues() {
+        MemoryQueryResultDataColumn actual = new MemoryQueryResultDataColumn();
+        for (int i = 0; i < 100; i++) {
+            actual.appendInt(i);
+        }
+        actual.appendNull();
+        actual.trimToSize();
+        assertThat(actual.size(), is(101));
+        assertThat(actual.getValue(99), is((Object) 99));
+        assertThat(actual.getValue(100), nullValue());
+    }
+    
+    @Test
+    public void assertGetValuesOfPrimitiveTypes() {
+        MemoryQueryResultDataColumn longColumn = new MemoryQueryResultDataColumn();
+        longColumn.append(1L);
+        MemoryQueryResultDataColumn doubleColumn = new MemoryQueryResultDataColumn();
+        doubleColumn.append(1.5D);
+        MemoryQueryResultDataColumn booleanColumn = new MemoryQueryResultDataColumn();
+        booleanColumn.append(false);
+        booleanColumn.append(true);
+        assertThat(longColumn.getValue(0), is((Object) 1L));
+        assertThat(doubleColumn.getValue(0), is((Object) 1.5D));
+        assertThat(booleanColumn.getValue(0), is((Object) false));
+        assertThat(booleanColumn.getValue(1), is((Object) true));
+    }
+    
+    @Test
+    public void assertGetStringValuesWithDictionary() {
+        MemoryQueryResultDataColumn actual = new MemoryQueryResultDataColumn();
+        actual.appendNull();
+        actual.append(new String("foo"));
+        actual.append("bar");
+        actual.append(new String("foo"));
+        actual.trimToSize();
+        assertThat(actual.getValue(0), nullValue());
+        assertThat(actual.getValue(1), is((Object) "foo"));
+        assertThat(actual.getValue(2), is((Object) "bar"));
+        assertThat(actual.getValue(3), sameInstance(actual.getValue(1)));
+    }
+    
+    @Test
+    public void assertGetStringValuesWithoutDictionary() {
+        MemoryQueryResultDataColumn actual = new MemoryQueryResultDataColumn();
+        for (int i = 0; i < 1000; i++) {
+            actual.append(String.valueOf(i));
+        }
+        assertThat(actual.size(), is(1000));
+        assertThat(actual.getValue(0), is((Object) "0"));
+        assertThat(actual.getValue(999), is((Object) "999"));
+    }
+    
+    @Test
+    public void assertGetValuesOfMixedTypes() {
+        MemoryQueryResultDataColumn actual = new MemoryQueryResultDataColumn();
+        actual.appendInt(1);
+        actual.appendNull();
+        actual.append(2L);
+        actual.append(BigDecimal.TEN);
+        assertThat(actual.getValue(0), is((Object) 1));
+        assertThat(actual.getValue(1), nullValue());
+        assertThat(actual.getValue(2), is((Object) 2L));
+        assertThat(actual.getValue(3), is((Object) BigDecimal.TEN));
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.parameterized;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ *
+ * <p>Lexes SQL once and replaces literals which are in value positions (comparison operands, {@code IN} and {@code VALUES} lists, {@code LIKE}, {@code BETWEEN},
+ * {@code LIMIT} and {@code OFFSET}) with parameter markers, so SQLs which only differ in those literals share the same parameterized SQL.
+ * SQLs which can not be parameterized safely, such as those containing comments, parameter markers, multiple statements or escaped strings, are skipped.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> PARAMETERIZABLE_STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> VALUE_PRECEDING_TOKENS = new HashSet<>(Arrays.asList("=", "<", ">", "<=", ">=", "<>", "!=", "LIKE", "BETWEEN", "LIMIT", "OFFSET"));
+    
+    private static final Collection<String> VALUE_LIST_KEYWORDS = new HashSet<>(Arrays.asList("IN", "VALUES", "VALUE"));
+    
+    private static final String LITERAL_TOKEN = "'";
+    
+    private final boolean stringLiteralParameterized;
+    
+    /**
+     * Parameterize literals of SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL can not be parameterized or does not contain any parameterizable literal
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        return new Lexer(sql).parameterize();
+    }
+    
+    private final class Lexer {
+        
+        private final String sql;
+        
+        private final StringBuilder result;
+        
+        private final List<Object> params = new LinkedList<>();
+        
+        private final Deque<Boolean> valueListParentheses = new ArrayDeque<>();
+        
+        private int position;
+        
+        private String previousToken = "";
+        
+        private boolean lastClosedValueList;
+        
+        private boolean betweenPending;
+        
+        Lexer(final String sql) {
+            this.sql = sql;
+            result = new StringBuilder(sql.length());
+        }
+        
+        Optional<ParameterizedSQL> parameterize() {
+            boolean firstWord = true;
+            while (position < sql.length()) {
+                char current = sql.charAt(position);
+                if (Character.isWhitespace(current)) {
+                    result.append(current);
+                    position++;
+                    continue;
+                }
+                if (isUnsupported(current)) {
+                    return Optional.empty();
+                }
+                if (isWordStart(current)) {
+                    String word = readWord();
+                    if (firstWord && !PARAMETERIZABLE_STATEMENT_KEYWORDS.contains(word)) {
+                        return Optional.empty();
+                    }
+                    firstWord = false;
+                    acceptWord(word);
+                    continue;
+                }
+                if (firstWord) {
+                    return Optional.empty();
+                }
+                if (!acceptNonWord(current)) {
+                    return Optional.empty();
+                }
+            }
+            return params.isEmpty() ? Optional.empty() : Optional.of(new ParameterizedSQL(result.toString(), params));
+        }
+        
+        private boolean isUnsupported(final char current) {
+            return '?' == current || ';' == current || '#' == current || '$' == current || '-' == current && isNextChar('-') || '/' == current && isNextChar('*');
+        }
+        
+        private boolean isNextChar(final char expected) {
+            return position + 1 < sql.length() && expected == sql.charAt(position + 1);
+        }
+        
+        private boolean isWordStart(final char current) {
+            return Character.isLetter(current) || '_' == current;
+        }
+        
+        private boolean isWordPart(final char current) {
+            return Character.isLetterOrDigit(current) || '_' == current || '$' == current;
+        }
+        
+        private String readWord() {
+            int start = position;
+            while (position < sql.length() && isWordPart(sql.charAt(position))) {
+                position++;
+            }
+            String word = sql.substring(start, position);
+            result.append(word);
+            return word.toUpperCase();
+        }
+        
+        private void acceptWord(final String word) {
+            if ("(".equals(previousToken) && Boolean.TRUE.equals(valueListParentheses.peek())) {
+                valueListParentheses.pop();
+                valueListParentheses.push(false);
+            }
+            if ("BETWEEN".equals(word)) {
+                betweenPending = true;
+            }
+            lastClosedValueList = false;
+            previousToken = word;
+        }
+        
+        private boolean acceptNonWord(final char current) {
+            if ('\'' == current) {
+                return acceptStringLiteral();
+            }
+            if ('"' == current || '`' == current) {
+                return acceptQuotedIdentifier(current);
+            }
+            if (Character.isDigit(current)) {
+                acceptNumberLiteral();
+                return true;
+            }
+            if ('(' == current) {
+                valueListParentheses.push(VALUE_LIST_KEYWORDS.contains(previousToken) || ",".equals(previousToken) && lastClosedValueList && valueListParentheses.isEmpty());
+                lastClosedValueList = false;
+                position++;
+                appendToken("(");
+                return true;
+            }
+            if (')' == current) {
+                lastClosedValueList = Boolean.TRUE.equals(valueListParentheses.poll());
+                position++;
+                appendToken(")");
+                return true;
+            }
+            if (',' == current) {
+                position++;
+                appendToken(",");
+                return true;
+            }
+            lastClosedValueList = false;
+            appendToken(readOperator());
+            return true;
+        }
+        
+        private boolean acceptStringLiteral() {
+            boolean prefixed = 0 != position && isWordPart(sql.charAt(position - 1));
+            int start = position++;
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                if (position >= sql.length()) {
+                    return false;
+                }
+                char current = sql.charAt(position++);
+                if ('\\' == current) {
+                    return false;
+                }
+                if ('\'' == current) {
+                    if (position < sql.length() && '\'' == sql.charAt(position)) {
+                        value.append('\'');
+                        position++;
+                        continue;
+                    }
+                    break;
+                }
+                value.append(current);
+            }
+            if (stringLiteralParameterized && !prefixed && isParameterizable()) {
+                appendParameter(value.toString());
+            } else {
+                appendLiteral(sql.substring(start, position));
+            }
+            return true;
+        }
+        
+        private boolean acceptQuotedIdentifier(final char quote) {
+            int start = position++;
+            while (true) {
+                if (position >= sql.length()) {
+                    return false;
+                }
+                if (quote == sql.charAt(position++)) {
+                    if (position < sql.length() && quote == sql.charAt(position)) {
+                        position++;
+                        continue;
+                    }
+                    break;
+                }
+            }
+            result.append(sql, start, position);
+            lastClosedValueList = false;
+            previousToken = String.valueOf(quote);
+            return true;
+        }
+        
+        private void acceptNumberLiteral() {
+            int start = position;
+            position = skipDecimal(start);
+            boolean plainNumber = position >= sql.length() || !isWordPart(sql.charAt(position)) && '.' != sql.charAt(position);
+            while (position < sql.length() && (isWordPart(sql.charAt(position)) || '.' == sql.charAt(position))) {
+                position++;
+            }
+            String literal = sql.substring(start, position);
+            if (plainNumber && isParameterizable()) {
+                appendParameter(new NumberLiteralValue(literal).getValue());
+            } else {
+                appendLiteral(literal);
+            }
+        }
+        
+        private int skipDecimal(final int start) {
+            int result = skipDigits(start);
+            return result + 1 < sql.length() && '.' == sql.charAt(result) && Character.isDigit(sql.charAt(result + 1)) ? skipDigits(result + 1) : result;
+        }
+        
+        private int skipDigits(final int start) {
+            int result = start;
+            while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+                result++;
+            }
+            return result;
+        }
+        
+        private boolean isParameterizable() {
+            if (isFollowedByTypeCast() || isFollowedByLiteral()) {
+                return false;
+            }
+            if (VALUE_PRECEDING_TOKENS.contains(previousToken)) {
+                return true;
+            }
+            if ("AND".equals(previousToken) && betweenPending) {
+                betweenPending = false;
+                return true;
+            }
+            return ("(".equals(previousToken) || ",".equals(previousToken)) && Boolean.TRUE.equals(valueListParentheses.peek());
+        }
+        
+        private boolean isFollowedByTypeCast() {
+            int index = skipWhitespace(position);
+            return index + 1 < sql.length() && ':' == sql.charAt(index) && ':' == sql.charAt(index + 1);
+        }
+        
+        private boolean isFollowedByLiteral() {
+            int index = skipWhitespace(position);
+            return index < sql.length() && '\'' == sql.charAt(index);
+        }
+        
+        private int skipWhitespace(final int start) {
+            int result = start;
+            while (result < sql.length() && Character.isWhitespace(sql.charAt(result))) {
+                result++;
+            }
+            return result;
+        }
+        
+        private String readOperator() {
+            int start = position++;
+            char first = sql.charAt(start);
+            if ('<' == first || '>' == first || '!' == first || '=' == first) {
+                while (position < sql.length() && ('<' == sql.charAt(position) || '>' == sql.charAt(position) || '=' == sql.charAt(position))) {
+                    position++;
+                }
+            } else if (':' == first && position < sql.length() && ':' == sql.charAt(position)) {
+                position++;
+            }
+            return sql.substring(start, position);
+        }
+        
+        private void appendToken(final String token) {
+            result.append(token);
+            previousToken = token;
+        }
+        
+        private void appendLiteral(final String literal) {
+            result.append(literal);
+            lastClosedValueList = false;
+            previousToken = LITERAL_TOKEN;
+        }
+        
+        private void appendParameter(final Object value) {
+            result.append('?');
+            params.add(value);
+            lastClosedValueList = false;
+            previousToken = LITERAL_TOKEN;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.parameterized;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralParameterizerTest {
+    
+    private final SQLLiteralParameterizer parameterizer = new SQLLiteralParameterizer(true);
+    
+    @Test
+    public void assertParameterizeComparison() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 42 AND status <> 'PAID' AND amount >= 1.5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status <> ? AND amount >= ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(42, "PAID", new BigDecimal("1.5"))));
+    }
+    
+    @Test
+    public void assertParameterizeInListAndBetween() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("select * from t_order where user_id in (1, 2,3) and order_id between 10 and 20 limit 5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("select * from t_order where user_id in (?, ?,?) and order_id between ? and ? limit ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 10, 20, 5)));
+    }
+    
+    @Test
+    public void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'it''s'), (9999999999, NOW())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, NOW())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "it's", 9999999999L)));
+    }
+    
+    @Test
+    public void assertNotParameterizeNonValueLiterals() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT 1, COUNT(2), x'1F', N'a' FROM t_order WHERE order_id = 3 GROUP BY 1 ORDER BY 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, COUNT(2), x'1F', N'a' FROM t_order WHERE order_id = ? GROUP BY 1 ORDER BY 1"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(3)));
+    }
+    
+    @Test
+    public void assertNotParameterizeStringLiteralIfDisabled() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer(false).parameterize("SELECT * FROM t_order WHERE order_id = 1 AND status = 'PAID' AND created = '2022-01-01'::date");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = 'PAID' AND created = '2022-01-01'::date"));
+    }
+    
+    @Test
+    public void assertNotParameterizeTypeCast() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1::int8");
+        assertFalse(actual.isPresent());
+    }
+    
+    @Test
+    public void assertNotParameterizeUnsupportedSQL() {
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1; DELETE FROM t_order").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1 -- comment").isPresent());
+        assertFalse(parameterizer.parameterize("/* SHARDINGSPHERE_HINT: t_order.SHARDING_DATABASE_VALUE=1 */ SELECT * FROM t_order WHERE order_id = 1").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+        assertFalse(parameterizer.parameterize("SET autocommit = 1").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order").isPresent());
+    }
+}
@@ -42,6 +42,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Route SQL rewrite engine.
@@ -80,23 +81,39 @@ public final class RouteSQLRewriteEngine {
         List<Object> params = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
+        int paramsRepeatedTimes = 0;
         for (RouteUnit each : routeUnits) {
             sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
             if (containsDollarMarker && !params.isEmpty()) {
                 continue;
             }
             params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            paramsRepeatedTimes++;
         }
-        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
+        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params, getParameterIndexes(sqlRewriteContext.getParameterBuilder(), paramsRepeatedTimes));
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
                                     final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(),
+                    getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each), getParameterIndexes(sqlRewriteContext.getParameterBuilder(), 1)));
         }
     }
     
+    private int[] getParameterIndexes(final ParameterBuilder paramBuilder, final int paramsRepeatedTimes) {
+        Optional<int[]> originalParamIndexes = paramBuilder instanceof StandardParameterBuilder ? ((StandardParameterBuilder) paramBuilder).findOriginalParameterIndexes() : Optional.empty();
+        if (!originalParamIndexes.isPresent()) {
+            return null;
+        }
+        int originalParamCount = originalParamIndexes.get().length;
+        int[] result = new int[originalParamCount * paramsRepeatedTimes];
+        for (int i = 0; i < paramsRepeatedTimes; i++) {
+            System.arraycopy(originalParamIndexes.get(), 0, result, i * originalParamCount, originalParamCount);
+        }
+        return result;
+    }
+    
     private boolean isNeedAggregateRewrite(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) {
         if (!(sqlStatementContext instanceof SelectStatementContext) || routeUnits.size() == 1) {
             return false;
@@ -158,7 +175,7 @@ public final class RouteSQLRewriteEngine {
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
             DatabaseType storageType = storageTypes.get(entry.getKey().getDataSourceMapper().getActualName());
             String sql = translatorRule.translate(entry.getValue().getSql(), sqlStatement, protocolType, storageType);
-            SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(sql, entry.getValue().getParameters());
+            SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(sql, entry.getValue().getParameters(), entry.getValue().findParameterIndexes().orElse(null));
             result.put(entry.getKey(), sqlRewriteUnit);
         }
         return result;
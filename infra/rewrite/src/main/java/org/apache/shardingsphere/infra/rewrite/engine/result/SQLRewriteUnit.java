@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.infra.rewrite.engine.result;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL rewrite unit.
@@ -32,4 +34,20 @@ public final class SQLRewriteUnit {
     private final String sql;
     
     private final List<Object> parameters;
+    
+    @Getter(AccessLevel.NONE)
+    private final int[] parameterIndexes;
+    
+    public SQLRewriteUnit(final String sql, final List<Object> parameters) {
+        this(sql, parameters, null);
+    }
+    
+    /**
+     * Find parameter indexes.
+     *
+     * @return indexes of rewritten parameters in parameters of logic SQL, empty if any rewritten parameter is not copied from logic SQL
+     */
+    public Optional<int[]> findParameterIndexes() {
+        return Optional.ofNullable(parameterIndexes);
+    }
 }
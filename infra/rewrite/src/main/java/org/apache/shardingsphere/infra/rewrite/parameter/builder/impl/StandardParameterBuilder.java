@@ -28,6 +28,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
 
 /**
@@ -84,6 +85,22 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         return result;
     }
     
+    /**
+     * Find original parameter indexes.
+     *
+     * @return indexes of built parameters in original parameters, empty if any parameter is added or replaced
+     */
+    public Optional<int[]> findOriginalParameterIndexes() {
+        if (!addedIndexAndParameters.isEmpty() || !replacedIndexAndParameters.isEmpty()) {
+            return Optional.empty();
+        }
+        int[] result = new int[originalParameters.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = i;
+        }
+        return Optional.of(result);
+    }
+    
     private int getMaxParameterIndex() {
         return addedIndexAndParameters.isEmpty()
                 ? originalParameters.size() - 1
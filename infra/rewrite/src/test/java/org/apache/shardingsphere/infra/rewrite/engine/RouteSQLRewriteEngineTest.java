@@ -80,6 +80,7 @@ public final class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT ? UNION ALL SELECT ?"));
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).findParameterIndexes().orElse(null), is(new int[]{0, 0}));
     }
     
     @Test
@@ -21,9 +21,12 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public final class StandardParameterBuilderTest {
     
@@ -33,4 +36,18 @@ public final class StandardParameterBuilderTest {
         paramBuilder.addAddedParameters(4, Collections.singleton(7));
         assertThat(paramBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertFindOriginalParameterIndexes() {
+        Optional<int[]> actual = new StandardParameterBuilder(Arrays.asList(1, 2, 1)).findOriginalParameterIndexes();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(new int[]{0, 1, 2}));
+    }
+    
+    @Test
+    public void assertFindOriginalParameterIndexesWithReplacedParameter() {
+        StandardParameterBuilder paramBuilder = new StandardParameterBuilder(Arrays.asList(10, 5));
+        paramBuilder.addReplacedParameters(0, 0);
+        assertFalse(paramBuilder.findOriginalParameterIndexes().isPresent());
+    }
 }
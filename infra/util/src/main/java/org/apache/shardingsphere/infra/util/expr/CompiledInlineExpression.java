@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Placeholders of common inline expressions are evaluated by compiled node tree, others are evaluated by Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final String inlineExpression;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final List<String> strings;
+    
+    private final List<InlineExpressionNode> nodes;
+    
+    /**
+     * Judge whether inline expression is compiled to node tree.
+     *
+     * @return compiled or not
+     */
+    public boolean isCompiled() {
+        return null != nodes;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables referenced by inline expression
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        if (null == nodes) {
+            return evaluateByGroovy(variables);
+        }
+        StringBuilder result = new StringBuilder(strings.get(0));
+        for (int i = 0; i < nodes.size(); i++) {
+            Object value = nodes.get(i).evaluate(variables);
+            if (InlineExpressionNode.UNSUPPORTED == value || value instanceof Collection || value instanceof Map || null != value && value.getClass().isArray()) {
+                return evaluateByGroovy(variables);
+            }
+            result.append(value).append(strings.get(i + 1));
+        }
+        return result.toString();
+    }
+    
+    private String evaluateByGroovy(final Map<String, ?> variables) {
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    /**
+     * Evaluate values of placeholders without variables.
+     *
+     * @return values of placeholders, empty if inline expression is not compiled or any placeholder can not be evaluated without Groovy
+     */
+    Optional<Object[]> evaluateValues() {
+        if (null == nodes) {
+            return Optional.empty();
+        }
+        Object[] result = new Object[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            result[i] = nodes.get(i).evaluate(Collections.emptyMap());
+            if (InlineExpressionNode.UNSUPPORTED == result[i]) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>Placeholders which consist of integer and string literals, variables, {@code + - * %} operators, ranges, lists,
+ * {@code hashCode()}, {@code toString()}, {@code abs()}, {@code intdiv()}, {@code length()} and {@code Math.abs()} are compiled to node tree,
+ * and operations are evaluated as Groovy does for integer and string values. Inline expressions with other syntax are not compiled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class InlineExpressionCompiler {
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled inline expression
+     */
+    static CompiledInlineExpression compile(final String inlineExpression) {
+        String expression = InlineExpressionParser.handlePlaceHolder(inlineExpression);
+        List<String> strings = new LinkedList<>();
+        List<InlineExpressionNode> nodes = new LinkedList<>();
+        try {
+            parseTemplate(expression, strings, nodes);
+        } catch (final UnsupportedSyntaxException ignored) {
+            return new CompiledInlineExpression(expression, null, null);
+        }
+        return new CompiledInlineExpression(expression, new ArrayList<>(strings), new ArrayList<>(nodes));
+    }
+    
+    private static void parseTemplate(final String expression, final List<String> strings, final List<InlineExpressionNode> nodes) {
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < expression.length()) {
+            char each = expression.charAt(index);
+            check('"' != each && '\\' != each);
+            if ('$' != each) {
+                literal.append(each);
+                index++;
+                continue;
+            }
+            check(index + 1 < expression.length() && '{' == expression.charAt(index + 1));
+            int endIndex = expression.indexOf('}', index + 2);
+            check(endIndex > 0);
+            String placeholder = expression.substring(index + 2, endIndex);
+            check(-1 == placeholder.indexOf('{'));
+            strings.add(literal.toString());
+            literal.setLength(0);
+            nodes.add(new ExpressionParser(placeholder).parse());
+            index = endIndex + 1;
+        }
+        strings.add(literal.toString());
+    }
+    
+    private static void check(final boolean supported) {
+        if (!supported) {
+            throw new UnsupportedSyntaxException();
+        }
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if ('+' == operator && (left instanceof String && (right instanceof String || isIntegral(right)) || isIntegral(left) && right instanceof String)) {
+            return left.toString() + right;
+        }
+        if (!isIntegral(left) || !isIntegral(right)) {
+            return InlineExpressionNode.UNSUPPORTED;
+        }
+        if (left instanceof Long || right instanceof Long) {
+            return calculate(operator, ((Number) left).longValue(), ((Number) right).longValue());
+        }
+        return (int) calculate(operator, ((Number) left).intValue(), ((Number) right).intValue());
+    }
+    
+    private static long calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '%':
+                return left % right;
+            default:
+                return left / right;
+        }
+    }
+    
+    private static int calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '%':
+                return left % right;
+            default:
+                return left / right;
+        }
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Long) {
+            return Math.abs((long) value);
+        }
+        return isIntegral(value) ? (Object) Math.abs(((Number) value).intValue()) : InlineExpressionNode.UNSUPPORTED;
+    }
+    
+    private static Object createRange(final Object from, final Object to, final boolean exclusive) {
+        if (!(from instanceof Integer) || !(to instanceof Integer)) {
+            return InlineExpressionNode.UNSUPPORTED;
+        }
+        int fromValue = (int) from;
+        int toValue = (int) to;
+        int step = fromValue <= toValue ? 1 : -1;
+        int endValue = exclusive ? toValue - step : toValue;
+        List<Object> result = new ArrayList<>(Math.abs(endValue - fromValue) + 1);
+        if (exclusive && fromValue == toValue) {
+            return result;
+        }
+        for (int i = fromValue; i != endValue + step; i += step) {
+            result.add(i);
+        }
+        return result;
+    }
+    
+    private static Object createList(final List<InlineExpressionNode> elements, final Map<String, ?> variables) {
+        List<Object> result = new ArrayList<>(elements.size());
+        for (InlineExpressionNode each : elements) {
+            Object value = each.evaluate(variables);
+            if (InlineExpressionNode.UNSUPPORTED == value) {
+                return InlineExpressionNode.UNSUPPORTED;
+            }
+            result.add(value);
+        }
+        return result;
+    }
+    
+    private static Object invoke(final Object target, final String methodName, final Object argument) {
+        if (InlineExpressionNode.UNSUPPORTED == target || null == target || target instanceof Collection) {
+            return InlineExpressionNode.UNSUPPORTED;
+        }
+        switch (methodName) {
+            case "hashCode":
+                return target.hashCode();
+            case "toString":
+                return target.toString();
+            case "abs":
+                return abs(target);
+            case "length":
+                return target instanceof String ? (Object) ((String) target).length() : InlineExpressionNode.UNSUPPORTED;
+            case "intdiv":
+                return calculate('/', target, argument);
+            default:
+                return InlineExpressionNode.UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        InlineExpressionNode parse() {
+            InlineExpressionNode result = parseRange();
+            skipWhitespaces();
+            check(position == expression.length());
+            return result;
+        }
+        
+        private InlineExpressionNode parseRange() {
+            InlineExpressionNode from = parseAdditive();
+            if (!consume("..")) {
+                return from;
+            }
+            boolean exclusive = consume("<");
+            InlineExpressionNode to = parseAdditive();
+            return variables -> createRange(from.evaluate(variables), to.evaluate(variables), exclusive);
+        }
+        
+        private InlineExpressionNode parseAdditive() {
+            InlineExpressionNode result = parseMultiplicative();
+            while (true) {
+                skipWhitespaces();
+                if (peek('+') || peek('-')) {
+                    result = createOperation(expression.charAt(position++), result, parseMultiplicative());
+                } else {
+                    return result;
+                }
+            }
+        }
+        
+        private InlineExpressionNode parseMultiplicative() {
+            InlineExpressionNode result = parseUnary();
+            while (true) {
+                skipWhitespaces();
+                check(!peek('/'));
+                if (peek('*') && !peekNext('*') || peek('%')) {
+                    result = createOperation(expression.charAt(position++), result, parseUnary());
+                } else {
+                    return result;
+                }
+            }
+        }
+        
+        private InlineExpressionNode createOperation(final char operator, final InlineExpressionNode left, final InlineExpressionNode right) {
+            return variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+        }
+        
+        private InlineExpressionNode parseUnary() {
+            skipWhitespaces();
+            if (consume("-")) {
+                InlineExpressionNode operand = parseUnary();
+                return variables -> calculate('-', 0, operand.evaluate(variables));
+            }
+            return parsePostfix();
+        }
+        
+        private InlineExpressionNode parsePostfix() {
+            InlineExpressionNode result = parsePrimary();
+            while (peek('.') && !peekNext('.')) {
+                position++;
+                String methodName = parseIdentifier();
+                check(consume("("));
+                result = createMethodInvocation(result, methodName);
+            }
+            return result;
+        }
+        
+        private InlineExpressionNode createMethodInvocation(final InlineExpressionNode target, final String methodName) {
+            if ("intdiv".equals(methodName)) {
+                InlineExpressionNode argument = parseRange();
+                check(consume(")"));
+                return variables -> invoke(target.evaluate(variables), methodName, argument.evaluate(variables));
+            }
+            check("hashCode".equals(methodName) || "toString".equals(methodName) || "abs".equals(methodName) || "length".equals(methodName));
+            check(consume(")"));
+            return variables -> invoke(target.evaluate(variables), methodName, null);
+        }
+        
+        private InlineExpressionNode parsePrimary() {
+            skipWhitespaces();
+            check(position < expression.length());
+            char current = expression.charAt(position);
+            if (consume("(")) {
+                InlineExpressionNode result = parseRange();
+                check(consume(")"));
+                return result;
+            }
+            if (consume("[")) {
+                return parseList();
+            }
+            if ('\'' == current) {
+                return parseString();
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            String identifier = parseIdentifier();
+            if ("null".equals(identifier)) {
+                return variables -> null;
+            }
+            if ("Math".equals(identifier)) {
+                check(consume(".") && "abs".equals(parseIdentifier()) && consume("("));
+                InlineExpressionNode argument = parseRange();
+                check(consume(")"));
+                return variables -> abs(argument.evaluate(variables));
+            }
+            check(!peek('(') && !"true".equals(identifier) && !"false".equals(identifier) && !"it".equals(identifier));
+            return variables -> variables.get(identifier);
+        }
+        
+        private InlineExpressionNode parseList() {
+            List<InlineExpressionNode> elements = new LinkedList<>();
+            if (!consume("]")) {
+                do {
+                    elements.add(parseRange());
+                } while (consume(","));
+                check(consume("]"));
+            }
+            return variables -> createList(elements, variables);
+        }
+        
+        private InlineExpressionNode parseString() {
+            int endIndex = expression.indexOf('\'', position + 1);
+            check(endIndex > 0);
+            String value = expression.substring(position + 1, endIndex);
+            check(-1 == value.indexOf('\\'));
+            position = endIndex + 1;
+            return variables -> value;
+        }
+        
+        private InlineExpressionNode parseNumber() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String digits = expression.substring(startIndex, position);
+            check(!(peek('.') && position + 1 < expression.length() && Character.isDigit(expression.charAt(position + 1))) && !(digits.length() > 1 && '0' == digits.charAt(0)));
+            long value;
+            try {
+                value = Long.parseLong(digits);
+            } catch (final NumberFormatException ex) {
+                throw new UnsupportedSyntaxException();
+            }
+            if (peek('L') || peek('l')) {
+                position++;
+                return variables -> value;
+            }
+            check(position >= expression.length() || !Character.isLetter(expression.charAt(position)));
+            Object result = value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+            return variables -> result;
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespaces();
+            int startIndex = position;
+            while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+                position++;
+            }
+            check(position > startIndex && !Character.isDigit(expression.charAt(startIndex)));
+            return expression.substring(startIndex, position);
+        }
+        
+        private boolean consume(final String token) {
+            skipWhitespaces();
+            if (expression.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean peek(final char token) {
+            return position < expression.length() && token == expression.charAt(position);
+        }
+        
+        private boolean peekNext(final char token) {
+            return position + 1 < expression.length() && token == expression.charAt(position + 1);
+        }
+        
+        private void skipWhitespaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+    
+    private static final class UnsupportedSyntaxException extends RuntimeException {
+        
+        private static final long serialVersionUID = -2451530380011458727L;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -65,7 +66,16 @@ public final class InlineExpressionParser {
      * @return result list
      */
     public List<String> splitAndEvaluate() {
-        return Strings.isNullOrEmpty(inlineExpression) ? Collections.emptyList() : flatten(evaluate(split()));
+        return Strings.isNullOrEmpty(inlineExpression) ? Collections.emptyList() : evaluateSegments(split());
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @return compiled inline expression
+     */
+    public CompiledInlineExpression compile() {
+        return InlineExpressionCompiler.compile(inlineExpression);
     }
     
     /**
@@ -77,21 +87,31 @@ public final class InlineExpressionParser {
         return (Closure<?>) evaluate("{it -> \"" + inlineExpression + "\"}");
     }
     
-    private List<Object> evaluate(final List<String> inlineExpressions) {
-        List<Object> result = new ArrayList<>(inlineExpressions.size());
+    private List<String> evaluateSegments(final List<String> inlineExpressions) {
+        List<String> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
-            StringBuilder expression = new StringBuilder(handlePlaceHolder(each));
-            if (!each.startsWith("\"")) {
-                expression.insert(0, "\"");
-            }
-            if (!each.endsWith("\"")) {
-                expression.append("\"");
+            CompiledInlineExpression compiledExpression = InlineExpressionCompiler.compile(each);
+            Optional<Object[]> values = compiledExpression.evaluateValues();
+            if (values.isPresent()) {
+                result.addAll(assemblyCartesianSegments(compiledExpression.getStrings().toArray(new String[0]), values.get()));
+            } else {
+                result.addAll(flatten(evaluateByGroovy(each)));
             }
-            result.add(evaluate(expression.toString()));
         }
         return result;
     }
     
+    private Object evaluateByGroovy(final String inlineExpression) {
+        StringBuilder expression = new StringBuilder(handlePlaceHolder(inlineExpression));
+        if (!inlineExpression.startsWith("\"")) {
+            expression.insert(0, "\"");
+        }
+        if (!inlineExpression.endsWith("\"")) {
+            expression.append("\"");
+        }
+        return evaluate(expression.toString());
+    }
+    
     private Object evaluate(final String expression) {
         Script script;
         if (SCRIPTS.containsKey(expression)) {
@@ -144,31 +164,25 @@ public final class InlineExpressionParser {
         return result;
     }
     
-    private List<String> flatten(final List<Object> segments) {
-        List<String> result = new ArrayList<>();
-        for (Object each : segments) {
-            if (each instanceof GString) {
-                result.addAll(assemblyCartesianSegments((GString) each));
-            } else {
-                result.add(each.toString());
-            }
-        }
-        return result;
+    private List<String> flatten(final Object segment) {
+        return segment instanceof GString
+                ? assemblyCartesianSegments(((GString) segment).getStrings(), ((GString) segment).getValues())
+                : Collections.singletonList(segment.toString());
     }
     
-    private List<String> assemblyCartesianSegments(final GString segment) {
-        Set<List<String>> cartesianValues = getCartesianValues(segment);
+    private List<String> assemblyCartesianSegments(final String[] strings, final Object[] values) {
+        Set<List<String>> cartesianValues = getCartesianValues(values);
         List<String> result = new ArrayList<>(cartesianValues.size());
         for (List<String> each : cartesianValues) {
-            result.add(assemblySegment(each, segment));
+            result.add(assemblySegment(each, strings));
         }
         return result;
     }
     
     @SuppressWarnings("unchecked")
-    private Set<List<String>> getCartesianValues(final GString segment) {
-        List<Set<String>> result = new ArrayList<>(segment.getValues().length);
-        for (Object each : segment.getValues()) {
+    private Set<List<String>> getCartesianValues(final Object[] values) {
+        List<Set<String>> result = new ArrayList<>(values.length);
+        for (Object each : values) {
             if (null == each) {
                 continue;
             }
@@ -181,10 +195,10 @@ public final class InlineExpressionParser {
         return Sets.cartesianProduct(result);
     }
     
-    private String assemblySegment(final List<String> cartesianValue, final GString segment) {
+    private String assemblySegment(final List<String> cartesianValue, final String[] strings) {
         StringBuilder result = new StringBuilder();
-        for (int i = 0; i < segment.getStrings().length; i++) {
-            result.append(segment.getStrings()[i]);
+        for (int i = 0; i < strings.length; i++) {
+            result.append(strings[i]);
             if (i < cartesianValue.size()) {
                 result.append(cartesianValue.get(i));
             }
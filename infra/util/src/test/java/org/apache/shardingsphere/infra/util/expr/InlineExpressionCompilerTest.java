@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileModulo() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 4}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 10)), is("t_order_2"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 10L)), is("t_order_2"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", -10)), is("t_order_-2"));
+    }
+    
+    @Test
+    public void assertCompileWithDeprecatedPlaceHolder() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("ds_$->{user_id % 2}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", 3)), is("ds_1"));
+    }
+    
+    @Test
+    public void assertCompileHashCode() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${Math.abs(order_no.hashCode() % 16)}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("order_no", "abc")), is("t_order_" + Math.abs("abc".hashCode() % 16)));
+    }
+    
+    @Test
+    public void assertCompileMultipleVariables() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${type % 2}_${(order_id + 1) * 2 % 4}");
+        assertTrue(actual.isCompiled());
+        Map<String, Comparable<?>> variables = new HashMap<>(2, 1);
+        variables.put("type", 1);
+        variables.put("order_id", 2);
+        assertThat(actual.evaluate(variables), is("t_order_1_2"));
+    }
+    
+    @Test
+    public void assertCompileStringConcatenation() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${status + '_' + order_id % 2}");
+        assertTrue(actual.isCompiled());
+        Map<String, Comparable<?>> variables = new HashMap<>(2, 1);
+        variables.put("status", "init");
+        variables.put("order_id", 3);
+        assertThat(actual.evaluate(variables), is("t_order_init_1"));
+    }
+    
+    @Test
+    public void assertCompileUnsupportedSyntax() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id / 4}");
+        assertFalse(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 8)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateUnsupportedValueByGroovy() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id.abs()}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", new BigDecimal("-3"))), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateValuesForRange() {
+        Object[] actual = InlineExpressionCompiler.compile("t_order_${0..<2}_${[1, 3]}").evaluateValues().orElseThrow(IllegalStateException::new);
+        assertThat(actual.length, is(2));
+        assertThat(actual[0].toString(), is("[0, 1]"));
+        assertThat(actual[1].toString(), is("[1, 3]"));
+    }
+    
+    @Test
+    public void assertEvaluateValuesWithVariable() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2}").evaluateValues().isPresent());
+    }
+}
@@ -56,6 +56,17 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch and times of actual call addBatch which contains rows of multiple JDBC API addBatch calls.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     * @param actualAddBatchTimes times of actual call addBatch
+     */
+    public void mapAddBatchCount(final int jdbcAddBatchTimes, final int actualAddBatchTimes) {
+        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualAddBatchTimes);
+        actualCallAddBatchTimes = Math.max(actualCallAddBatchTimes, actualAddBatchTimes + 1);
+    }
+    
     /**
      * Get parameter sets.
      * 
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -36,9 +38,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,11 +59,12 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     private final String databaseName;
     
     private final EventBusContext eventBusContext;
@@ -71,7 +75,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         this.eventBusContext = eventBusContext;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -83,50 +87,59 @@ public final class BatchPreparedStatementExecutor {
         this.executionGroupContext = executionGroupContext;
     }
     
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
+    }
+    
     /**
      * Add batch for execution units.
      *
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+        batchCount++;
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+    /**
+     * Coalesce single row insert statements of batch execution units into multiple rows insert statements.
+     *
+     * @param sqlStatementContext SQL statement context
+     */
+    public void coalesceInsertValues(final SQLStatementContext<?> sqlStatementContext) {
+        int coalesceSize = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE);
+        if (coalesced || coalesceSize < 2 || !isSingleRowInsert(sqlStatementContext)) {
+            return;
+        }
+        InsertValuesCoalescer coalescer = new InsertValuesCoalescer(coalesceSize);
+        Map<ExecutionUnit, BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedHashMap<>(batchExecutionUnits.size(), 1);
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            for (BatchExecutionUnit eachCoalesced : coalescer.coalesce(each)) {
+                coalescedBatchExecutionUnits.put(eachCoalesced.getExecutionUnit(), eachCoalesced);
             }
         }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.putAll(coalescedBatchExecutionUnits);
+        coalesced = true;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    private boolean isSingleRowInsert(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof InsertStatementContext && null == ((InsertStatementContext) sqlStatementContext).getInsertSelectContext()
+                && 1 == ((InsertStatementContext) sqlStatementContext).getInsertValueContexts().size();
     }
     
     /**
@@ -156,7 +169,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return coalesced || isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -173,16 +186,16 @@ public final class BatchPreparedStatementExecutor {
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null == batchExecutionUnit ? Collections.emptyMap() : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
+                Map<Integer, Integer> coalescedRowCounts = coalesced ? getCoalescedRowCounts(jdbcAndActualAddBatchCallTimesMap) : Collections.emptyMap();
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
+                    Integer coalescedRowCount = coalescedRowCounts.get(entry.getValue());
+                    if (null != coalescedRowCount && coalescedRowCount > 1) {
+                        value = value == coalescedRowCount ? 1 : 0 == value ? 0 : Statement.SUCCESS_NO_INFO;
+                    }
+                    result[entry.getKey()] = Statement.SUCCESS_NO_INFO == result[entry.getKey()] || Statement.SUCCESS_NO_INFO == value ? Statement.SUCCESS_NO_INFO : result[entry.getKey()] + value;
                 }
                 count++;
             }
@@ -190,9 +203,12 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private Map<Integer, Integer> getCoalescedRowCounts(final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap) {
+        Map<Integer, Integer> result = new HashMap<>(jdbcAndActualAddBatchCallTimesMap.size(), 1);
+        for (int each : jdbcAndActualAddBatchCallTimesMap.values()) {
+            result.merge(each, 1, Integer::sum);
+        }
+        return result;
     }
     
     /**
@@ -237,12 +253,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException();
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != result);
+        return result.getParameterSets();
     }
     
     /**
@@ -253,5 +266,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        coalesced = false;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Insert values coalescer, which coalesces batched single row insert statements routed to same data node into multiple rows insert statements.
+ */
+@RequiredArgsConstructor
+public final class InsertValuesCoalescer {
+    
+    private static final int MAX_PARAMETER_COUNT = 32767;
+    
+    private final int maxRowCount;
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit to be coalesced
+     * @return coalesced batch execution units, or the batch execution unit itself if it can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        int rowCount = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        int[] valuesRange = findValuesRange(sqlUnit.getSql());
+        if (rowCount < 2 || null == valuesRange) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        int parameterCountPerRow = countParameterMarkers(sqlUnit.getSql(), valuesRange[0], valuesRange[1]);
+        if (0 == parameterCountPerRow || sqlUnit.getParameters().size() != parameterCountPerRow * rowCount) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        int rowCountPerStatement = Math.min(Math.min(maxRowCount, rowCount), MAX_PARAMETER_COUNT / parameterCountPerRow);
+        if (rowCountPerStatement < 2) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        Collection<BatchExecutionUnit> result = new ArrayList<>(2);
+        int fullStatementRowCount = rowCount / rowCountPerStatement * rowCountPerStatement;
+        if (fullStatementRowCount > 0) {
+            result.add(createBatchExecutionUnit(batchExecutionUnit, valuesRange, parameterCountPerRow, 0, fullStatementRowCount, rowCountPerStatement));
+        }
+        if (fullStatementRowCount < rowCount) {
+            result.add(createBatchExecutionUnit(batchExecutionUnit, valuesRange, parameterCountPerRow, fullStatementRowCount, rowCount, rowCount - fullStatementRowCount));
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final int[] valuesRange, final int parameterCountPerRow,
+                                                        final int startRow, final int endRow, final int rowCountPerStatement) {
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        String sql = createMultipleRowsSQL(executionUnit.getSqlUnit().getSql(), valuesRange, rowCountPerStatement);
+        List<Object> params = new ArrayList<>(executionUnit.getSqlUnit().getParameters().subList(startRow * parameterCountPerRow, endRow * parameterCountPerRow));
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sql, params, executionUnit.getSqlUnit().getTableRouteMappers())));
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            if (entry.getValue() >= startRow && entry.getValue() < endRow) {
+                result.mapAddBatchCount(entry.getKey(), (entry.getValue() - startRow) / rowCountPerStatement);
+            }
+        }
+        return result;
+    }
+    
+    private String createMultipleRowsSQL(final String sql, final int[] valuesRange, final int rowCount) {
+        String values = sql.substring(valuesRange[0], valuesRange[1]);
+        StringBuilder result = new StringBuilder(valuesRange[0] + (values.length() + 2) * rowCount);
+        result.append(sql, 0, valuesRange[1]);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(values);
+        }
+        return result.toString();
+    }
+    
+    private int[] findValuesRange(final String sql) {
+        int valuesKeywordEnd = findValuesKeywordEnd(sql);
+        if (valuesKeywordEnd < 0) {
+            return null;
+        }
+        int start = valuesKeywordEnd;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        if (start == sql.length() || '(' != sql.charAt(start)) {
+            return null;
+        }
+        int end = findClosingParenthesis(sql, start);
+        return end < 0 || !sql.substring(end).trim().isEmpty() ? null : new int[]{start, end};
+    }
+    
+    private int findValuesKeywordEnd(final String sql) {
+        char quote = 0;
+        int depth = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                quote = each == quote ? 0 : quote;
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('(' == each) {
+                depth++;
+            } else if (')' == each) {
+                depth--;
+            } else if (0 == depth && isWordStart(sql, i)) {
+                int keywordEnd = matchValuesKeyword(sql, i);
+                if (keywordEnd > 0) {
+                    return keywordEnd;
+                }
+            }
+        }
+        return -1;
+    }
+    
+    private boolean isWordStart(final String sql, final int index) {
+        return 0 == index || !Character.isLetterOrDigit(sql.charAt(index - 1)) && '_' != sql.charAt(index - 1);
+    }
+    
+    private int matchValuesKeyword(final String sql, final int index) {
+        for (String each : new String[]{"VALUES", "VALUE"}) {
+            int end = index + each.length();
+            if (sql.regionMatches(true, index, each, 0, each.length()) && (end == sql.length() || !Character.isLetterOrDigit(sql.charAt(end)) && '_' != sql.charAt(end))) {
+                return end;
+            }
+        }
+        return -1;
+    }
+    
+    private int findClosingParenthesis(final String sql, final int openIndex) {
+        char quote = 0;
+        int depth = 0;
+        for (int i = openIndex; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                quote = each == quote ? 0 : quote;
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('(' == each) {
+                depth++;
+            } else if (')' == each && 0 == --depth) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+    
+    private int countParameterMarkers(final String sql, final int start, final int end) {
+        int result = 0;
+        char quote = 0;
+        for (int i = start; i < end; i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                quote = each == quote ? 0 : quote;
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('?' == each) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
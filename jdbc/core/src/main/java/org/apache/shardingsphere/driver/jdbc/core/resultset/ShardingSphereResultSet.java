@@ -75,6 +75,15 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         this.columnLabelAndIndexMap = columnLabelAndIndexMap;
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
@@ -41,8 +41,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -129,16 +131,45 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnitsWithSameDataSourceAndSQL() {
+        actual.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1)))),
+                new ExecutionUnit("ds_1", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        assertThat(actual.getBatchExecutionUnits().size(), is(2));
+        BatchExecutionUnit batchExecutionUnit = actual.getBatchExecutionUnits().iterator().next();
+        assertThat(batchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 2)));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    @Test
+    public void assertExecuteBatchWithCoalescedInsertValues() throws SQLException, ReflectiveOperationException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{2, 1});
+        Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order (id) VALUES (?), (?)", Arrays.asList(1, 2)));
+        executionGroups.add(new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, preparedStatement))));
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(executionUnit);
+        batchExecutionUnit.mapAddBatchCount(0, 0);
+        batchExecutionUnit.mapAddBatchCount(1, 0);
+        batchExecutionUnit.mapAddBatchCount(2, 1);
+        setFields(executionGroups, Collections.singletonMap(executionUnit, batchExecutionUnit));
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), actual, 3);
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("coalesced"), actual, true);
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -146,7 +177,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), actual, new ExecutionGroupContext<>(executionGroups));
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), actual, batchExecutionUnits);
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), actual, 2);
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class InsertValuesCoalescerTest {
+    
+    @Test
+    public void assertCoalesce() {
+        Collection<BatchExecutionUnit> actual = new InsertValuesCoalescer(2).coalesce(createBatchExecutionUnit("INSERT INTO t_order (order_id, status) VALUES (?, 'a,(b)')"));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit fullUnit = iterator.next();
+        assertThat(fullUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, 'a,(b)'), (?, 'a,(b)')"));
+        assertThat(fullUnit.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 2)));
+        assertThat(fullUnit.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(fullUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(fullUnit.getParameterSets().size(), is(1));
+        BatchExecutionUnit remainderUnit = iterator.next();
+        assertThat(remainderUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, 'a,(b)')"));
+        assertThat(remainderUnit.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(3)));
+        assertThat(remainderUnit.getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+    }
+    
+    @Test
+    public void assertCoalesceWithOnDuplicateKeyUpdate() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = VALUES(order_id)");
+        Collection<BatchExecutionUnit> actual = new InsertValuesCoalescer(10).coalesce(batchExecutionUnit);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(batchExecutionUnit));
+    }
+    
+    @Test
+    public void assertCoalesceWithMismatchedParameters() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order (order_id, status) VALUES (?, ?)");
+        Collection<BatchExecutionUnit> actual = new InsertValuesCoalescer(10).coalesce(batchExecutionUnit);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(batchExecutionUnit));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql) {
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, Arrays.asList(1, 2, 3))));
+        for (int i = 0; i < 3; i++) {
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
@@ -57,6 +57,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContex
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationStatisticLoader;
 import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlannerUtil;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
@@ -76,6 +77,8 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     
     private static final JavaTypeFactory JAVA_TYPE_FACTORY = new JavaTypeFactoryImpl();
     
+    private final FederationStatisticLoader statisticLoader = new FederationStatisticLoader();
+    
     private String databaseName;
     
     private String schemaName;
@@ -136,7 +139,7 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         // TODO replace FilterableTableScanExecutor with TranslatableTableScanExecutor
         TableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data, eventBusContext);
         // TODO replace FilterableSchema with TranslatableSchema
-        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor);
+        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor, statisticLoader.load(data, databaseName, schemaName));
     }
     
     @SuppressWarnings("unchecked")
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Calendar;
+import java.util.Queue;
+
+/**
+ * Prefetch query result.
+ * 
+ * <p>Rows of stream query result are prefetched in batches into a buffer bounded by prefetch row count,
+ * so rows kept for a shard do not depend on whether driver honors fetch size.</p>
+ */
+public final class PrefetchQueryResult implements QueryResult {
+    
+    private final QueryResult queryResult;
+    
+    private final int prefetchRowCount;
+    
+    private final Queue<Object[]> prefetchedRows;
+    
+    private Object[] currentRow;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    public PrefetchQueryResult(final QueryResult queryResult, final int prefetchRowCount) {
+        this.queryResult = queryResult;
+        this.prefetchRowCount = prefetchRowCount;
+        prefetchedRows = new ArrayDeque<>(prefetchRowCount);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (prefetchedRows.isEmpty() && !exhausted) {
+            prefetch();
+        }
+        currentRow = prefetchedRows.poll();
+        return null != currentRow;
+    }
+    
+    private void prefetch() throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        while (prefetchedRows.size() < prefetchRowCount) {
+            if (!queryResult.next()) {
+                exhausted = true;
+                return;
+            }
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = queryResult.getValue(i + 1, Object.class);
+            }
+            prefetchedRows.add(row);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = currentRow[columnIndex - 1];
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return queryResult.getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        prefetchedRows.clear();
+        queryResult.close();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * SQL federation row enumerable.
+ * 
+ * <p>Shard queries of a scan are executed once per execution. Rows are recorded while they are streamed,
+ * so that later enumerators, such as inner side of nested loop join, replay recorded rows instead of executing shard queries again.
+ * If rows of scan exceed max recorded row count, recording is given up and later enumerators stream from new executions.</p>
+ */
+public final class SQLFederationRowEnumerable extends AbstractEnumerable<Object[]> {
+    
+    private final Supplier<Enumerator<Object[]>> executor;
+    
+    private final int maxRecordedRowCount;
+    
+    private List<Object[]> recordedRows;
+    
+    private boolean recording;
+    
+    private boolean recordable = true;
+    
+    public SQLFederationRowEnumerable(final Supplier<Enumerator<Object[]>> executor, final int maxRecordedRowCount) {
+        this.executor = executor;
+        this.maxRecordedRowCount = maxRecordedRowCount;
+    }
+    
+    @Override
+    public Enumerator<Object[]> enumerator() {
+        if (null != recordedRows) {
+            return Linq4j.enumerator(recordedRows);
+        }
+        if (recording || !recordable) {
+            return executor.get();
+        }
+        recording = true;
+        return new RecordingEnumerator(executor.get());
+    }
+    
+    private final class RecordingEnumerator implements Enumerator<Object[]> {
+        
+        private final Enumerator<Object[]> delegate;
+        
+        private List<Object[]> rows = new ArrayList<>();
+        
+        private RecordingEnumerator(final Enumerator<Object[]> delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public Object[] current() {
+            return delegate.current();
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (delegate.moveNext()) {
+                record(delegate.current());
+                return true;
+            }
+            if (null != rows) {
+                recordedRows = rows;
+                rows = null;
+                delegate.close();
+            }
+            return false;
+        }
+        
+        private void record(final Object[] row) {
+            if (null == rows) {
+                return;
+            }
+            if (rows.size() < maxRecordedRowCount) {
+                rows.add(row);
+            } else {
+                rows = null;
+                recordable = false;
+            }
+        }
+        
+        @Override
+        public void reset() {
+        }
+        
+        @Override
+        public void close() {
+            rows = null;
+            recording = false;
+            delegate.close();
+        }
+    }
+}
@@ -18,30 +18,35 @@
 package org.apache.shardingsphere.sqlfederation.row;
 
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
-import java.util.Iterator;
 
 /**
  * SQL federation row enumerator.
+ * 
+ * <p>Rows are streamed from merged result, statements are kept open until enumerator is closed.</p>
  */
 public final class SQLFederationRowEnumerator implements Enumerator<Object[]> {
     
-    private final Collection<Object[]> rows;
+    private final MergedResult mergedResult;
     
-    private final Collection<Statement> statements;
+    private final QueryResultMetaData metaData;
     
-    private Iterator<Object[]> iterator;
+    private final Collection<Statement> statements;
     
     private Object[] currentRow;
     
-    public SQLFederationRowEnumerator(final Collection<Object[]> rows, final Collection<Statement> statements) {
-        this.rows = rows;
+    private boolean closed;
+    
+    public SQLFederationRowEnumerator(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
+        this.mergedResult = mergedResult;
+        this.metaData = metaData;
         this.statements = statements;
-        iterator = rows.iterator();
     }
     
     @Override
@@ -51,13 +56,24 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object[]> {
     
     @Override
     public boolean moveNext() {
-        if (iterator.hasNext()) {
-            currentRow = iterator.next();
-            return true;
+        currentRow = closed ? null : loadNextRow();
+        return null != currentRow;
+    }
+    
+    private Object[] loadNextRow() {
+        try {
+            if (!mergedResult.next()) {
+                return null;
+            }
+            int columnCount = metaData.getColumnCount();
+            Object[] result = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = mergedResult.getValue(i + 1, Object.class);
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
         }
-        currentRow = null;
-        iterator = rows.iterator();
-        return false;
     }
     
     @Override
@@ -66,12 +82,19 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object[]> {
     
     @Override
     public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        currentRow = null;
+        closeStatements();
+    }
+    
+    private void closeStatements() {
         try {
             for (Statement each : statements) {
                 each.close();
             }
-            currentRow = null;
-            iterator = rows.iterator();
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchQueryResultTest {
+    
+    @Test
+    public void assertNextWithBoundedPrefetch() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenReturn(true, true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, null, 3);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2);
+        assertTrue(actual.next());
+        verify(queryResult, times(2)).next();
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        verify(queryResult, times(2)).next();
+        assertThat(actual.getValue(1, Object.class), is((Object) null));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        verify(queryResult, times(4)).next();
+        assertThat(actual.getValue(1, Object.class), is((Object) 3));
+        assertFalse(actual.next());
+        verify(queryResult, times(4)).next();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        new PrefetchQueryResult(queryResult, 2).close();
+        verify(queryResult).close();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLFederationRowEnumerableTest {
+    
+    private final List<Object[]> rows = Arrays.asList(new Object[]{1}, new Object[]{2}, new Object[]{3});
+    
+    private final AtomicInteger executionCount = new AtomicInteger();
+    
+    @Test
+    public void assertEnumeratorReplaysRecordedRows() {
+        SQLFederationRowEnumerable actual = new SQLFederationRowEnumerable(this::execute, 3);
+        assertThat(actual.toList().size(), is(3));
+        assertThat(actual.toList().size(), is(3));
+        assertThat(actual.toList().get(2)[0], is((Object) 3));
+        assertThat(executionCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertEnumeratorExecutesAgainAfterRecordingClosedEarly() {
+        SQLFederationRowEnumerable actual = new SQLFederationRowEnumerable(this::execute, 3);
+        try (Enumerator<Object[]> enumerator = actual.enumerator()) {
+            enumerator.moveNext();
+        }
+        assertThat(actual.toList().size(), is(3));
+        assertThat(actual.toList().size(), is(3));
+        assertThat(executionCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertEnumeratorExecutesAgainWhenRowsExceedMaxRecordedRowCount() {
+        SQLFederationRowEnumerable actual = new SQLFederationRowEnumerable(this::execute, 2);
+        assertThat(actual.toList().size(), is(3));
+        assertThat(actual.toList().size(), is(3));
+        assertThat(executionCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertEnumeratorWhileRecording() {
+        SQLFederationRowEnumerable actual = new SQLFederationRowEnumerable(this::execute, 3);
+        try (Enumerator<Object[]> enumerator = actual.enumerator()) {
+            enumerator.moveNext();
+            assertThat(actual.toList().size(), is(3));
+            assertThat(enumerator.current()[0], is((Object) 1));
+        }
+        assertThat(executionCount.get(), is(2));
+    }
+    
+    private Enumerator<Object[]> execute() {
+        executionCount.incrementAndGet();
+        return Linq4j.enumerator(rows);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLFederationRowEnumeratorTest {
+    
+    @Test
+    public void assertMoveNextWithStreaming() throws SQLException {
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mockMergedResult(), mockMetaData(), Collections.singletonList(statement));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current()[0], is((Object) 1));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current()[0], is((Object) 2));
+        assertFalse(actual.moveNext());
+        actual.close();
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertMoveNextAfterClose() throws SQLException {
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mockMergedResult(), mockMetaData(), Collections.singletonList(mock(Statement.class)));
+        actual.close();
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    public void assertCloseTwice() throws SQLException {
+        Statement statement = mock(Statement.class);
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mockMergedResult(), mockMetaData(), Collections.singletonList(statement));
+        actual.close();
+        actual.close();
+        verify(statement).close();
+    }
+    
+    private MergedResult mockMergedResult() throws SQLException {
+        MergedResult result = mock(MergedResult.class);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getValue(1, Object.class)).thenReturn(1, 2);
+        return result;
+    }
+    
+    private QueryResultMetaData mockMetaData() throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(1);
+        return result;
+    }
+}
@@ -63,4 +63,9 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     public Statistic getStatistic() {
         return statistic;
     }
+    
+    @Override
+    public <C> C unwrap(final Class<C> aClass) {
+        return aClass.isInstance(statistic) ? aClass.cast(statistic) : super.unwrap(aClass);
+    }
 }
@@ -17,19 +17,50 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelReferentialConstraint;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.DistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.NumberUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Statistic of federation table.
+ * 
+ * <p>Distinct row counts of table scans are estimated by distinct value counts of columns, assuming columns are independent.
+ * If distinct value count of any column is unknown, estimation falls back to Calcite default, which only knows unique columns.</p>
  */
-public final class FederationStatistic implements Statistic {
+@RequiredArgsConstructor
+public final class FederationStatistic implements Statistic, DistinctRowCount.Handler {
+    
+    private final Double rowCount;
+    
+    private final Map<String, Double> columnDistinctCounts;
+    
+    public FederationStatistic() {
+        this(null);
+    }
+    
+    public FederationStatistic(final Double rowCount) {
+        this(rowCount, Collections.emptyMap());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
     
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
@@ -45,4 +76,28 @@ public final class FederationStatistic implements Statistic {
     public RelDistribution getDistribution() {
         return RelDistributionTraitDef.INSTANCE.getDefault();
     }
+    
+    @Override
+    public Double getDistinctRowCount(final RelNode rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Double distinctCount = getDistinctCount(rel.getRowType().getFieldNames(), groupKey);
+        if (null == distinctCount) {
+            return RelMdUtil.areColumnsDefinitelyUnique(mq, rel, groupKey) ? NumberUtil.multiply(mq.getRowCount(rel), mq.getSelectivity(rel, predicate)) : null;
+        }
+        return RelMdUtil.numDistinctVals(null == rowCount ? distinctCount : Math.min(distinctCount, rowCount), NumberUtil.multiply(mq.getRowCount(rel), mq.getSelectivity(rel, predicate)));
+    }
+    
+    private Double getDistinctCount(final List<String> fieldNames, final ImmutableBitSet groupKey) {
+        if (groupKey.isEmpty()) {
+            return null;
+        }
+        double result = 1D;
+        for (int each : groupKey) {
+            Double columnDistinctCount = each < fieldNames.size() ? columnDistinctCounts.get(fieldNames.get(each).toLowerCase()) : null;
+            if (null == columnDistinctCount) {
+                return null;
+            }
+            result *= columnDistinctCount;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Federation statistic loader.
+ * 
+ * <p>Row counts and distinct value counts of columns of logic tables are loaded from sharding table statistics and sharding column statistics of ShardingSphere data,
+ * which are summed up from actual tables when they are collected. Loaded statistics are cached for the collecting interval of ShardingSphere data,
+ * so they are not loaded again for every federation query.</p>
+ */
+public final class FederationStatisticLoader {
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final int TABLE_LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int TABLE_LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int TABLE_ROW_COUNT_INDEX = 5;
+    
+    private static final int TABLE_LOGIC_SCHEMA_NAME_INDEX = 7;
+    
+    private static final int COLUMN_LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int COLUMN_LOGIC_SCHEMA_NAME_INDEX = 2;
+    
+    private static final int COLUMN_LOGIC_TABLE_NAME_INDEX = 3;
+    
+    private static final int COLUMN_NAME_INDEX = 4;
+    
+    private static final int COLUMN_DISTINCT_COUNT_INDEX = 5;
+    
+    private static final long EXPIRE_SECONDS = 30L;
+    
+    private final Cache<String, CachedStatistics> cache = Caffeine.newBuilder().expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS).build();
+    
+    /**
+     * Load statistics of logic tables.
+     *
+     * @param data ShardingSphere data
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return statistics of logic tables in schema, key is lower case logic table name
+     */
+    public Map<String, FederationStatistic> load(final ShardingSphereData data, final String databaseName, final String schemaName) {
+        if (null == data) {
+            return Collections.emptyMap();
+        }
+        String cacheKey = databaseName.toLowerCase();
+        CachedStatistics cached = cache.getIfPresent(cacheKey);
+        if (null == cached || data != cached.getData()) {
+            cached = new CachedStatistics(data, loadStatistics(data, databaseName));
+            cache.put(cacheKey, cached);
+        }
+        return cached.getStatistics().getOrDefault(schemaName.toLowerCase(), Collections.emptyMap());
+    }
+    
+    private Map<String, Map<String, FederationStatistic>> loadStatistics(final ShardingSphereData data, final String databaseName) {
+        Map<String, Map<String, Double>> rowCounts = new HashMap<>();
+        Map<String, Map<String, Map<String, Double>>> columnDistinctCounts = new HashMap<>();
+        for (ShardingSphereDatabaseData each : data.getDatabaseData().values()) {
+            for (ShardingSphereSchemaData schemaData : each.getSchemaData().values()) {
+                ShardingSphereTableData tableStatistics = schemaData.getTableData().get(SHARDING_TABLE_STATISTICS);
+                if (null != tableStatistics) {
+                    loadRowCounts(tableStatistics, databaseName, rowCounts);
+                }
+                ShardingSphereTableData columnStatistics = schemaData.getTableData().get(SHARDING_COLUMN_STATISTICS);
+                if (null != columnStatistics) {
+                    loadColumnDistinctCounts(columnStatistics, databaseName, columnDistinctCounts);
+                }
+            }
+        }
+        return createStatistics(rowCounts, columnDistinctCounts);
+    }
+    
+    private void loadRowCounts(final ShardingSphereTableData tableData, final String databaseName, final Map<String, Map<String, Double>> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= TABLE_LOGIC_SCHEMA_NAME_INDEX || null == row.get(TABLE_LOGIC_SCHEMA_NAME_INDEX) || null == row.get(TABLE_LOGIC_TABLE_NAME_INDEX) || null == row.get(TABLE_ROW_COUNT_INDEX)
+                    || !databaseName.equalsIgnoreCase(String.valueOf(row.get(TABLE_LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            double rowCount = Math.max(new BigDecimal(row.get(TABLE_ROW_COUNT_INDEX).toString()).doubleValue(), 0D);
+            rowCounts.computeIfAbsent(row.get(TABLE_LOGIC_SCHEMA_NAME_INDEX).toString().toLowerCase(), key -> new HashMap<>())
+                    .merge(row.get(TABLE_LOGIC_TABLE_NAME_INDEX).toString().toLowerCase(), rowCount, Double::sum);
+        }
+    }
+    
+    private void loadColumnDistinctCounts(final ShardingSphereTableData tableData, final String databaseName, final Map<String, Map<String, Map<String, Double>>> columnDistinctCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= COLUMN_DISTINCT_COUNT_INDEX || row.contains(null) || !databaseName.equalsIgnoreCase(String.valueOf(row.get(COLUMN_LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            columnDistinctCounts.computeIfAbsent(row.get(COLUMN_LOGIC_SCHEMA_NAME_INDEX).toString().toLowerCase(), key -> new HashMap<>())
+                    .computeIfAbsent(row.get(COLUMN_LOGIC_TABLE_NAME_INDEX).toString().toLowerCase(), key -> new HashMap<>())
+                    .put(row.get(COLUMN_NAME_INDEX).toString().toLowerCase(), new BigDecimal(row.get(COLUMN_DISTINCT_COUNT_INDEX).toString()).doubleValue());
+        }
+    }
+    
+    private Map<String, Map<String, FederationStatistic>> createStatistics(final Map<String, Map<String, Double>> rowCounts, final Map<String, Map<String, Map<String, Double>>> columnDistinctCounts) {
+        Map<String, Map<String, FederationStatistic>> result = new HashMap<>();
+        for (Entry<String, Map<String, Double>> entry : rowCounts.entrySet()) {
+            Map<String, Map<String, Double>> schemaColumnDistinctCounts = columnDistinctCounts.getOrDefault(entry.getKey(), Collections.emptyMap());
+            Map<String, FederationStatistic> schemaStatistics = new HashMap<>(entry.getValue().size(), 1);
+            for (Entry<String, Double> rowCount : entry.getValue().entrySet()) {
+                schemaStatistics.put(rowCount.getKey(), new FederationStatistic(rowCount.getValue(), schemaColumnDistinctCounts.getOrDefault(rowCount.getKey(), Collections.emptyMap())));
+            }
+            result.put(entry.getKey(), Collections.unmodifiableMap(schemaStatistics));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedStatistics {
+        
+        private final ShardingSphereData data;
+        
+        private final Map<String, Map<String, FederationStatistic>> statistics;
+    }
+}
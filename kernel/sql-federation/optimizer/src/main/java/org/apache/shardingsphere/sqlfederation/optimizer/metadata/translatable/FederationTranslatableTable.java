@@ -117,6 +117,11 @@ public final class FederationTranslatableTable extends AbstractTable implements
         return statistic;
     }
     
+    @Override
+    public <C> C unwrap(final Class<C> aClass) {
+        return aClass.isInstance(statistic) ? aClass.cast(statistic) : super.unwrap(aClass);
+    }
+    
     private int[] getFieldIndexes(final int fieldCount) {
         int[] result = new int[fieldCount];
         for (int index = 0; index < fieldCount; index++) {
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationStatisticLoaderTest {
+    
+    @Test
+    public void assertLoadWithNullData() {
+        assertTrue(new FederationStatisticLoader().load(null, "logic_db", "public").isEmpty());
+    }
+    
+    @Test
+    public void assertLoad() {
+        Map<String, FederationStatistic> actual = new FederationStatisticLoader().load(createShardingSphereData(), "logic_db", "public");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order").getRowCount(), is(30D));
+        assertThat(actual.get("t_order_item").getRowCount(), is(0D));
+        assertNull(actual.get("t_user"));
+    }
+    
+    @Test
+    public void assertLoadWithSameTableNameInOtherSchema() {
+        Map<String, FederationStatistic> actual = new FederationStatisticLoader().load(createShardingSphereData(), "logic_db", "other_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order").getRowCount(), is(7D));
+    }
+    
+    @Test
+    public void assertLoadFromCache() {
+        FederationStatisticLoader loader = new FederationStatisticLoader();
+        ShardingSphereData data = createShardingSphereData();
+        Map<String, FederationStatistic> expected = loader.load(data, "logic_db", "public");
+        data.getDatabaseData().clear();
+        assertThat(loader.load(data, "logic_db", "public"), is(expected));
+        assertTrue(loader.load(new ShardingSphereData(), "logic_db", "public").isEmpty());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.getTableData().put("sharding_table_statistics", createTableStatistics());
+        schemaData.getTableData().put("sharding_column_statistics", createColumnStatistics());
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.getSchemaData().put("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.getDatabaseData().put("shardingsphere", databaseData);
+        return result;
+    }
+    
+    private ShardingSphereTableData createTableStatistics() {
+        ShardingSphereTableData result = new ShardingSphereTableData("sharding_table_statistics");
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "logic_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), new BigDecimal("1024"), "public")));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "logic_db", "T_ORDER", "ds_1", "t_order_1", new BigDecimal("20"), new BigDecimal("2048"), "PUBLIC")));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "logic_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("-1"), new BigDecimal("0"), "public")));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "other_db", "t_user", "ds_0", "t_user", new BigDecimal("5"), new BigDecimal("512"), "public")));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "logic_db", "t_order", "ds_0", "t_order", new BigDecimal("7"), new BigDecimal("512"), "other_schema")));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(6, "logic_db", "t_order", "ds_0", "t_order", new BigDecimal("9"), new BigDecimal("512"))));
+        return result;
+    }
+    
+    private ShardingSphereTableData createColumnStatistics() {
+        ShardingSphereTableData result = new ShardingSphereTableData("sharding_column_statistics");
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "logic_db", "public", "t_order", "user_id", new BigDecimal("10"))));
+        result.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "logic_db", "other_schema", "t_order", "user_id", new BigDecimal("3"))));
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederationStatisticTest {
+    
+    @Test
+    public void assertGetRowCount() {
+        assertThat(new FederationStatistic(100D).getRowCount(), is(100D));
+        assertNull(new FederationStatistic().getRowCount());
+    }
+    
+    @Test
+    public void assertGetDistinctRowCount() {
+        RelNode relNode = mockRelNode();
+        RelMetadataQuery mq = mock(RelMetadataQuery.class);
+        when(mq.getRowCount(relNode)).thenReturn(100D);
+        when(mq.getSelectivity(relNode, null)).thenReturn(1D);
+        FederationStatistic statistic = new FederationStatistic(100D, Collections.singletonMap("user_id", 10D));
+        assertThat(statistic.getDistinctRowCount(relNode, mq, ImmutableBitSet.of(0), null), is(RelMdUtil.numDistinctVals(10D, 100D)));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCountWithUnknownColumn() {
+        RelNode relNode = mockRelNode();
+        FederationStatistic statistic = new FederationStatistic(100D, Collections.singletonMap("user_id", 10D));
+        assertNull(statistic.getDistinctRowCount(relNode, mock(RelMetadataQuery.class), ImmutableBitSet.of(0, 1), null));
+    }
+    
+    @Test
+    public void assertIsKey() {
+        assertFalse(new FederationStatistic(100D).isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    private RelNode mockRelNode() {
+        RelNode result = mock(RelNode.class, RETURNS_DEEP_STUBS);
+        when(result.getRowType().getFieldNames()).thenReturn(Arrays.asList("USER_ID", "status"));
+        return result;
+    }
+}
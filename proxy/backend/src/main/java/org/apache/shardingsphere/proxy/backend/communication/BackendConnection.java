@@ -24,6 +24,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionPinReason;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager;
@@ -66,9 +67,14 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     
     private final AtomicBoolean closed = new AtomicBoolean(false);
     
+    private final Collection<ConnectionPinReason> pinReasons = Collections.newSetFromMap(new ConcurrentHashMap<>(4));
+    
+    private volatile int replayedSessionVariablesVersion;
+    
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current database name is null.");
+        replaySessionVariablesIfChanged();
         Collection<Connection> connections;
         synchronized (cachedConnections) {
             connections = cachedConnections.get(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName);
@@ -93,6 +99,19 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         return result;
     }
     
+    private void replaySessionVariablesIfChanged() throws SQLException {
+        int sessionVariablesVersion = connectionSession.getRequiredSessionVariableRecorder().getVersion();
+        if (sessionVariablesVersion == replayedSessionVariablesVersion) {
+            return;
+        }
+        List<Connection> connections;
+        synchronized (cachedConnections) {
+            connections = new ArrayList<>(cachedConnections.values());
+        }
+        setSessionVariablesIfNecessary(connections);
+        replayedSessionVariablesVersion = sessionVariablesVersion;
+    }
+    
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
         setSessionVariablesIfNecessary(result);
@@ -189,6 +208,39 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         return cachedConnections.values().size();
     }
     
+    /**
+     * Add connection post processor, which is also applied to cached connections.
+     *
+     * @param connectionPostProcessor connection post processor to be added
+     */
+    public void addConnectionPostProcessor(final ConnectionPostProcessor connectionPostProcessor) {
+        connectionPostProcessors.add(connectionPostProcessor);
+        synchronized (cachedConnections) {
+            for (Connection each : cachedConnections.values()) {
+                connectionPostProcessor.process(each);
+            }
+        }
+    }
+    
+    /**
+     * Pin cached connections to connection session, so that they are kept across statements and transactions until session closed.
+     *
+     * @param reason reason of pinning
+     * @return true if connections were not pinned by the reason before
+     */
+    public boolean pin(final ConnectionPinReason reason) {
+        return pinReasons.add(reason);
+    }
+    
+    /**
+     * Judge whether cached connections are pinned to connection session.
+     *
+     * @return pinned or not
+     */
+    public boolean isPinned() {
+        return !pinReasons.isEmpty() && TransactionType.LOCAL == connectionSession.getTransactionStatus().getTransactionType();
+    }
+    
     /**
      * Add handler.
      *
@@ -291,7 +343,11 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
      * @return SQL exception when connections close
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
+        if (!forceRollback && isPinned()) {
+            return releasePinnedConnections();
+        }
         Collection<SQLException> result = new LinkedList<>();
+        pinReasons.clear();
         synchronized (cachedConnections) {
             resetSessionVariablesIfNecessary(cachedConnections.values(), result);
             for (Connection each : cachedConnections.values()) {
@@ -312,6 +368,25 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         return result;
     }
     
+    private Collection<SQLException> releasePinnedConnections() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (!connectionSession.getTransactionStatus().isInTransaction()) {
+            synchronized (cachedConnections) {
+                for (Connection each : cachedConnections.values()) {
+                    try {
+                        if (!each.getAutoCommit()) {
+                            each.setAutoCommit(true);
+                        }
+                    } catch (final SQLException ex) {
+                        result.add(ex);
+                    }
+                }
+            }
+        }
+        connectionPostProcessors.clear();
+        return result;
+    }
+    
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
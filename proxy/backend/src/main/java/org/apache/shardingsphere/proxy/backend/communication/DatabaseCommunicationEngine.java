@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.aware.CursorDefinitionAware;
 import org.apache.shardingsphere.infra.binder.decider.context.SQLFederationDeciderContext;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
@@ -55,6 +57,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyStreamQueryResult;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.RuleNotExistedException;
@@ -85,7 +88,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * Database communication engine.
@@ -98,6 +103,8 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final String driverType;
     
     private final ShardingSphereDatabase database;
@@ -152,33 +159,79 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add query result, which is not backed by result set.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
     /**
      * Execute to database.
      *
      * @return backend response
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public ResponseHeader execute() throws SQLException {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLFederationDeciderContext deciderContext = decide(queryContext, metaDataContexts.getMetaData().getProps(), database);
         if (deciderContext.isUseSQLFederation()) {
-            prepareFederationExecutor();
-            ResultSet resultSet = doExecuteFederation(queryContext, metaDataContexts);
-            return processExecuteFederation(resultSet, metaDataContexts);
+            return executeFederation(metaDataContexts);
         }
-        ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, database, metaDataContexts.getMetaData().getGlobalRuleMetaData(),
-                metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext());
+        ExecutionContext executionContext = generateExecutionContext(metaDataContexts);
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        List result = proxySQLExecutor.execute(executionContext);
+        return processExecuteResult(executionContext, proxySQLExecutor.execute(executionContext));
+    }
+    
+    /**
+     * Execute to database without waiting for storage units if supported.
+     *
+     * @param executor executor to process execute results if they are not ready immediately
+     * @return future of backend response
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public CompletableFuture<ResponseHeader> executeFuture(final Executor executor) throws SQLException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        SQLFederationDeciderContext deciderContext = decide(queryContext, metaDataContexts.getMetaData().getProps(), database);
+        if (deciderContext.isUseSQLFederation()) {
+            return CompletableFuture.completedFuture(executeFederation(metaDataContexts));
+        }
+        ExecutionContext executionContext = generateExecutionContext(metaDataContexts);
+        if (executionContext.getExecutionUnits().isEmpty()) {
+            return CompletableFuture.completedFuture(new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement()));
+        }
+        proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        CompletableFuture<List<ExecuteResult>> result = proxySQLExecutor.executeFuture(executionContext);
+        return result.isDone() && !result.isCompletedExceptionally()
+                ? CompletableFuture.completedFuture(processExecuteResult(executionContext, result.join()))
+                : result.thenApplyAsync(each -> processExecuteResult(executionContext, each), executor);
+    }
+    
+    private ResponseHeader executeFederation(final MetaDataContexts metaDataContexts) throws SQLException {
+        prepareFederationExecutor();
+        ResultSet resultSet = doExecuteFederation(queryContext, metaDataContexts);
+        return processExecuteFederation(resultSet, metaDataContexts);
+    }
+    
+    private ExecutionContext generateExecutionContext(final MetaDataContexts metaDataContexts) {
+        return new KernelProcessor().generateExecutionContext(queryContext, database, metaDataContexts.getMetaData().getGlobalRuleMetaData(),
+                metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext());
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SneakyThrows(SQLException.class)
+    private ResponseHeader processExecuteResult(final ExecutionContext executionContext, final List<ExecuteResult> executeResults) {
         refreshMetaData(executionContext);
-        Object executeResultSample = result.iterator().next();
+        Object executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(executionContext, result, (QueryResult) executeResultSample)
-                : processExecuteUpdate(executionContext, result);
+                ? processExecuteQuery(executionContext, (List) executeResults, (QueryResult) executeResultSample)
+                : processExecuteUpdate(executionContext, (List) executeResults);
     }
     
     private static SQLFederationDeciderContext decide(final QueryContext queryContext, final ConfigurationProperties props, final ShardingSphereDatabase database) {
@@ -335,6 +388,22 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         return null != mergedResult && mergedResult.next();
     }
     
+    @Override
+    public boolean isNextReady() {
+        for (QueryResult each : cachedQueryResults) {
+            if (each instanceof NettyStreamQueryResult && !((NettyStreamQueryResult) each).isNextReady()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public CompletableFuture<Void> awaitNextReady() {
+        return CompletableFuture.allOf(cachedQueryResults.stream()
+                .filter(NettyStreamQueryResult.class::isInstance).map(each -> ((NettyStreamQueryResult) each).awaitNextReady()).toArray(CompletableFuture[]::new));
+    }
+    
     /**
      * Get query response row.
      *
@@ -351,6 +420,13 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public void fillRowData(final Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+    }
+    
     /**
      * Close database communication engine.
      *
@@ -359,7 +435,9 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
+        result.addAll(closeQueryResults());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
         if (result.isEmpty()) {
@@ -383,6 +461,19 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         return result;
     }
     
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
@@ -397,6 +488,17 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         return result;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Optional<SQLException> closeFederationExecutor() {
         if (null != federationExecutor) {
             try {
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -33,12 +36,20 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    /**
+     * Use lock instead of synchronized block, because virtual thread which is blocked when getting connection in synchronized block will pin its carrier thread.
+     * Pinned virtual threads can be traced by JVM option {@code -Djdk.tracePinnedThreads=full}.
+     */
+    private static final LoadingCache<DataSource, Lock> DATA_SOURCE_LOCKS = CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(() -> new ReentrantLock()));
+    
     /**
      * Get connections.
      *
@@ -65,7 +76,6 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName);
@@ -82,8 +92,12 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
+        Lock lock = DATA_SOURCE_LOCKS.getUnchecked(dataSource);
+        lock.lock();
+        try {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        } finally {
+            lock.unlock();
         }
     }
     
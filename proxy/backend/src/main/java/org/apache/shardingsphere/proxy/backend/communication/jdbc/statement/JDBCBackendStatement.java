@@ -41,7 +41,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option, final DatabaseType databaseType) throws SQLException {
         Statement result = connection.createStatement();
         if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
-            setFetchSize(result, databaseType);
+            setFetchSize(result, databaseType, option.getFetchSize());
         }
         return result;
     }
@@ -63,14 +63,19 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
             }
         }
         if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
-            setFetchSize(result, databaseType);
+            setFetchSize(result, databaseType, option.getFetchSize());
         }
         return result;
     }
     
-    private void setFetchSize(final Statement statement, final DatabaseType databaseType) throws SQLException {
+    private void setFetchSize(final Statement statement, final DatabaseType databaseType, final int cursorFetchSize) throws SQLException {
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = StatementMemoryStrictlyFetchSizeSetterFactory.findInstance(databaseType.getType());
-        if (fetchSizeSetter.isPresent()) {
+        if (!fetchSizeSetter.isPresent()) {
+            return;
+        }
+        if (cursorFetchSize > 0) {
+            fetchSizeSetter.get().setCursorFetchSize(statement, cursorFetchSize);
+        } else {
             fetchSizeSetter.get().setFetchSize(statement);
         }
     }
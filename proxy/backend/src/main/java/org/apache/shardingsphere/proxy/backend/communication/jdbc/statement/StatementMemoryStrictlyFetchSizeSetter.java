@@ -36,4 +36,17 @@ public interface StatementMemoryStrictlyFetchSizeSetter extends TypedSPI {
      * @throws SQLException SQL exception
      */
     void setFetchSize(Statement statement) throws SQLException;
+    
+    /**
+     * Set fetch size of streaming cursor.
+     *
+     * <p>Storage types which can not fetch rows by cursor with specified fetch size keep using fetch size of memory strictly mode.</p>
+     *
+     * @param statement statement to be set
+     * @param fetchSize fetch size of streaming cursor
+     * @throws SQLException SQL exception
+     */
+    default void setCursorFetchSize(Statement statement, int fetchSize) throws SQLException {
+        setFetchSize(statement);
+    }
 }
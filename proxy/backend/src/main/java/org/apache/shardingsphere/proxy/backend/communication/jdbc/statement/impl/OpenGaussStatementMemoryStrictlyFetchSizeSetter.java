@@ -34,6 +34,11 @@ public final class OpenGaussStatementMemoryStrictlyFetchSizeSetter implements St
         delegated.setFetchSize(statement);
     }
     
+    @Override
+    public void setCursorFetchSize(final Statement statement, final int fetchSize) throws SQLException {
+        delegated.setCursorFetchSize(statement, fetchSize);
+    }
+    
     @Override
     public String getType() {
         return "openGauss";
@@ -36,6 +36,11 @@ public final class PostgreSQLStatementMemoryStrictlyFetchSizeSetter implements S
         statement.setFetchSize(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getDefaultValue().equals(String.valueOf(configuredFetchSize)) ? 1 : configuredFetchSize);
     }
     
+    @Override
+    public void setCursorFetchSize(final Statement statement, final int fetchSize) throws SQLException {
+        statement.setFetchSize(fetchSize);
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
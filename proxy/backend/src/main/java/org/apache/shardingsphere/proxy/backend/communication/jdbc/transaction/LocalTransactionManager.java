@@ -38,7 +38,7 @@ public final class LocalTransactionManager {
      * Begin transaction.
      */
     public void begin() {
-        connection.getConnectionPostProcessors().add(target -> {
+        connection.addConnectionPostProcessor(target -> {
             try {
                 target.setAutoCommit(false);
             } catch (final SQLException ex) {
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.AdaptiveRecvByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract netty backend channel.
+ * 
+ * <p>Fields about pending SQL are only accessed by event loop of channel, one channel executes one SQL at a time.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class AbstractNettyBackendChannel extends ChannelInboundHandlerAdapter implements NettyBackendChannel {
+    
+    static final int MAX_BYTES_PER_READ = 64 * 1024;
+    
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    
+    @Getter(AccessLevel.PROTECTED)
+    private final NettyBackendConnectInfo connectInfo;
+    
+    private final CompletableFuture<NettyBackendChannel> connectFuture = new CompletableFuture<>();
+    
+    private volatile Channel channel;
+    
+    private volatile boolean broken;
+    
+    private CompletableFuture<ExecuteResult> pendingResult;
+    
+    private NettyStreamQueryResult pendingQueryResult;
+    
+    private Runnable idleCallback;
+    
+    /**
+     * Connect to storage unit.
+     *
+     * @param eventLoopGroup event loop group
+     * @return future of connected channel, which is completed after authenticated
+     */
+    public final CompletableFuture<NettyBackendChannel> connect(final EventLoopGroup eventLoopGroup) {
+        new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+                .option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(64, 2048, MAX_BYTES_PER_READ))
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        channel = socketChannel;
+                        socketChannel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+                        initPipeline(socketChannel);
+                        socketChannel.pipeline().addLast(AbstractNettyBackendChannel.this);
+                    }
+                }).connect(connectInfo.getHost(), connectInfo.getPort()).addListener((ChannelFutureListener) future -> {
+                    if (future.isSuccess()) {
+                        future.channel().eventLoop().schedule(this::checkAuthenticated, CONNECT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    } else {
+                        broken = true;
+                        connectFuture.completeExceptionally(future.cause());
+                    }
+                });
+        return connectFuture;
+    }
+    
+    private void checkAuthenticated() {
+        if (!isConnected()) {
+            fail(new SQLException("Backend channel authentication timeout."));
+            channel.close();
+        }
+    }
+    
+    protected abstract void initPipeline(SocketChannel socketChannel);
+    
+    @Override
+    public final CompletableFuture<ExecuteResult> execute(final String sql, final Runnable idleCallback) {
+        CompletableFuture<ExecuteResult> result = new CompletableFuture<>();
+        channel.eventLoop().execute(() -> {
+            if (!isActive()) {
+                result.completeExceptionally(new SQLException("Backend channel is closed."));
+                idleCallback.run();
+                return;
+            }
+            pendingResult = result;
+            this.idleCallback = idleCallback;
+            writeQuery(channel, sql);
+        });
+        return result;
+    }
+    
+    protected abstract void writeQuery(Channel channel, String sql);
+    
+    protected final boolean isConnected() {
+        return connectFuture.isDone();
+    }
+    
+    protected final void connected() {
+        connectFuture.complete(this);
+    }
+    
+    protected final void completeUpdate(final UpdateResult updateResult) {
+        if (null != pendingResult) {
+            pendingResult.complete(updateResult);
+        }
+    }
+    
+    protected final void startQuery(final QueryResultMetaData metaData) {
+        pendingQueryResult = new NettyStreamQueryResult(metaData, channel);
+        if (null != pendingResult) {
+            pendingResult.complete(pendingQueryResult);
+        }
+    }
+    
+    protected final void addRow(final Object[] row) {
+        if (null != pendingQueryResult) {
+            pendingQueryResult.addRow(row);
+        }
+    }
+    
+    protected final void failCommand(final SQLException ex) {
+        if (null != pendingQueryResult) {
+            pendingQueryResult.fail(ex);
+            pendingQueryResult = null;
+        } else if (null != pendingResult) {
+            pendingResult.completeExceptionally(ex);
+        }
+    }
+    
+    protected final void finishCommand() {
+        if (null != pendingQueryResult) {
+            pendingQueryResult.finish();
+            pendingQueryResult = null;
+        }
+        if (null != pendingResult) {
+            pendingResult.complete(new UpdateResult(0, 0L));
+            pendingResult = null;
+        }
+        Runnable callback = idleCallback;
+        idleCallback = null;
+        if (null != callback) {
+            callback.run();
+        }
+    }
+    
+    @Override
+    public final void channelInactive(final ChannelHandlerContext ctx) {
+        fail(new SQLException("Backend channel is closed."));
+        ctx.fireChannelInactive();
+    }
+    
+    @Override
+    public final void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+        fail(cause instanceof SQLException ? (SQLException) cause : new SQLException(cause));
+        ctx.close();
+    }
+    
+    private void fail(final SQLException ex) {
+        broken = true;
+        connectFuture.completeExceptionally(ex);
+        failCommand(ex);
+        finishCommand();
+    }
+    
+    @Override
+    public final boolean isActive() {
+        return !broken && null != channel && channel.isActive();
+    }
+    
+    @Override
+    public final void close() {
+        broken = true;
+        if (null != channel) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Netty backend channel.
+ */
+public interface NettyBackendChannel {
+    
+    /**
+     * Execute SQL.
+     *
+     * @param sql SQL to be executed
+     * @param idleCallback callback to be invoked when response of SQL is fully received and channel can execute next SQL
+     * @return future of execute result, which is completed once update result or meta data of query result received
+     */
+    CompletableFuture<ExecuteResult> execute(String sql, Runnable idleCallback);
+    
+    /**
+     * Judge whether channel is active.
+     *
+     * @return channel is active or not
+     */
+    boolean isActive();
+    
+    /**
+     * Close channel.
+     */
+    void close();
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Netty backend channel pool of storage unit.
+ * 
+ * <p>Channels required by one acquisition are handed out all at once in order of acquisitions,
+ * so that queries which need several channels of one storage unit never hold part of channels and wait for each other.</p>
+ */
+@RequiredArgsConstructor
+public final class NettyBackendChannelPool {
+    
+    private final Supplier<CompletableFuture<NettyBackendChannel>> channelFactory;
+    
+    @Getter
+    private final int maxPoolSize;
+    
+    private final Deque<NettyBackendChannel> idleChannels = new LinkedList<>();
+    
+    private final Queue<PendingAcquisition> pendingAcquisitions = new LinkedList<>();
+    
+    private int allocatedSize;
+    
+    private boolean closed;
+    
+    /**
+     * Acquire channels.
+     *
+     * @param count count of channels to be acquired, no more than max pool size
+     * @return future of acquired channels
+     */
+    public CompletableFuture<List<NettyBackendChannel>> acquire(final int count) {
+        PendingAcquisition acquisition = new PendingAcquisition(Math.min(count, maxPoolSize));
+        synchronized (this) {
+            if (closed) {
+                acquisition.getFuture().completeExceptionally(new IllegalStateException("Netty backend channel pool is closed."));
+                return acquisition.getFuture();
+            }
+            pendingAcquisitions.add(acquisition);
+        }
+        dispatch();
+        return acquisition.getFuture();
+    }
+    
+    /**
+     * Release channel.
+     *
+     * @param channel channel to be released
+     */
+    public void release(final NettyBackendChannel channel) {
+        boolean reusable;
+        synchronized (this) {
+            reusable = !closed && channel.isActive();
+            if (reusable) {
+                idleChannels.push(channel);
+            } else {
+                allocatedSize--;
+            }
+        }
+        if (!reusable) {
+            channel.close();
+        }
+        dispatch();
+    }
+    
+    private void dispatch() {
+        Collection<Runnable> actions = new LinkedList<>();
+        synchronized (this) {
+            removeInactiveIdleChannels();
+            while (!pendingAcquisitions.isEmpty() && idleChannels.size() + maxPoolSize - allocatedSize >= pendingAcquisitions.peek().getCount()) {
+                PendingAcquisition acquisition = pendingAcquisitions.poll();
+                List<NettyBackendChannel> reusedChannels = new ArrayList<>(acquisition.getCount());
+                while (reusedChannels.size() < acquisition.getCount() && !idleChannels.isEmpty()) {
+                    reusedChannels.add(idleChannels.pop());
+                }
+                int newChannelCount = acquisition.getCount() - reusedChannels.size();
+                allocatedSize += newChannelCount;
+                actions.add(() -> createChannels(acquisition, reusedChannels, newChannelCount));
+            }
+        }
+        actions.forEach(Runnable::run);
+    }
+    
+    private void removeInactiveIdleChannels() {
+        Iterator<NettyBackendChannel> iterator = idleChannels.iterator();
+        while (iterator.hasNext()) {
+            NettyBackendChannel each = iterator.next();
+            if (!each.isActive()) {
+                iterator.remove();
+                allocatedSize--;
+                each.close();
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void createChannels(final PendingAcquisition acquisition, final List<NettyBackendChannel> reusedChannels, final int count) {
+        if (0 == count) {
+            acquisition.getFuture().complete(reusedChannels);
+            return;
+        }
+        CompletableFuture<NettyBackendChannel>[] futures = new CompletableFuture[count];
+        for (int i = 0; i < count; i++) {
+            futures[i] = channelFactory.get();
+        }
+        CompletableFuture.allOf(futures).whenComplete((unused, ex) -> {
+            List<NettyBackendChannel> channels = new ArrayList<>(reusedChannels);
+            int failedCount = 0;
+            for (CompletableFuture<NettyBackendChannel> each : futures) {
+                if (each.isCompletedExceptionally()) {
+                    failedCount++;
+                } else {
+                    channels.add(each.join());
+                }
+            }
+            if (null == ex) {
+                acquisition.getFuture().complete(channels);
+                return;
+            }
+            synchronized (this) {
+                allocatedSize -= failedCount;
+            }
+            channels.forEach(this::release);
+            acquisition.getFuture().completeExceptionally(ex);
+            dispatch();
+        });
+    }
+    
+    /**
+     * Close pool.
+     */
+    public void close() {
+        Collection<NettyBackendChannel> channels;
+        Collection<PendingAcquisition> acquisitions;
+        synchronized (this) {
+            closed = true;
+            channels = new ArrayList<>(idleChannels);
+            idleChannels.clear();
+            acquisitions = new ArrayList<>(pendingAcquisitions);
+            pendingAcquisitions.clear();
+        }
+        channels.forEach(NettyBackendChannel::close);
+        acquisitions.forEach(each -> each.getFuture().completeExceptionally(new IllegalStateException("Netty backend channel pool is closed.")));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingAcquisition {
+        
+        private final int count;
+        
+        private final CompletableFuture<List<NettyBackendChannel>> future = new CompletableFuture<>();
+    }
+}
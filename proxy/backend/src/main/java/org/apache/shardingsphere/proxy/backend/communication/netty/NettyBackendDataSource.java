@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendChannel;
+import org.apache.shardingsphere.proxy.backend.communication.netty.postgresql.PostgreSQLBackendChannel;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Backend data source of netty.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NettyBackendDataSource {
+    
+    private static final NettyBackendDataSource INSTANCE = new NettyBackendDataSource();
+    
+    private static final int DEFAULT_MAX_POOL_SIZE = 50;
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-Netty-Backend", true));
+    
+    private final LoadingCache<DataSource, NettyBackendChannelPool> channelPools = CacheBuilder.newBuilder().weakKeys()
+            .removalListener((RemovalNotification<DataSource, NettyBackendChannelPool> notification) -> notification.getValue().close())
+            .build(CacheLoader.from(this::createChannelPool));
+    
+    /**
+     * Get netty backend data source instance.
+     *
+     * @return netty backend data source instance
+     */
+    public static NettyBackendDataSource getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get channel pool.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return channel pool of storage unit
+     */
+    public NettyBackendChannelPool getChannelPool(final String databaseName, final String dataSourceName) {
+        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName);
+        Preconditions.checkNotNull(dataSource, "Can not get channel pool of datasource %s.", dataSourceName);
+        return channelPools.getUnchecked(dataSource);
+    }
+    
+    private NettyBackendChannelPool createChannelPool(final DataSource dataSource) {
+        Map<String, Object> props = DataSourcePropertiesCreator.create(dataSource).getAllStandardProperties();
+        String url = String.valueOf(props.get("url"));
+        String username = null == props.get("username") ? "" : String.valueOf(props.get("username"));
+        String password = null == props.get("password") ? "" : String.valueOf(props.get("password"));
+        DatabaseType databaseType = DatabaseTypeEngine.getDatabaseType(url);
+        DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(url, username);
+        NettyBackendConnectInfo connectInfo = new NettyBackendConnectInfo(dataSourceMetaData.getHostname(), dataSourceMetaData.getPort(), username, password, dataSourceMetaData.getCatalog());
+        Object maxPoolSize = props.get("maxPoolSize");
+        return new NettyBackendChannelPool(() -> connect(databaseType, connectInfo), null == maxPoolSize ? DEFAULT_MAX_POOL_SIZE : Integer.parseInt(String.valueOf(maxPoolSize)));
+    }
+    
+    private CompletableFuture<NettyBackendChannel> connect(final DatabaseType databaseType, final NettyBackendConnectInfo connectInfo) {
+        AbstractNettyBackendChannel channel = "PostgreSQL".equals(databaseType.getType()) ? new PostgreSQLBackendChannel(connectInfo) : new MySQLBackendChannel(connectInfo);
+        return channel.connect(eventLoopGroup);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
+import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Netty backend executor.
+ * 
+ * <p>Every execution unit is sent to storage unit by its own netty backend channel, neither executor threads nor command execute thread wait for storage units,
+ * so rows of every query result are flow controlled separately.</p>
+ */
+@RequiredArgsConstructor
+public final class NettyBackendExecutor {
+    
+    private final BackendConnection backendConnection;
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    /**
+     * Judge whether execution context can be executed by netty backend.
+     *
+     * @param executionContext execution context
+     * @param rules rules of database
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return can be executed by netty backend or not
+     */
+    public boolean isSupported(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules, final int maxConnectionsSizePerQuery) {
+        ConnectionSession connectionSession = backendConnection.getConnectionSession();
+        if (connectionSession.getTransactionStatus().isInTransaction() || !connectionSession.isAutoCommit() || !backendConnection.getConnectionPostProcessors().isEmpty()) {
+            return false;
+        }
+        if (connectionSession.getCursorFetchSize() > 0) {
+            return false;
+        }
+        if (!isSupportedStatement(executionContext.getSqlStatementContext()) || !executionContext.getQueryContext().getParameters().isEmpty()) {
+            return false;
+        }
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof RawExecutionRule) {
+                return false;
+            }
+        }
+        Map<String, DatabaseType> storageTypes = ProxyContext.getInstance().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData().getStorageTypes();
+        Map<String, Integer> unitCounts = new HashMap<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            if (!each.getSqlUnit().getParameters().isEmpty() || !isSupportedStorageType(storageTypes.get(each.getDataSourceName()))) {
+                return false;
+            }
+            unitCounts.merge(each.getDataSourceName(), 1, Integer::sum);
+        }
+        for (Entry<String, Integer> entry : unitCounts.entrySet()) {
+            int maxPoolSize = NettyBackendDataSource.getInstance().getChannelPool(connectionSession.getDatabaseName(), entry.getKey()).getMaxPoolSize();
+            if (entry.getValue() > Math.min(maxConnectionsSizePerQuery, maxPoolSize)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSupportedStatement(final SQLStatementContext<?> sqlStatementContext) {
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        if (sqlStatement instanceof SelectStatement) {
+            return sqlStatementContext instanceof SelectStatementContext && isMergedRowByRow((SelectStatementContext) sqlStatementContext);
+        }
+        return sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private boolean isMergedRowByRow(final SelectStatementContext selectStatementContext) {
+        // merged results which load more than one row of query result for one merged row may wait for rows which are not ready
+        return selectStatementContext.getGroupByContext().getItems().isEmpty() && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                && !selectStatementContext.getProjectionsContext().isDistinctRow() && 0L == selectStatementContext.getPaginationContext().getActualOffset();
+    }
+    
+    private boolean isSupportedStorageType(final DatabaseType storageType) {
+        return null != storageType && ("MySQL".equals(storageType.getType()) || "PostgreSQL".equals(storageType.getType()));
+    }
+    
+    /**
+     * Execute.
+     *
+     * @param executionContext execution context
+     * @return future of execute results, which is completed once every execution unit responds with update result or first row of query result
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<List<ExecuteResult>> execute(final ExecutionContext executionContext) {
+        String databaseName = backendConnection.getConnectionSession().getDatabaseName();
+        List<ExecutionUnit> executionUnits = new ArrayList<>(executionContext.getExecutionUnits());
+        CompletableFuture<ExecuteResult>[] results = new CompletableFuture[executionUnits.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new CompletableFuture<>();
+        }
+        CompletableFuture<Void> dispatched = CompletableFuture.completedFuture(null);
+        for (Entry<String, List<Integer>> entry : groupByDataSource(executionUnits).entrySet()) {
+            NettyBackendChannelPool channelPool = NettyBackendDataSource.getInstance().getChannelPool(databaseName, entry.getKey());
+            // acquire channels of next storage unit after channels of previous one acquired to avoid dead lock between concurrent queries
+            dispatched = dispatched.thenCompose(unused -> channelPool.acquire(entry.getValue().size()))
+                    .thenAccept(channels -> executeOnChannels(channelPool, channels, executionUnits, entry.getValue(), results));
+        }
+        return dispatched.thenCompose(unused -> CompletableFuture.allOf(results)).thenApply(unused -> Arrays.stream(results).map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+    
+    private Map<String, List<Integer>> groupByDataSource(final List<ExecutionUnit> executionUnits) {
+        Map<String, List<Integer>> result = new TreeMap<>();
+        int index = 0;
+        for (ExecutionUnit each : executionUnits) {
+            result.computeIfAbsent(each.getDataSourceName(), unused -> new LinkedList<>()).add(index++);
+        }
+        return result;
+    }
+    
+    private void executeOnChannels(final NettyBackendChannelPool channelPool, final List<NettyBackendChannel> channels, final List<ExecutionUnit> executionUnits,
+                                   final List<Integer> unitIndexes, final CompletableFuture<ExecuteResult>[] results) {
+        int channelIndex = 0;
+        for (int each : unitIndexes) {
+            NettyBackendChannel channel = channels.get(channelIndex++);
+            channel.execute(executionUnits.get(each).getSqlUnit().getSql(), () -> channelPool.release(channel)).whenComplete((executeResult, ex) -> {
+                if (null != ex) {
+                    results[each].completeExceptionally(ex);
+                } else if (executeResult instanceof NettyStreamQueryResult) {
+                    databaseCommunicationEngine.add((NettyStreamQueryResult) executeResult);
+                    ((NettyStreamQueryResult) executeResult).awaitNextReady().thenRun(() -> results[each].complete(executeResult));
+                } else {
+                    results[each].complete(executeResult);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Netty query result for stream loading.
+ * 
+ * <p>Rows are decoded by event loop of backend channel and consumed by command execute thread without blocking,
+ * consumer should wait for {@link #awaitNextReady()} while {@link #isNextReady()} is false.
+ * Auto read of backend channel is turned off while too many rows are not consumed, rows are buffered by a bounded queue,
+ * which is large enough to hold rows decoded from the last read after auto read turned off.</p>
+ */
+public final class NettyStreamQueryResult extends AbstractStreamQueryResult {
+    
+    private static final int HIGH_WATER_MARK = 4096;
+    
+    private static final int LOW_WATER_MARK = 1024;
+    
+    private static final int MIN_ROW_BYTES = 5;
+    
+    private static final int CAPACITY = HIGH_WATER_MARK + AbstractNettyBackendChannel.MAX_BYTES_PER_READ / MIN_ROW_BYTES;
+    
+    private volatile Channel channel;
+    
+    private final BlockingQueue<Object[]> rows = new ArrayBlockingQueue<>(CAPACITY);
+    
+    private final AtomicReference<CompletableFuture<Void>> nextReadyFuture = new AtomicReference<>();
+    
+    private volatile SQLException failure;
+    
+    private volatile boolean finished;
+    
+    private volatile boolean closed;
+    
+    private boolean consumed;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public NettyStreamQueryResult(final QueryResultMetaData metaData, final Channel channel) {
+        super(metaData);
+        this.channel = channel;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row values
+     */
+    public void addRow(final Object[] row) {
+        if (closed || finished) {
+            return;
+        }
+        if (!rows.offer(row)) {
+            fail(new SQLException(String.format("Too many rows of query result are not consumed, at most %d rows can be buffered.", CAPACITY)));
+            return;
+        }
+        notifyNextReady();
+        Channel attachedChannel = channel;
+        if (null != attachedChannel && rows.size() >= HIGH_WATER_MARK && attachedChannel.config().isAutoRead()) {
+            attachedChannel.config().setAutoRead(false);
+        }
+    }
+    
+    /**
+     * Finish adding rows.
+     */
+    public void finish() {
+        finished = true;
+        detachChannel();
+        notifyNextReady();
+    }
+    
+    /**
+     * Finish adding rows with failure.
+     *
+     * @param ex SQL exception
+     */
+    public void fail(final SQLException ex) {
+        if (null == failure) {
+            failure = ex;
+        }
+        finish();
+    }
+    
+    private void detachChannel() {
+        Channel attachedChannel = channel;
+        channel = null;
+        if (null != attachedChannel && !attachedChannel.config().isAutoRead()) {
+            attachedChannel.config().setAutoRead(true);
+        }
+    }
+    
+    private void notifyNextReady() {
+        if (null == nextReadyFuture.get()) {
+            return;
+        }
+        CompletableFuture<Void> future = nextReadyFuture.getAndSet(null);
+        if (null != future) {
+            future.complete(null);
+        }
+    }
+    
+    /**
+     * Judge whether next row can be got without waiting for storage unit.
+     *
+     * @return next row is ready or not
+     */
+    public boolean isNextReady() {
+        return consumed || finished || !rows.isEmpty();
+    }
+    
+    /**
+     * Await next row ready.
+     *
+     * @return future which is completed once next row is ready, it is completed by event loop of backend channel
+     */
+    public CompletableFuture<Void> awaitNextReady() {
+        if (isNextReady()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        nextReadyFuture.set(result);
+        // row may be added before future is set
+        if (isNextReady()) {
+            notifyNextReady();
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (consumed) {
+            return false;
+        }
+        Object[] row = rows.poll();
+        if (null == row) {
+            if (!finished) {
+                throw new SQLException("Next row of query result is not ready, please await next ready before getting it.");
+            }
+            // rows are added before finished flag is set
+            row = rows.poll();
+        }
+        if (null == row) {
+            consumed = true;
+            currentRow = null;
+            if (null != failure) {
+                throw failure;
+            }
+            return false;
+        }
+        currentRow = row;
+        resumeReadIfNecessary();
+        return true;
+    }
+    
+    private void resumeReadIfNecessary() {
+        Channel attachedChannel = channel;
+        if (null != attachedChannel && rows.size() <= LOW_WATER_MARK && !attachedChannel.config().isAutoRead()) {
+            attachedChannel.config().setAutoRead(true);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = currentRow[columnIndex - 1];
+        wasNull = null == value;
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Get %s input stream from `%s` value", type, value.getClass().getSimpleName()));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        consumed = true;
+        rows.clear();
+        detachChannel();
+        notifyNextReady();
+    }
+}
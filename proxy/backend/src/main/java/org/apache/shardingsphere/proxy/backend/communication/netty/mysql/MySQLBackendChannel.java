@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLNegotiateHandler;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLNegotiatePackageDecoder;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.proxy.backend.communication.netty.AbstractNettyBackendChannel;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyBackendConnectInfo;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Netty backend channel of MySQL, which executes SQL by text protocol.
+ */
+public final class MySQLBackendChannel extends AbstractNettyBackendChannel {
+    
+    private static final int NULL_VALUE = 0xfb;
+    
+    private static final int MAX_EOF_PACKET_LENGTH = 9;
+    
+    private static final int NOT_NULL_FLAG = 0x0001;
+    
+    private static final int UNSIGNED_FLAG = 0x0020;
+    
+    private static final int AUTO_INCREMENT_FLAG = 0x0200;
+    
+    private ResponseState state = ResponseState.RESPONSE;
+    
+    private List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private int[] columnTypes;
+    
+    public MySQLBackendChannel(final NettyBackendConnectInfo connectInfo) {
+        super(connectInfo);
+    }
+    
+    @Override
+    protected void initPipeline(final SocketChannel socketChannel) {
+        socketChannel.attr(MySQLConstants.MYSQL_SEQUENCE_ID).set(new AtomicInteger());
+        Promise<Object> authResultCallback = new DefaultPromise<>(socketChannel.eventLoop());
+        authResultCallback.addListener(future -> {
+            if (future.isSuccess()) {
+                initDatabase(socketChannel);
+            }
+        });
+        socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+        socketChannel.pipeline().addLast(new MySQLNegotiatePackageDecoder());
+        socketChannel.pipeline().addLast(new MySQLNegotiateHandler(getConnectInfo().getUsername(), getConnectInfo().getPassword(), authResultCallback));
+    }
+    
+    private void initDatabase(final Channel channel) {
+        String database = getConnectInfo().getDatabase();
+        if (null == database || database.isEmpty()) {
+            connected();
+            return;
+        }
+        writeQuery(channel, "USE `" + database + "`");
+    }
+    
+    @Override
+    protected void writeQuery(final Channel channel, final String sql) {
+        channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(0);
+        channel.writeAndFlush(new MySQLComQueryPacket(sql, true));
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws SQLException {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) msg, ctx.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get())) {
+            switch (state) {
+                case COLUMN_DEFINITION:
+                    handleColumnDefinition(payload);
+                    break;
+                case ROW:
+                    handleRow(payload);
+                    break;
+                default:
+                    handleResponse(payload);
+            }
+        }
+    }
+    
+    private void handleResponse(final MySQLPacketPayload payload) throws SQLException {
+        int header = getHeader(payload);
+        if (MySQLErrPacket.HEADER == header) {
+            SQLException ex = toSQLException(new MySQLErrPacket(payload));
+            if (!isConnected()) {
+                throw ex;
+            }
+            failCommand(ex);
+            finishCommand();
+            return;
+        }
+        if (MySQLOKPacket.HEADER == header) {
+            MySQLOKPacket okPacket = new MySQLOKPacket(payload);
+            if (!isConnected()) {
+                connected();
+                return;
+            }
+            completeUpdate(new UpdateResult((int) okPacket.getAffectedRows(), okPacket.getLastInsertId()));
+            finishCommand();
+            return;
+        }
+        int columnCount = (int) payload.readIntLenenc();
+        columnDefinitions = new ArrayList<>(columnCount);
+        state = ResponseState.COLUMN_DEFINITION;
+    }
+    
+    private void handleColumnDefinition(final MySQLPacketPayload payload) {
+        if (isEofPacket(payload)) {
+            new MySQLEofPacket(payload);
+            state = ResponseState.ROW;
+            startQuery(createQueryResultMetaData());
+            return;
+        }
+        columnDefinitions.add(new MySQLColumnDefinition41Packet(payload));
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData() {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnDefinitions.size());
+        columnTypes = new int[columnDefinitions.size()];
+        int index = 0;
+        for (MySQLColumnDefinition41Packet each : columnDefinitions) {
+            int columnType = MySQLBackendValueDecoder.getJDBCType(each.getColumnType(), each.getCharacterSet());
+            columnTypes[index++] = columnType;
+            String columnName = each.getOrgName().isEmpty() ? each.getName() : each.getOrgName();
+            columns.add(new RawQueryResultColumnMetaData(each.getOrgTable(), columnName, each.getName(), columnType, each.getColumnType().name().substring("MYSQL_TYPE_".length()),
+                    each.getColumnLength(), each.getDecimals(), isSigned(columnType, each.getFlags()), 0 != (each.getFlags() & NOT_NULL_FLAG), 0 != (each.getFlags() & AUTO_INCREMENT_FLAG)));
+        }
+        return new RawQueryResultMetaData(columns);
+    }
+    
+    private boolean isSigned(final int columnType, final int flags) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return 0 == (flags & UNSIGNED_FLAG);
+            default:
+                return false;
+        }
+    }
+    
+    private void handleRow(final MySQLPacketPayload payload) {
+        if (isEofPacket(payload)) {
+            new MySQLEofPacket(payload);
+            state = ResponseState.RESPONSE;
+            finishCommand();
+            return;
+        }
+        if (MySQLErrPacket.HEADER == getHeader(payload)) {
+            failCommand(toSQLException(new MySQLErrPacket(payload)));
+            state = ResponseState.RESPONSE;
+            finishCommand();
+            return;
+        }
+        Charset charset = payload.getCharset();
+        Object[] row = new Object[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            if (NULL_VALUE == getHeader(payload)) {
+                payload.skipReserved(1);
+                continue;
+            }
+            boolean unsigned = 0 != (columnDefinitions.get(i).getFlags() & UNSIGNED_FLAG);
+            row[i] = MySQLBackendValueDecoder.decode(columnTypes[i], unsigned, payload.readStringLenencByBytes(), charset);
+        }
+        addRow(row);
+    }
+    
+    private int getHeader(final MySQLPacketPayload payload) {
+        return payload.getByteBuf().getByte(payload.getByteBuf().readerIndex()) & 0xff;
+    }
+    
+    private boolean isEofPacket(final MySQLPacketPayload payload) {
+        return MySQLEofPacket.HEADER == getHeader(payload) && payload.getByteBuf().readableBytes() < MAX_EOF_PACKET_LENGTH;
+    }
+    
+    private SQLException toSQLException(final MySQLErrPacket errPacket) {
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    private enum ResponseState {
+        
+        RESPONSE, COLUMN_DEFINITION, ROW
+    }
+}
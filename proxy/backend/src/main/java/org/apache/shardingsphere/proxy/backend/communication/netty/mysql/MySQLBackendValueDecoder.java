@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.function.Function;
+
+/**
+ * Value decoder of MySQL text protocol for netty backend.
+ * 
+ * <p>JDBC types and Java types of values are consistent with MySQL Connector/J, so that query results can be merged as the same as JDBC query results.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLBackendValueDecoder {
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    /**
+     * Get JDBC type.
+     *
+     * @param columnType column type
+     * @param characterSet character set of column
+     * @return JDBC type
+     */
+    public static int getJDBCType(final MySQLBinaryColumnType columnType, final int characterSet) {
+        boolean binary = BINARY_CHARACTER_SET == characterSet;
+        switch (columnType) {
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_TINY:
+                return Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_YEAR:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_FLOAT:
+                return Types.REAL;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_TIMESTAMP2:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_DATETIME2:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+            case MYSQL_TYPE_TIME2:
+                return Types.TIME;
+            case MYSQL_TYPE_BIT:
+                return Types.BIT;
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+                return binary ? Types.VARBINARY : Types.VARCHAR;
+            case MYSQL_TYPE_STRING:
+                return binary ? Types.BINARY : Types.CHAR;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+                return binary ? Types.LONGVARBINARY : Types.LONGVARCHAR;
+            case MYSQL_TYPE_GEOMETRY:
+                return Types.BINARY;
+            case MySQL_TYPE_JSON:
+                return Types.LONGVARCHAR;
+            default:
+                return Types.CHAR;
+        }
+    }
+    
+    /**
+     * Decode value.
+     *
+     * @param jdbcType JDBC type of column
+     * @param unsigned whether column is unsigned
+     * @param value value in text protocol
+     * @param charset charset
+     * @return decoded value
+     */
+    public static Object decode(final int jdbcType, final boolean unsigned, final byte[] value, final Charset charset) {
+        if (Types.BIT == jdbcType || Types.BINARY == jdbcType || Types.VARBINARY == jdbcType || Types.LONGVARBINARY == jdbcType) {
+            return value;
+        }
+        String text = new String(value, charset);
+        switch (jdbcType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return Integer.parseInt(text);
+            case Types.INTEGER:
+                return unsigned ? (Object) Long.parseLong(text) : (Object) Integer.parseInt(text);
+            case Types.BIGINT:
+                return unsigned ? new BigInteger(text) : (Object) Long.parseLong(text);
+            case Types.DECIMAL:
+                return new BigDecimal(text);
+            case Types.REAL:
+                return Float.parseFloat(text);
+            case Types.DOUBLE:
+                return Double.parseDouble(text);
+            case Types.DATE:
+                return decodeTemporal(text, Date::valueOf);
+            case Types.TIME:
+                return decodeTemporal(text, Time::valueOf);
+            case Types.TIMESTAMP:
+                return decodeTemporal(text, Timestamp::valueOf);
+            default:
+                return text;
+        }
+    }
+    
+    private static Object decodeTemporal(final String text, final Function<String, Object> decoder) {
+        try {
+            return decoder.apply(text);
+        } catch (final IllegalArgumentException ignored) {
+            return text;
+        }
+    }
+}
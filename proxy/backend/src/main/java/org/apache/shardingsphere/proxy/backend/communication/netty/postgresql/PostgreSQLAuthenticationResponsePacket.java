@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Authentication response (frontend) packet for PostgreSQL netty backend, which is one of PasswordMessage, SASLInitialResponse and SASLResponse.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLAuthenticationResponsePacket implements PostgreSQLIdentifierPacket {
+    
+    private final String password;
+    
+    private final String saslMechanism;
+    
+    private final String saslData;
+    
+    /**
+     * Create PasswordMessage packet.
+     *
+     * @param password cleartext or MD5 encrypted password
+     * @return created packet
+     */
+    public static PostgreSQLAuthenticationResponsePacket newPasswordMessage(final String password) {
+        return new PostgreSQLAuthenticationResponsePacket(password, null, null);
+    }
+    
+    /**
+     * Create SASLInitialResponse packet.
+     *
+     * @param saslMechanism SASL mechanism
+     * @param saslData SASL mechanism specific initial response
+     * @return created packet
+     */
+    public static PostgreSQLAuthenticationResponsePacket newSASLInitialResponse(final String saslMechanism, final String saslData) {
+        return new PostgreSQLAuthenticationResponsePacket(null, saslMechanism, saslData);
+    }
+    
+    /**
+     * Create SASLResponse packet.
+     *
+     * @param saslData SASL mechanism specific message data
+     * @return created packet
+     */
+    public static PostgreSQLAuthenticationResponsePacket newSASLResponse(final String saslData) {
+        return new PostgreSQLAuthenticationResponsePacket(null, null, saslData);
+    }
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload) {
+        if (null != password) {
+            payload.writeStringNul(password);
+            return;
+        }
+        byte[] data = saslData.getBytes(StandardCharsets.UTF_8);
+        if (null != saslMechanism) {
+            payload.writeStringNul(saslMechanism);
+            payload.writeInt4(data.length);
+        }
+        payload.writeBytes(data);
+    }
+    
+    @Override
+    public PostgreSQLIdentifierTag getIdentifier() {
+        return PostgreSQLCommandPacketType.PASSWORD;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.proxy.backend.communication.netty.AbstractNettyBackendChannel;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyBackendConnectInfo;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Netty backend channel of PostgreSQL, which executes SQL by simple query protocol.
+ */
+public final class PostgreSQLBackendChannel extends AbstractNettyBackendChannel {
+    
+    private static final int LENGTH_FIELD_OFFSET = 1;
+    
+    private static final int LENGTH_FIELD_LENGTH = 4;
+    
+    private static final int AUTH_OK = 0;
+    
+    private static final int AUTH_CLEARTEXT_PASSWORD = 3;
+    
+    private static final int AUTH_MD5_PASSWORD = 5;
+    
+    private static final int AUTH_SASL = 10;
+    
+    private static final int AUTH_SASL_CONTINUE = 11;
+    
+    private static final int AUTH_SASL_FINAL = 12;
+    
+    private static final int MD5_SALT_LENGTH = 4;
+    
+    private static final int VARIABLE_HEADER_SIZE = 4;
+    
+    private PostgreSQLScramSHA256Authenticator scramAuthenticator;
+    
+    private int[] columnTypes;
+    
+    private boolean queryStarted;
+    
+    public PostgreSQLBackendChannel(final NettyBackendConnectInfo connectInfo) {
+        super(connectInfo);
+    }
+    
+    @Override
+    protected void initPipeline(final SocketChannel socketChannel) {
+        socketChannel.pipeline().addLast(new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, LENGTH_FIELD_OFFSET, LENGTH_FIELD_LENGTH, -LENGTH_FIELD_LENGTH, 0));
+        socketChannel.pipeline().addLast(new PostgreSQLBackendPacketEncoder());
+    }
+    
+    @Override
+    public void channelActive(final ChannelHandlerContext ctx) {
+        ctx.writeAndFlush(new PostgreSQLStartupMessagePacket(getConnectInfo().getUsername(), getConnectInfo().getDatabase()));
+        ctx.fireChannelActive();
+    }
+    
+    @Override
+    protected void writeQuery(final Channel channel, final String sql) {
+        channel.writeAndFlush(new PostgreSQLSimpleQueryMessagePacket(sql));
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws SQLException {
+        ByteBuf byteBuf = (ByteBuf) msg;
+        try {
+            char type = (char) byteBuf.readByte();
+            byteBuf.skipBytes(LENGTH_FIELD_LENGTH);
+            handleMessage(ctx, type, byteBuf);
+        } finally {
+            byteBuf.release();
+        }
+    }
+    
+    private void handleMessage(final ChannelHandlerContext ctx, final char type, final ByteBuf byteBuf) throws SQLException {
+        switch (type) {
+            case 'R':
+                handleAuthentication(ctx, byteBuf);
+                break;
+            case 'E':
+                handleErrorResponse(byteBuf);
+                break;
+            case 'T':
+                handleRowDescription(byteBuf);
+                break;
+            case 'D':
+                handleDataRow(byteBuf);
+                break;
+            case 'C':
+                handleCommandComplete(byteBuf);
+                break;
+            case 'I':
+                completeUpdate(new UpdateResult(0, 0L));
+                break;
+            case 'Z':
+                handleReadyForQuery();
+                break;
+            default:
+                // ParameterStatus, BackendKeyData, NoticeResponse and other asynchronous messages are ignored
+                break;
+        }
+    }
+    
+    private void handleAuthentication(final ChannelHandlerContext ctx, final ByteBuf byteBuf) throws SQLException {
+        int authType = byteBuf.readInt();
+        switch (authType) {
+            case AUTH_OK:
+                break;
+            case AUTH_CLEARTEXT_PASSWORD:
+                ctx.writeAndFlush(PostgreSQLAuthenticationResponsePacket.newPasswordMessage(getConnectInfo().getPassword()));
+                break;
+            case AUTH_MD5_PASSWORD:
+                byte[] salt = new byte[MD5_SALT_LENGTH];
+                byteBuf.readBytes(salt);
+                ctx.writeAndFlush(PostgreSQLAuthenticationResponsePacket.newPasswordMessage(encryptMD5Password(getConnectInfo().getUsername(), getConnectInfo().getPassword(), salt)));
+                break;
+            case AUTH_SASL:
+                if (!readSASLMechanisms(byteBuf).contains(PostgreSQLScramSHA256Authenticator.MECHANISM)) {
+                    throw new SQLException("Unsupported SASL mechanisms of backend PostgreSQL.");
+                }
+                scramAuthenticator = new PostgreSQLScramSHA256Authenticator(getConnectInfo().getPassword());
+                ctx.writeAndFlush(PostgreSQLAuthenticationResponsePacket.newSASLInitialResponse(PostgreSQLScramSHA256Authenticator.MECHANISM, scramAuthenticator.getClientFirstMessage()));
+                break;
+            case AUTH_SASL_CONTINUE:
+                String serverFirstMessage = byteBuf.toString(StandardCharsets.UTF_8);
+                ctx.writeAndFlush(PostgreSQLAuthenticationResponsePacket.newSASLResponse(scramAuthenticator.getClientFinalMessage(serverFirstMessage)));
+                break;
+            case AUTH_SASL_FINAL:
+                scramAuthenticator.verifyServerFinalMessage(byteBuf.toString(StandardCharsets.UTF_8));
+                break;
+            default:
+                throw new SQLException(String.format("Unsupported authentication type `%d` of backend PostgreSQL.", authType));
+        }
+    }
+    
+    private List<String> readSASLMechanisms(final ByteBuf byteBuf) {
+        List<String> result = new ArrayList<>();
+        while (0 != byteBuf.getByte(byteBuf.readerIndex())) {
+            result.add(readStringNul(byteBuf));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private String encryptMD5Password(final String username, final String password, final byte[] salt) {
+        MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+        String passwordHash = ByteBufUtil.hexDump(messageDigest.digest((password + username).getBytes(StandardCharsets.UTF_8)));
+        messageDigest.update(passwordHash.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update(salt);
+        return "md5" + ByteBufUtil.hexDump(messageDigest.digest());
+    }
+    
+    private void handleErrorResponse(final ByteBuf byteBuf) throws SQLException {
+        String message = null;
+        String sqlState = null;
+        while (0 != byteBuf.getByte(byteBuf.readerIndex())) {
+            byte fieldType = byteBuf.readByte();
+            String value = readStringNul(byteBuf);
+            if ('M' == fieldType) {
+                message = value;
+            } else if ('C' == fieldType) {
+                sqlState = value;
+            }
+        }
+        SQLException ex = new SQLException(message, sqlState);
+        if (!isConnected()) {
+            throw ex;
+        }
+        failCommand(ex);
+    }
+    
+    private void handleRowDescription(final ByteBuf byteBuf) {
+        int columnCount = byteBuf.readUnsignedShort();
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnCount);
+        columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            String columnName = readStringNul(byteBuf);
+            byteBuf.skipBytes(6);
+            int typeOid = byteBuf.readInt();
+            columnTypes[i] = PostgreSQLBackendValueDecoder.getJDBCType(typeOid);
+            columns.add(createColumnMetaData(columnName, typeOid, byteBuf.readShort(), byteBuf.readInt()));
+            byteBuf.skipBytes(2);
+        }
+        queryStarted = true;
+        startQuery(new RawQueryResultMetaData(columns));
+    }
+    
+    private RawQueryResultColumnMetaData createColumnMetaData(final String columnName, final int typeOid, final int typeLength, final int typeModifier) {
+        int columnType = PostgreSQLBackendValueDecoder.getJDBCType(typeOid);
+        return new RawQueryResultColumnMetaData("", columnName, columnName, columnType, PostgreSQLBackendValueDecoder.getTypeName(typeOid),
+                getColumnLength(columnType, typeLength, typeModifier), getDecimals(columnType, typeModifier), isSigned(columnType), false, false);
+    }
+    
+    private int getColumnLength(final int columnType, final int typeLength, final int typeModifier) {
+        if (typeModifier < VARIABLE_HEADER_SIZE) {
+            return Math.max(typeLength, 0);
+        }
+        return Types.NUMERIC == columnType ? ((typeModifier - VARIABLE_HEADER_SIZE) >> 16) & 0xffff : typeModifier - VARIABLE_HEADER_SIZE;
+    }
+    
+    private int getDecimals(final int columnType, final int typeModifier) {
+        return Types.NUMERIC == columnType && typeModifier >= VARIABLE_HEADER_SIZE ? (typeModifier - VARIABLE_HEADER_SIZE) & 0xffff : 0;
+    }
+    
+    private boolean isSigned(final int columnType) {
+        switch (columnType) {
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private void handleDataRow(final ByteBuf byteBuf) {
+        int columnCount = byteBuf.readUnsignedShort();
+        Charset charset = StandardCharsets.UTF_8;
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            int length = byteBuf.readInt();
+            if (length < 0) {
+                continue;
+            }
+            byte[] value = new byte[length];
+            byteBuf.readBytes(value);
+            row[i] = PostgreSQLBackendValueDecoder.decode(columnTypes[i], value, charset);
+        }
+        addRow(row);
+    }
+    
+    private void handleCommandComplete(final ByteBuf byteBuf) {
+        if (queryStarted) {
+            return;
+        }
+        String commandTag = readStringNul(byteBuf);
+        int index = commandTag.lastIndexOf(' ');
+        String count = commandTag.substring(index + 1);
+        completeUpdate(new UpdateResult(index > 0 && !count.isEmpty() && Character.isDigit(count.charAt(0)) ? Integer.parseInt(count) : 0, 0L));
+    }
+    
+    private void handleReadyForQuery() {
+        queryStarted = false;
+        if (isConnected()) {
+            finishCommand();
+        } else {
+            connected();
+        }
+    }
+    
+    private String readStringNul(final ByteBuf byteBuf) {
+        String result = byteBuf.readCharSequence(byteBuf.bytesBefore((byte) 0), StandardCharsets.UTF_8).toString();
+        byteBuf.skipBytes(1);
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import io.netty.buffer.ByteBufUtil;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.function.Function;
+
+/**
+ * Value decoder of PostgreSQL text format for netty backend.
+ * 
+ * <p>JDBC types and Java types of values are consistent with PostgreSQL JDBC driver, so that query results can be merged as the same as JDBC query results.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLBackendValueDecoder {
+    
+    private static final String BYTEA_HEX_PREFIX = "\\x";
+    
+    /**
+     * Get JDBC type.
+     *
+     * @param typeOid type OID of column
+     * @return JDBC type
+     */
+    public static int getJDBCType(final int typeOid) {
+        switch (typeOid) {
+            case 16:
+                return Types.BIT;
+            case 17:
+                return Types.BINARY;
+            case 18:
+            case 1042:
+                return Types.CHAR;
+            case 19:
+            case 25:
+            case 1043:
+                return Types.VARCHAR;
+            case 20:
+            case 26:
+                return Types.BIGINT;
+            case 21:
+                return Types.SMALLINT;
+            case 23:
+                return Types.INTEGER;
+            case 700:
+                return Types.REAL;
+            case 701:
+                return Types.DOUBLE;
+            case 1082:
+                return Types.DATE;
+            case 1083:
+            case 1266:
+                return Types.TIME;
+            case 1114:
+            case 1184:
+                return Types.TIMESTAMP;
+            case 1700:
+                return Types.NUMERIC;
+            default:
+                return Types.OTHER;
+        }
+    }
+    
+    /**
+     * Get type name.
+     *
+     * @param typeOid type OID of column
+     * @return type name
+     */
+    public static String getTypeName(final int typeOid) {
+        switch (typeOid) {
+            case 16:
+                return "bool";
+            case 17:
+                return "bytea";
+            case 18:
+                return "char";
+            case 19:
+                return "name";
+            case 20:
+                return "int8";
+            case 21:
+                return "int2";
+            case 23:
+                return "int4";
+            case 25:
+                return "text";
+            case 26:
+                return "oid";
+            case 700:
+                return "float4";
+            case 701:
+                return "float8";
+            case 1042:
+                return "bpchar";
+            case 1043:
+                return "varchar";
+            case 1082:
+                return "date";
+            case 1083:
+                return "time";
+            case 1114:
+                return "timestamp";
+            case 1184:
+                return "timestamptz";
+            case 1266:
+                return "timetz";
+            case 1700:
+                return "numeric";
+            default:
+                return "unknown";
+        }
+    }
+    
+    /**
+     * Decode value.
+     *
+     * @param jdbcType JDBC type of column
+     * @param value value in text format
+     * @param charset charset
+     * @return decoded value
+     */
+    public static Object decode(final int jdbcType, final byte[] value, final Charset charset) {
+        String text = new String(value, charset);
+        switch (jdbcType) {
+            case Types.BIT:
+                return "t".equals(text);
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.parseInt(text);
+            case Types.BIGINT:
+                return Long.parseLong(text);
+            case Types.NUMERIC:
+                return decodeValue(text, BigDecimal::new);
+            case Types.REAL:
+                return decodeValue(text, Float::parseFloat);
+            case Types.DOUBLE:
+                return decodeValue(text, Double::parseDouble);
+            case Types.DATE:
+                return decodeValue(text, Date::valueOf);
+            case Types.TIME:
+                return decodeValue(text, Time::valueOf);
+            case Types.TIMESTAMP:
+                return decodeValue(text, Timestamp::valueOf);
+            case Types.BINARY:
+                return text.startsWith(BYTEA_HEX_PREFIX) ? ByteBufUtil.decodeHexDump(text, BYTEA_HEX_PREFIX.length(), text.length() - BYTEA_HEX_PREFIX.length()) : value;
+            default:
+                return text;
+        }
+    }
+    
+    private static Object decodeValue(final String text, final Function<String, Object> decoder) {
+        try {
+            return decoder.apply(text);
+        } catch (final IllegalArgumentException ignored) {
+            return text;
+        }
+    }
+}
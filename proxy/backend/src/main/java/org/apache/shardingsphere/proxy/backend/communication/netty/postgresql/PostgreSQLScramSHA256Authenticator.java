@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SCRAM-SHA-256 authenticator of client side for PostgreSQL netty backend.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc5802">RFC 5802</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PostgreSQLScramSHA256Authenticator {
+    
+    /**
+     * SASL mechanism name.
+     */
+    public static final String MECHANISM = "SCRAM-SHA-256";
+    
+    private static final String GS2_HEADER = "n,,";
+    
+    private static final String CHANNEL_BINDING = "c=" + Base64.getEncoder().encodeToString(GS2_HEADER.getBytes(StandardCharsets.UTF_8));
+    
+    private static final int NONCE_LENGTH = 18;
+    
+    private static final int KEY_LENGTH = 256;
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final String clientNonce;
+    
+    private byte[] expectedServerSignature;
+    
+    public PostgreSQLScramSHA256Authenticator(final String password) {
+        // PostgreSQL ignores username in SCRAM messages and uses the one of startup message
+        this("", password, generateNonce());
+    }
+    
+    private static String generateNonce() {
+        byte[] result = new byte[NONCE_LENGTH];
+        RANDOM.nextBytes(result);
+        return Base64.getEncoder().encodeToString(result);
+    }
+    
+    /**
+     * Get client first message.
+     *
+     * @return client first message
+     */
+    public String getClientFirstMessage() {
+        return GS2_HEADER + getClientFirstMessageBare();
+    }
+    
+    private String getClientFirstMessageBare() {
+        return "n=" + username + ",r=" + clientNonce;
+    }
+    
+    /**
+     * Get client final message.
+     *
+     * @param serverFirstMessage server first message
+     * @return client final message
+     * @throws SQLException SQL exception
+     */
+    @SneakyThrows(GeneralSecurityException.class)
+    public String getClientFinalMessage(final String serverFirstMessage) throws SQLException {
+        Map<Character, String> attributes = parseAttributes(serverFirstMessage);
+        String nonce = attributes.get('r');
+        if (null == nonce || !nonce.startsWith(clientNonce) || !attributes.containsKey('s') || !attributes.containsKey('i')) {
+            throw new SQLException(String.format("Invalid SCRAM server first message `%s`.", serverFirstMessage));
+        }
+        byte[] saltedPassword = hi(password, Base64.getDecoder().decode(attributes.get('s')), Integer.parseInt(attributes.get('i')));
+        String clientFinalMessageWithoutProof = CHANNEL_BINDING + ",r=" + nonce;
+        byte[] authMessage = String.join(",", getClientFirstMessageBare(), serverFirstMessage, clientFinalMessageWithoutProof).getBytes(StandardCharsets.UTF_8);
+        byte[] clientKey = hmac(saltedPassword, "Client Key".getBytes(StandardCharsets.UTF_8));
+        byte[] clientSignature = hmac(MessageDigest.getInstance("SHA-256").digest(clientKey), authMessage);
+        byte[] clientProof = new byte[clientKey.length];
+        for (int i = 0; i < clientKey.length; i++) {
+            clientProof[i] = (byte) (clientKey[i] ^ clientSignature[i]);
+        }
+        expectedServerSignature = hmac(hmac(saltedPassword, "Server Key".getBytes(StandardCharsets.UTF_8)), authMessage);
+        return clientFinalMessageWithoutProof + ",p=" + Base64.getEncoder().encodeToString(clientProof);
+    }
+    
+    /**
+     * Verify server final message.
+     *
+     * @param serverFinalMessage server final message
+     * @throws SQLException SQL exception
+     */
+    public void verifyServerFinalMessage(final String serverFinalMessage) throws SQLException {
+        String serverSignature = parseAttributes(serverFinalMessage).get('v');
+        if (null == expectedServerSignature || null == serverSignature || !MessageDigest.isEqual(expectedServerSignature, Base64.getDecoder().decode(serverSignature))) {
+            throw new SQLException("Invalid SCRAM server signature.");
+        }
+    }
+    
+    private Map<Character, String> parseAttributes(final String message) {
+        Map<Character, String> result = new HashMap<>();
+        for (String each : message.split(",")) {
+            if (each.length() > 1 && '=' == each.charAt(1)) {
+                result.put(each.charAt(0), each.substring(2));
+            }
+        }
+        return result;
+    }
+    
+    private byte[] hi(final String password, final byte[] salt, final int iterations) throws GeneralSecurityException {
+        return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH)).getEncoded();
+    }
+    
+    private byte[] hmac(final byte[] key, final byte[] data) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return mac.doFinal(data);
+    }
+}
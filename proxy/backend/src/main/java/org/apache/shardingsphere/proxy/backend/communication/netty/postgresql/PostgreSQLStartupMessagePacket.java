@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+/**
+ * Startup message (frontend) packet for PostgreSQL netty backend.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLStartupMessagePacket implements PostgreSQLPacket {
+    
+    private static final int PROTOCOL_VERSION = 196608;
+    
+    private final String username;
+    
+    private final String database;
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload) {
+        int startIndex = payload.getByteBuf().writerIndex();
+        payload.writeInt4(0);
+        writeBody(payload);
+        payload.getByteBuf().setInt(startIndex, payload.getByteBuf().writerIndex() - startIndex);
+    }
+    
+    private void writeBody(final PostgreSQLPacketPayload payload) {
+        payload.writeInt4(PROTOCOL_VERSION);
+        payload.writeStringNul("user");
+        payload.writeStringNul(username);
+        if (null != database && !database.isEmpty()) {
+            payload.writeStringNul("database");
+            payload.writeStringNul(database);
+        }
+        payload.writeStringNul("client_encoding");
+        payload.writeStringNul("UTF8");
+        payload.writeInt1(0);
+    }
+}
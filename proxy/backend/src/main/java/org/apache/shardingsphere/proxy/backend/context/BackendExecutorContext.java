@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 
 /**
@@ -33,7 +34,8 @@ public final class BackendExecutorContext {
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<ExecutorThreadType>getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE));
     
     /**
      * Get executor context instance.
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.SQLLiteralParameterizer;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.util.Optional;
+
+/**
+ * Parameterized query context factory.
+ *
+ * <p>Used by text protocol, literals of SQL are extracted as parameters, so SQLs which only differ in literals share the same cached SQL statement like prepared statements.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParameterizedQueryContextFactory {
+    
+    private static final SQLLiteralParameterizer STRING_LITERAL_PARAMETERIZER = new SQLLiteralParameterizer(true);
+    
+    private static final SQLLiteralParameterizer NUMBER_LITERAL_PARAMETERIZER = new SQLLiteralParameterizer(false);
+    
+    /**
+     * Create new instance of parameterized query context.
+     *
+     * @param protocolType protocol type
+     * @param sql SQL of text protocol
+     * @param connectionSession connection session
+     * @param hintValueContext hint value context
+     * @return created query context, empty if parameterization disabled or SQL can not be parameterized
+     */
+    public static Optional<QueryContext> newInstance(final DatabaseType protocolType, final String sql, final ConnectionSession connectionSession, final HintValueContext hintValueContext) {
+        String databaseName = connectionSession.getDatabaseName();
+        if (Strings.isNullOrEmpty(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        if (!metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_SQL_PARAMETERIZED) || !metaData.containsDatabase(databaseName)) {
+            return Optional.empty();
+        }
+        Optional<ParameterizedSQL> parameterizedSQL = getParameterizer(protocolType).parameterize(sql);
+        if (!parameterizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<SQLStatement> sqlStatement = parse(metaData, protocolType, parameterizedSQL.get());
+        if (!sqlStatement.isPresent()) {
+            return Optional.empty();
+        }
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, parameterizedSQL.get().getParameters(), sqlStatement.get(), databaseName);
+        if (!isAllTablesInDefaultSchema(sqlStatementContext.getTablesContext(), metaData.getDatabase(databaseName))) {
+            return Optional.empty();
+        }
+        if (sqlStatementContext instanceof ParameterAware) {
+            ((ParameterAware) sqlStatementContext).setUpParameters(parameterizedSQL.get().getParameters());
+        }
+        return Optional.of(new QueryContext(sqlStatementContext, parameterizedSQL.get().getSql(), parameterizedSQL.get().getParameters(), hintValueContext));
+    }
+    
+    private static SQLLiteralParameterizer getParameterizer(final DatabaseType protocolType) {
+        return "MySQL".equals(protocolType.getType()) ? STRING_LITERAL_PARAMETERIZER : NUMBER_LITERAL_PARAMETERIZER;
+    }
+    
+    private static Optional<SQLStatement> parse(final ShardingSphereMetaData metaData, final DatabaseType protocolType, final ParameterizedSQL parameterizedSQL) {
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement result;
+        try {
+            result = sqlParserRule.getSQLParserEngine(protocolType.getType()).parse(parameterizedSQL.getSql(), true);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+        return isParameterizedDMLStatement(result, parameterizedSQL.getParameters().size()) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private static boolean isParameterizedDMLStatement(final SQLStatement sqlStatement, final int parameterCount) {
+        return (sqlStatement instanceof SelectStatement || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement)
+                && sqlStatement.getParameterCount() == parameterCount;
+    }
+    
+    private static boolean isAllTablesInDefaultSchema(final TablesContext tablesContext, final ShardingSphereDatabase database) {
+        if (tablesContext.getTableNames().isEmpty() || tablesContext.getDatabaseName().isPresent() || tablesContext.getSchemaName().isPresent()) {
+            return false;
+        }
+        ShardingSphereSchema schema = database.getSchema(DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()));
+        return null != schema && tablesContext.getTableNames().stream().allMatch(schema::containsTable);
+    }
+}
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.proxy.backend.handler;
 
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Proxy backend handler.
@@ -36,6 +39,35 @@ public interface ProxyBackendHandler {
      */
     ResponseHeader execute() throws SQLException;
     
+    /**
+     * Execute command without waiting for storage units if supported.
+     *
+     * @param executor executor to process execute results if they are not ready immediately
+     * @return future of backend response
+     * @throws SQLException SQL exception
+     */
+    default CompletableFuture<ResponseHeader> executeFuture(final Executor executor) throws SQLException {
+        return CompletableFuture.completedFuture(execute());
+    }
+    
+    /**
+     * Judge whether next result value can be got without waiting for storage units.
+     *
+     * @return next result value is ready or not
+     */
+    default boolean isNextReady() {
+        return true;
+    }
+    
+    /**
+     * Await next result value ready.
+     *
+     * @return future which is completed once next result value is ready
+     */
+    default CompletableFuture<Void> awaitNextReady() {
+        return CompletableFuture.completedFuture(null);
+    }
+    
     /**
      * Goto next result value.
      *
@@ -56,6 +88,19 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Fill row data into values.
+     *
+     * @param values values to be filled, length is same as column count
+     * @throws SQLException SQL exception
+     */
+    default void fillRowData(final Object[] values) throws SQLException {
+        int index = 0;
+        for (QueryResponseCell each : getRowData().getCells()) {
+            values[index++] = each.getData();
+        }
+    }
+    
     /**
      * Close handler.
      *
@@ -100,8 +100,14 @@ public final class ProxyBackendHandlerFactory {
         if (Strings.isNullOrEmpty(SQLUtil.trimComment(sql))) {
             return new SkipBackendHandler(new EmptyStatement());
         }
+        DatabaseType protocolType = getProtocolType(databaseType, connectionSession);
+        Optional<QueryContext> parameterizedQueryContext = ParameterizedQueryContextFactory.newInstance(protocolType, sql, connectionSession, hintValueContext);
+        if (parameterizedQueryContext.isPresent()) {
+            connectionSession.setQueryContext(parameterizedQueryContext.get());
+            return newInstance(databaseType, parameterizedQueryContext.get(), connectionSession, false);
+        }
         SQLParserRule sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(getProtocolType(databaseType, connectionSession).getType()).parse(sql, false);
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(protocolType.getType()).parse(sql, false);
         return newInstance(databaseType, sql, sqlStatement, connectionSession, hintValueContext);
     }
     
@@ -88,6 +88,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseCommunicationEngine.getRowData();
     }
     
+    @Override
+    public void fillRowData(final Object[] values) throws SQLException {
+        databaseCommunicationEngine.fillRowData(values);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseCommunicationEngine) {
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import java.util.List;
+
+/**
+ * Bulk load command.
+ */
+public interface BulkLoadCommand {
+    
+    /**
+     * Get command name.
+     *
+     * @return command name
+     */
+    String getCommandName();
+    
+    /**
+     * Get database name.
+     *
+     * @return database name, null if database of connection is used
+     */
+    default String getDatabaseName() {
+        return null;
+    }
+    
+    /**
+     * Get schema name.
+     *
+     * @return schema name, null if default schema of database is used
+     */
+    default String getSchemaName() {
+        return null;
+    }
+    
+    /**
+     * Get table name.
+     *
+     * @return table name
+     */
+    String getTableName();
+    
+    /**
+     * Get column names.
+     *
+     * @return column names, empty if all visible columns of table are loaded
+     */
+    List<String> getColumnNames();
+}
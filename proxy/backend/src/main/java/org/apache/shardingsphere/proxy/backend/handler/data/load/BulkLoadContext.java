@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulk load context, which writes rows routed to data nodes by shard writers.
+ *
+ * @param <T> type of buffer written by shard writers
+ */
+public abstract class BulkLoadContext<T> {
+    
+    private final Map<DataNode, BulkLoadShardWriter<T>> shardWriters = new LinkedHashMap<>();
+    
+    protected final void writeToShard(final DataNode dataNode, final T buffer) throws SQLException {
+        BulkLoadShardWriter<T> shardWriter = shardWriters.get(dataNode);
+        if (null == shardWriter) {
+            shardWriter = createShardWriter(dataNode);
+            shardWriters.put(dataNode, shardWriter);
+        }
+        shardWriter.write(buffer);
+    }
+    
+    protected abstract BulkLoadShardWriter<T> createShardWriter(DataNode dataNode) throws SQLException;
+    
+    /**
+     * Finish shard writers, all of them are committed only after all of them are finished.
+     *
+     * <p>Commits of different data nodes are not atomic, shard writers which are not committed yet are canceled if any commit fails.</p>
+     *
+     * @return row count written into data nodes
+     * @throws SQLException SQL exception
+     */
+    protected final long finishShardWriters() throws SQLException {
+        boolean succeed = false;
+        try {
+            long result = 0L;
+            for (BulkLoadShardWriter<T> each : shardWriters.values()) {
+                result += each.finish();
+            }
+            for (BulkLoadShardWriter<T> each : shardWriters.values()) {
+                each.commit();
+            }
+            succeed = true;
+            return result;
+        } finally {
+            if (!succeed) {
+                cancelShardWriters();
+            }
+            shardWriters.clear();
+        }
+    }
+    
+    protected final void cancelShardWriters() {
+        for (BulkLoadShardWriter<T> each : shardWriters.values()) {
+            each.cancel();
+        }
+        shardWriters.clear();
+    }
+    
+    /**
+     * Cancel bulk load.
+     */
+    public abstract void cancel();
+}
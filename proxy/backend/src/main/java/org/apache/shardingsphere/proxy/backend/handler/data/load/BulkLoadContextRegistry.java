@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bulk load context registry, which keeps bulk load in progress of connections.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkLoadContextRegistry {
+    
+    private static final BulkLoadContextRegistry INSTANCE = new BulkLoadContextRegistry();
+    
+    private final ConcurrentMap<Integer, BulkLoadContext<?>> contexts = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of bulk load context registry.
+     *
+     * @return instance of bulk load context registry
+     */
+    public static BulkLoadContextRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register bulk load context.
+     *
+     * @param connectionId connection id
+     * @param context bulk load context
+     */
+    public void register(final int connectionId, final BulkLoadContext<?> context) {
+        contexts.put(connectionId, context);
+    }
+    
+    /**
+     * Find bulk load context.
+     *
+     * @param connectionId connection id
+     * @param contextType type of bulk load context
+     * @param <T> type of bulk load context
+     * @return bulk load context, empty if connection is not in bulk load
+     */
+    public <T extends BulkLoadContext<?>> Optional<T> find(final int connectionId, final Class<T> contextType) {
+        return Optional.ofNullable(contexts.get(connectionId)).filter(contextType::isInstance).map(contextType::cast);
+    }
+    
+    /**
+     * Remove bulk load context.
+     *
+     * @param connectionId connection id
+     * @param contextType type of bulk load context
+     * @param <T> type of bulk load context
+     * @return removed bulk load context
+     */
+    public <T extends BulkLoadContext<?>> Optional<T> remove(final int connectionId, final Class<T> contextType) {
+        return Optional.ofNullable(contexts.remove(connectionId)).filter(contextType::isInstance).map(contextType::cast);
+    }
+}
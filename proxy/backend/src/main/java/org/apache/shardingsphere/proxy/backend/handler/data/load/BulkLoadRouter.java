@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import lombok.Getter;
+import org.apache.shardingsphere.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.dialect.exception.syntax.database.UnknownDatabaseException;
+import org.apache.shardingsphere.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Router of bulk load commands, such as COPY FROM STDIN of PostgreSQL and LOAD DATA LOCAL INFILE of MySQL, which evaluates routing rules of table to find data nodes of rows.
+ */
+public final class BulkLoadRouter {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final String tableName;
+    
+    private final String commandName;
+    
+    @Getter
+    private final List<String> columnNames;
+    
+    private final int[] columnTypes;
+    
+    private final Supplier<InsertStatement> insertStatementCreator;
+    
+    private final String insertSQL;
+    
+    private final InsertStatement insertStatementTemplate;
+    
+    public BulkLoadRouter(final ConnectionSession connectionSession, final BulkLoadCommand command, final Supplier<InsertStatement> insertStatementCreator) {
+        this.connectionSession = connectionSession;
+        this.insertStatementCreator = insertStatementCreator;
+        tableName = command.getTableName();
+        commandName = command.getCommandName();
+        metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        String databaseName = null == command.getDatabaseName() ? connectionSession.getDatabaseName() : command.getDatabaseName();
+        ShardingSpherePreconditions.checkNotNull(databaseName, NoDatabaseSelectedException::new);
+        ShardingSpherePreconditions.checkState(metaData.containsDatabase(databaseName), () -> new UnknownDatabaseException(databaseName));
+        database = metaData.getDatabase(databaseName);
+        String schemaName = null == command.getSchemaName() ? DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()) : command.getSchemaName();
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        ShardingSpherePreconditions.checkState(null != schema && schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+        columnNames = command.getColumnNames().isEmpty() ? schema.getVisibleColumnNames(tableName) : command.getColumnNames();
+        columnTypes = getColumnTypes(schema.getTable(tableName));
+        insertSQL = createInsertSQL(database.getProtocolType().getQuoteCharacter());
+        insertStatementTemplate = (InsertStatement) parse(insertSQL);
+    }
+    
+    private int[] getColumnTypes(final ShardingSphereTable table) {
+        int[] result = new int[columnNames.size()];
+        for (int i = 0; i < result.length; i++) {
+            ShardingSphereColumn column = table.getColumns().get(columnNames.get(i).toLowerCase());
+            result[i] = null == column ? Types.VARCHAR : column.getDataType();
+        }
+        return result;
+    }
+    
+    private String createInsertSQL(final QuoteCharacter quoteCharacter) {
+        StringBuilder result = new StringBuilder("INSERT INTO ").append(tableName).append(" (");
+        StringBuilder values = new StringBuilder(" VALUES (");
+        for (int i = 0; i < columnNames.size(); i++) {
+            result.append(0 == i ? "" : ", ").append(quoteCharacter.wrap(columnNames.get(i)));
+            values.append(0 == i ? "?" : ", ?");
+        }
+        return result.append(')').append(values).append(')').toString();
+    }
+    
+    private SQLStatement parse(final String sql) {
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        return sqlParserRule.getSQLParserEngine(database.getProtocolType().getType()).parse(sql, true);
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    /**
+     * Get data source of data node.
+     *
+     * @param dataNode data node
+     * @return data source
+     */
+    public DataSource getDataSource(final DataNode dataNode) {
+        return database.getResourceMetaData().getDataSources().get(dataNode.getDataSourceName());
+    }
+    
+    /**
+     * Route rows to be loaded.
+     *
+     * <p>All rows are routed together by a multiple rows insert statement, so routing rules only need to be evaluated once for each batch of rows.</p>
+     *
+     * @param rows values of rows to be routed
+     * @return data nodes of each row
+     */
+    public List<Collection<DataNode>> route(final List<List<String>> rows) {
+        List<Object> params = new ArrayList<>(rows.size() * columnNames.size());
+        for (List<String> each : rows) {
+            ShardingSpherePreconditions.checkState(each.size() == columnNames.size(), () -> new UnsupportedSQLOperationException(commandName + " row whose column count does not match table"));
+            for (int i = 0; i < columnTypes.length; i++) {
+                params.add(convertValue(each.get(i), columnTypes[i]));
+            }
+        }
+        InsertStatementContext sqlStatementContext = (InsertStatementContext) SQLStatementContextFactory.newInstance(metaData, params, createInsertStatement(rows.size()), database.getName());
+        ShardingSpherePreconditions.checkState(null == sqlStatementContext.getGeneratedKeyContext().orElse(null) || !sqlStatementContext.getGeneratedKeyContext().get().isGenerated(),
+                () -> new UnsupportedSQLOperationException(commandName + " without generated key column"));
+        RouteContext routeContext = getRouteContext(new QueryContext(sqlStatementContext, insertSQL, params));
+        Map<String, String> dataSourceNames = getActualDataSourceNames(routeContext);
+        List<Collection<DataNode>> result = new ArrayList<>(rows.size());
+        if (routeContext.getOriginalDataNodes().size() == rows.size()) {
+            for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+                result.add(getActualDataNodes(each, dataSourceNames));
+            }
+            return result;
+        }
+        Collection<DataNode> dataNodes = getDataNodes(routeContext);
+        for (int i = 0; i < rows.size(); i++) {
+            result.add(dataNodes);
+        }
+        return result;
+    }
+    
+    /**
+     * Route all data nodes of table.
+     *
+     * @return data nodes
+     */
+    public Collection<DataNode> routeAll() {
+        String sql = "SELECT * FROM " + tableName;
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, Collections.emptyList(), parse(sql), database.getName());
+        return getDataNodes(getRouteContext(new QueryContext(sqlStatementContext, sql, Collections.emptyList())));
+    }
+    
+    private InsertStatement createInsertStatement(final int rowCount) {
+        InsertStatement result = insertStatementCreator.get();
+        result.setTable(insertStatementTemplate.getTable());
+        insertStatementTemplate.getInsertColumns().ifPresent(result::setInsertColumns);
+        for (int i = 0; i < rowCount; i++) {
+            result.getValues().add(insertStatementTemplate.getValues().iterator().next());
+        }
+        result.setParameterCount(rowCount * columnNames.size());
+        return result;
+    }
+    
+    private RouteContext getRouteContext(final QueryContext queryContext) {
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps()).route(connectionSession.getConnectionContext(), queryContext, database);
+    }
+    
+    private Object convertValue(final String value, final int columnType) {
+        if (null == value) {
+            return null;
+        }
+        try {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.valueOf(value.trim());
+                case Types.BIGINT:
+                    return Long.valueOf(value.trim());
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value.trim());
+                default:
+                    return value;
+            }
+        } catch (final NumberFormatException ex) {
+            throw new UnsupportedSQLOperationException(String.format("%s with invalid number `%s`", commandName, value));
+        }
+    }
+    
+    private Map<String, String> getActualDataSourceNames(final RouteContext routeContext) {
+        Map<String, String> result = new HashMap<>(routeContext.getRouteUnits().size(), 1);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.put(each.getDataSourceMapper().getLogicName(), each.getDataSourceMapper().getActualName());
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getActualDataNodes(final Collection<DataNode> dataNodes, final Map<String, String> dataSourceNames) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (DataNode each : dataNodes) {
+            result.add(new DataNode(dataSourceNames.getOrDefault(each.getDataSourceName(), each.getDataSourceName()), each.getTableName()));
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getDataNodes(final RouteContext routeContext) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<String> actualTableNames = each.getActualTableNames(tableName);
+            for (String eachTableName : actualTableNames.isEmpty() ? Collections.singleton(tableName) : actualTableNames) {
+                result.add(new DataNode(each.getDataSourceMapper().getActualName(), eachTableName));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulk load writer of one data node.
+ *
+ * <p>Buffers are written to storage node by tasks of a shared executor, one task of a writer runs at a time, and buffers waiting to be written are bounded,
+ * so that a slow data node blocks the producer instead of accumulating the whole loaded data in memory.
+ * Writing runs in a transaction, which is committed only after writers of all data nodes are finished.</p>
+ *
+ * @param <T> type of buffer
+ */
+public abstract class BulkLoadShardWriter<T> {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("Bulk-Load-Writer-%d"));
+    
+    private static final int BUFFER_CAPACITY = 16;
+    
+    @Getter(AccessLevel.PROTECTED)
+    private final Connection connection;
+    
+    private final Semaphore bufferPermits = new Semaphore(BUFFER_CAPACITY);
+    
+    private final Queue<T> buffers = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean writing = new AtomicBoolean();
+    
+    private volatile SQLException failure;
+    
+    private boolean closed;
+    
+    protected BulkLoadShardWriter(final DataSource dataSource) throws SQLException {
+        connection = dataSource.getConnection();
+        try {
+            connection.setAutoCommit(false);
+        } catch (final SQLException ex) {
+            cancel();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write buffer, wait if buffers are full.
+     *
+     * @param buffer buffer
+     * @throws SQLException SQL exception
+     */
+    public final void write(final T buffer) throws SQLException {
+        checkFailure();
+        try {
+            bufferPermits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        buffers.add(buffer);
+        if (writing.compareAndSet(false, true)) {
+            EXECUTOR_SERVICE.execute(this::writeBuffers);
+        }
+    }
+    
+    private void writeBuffers() {
+        while (true) {
+            T buffer = buffers.poll();
+            if (null == buffer) {
+                writing.set(false);
+                if (buffers.isEmpty() || !writing.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                if (null == failure) {
+                    writeBuffer(buffer);
+                }
+            } catch (final SQLException ex) {
+                failure = ex;
+            } finally {
+                bufferPermits.release();
+            }
+        }
+    }
+    
+    private void checkFailure() throws SQLException {
+        if (null != failure) {
+            throw failure;
+        }
+    }
+    
+    /**
+     * Write buffer into storage node.
+     *
+     * @param buffer buffer
+     * @throws SQLException SQL exception
+     */
+    protected abstract void writeBuffer(T buffer) throws SQLException;
+    
+    /**
+     * Finish writing, wait until all buffers are written without committing them.
+     *
+     * @return row count written into data node
+     * @throws SQLException SQL exception
+     */
+    public final long finish() throws SQLException {
+        try {
+            bufferPermits.acquire(BUFFER_CAPACITY);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        try {
+            checkFailure();
+            return endWriting();
+        } finally {
+            bufferPermits.release(BUFFER_CAPACITY);
+        }
+    }
+    
+    /**
+     * End writing after all buffers are written.
+     *
+     * @return row count written into data node
+     * @throws SQLException SQL exception
+     */
+    protected abstract long endWriting() throws SQLException;
+    
+    /**
+     * Commit finished writing and close connection.
+     *
+     * @throws SQLException SQL exception
+     */
+    public final void commit() throws SQLException {
+        closed = true;
+        try {
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+    }
+    
+    /**
+     * Cancel writing.
+     *
+     * <p>Connection is aborted rather than rolled back and returned to connection pool, because writing may be still in progress on it.</p>
+     */
+    public final void cancel() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            connection.abort(Runnable::run);
+        } catch (final SQLException ignored) {
+        } finally {
+            try {
+                connection.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
@@ -75,6 +75,8 @@ public final class ConnectionSession {
     
     private QueryContext queryContext;
     
+    private volatile int cursorFetchSize;
+    
     public ConnectionSession(final DatabaseType protocolType, final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         this.protocolType = protocolType;
         transactionStatus = new TransactionStatus(initialTransactionType);
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class only records variables need to be replayed on connections.
@@ -34,6 +35,8 @@ public final class RequiredSessionVariableRecorder {
     
     private final Map<String, String> sessionVariables = new ConcurrentHashMap<>();
     
+    private final AtomicInteger version = new AtomicInteger();
+    
     /**
      * Set variable.
      *
@@ -42,6 +45,16 @@ public final class RequiredSessionVariableRecorder {
      */
     public void setVariable(final String variableName, final String variableValue) {
         sessionVariables.put(variableName, variableValue);
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Get version of recorded variables, which is increased whenever a variable is set.
+     *
+     * @return version of recorded variables
+     */
+    public int getVersion() {
+        return version.get();
     }
     
     /**
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.proxy.backend.session;
 
+import org.apache.shardingsphere.infra.binder.aware.ParameterBindable;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 
+import java.util.List;
+
 /**
  * Server prepared statement for clients of ShardingSphere-Proxy.
  */
@@ -37,4 +40,17 @@ public interface ServerPreparedStatement {
      * @return {@link SQLStatementContext}
      */
     SQLStatementContext<?> getSqlStatementContext();
+    
+    /**
+     * Bind parameters to {@link SQLStatementContext} of server prepared statement.
+     *
+     * <p>Parameter independent contexts are bound once when statement prepared, only parameter dependent contexts are created for each execution.</p>
+     *
+     * @param params parameters
+     * @return {@link SQLStatementContext} bound with parameters
+     */
+    default SQLStatementContext<?> bindParameters(final List<Object> params) {
+        SQLStatementContext<?> result = getSqlStatementContext();
+        return result instanceof ParameterBindable ? ((ParameterBindable) result).bindParameters(params) : result;
+    }
 }
@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -263,7 +264,7 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         Statement statement = mock(Statement.class);
         when(connection.createStatement()).thenReturn(statement);
         JDBCBackendStatement backendStatement = (JDBCBackendStatement) connectionSession.getStatementManager();
-        assertThat(backendStatement.createStorageResource(connection, ConnectionMode.MEMORY_STRICTLY, null, connectionSession.getProtocolType()), is(statement));
+        assertThat(backendStatement.createStorageResource(connection, ConnectionMode.MEMORY_STRICTLY, new StatementOption(false), connectionSession.getProtocolType()), is(statement));
         verify(connection, times(1)).createStatement();
     }
     
@@ -454,6 +455,59 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
     
+    @Test
+    public void assertCloseConnectionsWhenPinned() throws SQLException {
+        Connection connection = mock(Connection.class);
+        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", connection);
+        assertTrue(backendConnection.pin(ConnectionPinReason.TEMPORARY_TABLE));
+        assertFalse(backendConnection.pin(ConnectionPinReason.TEMPORARY_TABLE));
+        assertTrue(backendConnection.closeConnections(false).isEmpty());
+        verify(connection, never()).close();
+        verify(connection).setAutoCommit(true);
+        assertThat(backendConnection.getConnectionSize(), is(1));
+        assertTrue(backendConnection.isPinned());
+    }
+    
+    @Test
+    public void assertAddConnectionPostProcessorToCachedConnections() {
+        Connection connection = mock(Connection.class);
+        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", connection);
+        ConnectionPostProcessor connectionPostProcessor = mock(ConnectionPostProcessor.class);
+        backendConnection.addConnectionPostProcessor(connectionPostProcessor);
+        verify(connectionPostProcessor).process(connection);
+        assertTrue(backendConnection.getConnectionPostProcessors().contains(connectionPostProcessor));
+    }
+    
+    @Test
+    public void assertCloseConnectionsWhenPinnedAndForceRollback() throws SQLException {
+        Connection connection = mock(Connection.class);
+        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", connection);
+        backendConnection.pin(ConnectionPinReason.CURSOR);
+        backendConnection.closeConnections(true);
+        verify(connection).close();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+        assertFalse(backendConnection.isPinned());
+    }
+    
+    @Test
+    public void assertIsNotPinnedWhenDistributedTransaction() {
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.XA));
+        backendConnection.pin(ConnectionPinReason.TEMPORARY_TABLE);
+        assertFalse(backendConnection.isPinned());
+    }
+    
+    @Test
+    public void assertGetConnectionsAndReplayChangedSessionVariablesOnPinnedConnections() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", connection);
+        backendConnection.pin(ConnectionPinReason.TEMPORARY_TABLE);
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        assertThat(backendConnection.getConnections("ds_0", 1, ConnectionMode.MEMORY_STRICTLY), is(Collections.singletonList(connection)));
+        backendConnection.getConnections("ds_0", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(connection.createStatement()).execute("SET key=value");
+    }
+    
     @Test
     public void assertGetDataSourceNamesOfCachedConnections() {
         backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", null);
@@ -47,4 +47,11 @@ public final class PostgreSQLStatementMemoryStrictlyFetchSizeSetterTest extends
         new PostgreSQLStatementMemoryStrictlyFetchSizeSetter().setFetchSize(statement);
         verify(statement).setFetchSize(1);
     }
+    
+    @Test
+    public void assertSetCursorFetchSize() throws SQLException {
+        Statement statement = mock(Statement.class);
+        new PostgreSQLStatementMemoryStrictlyFetchSizeSetter().setCursorFetchSize(statement, 100);
+        verify(statement).setFetchSize(100);
+    }
 }
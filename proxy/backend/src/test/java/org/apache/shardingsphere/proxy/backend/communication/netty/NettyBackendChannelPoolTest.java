@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class NettyBackendChannelPoolTest {
+    
+    private final Queue<CompletableFuture<NettyBackendChannel>> connectFutures = new LinkedList<>();
+    
+    private final NettyBackendChannelPool pool = new NettyBackendChannelPool(this::connect, 2);
+    
+    private CompletableFuture<NettyBackendChannel> connect() {
+        CompletableFuture<NettyBackendChannel> result = new CompletableFuture<>();
+        connectFutures.add(result);
+        return result;
+    }
+    
+    private NettyBackendChannel completeConnect() {
+        NettyBackendChannel result = mock(NettyBackendChannel.class);
+        when(result.isActive()).thenReturn(true);
+        connectFutures.poll().complete(result);
+        return result;
+    }
+    
+    @Test
+    public void assertAcquireNewChannels() {
+        CompletableFuture<List<NettyBackendChannel>> actual = pool.acquire(3);
+        assertThat(connectFutures.size(), is(2));
+        assertFalse(actual.isDone());
+        completeConnect();
+        completeConnect();
+        assertThat(actual.join().size(), is(2));
+    }
+    
+    @Test
+    public void assertAcquireReleasedChannel() {
+        CompletableFuture<List<NettyBackendChannel>> first = pool.acquire(1);
+        NettyBackendChannel channel = completeConnect();
+        pool.release(first.join().get(0));
+        assertThat(pool.acquire(1).join().get(0), is(channel));
+        assertTrue(connectFutures.isEmpty());
+    }
+    
+    @Test
+    public void assertAcquireAllAtOnce() {
+        CompletableFuture<List<NettyBackendChannel>> first = pool.acquire(1);
+        completeConnect();
+        NettyBackendChannel channel = first.join().get(0);
+        CompletableFuture<List<NettyBackendChannel>> second = pool.acquire(2);
+        assertTrue(connectFutures.isEmpty());
+        assertFalse(second.isDone());
+        pool.release(channel);
+        completeConnect();
+        assertThat(second.join().size(), is(2));
+        assertTrue(second.join().contains(channel));
+    }
+    
+    @Test
+    public void assertAcquireWithConnectFailure() {
+        CompletableFuture<List<NettyBackendChannel>> actual = pool.acquire(1);
+        connectFutures.poll().completeExceptionally(new IllegalStateException("failed"));
+        assertTrue(actual.isCompletedExceptionally());
+        pool.acquire(1);
+        assertThat(connectFutures.size(), is(1));
+    }
+    
+    @Test
+    public void assertClose() {
+        CompletableFuture<List<NettyBackendChannel>> first = pool.acquire(2);
+        completeConnect();
+        completeConnect();
+        CompletableFuture<List<NettyBackendChannel>> second = pool.acquire(1);
+        NettyBackendChannel channel = first.join().get(0);
+        pool.release(channel);
+        assertThat(second.join().get(0), is(channel));
+        pool.close();
+        assertTrue(pool.acquire(1).isCompletedExceptionally());
+        pool.release(channel);
+        verify(channel).close();
+    }
+}
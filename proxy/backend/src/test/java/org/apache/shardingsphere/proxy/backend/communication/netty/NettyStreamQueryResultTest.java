@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class NettyStreamQueryResultTest {
+    
+    @Test
+    public void assertNext() throws SQLException {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        actual.addRow(new Object[]{1, null});
+        actual.finish();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertFalse(actual.wasNull());
+        actual.getValue(2, Object.class);
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFailure() throws SQLException {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        actual.addRow(new Object[]{1});
+        actual.fail(new SQLException("failed"));
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    @Test
+    public void assertFlowControl() throws SQLException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), channel);
+        for (int i = 0; i < 4096; i++) {
+            actual.addRow(new Object[]{i});
+        }
+        assertFalse(channel.config().isAutoRead());
+        for (int i = 0; i < 3072; i++) {
+            assertTrue(actual.next());
+        }
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertFinishResumesRead() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), channel);
+        for (int i = 0; i < 4096; i++) {
+            actual.addRow(new Object[]{i});
+        }
+        actual.finish();
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWhileNotReady() throws SQLException {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        assertFalse(actual.isNextReady());
+        actual.next();
+    }
+    
+    @Test
+    public void assertAwaitNextReady() {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        CompletableFuture<Void> future = actual.awaitNextReady();
+        assertFalse(future.isDone());
+        actual.addRow(new Object[]{1});
+        assertTrue(future.isDone());
+        assertTrue(actual.isNextReady());
+        assertTrue(actual.awaitNextReady().isDone());
+    }
+    
+    @Test
+    public void assertAwaitNextReadyUntilFinished() {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        CompletableFuture<Void> future = actual.awaitNextReady();
+        actual.finish();
+        assertTrue(future.isDone());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertAddRowBeyondCapacity() throws SQLException {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        for (int i = 0; i < 1024 * 1024; i++) {
+            actual.addRow(new Object[]{i});
+        }
+        while (actual.next()) {
+            actual.getValue(1, Object.class);
+        }
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException, IOException {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        actual.addRow(new Object[]{new byte[]{1, 2}, null});
+        assertTrue(actual.next());
+        InputStream inputStream = actual.getInputStream(1, "Binary");
+        assertThat(inputStream.read(), is(1));
+        assertThat(inputStream.read(), is(2));
+        assertThat(inputStream.read(), is(-1));
+        assertNull(actual.getInputStream(2, "Binary"));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStreamWithNotBinaryValue() throws SQLException {
+        NettyStreamQueryResult actual = new NettyStreamQueryResult(mock(QueryResultMetaData.class), null);
+        actual.addRow(new Object[]{"foo"});
+        assertTrue(actual.next());
+        actual.getInputStream(1, "Ascii");
+    }
+}
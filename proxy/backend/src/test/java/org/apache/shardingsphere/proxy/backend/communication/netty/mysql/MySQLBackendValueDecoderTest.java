@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLBackendValueDecoderTest {
+    
+    @Test
+    public void assertGetJDBCType() {
+        assertThat(MySQLBackendValueDecoder.getJDBCType(MySQLBinaryColumnType.MYSQL_TYPE_LONG, 33), is(Types.INTEGER));
+        assertThat(MySQLBackendValueDecoder.getJDBCType(MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING, 33), is(Types.VARCHAR));
+        assertThat(MySQLBackendValueDecoder.getJDBCType(MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING, 63), is(Types.VARBINARY));
+        assertThat(MySQLBackendValueDecoder.getJDBCType(MySQLBinaryColumnType.MYSQL_TYPE_NEWDECIMAL, 63), is(Types.DECIMAL));
+        assertThat(MySQLBackendValueDecoder.getJDBCType(MySQLBinaryColumnType.MYSQL_TYPE_DATETIME, 63), is(Types.TIMESTAMP));
+    }
+    
+    @Test
+    public void assertDecode() {
+        assertThat(decode(Types.INTEGER, false, "-1"), is(-1));
+        assertThat(decode(Types.INTEGER, true, "4294967295"), is(4294967295L));
+        assertThat(decode(Types.BIGINT, false, "1"), is(1L));
+        assertThat(decode(Types.BIGINT, true, "18446744073709551615"), is(new BigInteger("18446744073709551615")));
+        assertThat(decode(Types.DECIMAL, false, "1.50"), is(new BigDecimal("1.50")));
+        assertThat(decode(Types.TIMESTAMP, false, "2022-12-01 10:00:00"), is(Timestamp.valueOf("2022-12-01 10:00:00")));
+        assertThat(decode(Types.TIMESTAMP, false, "0000-00-00 00:00:00"), is("0000-00-00 00:00:00"));
+        assertThat(decode(Types.VARBINARY, false, "ab"), is("ab".getBytes(StandardCharsets.UTF_8)));
+        assertThat(decode(Types.VARCHAR, false, "foo"), is("foo"));
+    }
+    
+    private Object decode(final int jdbcType, final boolean unsigned, final String value) {
+        return MySQLBackendValueDecoder.decode(jdbcType, unsigned, value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PostgreSQLBackendValueDecoderTest {
+    
+    @Test
+    public void assertGetJDBCType() {
+        assertThat(PostgreSQLBackendValueDecoder.getJDBCType(23), is(Types.INTEGER));
+        assertThat(PostgreSQLBackendValueDecoder.getJDBCType(20), is(Types.BIGINT));
+        assertThat(PostgreSQLBackendValueDecoder.getJDBCType(1043), is(Types.VARCHAR));
+        assertThat(PostgreSQLBackendValueDecoder.getJDBCType(1700), is(Types.NUMERIC));
+        assertThat(PostgreSQLBackendValueDecoder.getJDBCType(3802), is(Types.OTHER));
+    }
+    
+    @Test
+    public void assertDecode() {
+        assertThat(decode(Types.INTEGER, "10"), is(10));
+        assertThat(decode(Types.BIGINT, "10"), is(10L));
+        assertThat(decode(Types.BIT, "t"), is(true));
+        assertThat(decode(Types.NUMERIC, "1.50"), is(new BigDecimal("1.50")));
+        assertThat(decode(Types.NUMERIC, "NaN"), is("NaN"));
+        assertThat(decode(Types.DATE, "2022-12-01"), is(Date.valueOf("2022-12-01")));
+        assertThat(decode(Types.TIMESTAMP, "2022-12-01 10:00:00"), is(Timestamp.valueOf("2022-12-01 10:00:00")));
+        assertThat(decode(Types.TIMESTAMP, "infinity"), is("infinity"));
+        assertThat(decode(Types.BINARY, "\\x0aff"), is(new byte[]{0x0a, (byte) 0xff}));
+        assertThat(decode(Types.OTHER, "{\"k\": 1}"), is("{\"k\": 1}"));
+    }
+    
+    private Object decode(final int jdbcType, final String value) {
+        return PostgreSQLBackendValueDecoder.decode(jdbcType, value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
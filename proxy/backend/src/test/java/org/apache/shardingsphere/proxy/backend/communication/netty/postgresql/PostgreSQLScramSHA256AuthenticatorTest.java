@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.postgresql;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PostgreSQLScramSHA256AuthenticatorTest {
+    
+    private static final String SERVER_FIRST_MESSAGE = "r=rOprNGfwEbeRWgbNEkqO%hvYDpWUa2RaTCAfuxFIlj)hNlF$k0,s=W22ZaJ0SNY7soEsUEjb6gQ==,i=4096";
+    
+    private final PostgreSQLScramSHA256Authenticator authenticator = new PostgreSQLScramSHA256Authenticator("user", "pencil", "rOprNGfwEbeRWgbNEkqO");
+    
+    @Test
+    public void assertGetClientFirstMessage() {
+        assertThat(authenticator.getClientFirstMessage(), is("n,,n=user,r=rOprNGfwEbeRWgbNEkqO"));
+    }
+    
+    @Test
+    public void assertGetClientFinalMessage() throws SQLException {
+        assertThat(authenticator.getClientFinalMessage(SERVER_FIRST_MESSAGE), is("c=biws,r=rOprNGfwEbeRWgbNEkqO%hvYDpWUa2RaTCAfuxFIlj)hNlF$k0,p=dHzbZapWIk4jUhN+Ute9ytag9zjfMHgsqmmiz7AndVQ="));
+    }
+    
+    @Test
+    public void assertVerifyServerFinalMessage() throws SQLException {
+        authenticator.getClientFinalMessage(SERVER_FIRST_MESSAGE);
+        authenticator.verifyServerFinalMessage("v=6rriTRBi23WpRR/wtup+mMhUZUn/dB5nLTJRsjl95G4=");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertVerifyInvalidServerFinalMessage() throws SQLException {
+        authenticator.getClientFinalMessage(SERVER_FIRST_MESSAGE);
+        authenticator.verifyServerFinalMessage("v=AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetClientFinalMessageWithMismatchedNonce() throws SQLException {
+        authenticator.getClientFinalMessage("r=foo,s=W22ZaJ0SNY7soEsUEjb6gQ==,i=4096");
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ParameterizedQueryContextFactoryTest extends ProxyContextRestorer {
+    
+    private final DatabaseType databaseType = DatabaseTypeFactory.getInstance("MySQL");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Test
+    public void assertNewInstance() {
+        mockContext(true);
+        String sql = "SELECT * FROM t_order WHERE order_id IN (1, 2) AND status = 'PAID'";
+        Optional<QueryContext> actual = ParameterizedQueryContextFactory.newInstance(databaseType, sql, connectionSession, new HintValueContext());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, "PAID")));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDisabled() {
+        mockContext(false);
+        assertFalse(ParameterizedQueryContextFactory.newInstance(databaseType, "SELECT * FROM t_order WHERE order_id = 1", connectionSession, new HintValueContext()).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnknownTable() {
+        mockContext(true);
+        assertFalse(ParameterizedQueryContextFactory.newInstance(databaseType, "SELECT * FROM t_order_item WHERE order_id = 1", connectionSession, new HintValueContext()).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutDatabase() {
+        assertFalse(ParameterizedQueryContextFactory.newInstance(databaseType, "SELECT * FROM t_order WHERE order_id = 1", connectionSession, new HintValueContext()).isPresent());
+    }
+    
+    private void mockContext(final boolean parameterized) {
+        when(connectionSession.getDatabaseName()).thenReturn("db");
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_SQL_PARAMETERIZED.getKey(), String.valueOf(parameterized));
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        when(metaDataContexts.getMetaData().containsDatabase("db")).thenReturn(true);
+        ShardingSphereDatabase database = mockDatabase();
+        when(metaDataContexts.getMetaData().getDatabase("db")).thenReturn(database);
+        ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
+        CacheOption cacheOption = new CacheOption(1024, 1024);
+        when(globalRuleMetaData.getSingleRule(SQLParserRule.class)).thenReturn(new SQLParserRule(new SQLParserRuleConfiguration(false, cacheOption, cacheOption)));
+        when(metaDataContexts.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        ProxyContext.init(contextManager);
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("db");
+        when(result.getProtocolType()).thenReturn(databaseType);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", 0, true, false, false, true, false),
+                new ShardingSphereColumn("status", 0, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
+        when(result.getSchema("db")).thenReturn(new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap()));
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BulkLoadContextTest {
+    
+    private final Map<DataNode, Connection> connections = new LinkedHashMap<>();
+    
+    @Test
+    public void assertFinish() throws SQLException {
+        FixtureBulkLoadContext context = new FixtureBulkLoadContext();
+        context.write(new DataNode("ds_0.t_order_0"), "1");
+        context.write(new DataNode("ds_1.t_order_1"), "2");
+        context.write(new DataNode("ds_1.t_order_1"), "3");
+        assertThat(context.finish(), is(3L));
+        for (Connection each : connections.values()) {
+            verify(each).setAutoCommit(false);
+            verify(each).commit();
+            verify(each).close();
+        }
+    }
+    
+    @Test
+    public void assertFinishWithFailedShardWriter() throws SQLException {
+        FixtureBulkLoadContext context = new FixtureBulkLoadContext();
+        context.write(new DataNode("ds_0.t_order_0"), "1");
+        context.write(new DataNode("ds_1.t_order_1"), "invalid");
+        try {
+            context.finish();
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("invalid"));
+        }
+        for (Connection each : connections.values()) {
+            verify(each, never()).commit();
+            verify(each).abort(any(Executor.class));
+            verify(each).close();
+        }
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        FixtureBulkLoadContext context = new FixtureBulkLoadContext();
+        context.write(new DataNode("ds_0.t_order_0"), "1");
+        context.cancel();
+        Connection connection = connections.get(new DataNode("ds_0.t_order_0"));
+        verify(connection, never()).commit();
+        verify(connection).abort(any(Executor.class));
+        verify(connection).close();
+    }
+    
+    private final class FixtureBulkLoadContext extends BulkLoadContext<String> {
+        
+        void write(final DataNode dataNode, final String value) throws SQLException {
+            writeToShard(dataNode, value);
+        }
+        
+        long finish() throws SQLException {
+            return finishShardWriters();
+        }
+        
+        @Override
+        protected BulkLoadShardWriter<String> createShardWriter(final DataNode dataNode) throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            connections.put(dataNode, connection);
+            return new FixtureBulkLoadShardWriter(dataSource);
+        }
+        
+        @Override
+        public void cancel() {
+            cancelShardWriters();
+        }
+    }
+    
+    private static final class FixtureBulkLoadShardWriter extends BulkLoadShardWriter<String> {
+        
+        private long rowCount;
+        
+        FixtureBulkLoadShardWriter(final DataSource dataSource) throws SQLException {
+            super(dataSource);
+        }
+        
+        @Override
+        protected void writeBuffer(final String buffer) throws SQLException {
+            if ("invalid".equals(buffer)) {
+                throw new SQLException(buffer);
+            }
+            rowCount++;
+        }
+        
+        @Override
+        protected long endWriting() {
+            return rowCount;
+        }
+    }
+}
@@ -23,18 +23,15 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.netty.FrontendTransport;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -47,6 +44,8 @@ import java.util.List;
 @Slf4j
 public final class ShardingSphereProxy {
     
+    private FrontendTransport transport;
+    
     private EventLoopGroup bossGroup;
     
     private EventLoopGroup workerGroup;
@@ -89,23 +88,24 @@ public final class ShardingSphereProxy {
     }
     
     private void createEventLoopGroup() {
-        bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
-        workerGroup = getWorkerGroup();
-    }
-    
-    private EventLoopGroup getWorkerGroup() {
-        int workerThreads = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE);
-        return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        transport = FrontendTransport.create(props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_TRANSPORT_TYPE));
+        log.info("ShardingSphere-Proxy uses {} transport", transport.getType());
+        bossGroup = transport.createEventLoopGroup(1);
+        workerGroup = transport.createEventLoopGroup(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE));
     }
     
     private void initServerBootstrap(final ServerBootstrap bootstrap) {
-        Integer backLog = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG);
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        Integer backLog = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG);
+        WriteBufferWaterMark writeBufferWaterMark = new WriteBufferWaterMark(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK),
+                props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK));
         bootstrap.group(bossGroup, workerGroup)
-                .channel(Epoll.isAvailable() ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024 * 1024, 16 * 1024 * 1024))
+                .channel(transport.getServerChannelClass())
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.SO_REUSEADDR, true)
                 .option(ChannelOption.SO_BACKLOG, backLog)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark)
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .handler(new LoggingHandler(LogLevel.INFO))
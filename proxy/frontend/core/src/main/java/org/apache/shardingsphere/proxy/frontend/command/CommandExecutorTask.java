@@ -19,7 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
@@ -43,15 +46,23 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
  * Command executor task.
+ * 
+ * <p>Command is suspended without occupying thread while storage units do not respond, and resumed by executor of task.
+ * Commands of one connection are executed in order, the command received while previous one is suspended waits for it.</p>
  */
 @RequiredArgsConstructor
 @Slf4j
 public final class CommandExecutorTask implements Runnable {
     
+    private static final AttributeKey<CompletableFuture<Void>> SUSPENDED_COMMAND_ATTRIBUTE_KEY = AttributeKey.valueOf("SUSPENDED_COMMAND");
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private final ConnectionSession connectionSession;
@@ -60,6 +71,8 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final Executor executor;
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -68,60 +81,123 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
-        boolean isNeedFlush = false;
+        Attribute<CompletableFuture<Void>> suspendedCommand = context.channel().attr(SUSPENDED_COMMAND_ATTRIBUTE_KEY);
+        CompletableFuture<Void> previousCommand = suspendedCommand.get();
+        if (null != previousCommand && !previousCommand.isDone()) {
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            suspendedCommand.set(completion);
+            previousCommand.whenCompleteAsync((unused, ex) -> execute(completion), executor);
+            return;
+        }
+        execute(null);
+    }
+    
+    private void execute(final CompletableFuture<Void> completion) {
         boolean sqlShowEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW);
-        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get())) {
-            if (sqlShowEnabled) {
-                fillLogMDC();
+        if (sqlShowEnabled) {
+            fillLogMDC();
+        }
+        CompletableFuture<Boolean> executed = executeCommand();
+        if (executed.isDone()) {
+            finish(executed, completion);
+        } else {
+            CompletableFuture<Void> suspendedCompletion = null == completion ? new CompletableFuture<>() : completion;
+            if (null == completion) {
+                context.channel().attr(SUSPENDED_COMMAND_ATTRIBUTE_KEY).set(suspendedCompletion);
             }
-            isNeedFlush = executeCommand(context, payload);
+            executed.whenComplete((unused, ex) -> finish(executed, suspendedCompletion));
+        }
+        if (sqlShowEnabled) {
+            clearLogMDC();
+        }
+    }
+    
+    private CompletableFuture<Boolean> executeCommand() {
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get())) {
+            return executeCommand(context, payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            processException(ex);
+            return failedFuture(ex);
             // CHECKSTYLE:OFF
         } catch (final Error error) {
             // CHECKSTYLE:ON
-            processException(new RuntimeException(error));
-        } finally {
-            connectionSession.clearQueryContext();
-            Collection<SQLException> exceptions = Collections.emptyList();
-            try {
-                connectionSession.getBackendConnection().closeExecutionResources();
-            } catch (final BackendConnectionException ex) {
-                exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
-            }
-            if (isNeedFlush) {
-                context.flush();
-            }
-            processClosedExceptions(exceptions);
-            if (sqlShowEnabled) {
-                clearLogMDC();
-            }
+            return failedFuture(new RuntimeException(error));
         }
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload) throws SQLException {
+    private CompletableFuture<Boolean> executeCommand(final ChannelHandlerContext context, final PacketPayload payload) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, connectionSession);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, connectionSession);
+        CompletableFuture<Boolean> result;
         try {
-            Collection<DatabasePacket<?>> responsePackets = commandExecutor.execute();
-            if (responsePackets.isEmpty()) {
-                return false;
-            }
-            responsePackets.forEach(context::write);
-            if (commandExecutor instanceof QueryCommandExecutor) {
-                commandExecuteEngine.writeQueryData(context, connectionSession.getBackendConnection(), (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            }
-            return true;
-        } catch (final SQLException | ShardingSphereSQLException | SQLDialectException ex) {
-            databaseProtocolFrontendEngine.handleException(connectionSession, ex);
-            throw ex;
-        } finally {
-            commandExecutor.close();
+            CompletableFuture<Collection<DatabasePacket<?>>> responsePackets = commandExecutor.executeFuture(executor);
+            result = responsePackets.isDone() && !responsePackets.isCompletedExceptionally()
+                    ? writeResponsePackets(context, commandExecuteEngine, commandExecutor, responsePackets.join())
+                    : responsePackets.thenCompose(each -> writeResponsePackets(context, commandExecuteEngine, commandExecutor, each));
+            // CHECKSTYLE:OFF
+        } catch (final Exception | Error ex) {
+            // CHECKSTYLE:ON
+            result = failedFuture(ex);
         }
+        return result.whenComplete((unused, ex) -> closeCommandExecutor(commandExecutor, ex));
+    }
+    
+    private CompletableFuture<Boolean> writeResponsePackets(final ChannelHandlerContext context, final CommandExecuteEngine commandExecuteEngine,
+                                                            final CommandExecutor commandExecutor, final Collection<DatabasePacket<?>> responsePackets) {
+        if (responsePackets.isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        responsePackets.forEach(context::write);
+        if (!(commandExecutor instanceof QueryCommandExecutor)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        try {
+            return commandExecuteEngine.writeQueryData(context, connectionSession.getBackendConnection(), (QueryCommandExecutor) commandExecutor, responsePackets.size(), executor)
+                    .thenApply(unused -> true);
+        } catch (final SQLException ex) {
+            return failedFuture(ex);
+        }
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void closeCommandExecutor(final CommandExecutor commandExecutor, final Throwable cause) {
+        Throwable ex = cause instanceof CompletionException ? cause.getCause() : cause;
+        if (ex instanceof SQLException || ex instanceof ShardingSphereSQLException || ex instanceof SQLDialectException) {
+            databaseProtocolFrontendEngine.handleException(connectionSession, (Exception) ex);
+        }
+        commandExecutor.close();
+    }
+    
+    private void finish(final CompletableFuture<Boolean> executed, final CompletableFuture<Void> completion) {
+        boolean isNeedFlush = false;
+        try {
+            isNeedFlush = executed.join();
+        } catch (final CompletionException ex) {
+            processException(ex.getCause() instanceof Exception ? (Exception) ex.getCause() : new RuntimeException(ex.getCause()));
+        }
+        connectionSession.clearQueryContext();
+        Collection<SQLException> exceptions = Collections.emptyList();
+        try {
+            connectionSession.getBackendConnection().closeExecutionResources();
+        } catch (final BackendConnectionException ex) {
+            exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
+        }
+        if (isNeedFlush) {
+            context.flush();
+        }
+        processClosedExceptions(exceptions);
+        if (null != completion) {
+            completion.complete(null);
+        }
+    }
+    
+    private <T> CompletableFuture<T> failedFuture(final Throwable cause) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(cause);
+        return result;
     }
     
     private void processException(final Exception cause) {
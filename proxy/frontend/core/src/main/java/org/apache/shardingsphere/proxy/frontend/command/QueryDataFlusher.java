@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query data flusher.
+ *
+ * <p>Small results are coalesced until the pending rows or bytes reach their thresholds, or the oldest pending data waits longer than flush interval,
+ * large results are written as large segments. When the channel is not writable, pending data is flushed and the writer waits for the channel to be drained.</p>
+ */
+public final class QueryDataFlusher {
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushRowsThreshold;
+    
+    private final int flushBytesThreshold;
+    
+    private final long flushIntervalNanos;
+    
+    private int pendingPackets;
+    
+    private int pendingRows;
+    
+    private long pendingBytes;
+    
+    private long firstPendingNanos;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final ResourceLock resourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        flushRowsThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLIS));
+    }
+    
+    /**
+     * Await until channel is writable, pending data will be flushed before awaiting.
+     *
+     * @return awaited milliseconds
+     */
+    public long awaitWritable() {
+        long startNanos = 0L;
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            if (0L == startNanos) {
+                startNanos = System.nanoTime();
+            }
+            flush();
+            resourceLock.doAwait();
+        }
+        return 0L == startNanos ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Write packet and flush if necessary.
+     *
+     * @param packet packet to be written
+     * @param bytes bytes of packet, negative if unknown
+     */
+    public void write(final Object packet, final int bytes) {
+        context.write(packet);
+        markPending();
+        pendingPackets++;
+        if (bytes < 0) {
+            pendingRows++;
+        } else {
+            pendingBytes += bytes;
+        }
+        if (pendingRows >= flushRowsThreshold || isFlushRequired(0)) {
+            flush();
+        }
+    }
+    
+    /**
+     * Judge whether flush is required if data buffered by caller is written.
+     *
+     * @param bufferedBytes bytes of data buffered by caller
+     * @return flush is required or not
+     */
+    public boolean isFlushRequired(final int bufferedBytes) {
+        if (bufferedBytes > 0) {
+            markPending();
+        }
+        return pendingBytes + bufferedBytes >= flushBytesThreshold || isFlushIntervalElapsed();
+    }
+    
+    private void markPending() {
+        if (0L == firstPendingNanos) {
+            firstPendingNanos = System.nanoTime();
+        }
+    }
+    
+    private boolean isFlushIntervalElapsed() {
+        return flushIntervalNanos > 0L && 0L != firstPendingNanos && System.nanoTime() - firstPendingNanos >= flushIntervalNanos;
+    }
+    
+    /**
+     * Flush pending data.
+     *
+     * @return count of flushed packets
+     */
+    public int flush() {
+        int result = pendingPackets;
+        context.flush();
+        resetPending();
+        return result;
+    }
+    
+    private void resetPending() {
+        pendingPackets = 0;
+        pendingRows = 0;
+        pendingBytes = 0L;
+        firstPendingNanos = 0L;
+    }
+}
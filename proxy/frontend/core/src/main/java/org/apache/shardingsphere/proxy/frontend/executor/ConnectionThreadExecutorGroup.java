@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadSupport;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +37,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The only thread of connection is kept alive until connection closed, even if it is virtual thread.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -55,13 +60,18 @@ public final class ConnectionThreadExecutorGroup {
      * Register connection.
      *
      * @param connectionId connection id
+     * @param threadType executor thread type
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+    public void register(final int connectionId, final ExecutorThreadType threadType) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, threadType));
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final ExecutorThreadType threadType) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory threadFactory = VirtualThreadSupport.isVirtualThreadUsed(threadType)
+                ? new ThreadFactoryBuilder().setThreadFactory(VirtualThreadSupport.newThreadFactory()).setNameFormat(threadName).build()
+                : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
@@ -18,7 +18,11 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.concurrent.ExecutorService;
 
@@ -35,10 +39,15 @@ public final class UserExecutorGroup {
     private final ExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, getExecutorThreadType());
         executorService = executorServiceManager.getExecutorService();
     }
     
+    private ExecutorThreadType getExecutorThreadType() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        return null == contextManager ? ExecutorThreadType.PLATFORM : contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE);
+    }
+    
     /**
      * Get instance of user executor group.
      *
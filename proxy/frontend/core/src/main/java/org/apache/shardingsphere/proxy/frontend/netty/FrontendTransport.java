@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.FrontendTransportType;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Frontend transport.
+ *
+ * <p>The io_uring transport is loaded by reflection, so that netty-incubator-transport-io_uring is only required when it is chosen.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class FrontendTransport {
+    
+    private static final String IO_URING_CLASS_NAME = "io.netty.incubator.channel.uring.IOUring";
+    
+    private static final String IO_URING_EVENT_LOOP_GROUP_CLASS_NAME = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    
+    private static final String IO_URING_SERVER_SOCKET_CHANNEL_CLASS_NAME = "io.netty.incubator.channel.uring.IOUringServerSocketChannel";
+    
+    @Getter
+    private final FrontendTransportType type;
+    
+    private final IntFunction<EventLoopGroup> eventLoopGroupFactory;
+    
+    @Getter
+    private final Class<? extends ServerChannel> serverChannelClass;
+    
+    /**
+     * Create frontend transport.
+     *
+     * @param type frontend transport type
+     * @return created frontend transport, which falls back to epoll if io_uring is unavailable and falls back to NIO if epoll is unavailable
+     */
+    public static FrontendTransport create(final FrontendTransportType type) {
+        if (FrontendTransportType.IO_URING == type) {
+            Optional<FrontendTransport> result = findIOUringTransport();
+            if (result.isPresent()) {
+                return result.get();
+            }
+            log.warn("io_uring transport is unavailable, fall back to epoll transport.");
+        }
+        if (FrontendTransportType.NIO != type && Epoll.isAvailable()) {
+            return new FrontendTransport(FrontendTransportType.EPOLL, EpollEventLoopGroup::new, EpollServerSocketChannel.class);
+        }
+        return new FrontendTransport(FrontendTransportType.NIO, NioEventLoopGroup::new, NioServerSocketChannel.class);
+    }
+    
+    private static Optional<FrontendTransport> findIOUringTransport() {
+        try {
+            if (!(Boolean) Class.forName(IO_URING_CLASS_NAME).getMethod("isAvailable").invoke(null)) {
+                return Optional.empty();
+            }
+            Constructor<? extends EventLoopGroup> eventLoopGroupConstructor = Class.forName(IO_URING_EVENT_LOOP_GROUP_CLASS_NAME).asSubclass(EventLoopGroup.class).getConstructor(int.class);
+            Class<? extends ServerChannel> serverChannelClass = Class.forName(IO_URING_SERVER_SOCKET_CHANNEL_CLASS_NAME).asSubclass(ServerChannel.class);
+            return Optional.of(new FrontendTransport(FrontendTransportType.IO_URING, nThreads -> newEventLoopGroup(eventLoopGroupConstructor, nThreads), serverChannelClass));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static EventLoopGroup newEventLoopGroup(final Constructor<? extends EventLoopGroup> constructor, final int nThreads) {
+        return constructor.newInstance(nThreads);
+    }
+    
+    /**
+     * Create event loop group.
+     *
+     * @param nThreads number of threads, 0 means let Netty decide
+     * @return created event loop group
+     */
+    public EventLoopGroup createEventLoopGroup(final int nThreads) {
+        return eventLoopGroupFactory.apply(nThreads);
+    }
+}
@@ -41,6 +41,7 @@ public final class ServerHandlerInitializer extends ChannelInitializer<SocketCha
         ChannelPipeline pipeline = socketChannel.pipeline();
         pipeline.addLast(new ChannelAttrInitializer());
         pipeline.addLast(new PacketCodec(databaseProtocolFrontendEngine.getCodecEngine()));
+        databaseProtocolFrontendEngine.getMessageEncoders().forEach(pipeline::addLast);
         pipeline.addLast(new FrontendChannelLimitationInboundHandler(databaseProtocolFrontendEngine));
         pipeline.addLast(new FrontendChannelInboundHandler(databaseProtocolFrontendEngine, socketChannel));
     }
@@ -49,6 +49,8 @@ import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -97,6 +99,9 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     @Mock
     private FrontendContext frontendContext;
     
+    @Mock
+    private Executor executor;
+    
     @Before
     public void setup() {
         ProxyContext.init(new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData()), mock(InstanceContext.class)));
@@ -106,12 +111,12 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     
     @Test
     public void assertRunNeedFlushByFalse() throws SQLException, BackendConnectionException {
-        when(queryCommandExecutor.execute()).thenReturn(Collections.emptyList());
+        when(queryCommandExecutor.executeFuture(executor)).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, executor);
         actual.run();
         verify(queryCommandExecutor).close();
         verify(backendConnection).closeExecutionResources();
@@ -120,16 +125,17 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     @SuppressWarnings("unchecked")
     @Test
     public void assertRunNeedFlushByTrue() throws SQLException, BackendConnectionException {
-        when(queryCommandExecutor.execute()).thenReturn(Collections.singleton(databasePacket));
+        when(queryCommandExecutor.executeFuture(executor)).thenReturn(CompletableFuture.completedFuture(Collections.singleton(databasePacket)));
         when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        when(engine.getCommandExecuteEngine().writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1, executor)).thenReturn(CompletableFuture.completedFuture(null));
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, executor);
         actual.run();
         verify(handlerContext).write(databasePacket);
         verify(handlerContext).flush();
-        verify(engine.getCommandExecuteEngine()).writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1);
+        verify(engine.getCommandExecuteEngine()).writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1, executor);
         verify(queryCommandExecutor).close();
         verify(backendConnection).closeExecutionResources();
     }
@@ -138,12 +144,12 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     @Test
     public void assertRunByCommandExecutor() throws SQLException, BackendConnectionException {
         when(engine.getFrontendContext()).thenReturn(frontendContext);
-        when(commandExecutor.execute()).thenReturn(Collections.singleton(databasePacket));
+        when(commandExecutor.executeFuture(executor)).thenReturn(CompletableFuture.completedFuture(Collections.singleton(databasePacket)));
         when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, executor);
         actual.run();
         verify(handlerContext).write(databasePacket);
         verify(handlerContext).flush();
@@ -155,14 +161,14 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     @Test
     public void assertRunWithException() throws BackendConnectionException, SQLException {
         RuntimeException mockException = new RuntimeException("mock");
-        doThrow(mockException).when(commandExecutor).execute();
+        doThrow(mockException).when(commandExecutor).executeFuture(executor);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
         when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
         when(engine.getCommandExecuteEngine().getErrorPacket(mockException)).thenReturn(databasePacket);
         when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.of(databasePacket));
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, executor);
         actual.run();
         verify(handlerContext, times(2)).write(databasePacket);
         verify(handlerContext).flush();
@@ -171,14 +177,14 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     
     @Test
     public void assertRunWithOOMError() throws BackendConnectionException, SQLException {
-        doThrow(OutOfMemoryError.class).when(commandExecutor).execute();
+        doThrow(OutOfMemoryError.class).when(commandExecutor).executeFuture(executor);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
         when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
         when(engine.getCommandExecuteEngine().getErrorPacket(any(RuntimeException.class))).thenReturn(databasePacket);
         when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.of(databasePacket));
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, executor);
         actual.run();
         verify(handlerContext, times(2)).write(databasePacket);
         verify(handlerContext).flush();
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataFlusherTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    public void assertWriteWithRowsThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProperties(2, 1024, 0));
+        flusher.write(new Object(), -1);
+        verify(context, never()).flush();
+        flusher.write(new Object(), -1);
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertWriteWithBytesThreshold() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProperties(2, 1024, 0));
+        flusher.write(new Object(), 512);
+        flusher.write(new Object(), 256);
+        flusher.write(new Object(), 128);
+        verify(context, never()).flush();
+        assertTrue(flusher.isFlushRequired(128));
+        flusher.write(new Object(), 128);
+        verify(context).flush();
+        assertFalse(flusher.isFlushRequired(128));
+    }
+    
+    @Test
+    public void assertWriteWithFlushInterval() throws InterruptedException {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProperties(128, 1024, 50));
+        flusher.write(new Object(), 1);
+        Thread.sleep(60L);
+        flusher.write(new Object(), 1);
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertFlush() {
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock, createProperties(128, 1024, 0));
+        flusher.write(new Object(), -1);
+        flusher.write(new Object(), 1);
+        assertThat(flusher.flush(), is(2));
+        assertThat(flusher.flush(), is(0));
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    public void assertAwaitWritableWhenWritable() {
+        when(context.channel().isWritable()).thenReturn(true);
+        assertThat(new QueryDataFlusher(context, resourceLock, createProperties(128, 1024, 0)).awaitWritable(), is(0L));
+        verify(resourceLock, never()).doAwait();
+    }
+    
+    @Test
+    public void assertAwaitWritableWhenNotWritable() {
+        when(context.channel().isWritable()).thenReturn(false, true);
+        when(context.channel().isActive()).thenReturn(true);
+        new QueryDataFlusher(context, resourceLock, createProperties(128, 1024, 0)).awaitWritable();
+        verify(context).flush();
+        verify(resourceLock).doAwait();
+    }
+    
+    private ConfigurationProperties createProperties(final int flushThreshold, final int flushBytesThreshold, final int flushIntervalMillis) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(flushThreshold));
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), String.valueOf(flushBytesThreshold));
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLIS.getKey(), String.valueOf(flushIntervalMillis));
+        return new ConfigurationProperties(result);
+    }
+}
@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
@@ -27,7 +32,7 @@ public final class ConnectionThreadExecutorGroupTest {
     @Test
     public void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, ExecutorThreadType.PLATFORM);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
@@ -35,8 +40,19 @@ public final class ConnectionThreadExecutorGroupTest {
     @Test
     public void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, ExecutorThreadType.PLATFORM);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    public void assertRegisterWithVirtualThreadType() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, ExecutorThreadType.VIRTUAL);
+        Thread firstThread = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(Thread::currentThread).get();
+        Thread secondThread = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(Thread::currentThread).get();
+        assertThat(secondThread, is(firstThread));
+        assertThat(firstThread.getName(), is("Connection-3-ThreadExecutor"));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.apache.shardingsphere.infra.config.props.FrontendTransportType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class FrontendTransportTest {
+    
+    @Test
+    public void assertCreateNIOTransport() {
+        FrontendTransport actual = FrontendTransport.create(FrontendTransportType.NIO);
+        assertThat(actual.getType(), is(FrontendTransportType.NIO));
+        assertThat(actual.getServerChannelClass(), is((Object) NioServerSocketChannel.class));
+        EventLoopGroup eventLoopGroup = actual.createEventLoopGroup(1);
+        try {
+            assertThat(eventLoopGroup, instanceOf(NioEventLoopGroup.class));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+    
+    @Test
+    public void assertCreateEpollTransport() {
+        assertEpollOrNIOTransport(FrontendTransport.create(FrontendTransportType.EPOLL));
+    }
+    
+    @Test
+    public void assertCreateIOUringTransportFallback() {
+        assertEpollOrNIOTransport(FrontendTransport.create(FrontendTransportType.IO_URING));
+    }
+    
+    private void assertEpollOrNIOTransport(final FrontendTransport actual) {
+        if (Epoll.isAvailable()) {
+            assertThat(actual.getType(), is(FrontendTransportType.EPOLL));
+            assertThat(actual.getServerChannelClass(), is((Object) EpollServerSocketChannel.class));
+        } else {
+            assertThat(actual.getType(), is(FrontendTransportType.NIO));
+            assertThat(actual.getServerChannelClass(), is((Object) NioServerSocketChannel.class));
+        }
+    }
+}
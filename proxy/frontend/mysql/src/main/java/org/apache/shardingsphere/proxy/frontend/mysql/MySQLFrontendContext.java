@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.frontend.mysql;
 
 import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 
@@ -28,8 +30,15 @@ public final class MySQLFrontendContext implements FrontendContext {
     
     private boolean previousCommandRequiresNoServerResponse;
     
+    @Getter
+    @Setter
+    private volatile boolean localInfileRequested;
+    
     @Override
     public boolean isRequiredSameThreadForConnection(final Object message) {
+        if (localInfileRequested) {
+            return true;
+        }
         ByteBuf byteBuf = (ByteBuf) message;
         if (byteBuf.readableBytes() < 2) {
             return false;
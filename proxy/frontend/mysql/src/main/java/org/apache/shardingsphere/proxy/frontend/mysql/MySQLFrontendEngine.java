@@ -17,36 +17,44 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql;
 
+import io.netty.channel.ChannelOutboundHandler;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLResultSetRowsEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerInfo;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLStatementIDGenerator;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadContextRegistry;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
-import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.mysql.authentication.MySQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContext;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Frontend engine for MySQL.
  */
 @Getter
 public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine {
     
-    private final FrontendContext frontendContext = new MySQLFrontendContext();
+    private final MySQLFrontendContext frontendContext = new MySQLFrontendContext();
     
     private final AuthenticationEngine authenticationEngine = new MySQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine(frontendContext);
     
     private final DatabasePacketCodecEngine<MySQLPacket> codecEngine = new MySQLPacketCodecEngine();
     
+    private final Collection<ChannelOutboundHandler> messageEncoders = Collections.singletonList(new MySQLResultSetRowsEncoder());
+    
     public MySQLFrontendEngine() {
         MySQLServerInfo.setDefaultMysqlVersion(ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION));
@@ -60,6 +68,7 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     @Override
     public void release(final ConnectionSession connectionSession) {
         MySQLStatementIDGenerator.getInstance().unregisterConnection(connectionSession.getConnectionId());
+        BulkLoadContextRegistry.getInstance().remove(connectionSession.getConnectionId(), MySQLLoadDataContext.class).ifPresent(MySQLLoadDataContext::cancel);
     }
     
     @Override
@@ -18,37 +18,56 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowsPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataFlusher;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.MySQLFrontendContext;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLResultSetRowEncodableExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLoadDataLocalInfileExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
 
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Command execute engine for MySQL.
  */
+@RequiredArgsConstructor
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int MAX_RESULT_SET_ROWS_PACKET_BYTES = 64 * 1024;
+    
+    private final MySQLFrontendContext frontendContext;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
+        if (frontendContext.isLocalInfileRequested()) {
+            if (!payload.getByteBuf().isReadable()) {
+                frontendContext.setLocalInfileRequested(false);
+            }
+            return MySQLCommandPacketType.LOCAL_INFILE_DATA;
+        }
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
     }
     
@@ -61,7 +80,11 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public CommandExecutor getCommandExecutor(final CommandPacketType type, final CommandPacket packet, final ConnectionSession connectionSession) throws SQLException {
-        return MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, connectionSession);
+        CommandExecutor result = MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, connectionSession);
+        if (result instanceof MySQLComLoadDataLocalInfileExecutor) {
+            frontendContext.setLocalInfileRequested(true);
+        }
+        return result;
     }
     
     @Override
@@ -75,26 +98,82 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public CompletableFuture<Void> writeQueryData(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                                                  final int headerPackagesCount, final Executor executor) throws SQLException {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
-            return;
+            return CompletableFuture.completedFuture(null);
+        }
+        QueryDataFlusher flusher = new QueryDataFlusher(context, backendConnection.getResourceLock(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        return writeQueryData(context, backendConnection, queryCommandExecutor, flusher, executor);
+    }
+    
+    private CompletableFuture<Void> writeQueryData(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                                                   final QueryDataFlusher flusher, final Executor executor) throws SQLException {
+        boolean finished = queryCommandExecutor instanceof MySQLResultSetRowEncodableExecutor
+                ? writeEncodedQueryData(context, flusher, (MySQLResultSetRowEncodableExecutor) queryCommandExecutor)
+                : writeQueryRowPackets(flusher, queryCommandExecutor);
+        if (finished) {
+            context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(backendConnection.getConnectionSession())));
+            return CompletableFuture.completedFuture(null);
+        }
+        flusher.flush();
+        return queryCommandExecutor.awaitNextReady().thenComposeAsync(unused -> resumeWritingQueryData(context, backendConnection, queryCommandExecutor, flusher, executor), executor);
+    }
+    
+    private CompletableFuture<Void> resumeWritingQueryData(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                                                           final QueryDataFlusher flusher, final Executor executor) {
+        try {
+            return writeQueryData(context, backendConnection, queryCommandExecutor, flusher, executor);
+        } catch (final SQLException ex) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(ex);
+            return result;
         }
-        int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
+    }
+    
+    private boolean writeQueryRowPackets(final QueryDataFlusher flusher, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        while (queryCommandExecutor.isNextReady()) {
+            if (!queryCommandExecutor.next()) {
+                return true;
+            }
+            flusher.awaitWritable();
+            flusher.write(queryCommandExecutor.getQueryRowPacket(), -1);
+        }
+        return false;
+    }
+    
+    private boolean writeEncodedQueryData(final ChannelHandlerContext context, final QueryDataFlusher flusher, final MySQLResultSetRowEncodableExecutor queryCommandExecutor) throws SQLException {
+        boolean result = false;
+        MySQLResultSetRowsPacket rowsPacket = null;
+        try {
+            while (queryCommandExecutor.isNextReady()) {
+                if (!queryCommandExecutor.next()) {
+                    result = true;
+                    break;
+                }
+                if (null != rowsPacket && !context.channel().isWritable()) {
+                    flusher.write(rowsPacket, rowsPacket.getWrittenBytes());
+                    rowsPacket = null;
+                }
+                flusher.awaitWritable();
+                if (null == rowsPacket) {
+                    rowsPacket = new MySQLResultSetRowsPacket(context.alloc().buffer(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+                }
+                queryCommandExecutor.encodeQueryRow(rowsPacket);
+                if (rowsPacket.getWrittenBytes() >= MAX_RESULT_SET_ROWS_PACKET_BYTES || flusher.isFlushRequired(rowsPacket.getWrittenBytes())) {
+                    flusher.write(rowsPacket, rowsPacket.getWrittenBytes());
+                    rowsPacket = null;
+                }
+            }
+            if (null != rowsPacket) {
+                context.write(rowsPacket);
+                rowsPacket = null;
             }
-            DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+        } finally {
+            if (null != rowsPacket) {
+                rowsPacket.release();
             }
         }
-        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(backendConnection.getConnectionSession())));
+        return result;
     }
 }
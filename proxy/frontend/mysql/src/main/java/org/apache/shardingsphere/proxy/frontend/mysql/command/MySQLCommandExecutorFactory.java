@@ -30,6 +30,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.p
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
@@ -45,9 +46,13 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execu
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLoadDataLocalInfileExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLocalInfileDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataCommand;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Command executor factory for MySQL.
@@ -75,7 +80,7 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, connectionSession);
             case COM_QUERY:
-                return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
+                return newComQueryExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
             case COM_PING:
                 return new MySQLComPingExecutor(connectionSession);
             case COM_STMT_PREPARE:
@@ -92,8 +97,15 @@ public final class MySQLCommandExecutorFactory {
                 return new MySQLComSetOptionExecutor((MySQLComSetOptionPacket) commandPacket, connectionSession);
             case COM_RESET_CONNECTION:
                 return new MySQLComResetConnectionExecutor(connectionSession);
+            case LOCAL_INFILE_DATA:
+                return new MySQLComLocalInfileDataExecutor((MySQLLocalInfileDataPacket) commandPacket, connectionSession);
             default:
                 return new MySQLUnsupportedCommandExecutor(commandPacketType);
         }
     }
+    
+    private static CommandExecutor newComQueryExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
+        Optional<MySQLLoadDataCommand> loadDataCommand = MySQLLoadDataCommand.parse(packet.getSql());
+        return loadDataCommand.isPresent() ? new MySQLComLoadDataLocalInfileExecutor(loadDataCommand.get(), connectionSession) : new MySQLComQueryPacketExecutor(packet, connectionSession);
+    }
 }
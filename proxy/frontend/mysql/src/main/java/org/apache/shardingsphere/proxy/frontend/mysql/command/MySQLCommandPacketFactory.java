@@ -34,6 +34,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.p
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
@@ -82,6 +83,8 @@ public final class MySQLCommandPacketFactory {
                 return new MySQLComPingPacket();
             case COM_RESET_CONNECTION:
                 return new MySQLComResetConnectionPacket();
+            case LOCAL_INFILE_DATA:
+                return new MySQLLocalInfileDataPacket(payload);
             default:
                 return new MySQLUnsupportedCommandPacket(commandPacketType);
         }
@@ -25,24 +25,25 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnTyp
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowsPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.QueryContext;
-import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
-import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLResultSetRowEncodableExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
@@ -55,7 +56,7 @@ import java.util.List;
  * COM_STMT_EXECUTE command executor for MySQL.
  */
 @RequiredArgsConstructor
-public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
+public final class MySQLComStmtExecuteExecutor implements MySQLResultSetRowEncodableExecutor {
     
     private final MySQLComStmtExecutePacket packet;
     
@@ -66,16 +67,16 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private MySQLBinaryResultSetRowEncoder rowEncoder;
+    
+    private Object[] rowValues;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
         List<Object> params = packet.readParameters(preparedStatement.getParameterTypes(), preparedStatement.getLongData().keySet());
         preparedStatement.getLongData().forEach(params::set);
-        SQLStatementContext<?> sqlStatementContext = preparedStatement.getSqlStatementContext();
-        if (sqlStatementContext instanceof ParameterAware) {
-            ((ParameterAware) sqlStatementContext).setUpParameters(params);
-        }
-        QueryContext queryContext = new QueryContext(sqlStatementContext, preparedStatement.getSql(), params);
+        QueryContext queryContext = new QueryContext(preparedStatement.bindParameters(params), preparedStatement.getSql(), params);
         connectionSession.setQueryContext(queryContext);
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(DatabaseTypeFactory.getInstance("MySQL"), queryContext, connectionSession, true);
         ResponseHeader responseHeader = proxyBackendHandler.execute();
@@ -93,6 +94,12 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        List<MySQLBinaryColumnType> columnTypes = new ArrayList<>(queryResponseHeader.getQueryHeaders().size());
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            columnTypes.add(MySQLBinaryColumnType.valueOfJDBCType(each.getColumnType()));
+        }
+        rowEncoder = new MySQLBinaryResultSetRowEncoder(columnTypes);
+        rowValues = new Object[columnTypes.size()];
         int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession));
     }
@@ -121,6 +128,13 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return new BinaryRow(result);
     }
     
+    @Override
+    public void encodeQueryRow(final MySQLResultSetRowsPacket rowsPacket) throws SQLException {
+        proxyBackendHandler.fillRowData(rowValues);
+        rowEncoder.encode(rowsPacket.startRow(), rowValues);
+        rowsPacket.finishRow();
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadContextRegistry;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Command local infile data executor for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLComLocalInfileDataExecutor implements CommandExecutor {
+    
+    private final MySQLLocalInfileDataPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        if (!packet.isEndOfFile()) {
+            BulkLoadContextRegistry.getInstance().find(connectionSession.getConnectionId(), MySQLLoadDataContext.class).ifPresent(optional -> optional.write(packet.getData()));
+            return Collections.emptyList();
+        }
+        Optional<MySQLLoadDataContext> loadDataContext = BulkLoadContextRegistry.getInstance().remove(connectionSession.getConnectionId(), MySQLLoadDataContext.class);
+        if (!loadDataContext.isPresent()) {
+            throw new UnsupportedSQLOperationException("local infile data without LOAD DATA LOCAL INFILE");
+        }
+        long affectedRows = loadDataContext.get().finish();
+        long recordCount = loadDataContext.get().getRecordCount();
+        long deletedCount = loadDataContext.get().getLoadDataCommand().isReplace() ? Math.max(0L, affectedRows - recordCount) : 0L;
+        long skippedCount = loadDataContext.get().getLoadDataCommand().isReplace() ? 0L : Math.max(0L, recordCount - affectedRows);
+        String info = String.format("Records: %d  Deleted: %d  Skipped: %d  Warnings: 0", recordCount, deletedCount, skippedCount);
+        return Collections.singleton(new MySQLOKPacket(affectedRows, 0L, ServerStatusFlagCalculator.calculateFor(connectionSession), 0, info));
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadCommand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LOAD DATA LOCAL INFILE command of MySQL which loads content of client local file into table.
+ *
+ * @see <a href="https://dev.mysql.com/doc/refman/8.0/en/load-data.html">LOAD DATA Statement</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class MySQLLoadDataCommand implements BulkLoadCommand {
+    
+    private static final Pattern LOAD_DATA_PATTERN = Pattern.compile(
+            "^\\s*LOAD\\s+DATA\\s+(?:(?:LOW_PRIORITY|CONCURRENT)\\s+)?LOCAL\\s+INFILE\\s*('(?:[^'\\\\]|\\\\.|'')*'|\"(?:[^\"\\\\]|\\\\.|\"\")*\")\\s*(?:(REPLACE|IGNORE)\\s+)?INTO\\s+TABLE\\s+"
+                    + "(?:(`[^`]+`|[\\w$]+)\\s*\\.\\s*)?(`[^`]+`|[\\w$]+)(.*?)[;\\s]*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final Pattern OPTION_TOKEN_PATTERN = Pattern.compile("'((?:[^'\\\\]|\\\\.|'')*)'|\"((?:[^\"\\\\]|\\\\.|\"\")*)\"|`([^`]+)`|[(),=@]|[^\\s(),=@'\"`]+");
+    
+    private final String fileName;
+    
+    private final boolean replace;
+    
+    private final String databaseName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final String fieldsTerminatedBy;
+    
+    private final String fieldsEnclosedBy;
+    
+    private final String fieldsEscapedBy;
+    
+    private final String linesStartingBy;
+    
+    private final String linesTerminatedBy;
+    
+    private final long ignoreLines;
+    
+    /**
+     * Parse LOAD DATA LOCAL INFILE command.
+     *
+     * @param sql SQL
+     * @return parsed LOAD DATA LOCAL INFILE command, empty if SQL is not LOAD DATA LOCAL INFILE
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static Optional<MySQLLoadDataCommand> parse(final String sql) {
+        if (sql.length() < 4 || !sql.trim().regionMatches(true, 0, "LOAD", 0, 4)) {
+            return Optional.empty();
+        }
+        Matcher matcher = LOAD_DATA_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String fileName = unquoteString(matcher.group(1));
+        List<String> tokens = tokenizeOptions(matcher.group(5));
+        String fieldsTerminatedBy = "\t";
+        String fieldsEnclosedBy = "";
+        String fieldsEscapedBy = "\\";
+        String linesStartingBy = "";
+        String linesTerminatedBy = "\n";
+        long ignoreLines = 0L;
+        List<String> columnNames = Collections.emptyList();
+        boolean linesClause = false;
+        int index = 0;
+        while (index < tokens.size()) {
+            String each = tokens.get(index).toUpperCase();
+            switch (each) {
+                case "CHARACTER":
+                case "CHARSET":
+                    index += "CHARACTER".equals(each) ? 2 : 1;
+                    break;
+                case "FIELDS":
+                case "COLUMNS":
+                    linesClause = false;
+                    break;
+                case "LINES":
+                    linesClause = true;
+                    break;
+                case "TERMINATED":
+                    if (linesClause) {
+                        linesTerminatedBy = nextString(tokens, ++index);
+                    } else {
+                        fieldsTerminatedBy = nextString(tokens, ++index);
+                    }
+                    index++;
+                    break;
+                case "OPTIONALLY":
+                    break;
+                case "ENCLOSED":
+                    fieldsEnclosedBy = nextString(tokens, ++index);
+                    index++;
+                    break;
+                case "ESCAPED":
+                    fieldsEscapedBy = nextString(tokens, ++index);
+                    index++;
+                    break;
+                case "STARTING":
+                    linesStartingBy = nextString(tokens, ++index);
+                    index++;
+                    break;
+                case "IGNORE":
+                    ignoreLines = Long.parseLong(tokens.get(++index));
+                    index++;
+                    break;
+                case "(":
+                    columnNames = new ArrayList<>();
+                    index = parseColumnNames(tokens, index + 1, columnNames);
+                    break;
+                default:
+                    throw new UnsupportedSQLOperationException(String.format("LOAD DATA LOCAL INFILE with `%s`", tokens.get(index)));
+            }
+            index++;
+        }
+        if (fieldsTerminatedBy.isEmpty() || linesTerminatedBy.isEmpty() || fieldsEnclosedBy.length() > 1 || fieldsEscapedBy.length() > 1) {
+            throw new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with empty terminator or multiple characters enclosure and escape");
+        }
+        return Optional.of(new MySQLLoadDataCommand(fileName, "REPLACE".equalsIgnoreCase(matcher.group(2)), null == matcher.group(3) ? null : unquoteIdentifier(matcher.group(3)),
+                unquoteIdentifier(matcher.group(4)), columnNames, fieldsTerminatedBy, fieldsEnclosedBy, fieldsEscapedBy, linesStartingBy, linesTerminatedBy, ignoreLines));
+    }
+    
+    private static List<String> tokenizeOptions(final String options) {
+        List<String> result = new ArrayList<>();
+        Matcher matcher = OPTION_TOKEN_PATTERN.matcher(options);
+        while (matcher.find()) {
+            result.add(matcher.group());
+        }
+        return result;
+    }
+    
+    private static String nextString(final List<String> tokens, final int index) {
+        String result = tokens.get("BY".equalsIgnoreCase(tokens.get(index)) ? index + 1 : index);
+        if (!result.startsWith("'") && !result.startsWith("\"")) {
+            throw new UnsupportedSQLOperationException(String.format("LOAD DATA LOCAL INFILE with `%s`", result));
+        }
+        return unquoteString(result);
+    }
+    
+    private static int parseColumnNames(final List<String> tokens, final int startIndex, final List<String> columnNames) {
+        int result = startIndex;
+        while (!")".equals(tokens.get(result))) {
+            String each = tokens.get(result);
+            if ("@".equals(each)) {
+                throw new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with user variable");
+            }
+            if (!",".equals(each)) {
+                columnNames.add(unquoteIdentifier(each));
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private static String unquoteIdentifier(final String identifier) {
+        return identifier.startsWith("`") ? identifier.substring(1, identifier.length() - 1) : identifier;
+    }
+    
+    private static String unquoteString(final String literal) {
+        char quote = literal.charAt(0);
+        String value = literal.substring(1, literal.length() - 1);
+        StringBuilder result = new StringBuilder(value.length());
+        int index = 0;
+        while (index < value.length()) {
+            char each = value.charAt(index);
+            if ('\\' == each && index + 1 < value.length()) {
+                result.append(unescape(value.charAt(++index)));
+            } else if (quote == each && index + 1 < value.length() && quote == value.charAt(index + 1)) {
+                result.append(quote);
+                index++;
+            } else {
+                result.append(each);
+            }
+            index++;
+        }
+        return result.toString();
+    }
+    
+    private static char unescape(final char escaped) {
+        switch (escaped) {
+            case '0':
+                return '\0';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return 0x1A;
+            default:
+                return escaped;
+        }
+    }
+    
+    @Override
+    public String getCommandName() {
+        return "LOAD DATA LOCAL INFILE";
+    }
+    
+    /**
+     * Create INSERT SQL to be executed by storage node for rows of local file.
+     *
+     * @param actualTableName actual table name
+     * @param columnNames column names
+     * @param rowCount count of rows
+     * @return INSERT SQL
+     */
+    public String toActualInsertSQL(final String actualTableName, final List<String> columnNames, final int rowCount) {
+        StringBuilder result = new StringBuilder(replace ? "REPLACE INTO " : "INSERT IGNORE INTO ");
+        result.append(quoteIdentifier(actualTableName)).append(" (");
+        StringBuilder values = new StringBuilder("(");
+        for (int i = 0; i < columnNames.size(); i++) {
+            result.append(0 == i ? "" : ", ").append(quoteIdentifier(columnNames.get(i)));
+            values.append(0 == i ? "?" : ", ?");
+        }
+        values.append(')');
+        result.append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            result.append(0 == i ? "" : ", ").append(values);
+        }
+        return result.toString();
+    }
+    
+    private static String quoteIdentifier(final String identifier) {
+        return '`' + identifier.replace("`", "``") + '`';
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.dialect.exception.SQLDialectException;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.ShardingSphereSQLException;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadContext;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadShardWriter;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * LOAD DATA LOCAL INFILE context of MySQL, which routes rows of local infile content to data nodes.
+ *
+ * <p>Client does not read any response until the whole local file is sent, so failure of loading is kept and reported after the end of local file.</p>
+ */
+public final class MySQLLoadDataContext extends BulkLoadContext<List<List<String>>> {
+    
+    private static final int ROUTE_BATCH_SIZE = 1000;
+    
+    private static final int SHARD_BATCH_SIZE = 500;
+    
+    @Getter
+    private final MySQLLoadDataCommand loadDataCommand;
+    
+    private final MySQLLoadDataRowDecoder rowDecoder;
+    
+    private final BulkLoadRouter router;
+    
+    private final Map<DataNode, List<List<String>>> shardBatches = new LinkedHashMap<>();
+    
+    private List<List<String>> pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    @Getter
+    private long recordCount;
+    
+    private Exception failure;
+    
+    public MySQLLoadDataContext(final ConnectionSession connectionSession, final MySQLLoadDataCommand loadDataCommand) {
+        ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction(), () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE in transaction"));
+        this.loadDataCommand = loadDataCommand;
+        rowDecoder = new MySQLLoadDataRowDecoder(loadDataCommand, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        router = new BulkLoadRouter(connectionSession, loadDataCommand, MySQLInsertStatement::new);
+    }
+    
+    /**
+     * Write content of local file.
+     *
+     * @param data content of local file
+     */
+    public void write(final byte[] data) {
+        if (null != failure) {
+            return;
+        }
+        try {
+            pendingRows.addAll(rowDecoder.decode(data));
+            if (pendingRows.size() >= ROUTE_BATCH_SIZE) {
+                dispatchPendingRows();
+            }
+        } catch (final SQLException | ShardingSphereSQLException | SQLDialectException ex) {
+            failure = ex;
+            cancel();
+        }
+    }
+    
+    private void dispatchPendingRows() throws SQLException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        Iterator<Collection<DataNode>> dataNodes = router.route(pendingRows).iterator();
+        for (List<String> each : pendingRows) {
+            for (DataNode eachDataNode : dataNodes.next()) {
+                List<List<String>> batch = shardBatches.computeIfAbsent(eachDataNode, unused -> new ArrayList<>(SHARD_BATCH_SIZE));
+                batch.add(each);
+                if (SHARD_BATCH_SIZE == batch.size()) {
+                    writeToShard(eachDataNode, batch);
+                    shardBatches.put(eachDataNode, new ArrayList<>(SHARD_BATCH_SIZE));
+                }
+            }
+        }
+        recordCount += pendingRows.size();
+        pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    }
+    
+    @Override
+    protected BulkLoadShardWriter<List<List<String>>> createShardWriter(final DataNode dataNode) throws SQLException {
+        return new MySQLLoadDataShardWriter(router.getDataSource(dataNode), loadDataCommand, dataNode.getTableName(), router.getColumnNames(), SHARD_BATCH_SIZE);
+    }
+    
+    /**
+     * Finish loading, rows of all data nodes are committed only after all of them are written.
+     *
+     * @return affected rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (null != failure) {
+            throw (RuntimeException) failure;
+        }
+        boolean succeed = false;
+        try {
+            pendingRows.addAll(rowDecoder.finish());
+            dispatchPendingRows();
+            for (Entry<DataNode, List<List<String>>> entry : shardBatches.entrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    writeToShard(entry.getKey(), entry.getValue());
+                }
+            }
+            shardBatches.clear();
+            long result = finishShardWriters();
+            succeed = true;
+            return result;
+        } finally {
+            if (!succeed) {
+                cancel();
+            }
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        cancelShardWriters();
+        shardBatches.clear();
+        pendingRows.clear();
+    }
+}
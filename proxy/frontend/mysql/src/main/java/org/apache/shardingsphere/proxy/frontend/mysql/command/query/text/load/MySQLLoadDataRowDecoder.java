@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Row decoder of MySQL local infile content.
+ *
+ * <p>Local infile content may split rows at any byte, so the incomplete tail of each packet is kept until the rest of the row arrives.</p>
+ */
+public final class MySQLLoadDataRowDecoder {
+    
+    private static final int MATCHED = 1;
+    
+    private static final int UNMATCHED = 0;
+    
+    private static final int INCOMPLETE = -1;
+    
+    private static final int NONE = -1;
+    
+    private static final byte[] EMPTY = new byte[0];
+    
+    private final Charset charset;
+    
+    private final byte[] fieldTerminator;
+    
+    private final byte[] lineTerminator;
+    
+    private final byte[] lineStarting;
+    
+    private final int enclosure;
+    
+    private final int escape;
+    
+    private final ByteArrayOutputStream value = new ByteArrayOutputStream();
+    
+    private long remainingIgnoreLines;
+    
+    private byte[] pending = EMPTY;
+    
+    private boolean rowEnded;
+    
+    public MySQLLoadDataRowDecoder(final MySQLLoadDataCommand loadDataCommand, final Charset charset) {
+        this.charset = charset;
+        fieldTerminator = loadDataCommand.getFieldsTerminatedBy().getBytes(charset);
+        lineTerminator = loadDataCommand.getLinesTerminatedBy().getBytes(charset);
+        lineStarting = loadDataCommand.getLinesStartingBy().getBytes(charset);
+        enclosure = loadDataCommand.getFieldsEnclosedBy().isEmpty() ? NONE : loadDataCommand.getFieldsEnclosedBy().charAt(0);
+        escape = loadDataCommand.getFieldsEscapedBy().isEmpty() ? NONE : loadDataCommand.getFieldsEscapedBy().charAt(0);
+        remainingIgnoreLines = loadDataCommand.getIgnoreLines();
+    }
+    
+    /**
+     * Decode complete rows of local infile content.
+     *
+     * @param data local infile content
+     * @return values of decoded rows
+     */
+    public List<List<String>> decode(final byte[] data) {
+        return decodeRows(concat(pending, data), false);
+    }
+    
+    /**
+     * Decode the last row which is not terminated by line terminator.
+     *
+     * @return values of decoded rows
+     */
+    public List<List<String>> finish() {
+        return decodeRows(pending, true);
+    }
+    
+    private byte[] concat(final byte[] first, final byte[] second) {
+        if (0 == first.length) {
+            return second;
+        }
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+    
+    private List<List<String>> decodeRows(final byte[] bytes, final boolean endOfFile) {
+        List<List<String>> result = new LinkedList<>();
+        int rowStart = 0;
+        while (rowStart < bytes.length) {
+            List<String> values = new ArrayList<>();
+            int rowEnd = decodeRow(bytes, rowStart, endOfFile, values);
+            if (INCOMPLETE == rowEnd) {
+                break;
+            }
+            if (remainingIgnoreLines > 0) {
+                remainingIgnoreLines--;
+            } else if (!values.isEmpty()) {
+                result.add(values);
+            }
+            rowStart = rowEnd;
+        }
+        pending = rowStart < bytes.length ? Arrays.copyOfRange(bytes, rowStart, bytes.length) : EMPTY;
+        return result;
+    }
+    
+    private int decodeRow(final byte[] bytes, final int rowStart, final boolean endOfFile, final List<String> values) {
+        int index = rowStart;
+        if (lineStarting.length > 0) {
+            index = skipLineStarting(bytes, index, endOfFile);
+            if (INCOMPLETE == index) {
+                return INCOMPLETE;
+            }
+            if (index < INCOMPLETE) {
+                return INCOMPLETE - index;
+            }
+        }
+        int lineEnd = match(bytes, index, lineTerminator, endOfFile);
+        if (INCOMPLETE == lineEnd) {
+            return INCOMPLETE;
+        }
+        if (MATCHED == lineEnd) {
+            return index + lineTerminator.length;
+        }
+        rowEnded = false;
+        while (!rowEnded) {
+            index = NONE != enclosure && index < bytes.length && enclosure == bytes[index]
+                    ? decodeEnclosedField(bytes, index + 1, endOfFile, values)
+                    : decodeField(bytes, index, endOfFile, values);
+            if (INCOMPLETE == index) {
+                values.clear();
+                return INCOMPLETE;
+            }
+        }
+        return index;
+    }
+    
+    private int skipLineStarting(final byte[] bytes, final int rowStart, final boolean endOfFile) {
+        int result = rowStart;
+        while (result < bytes.length) {
+            int matched = match(bytes, result, lineStarting, endOfFile);
+            if (MATCHED == matched) {
+                return result + lineStarting.length;
+            }
+            int lineEnd = match(bytes, result, lineTerminator, endOfFile);
+            if (INCOMPLETE == matched || INCOMPLETE == lineEnd) {
+                return INCOMPLETE;
+            }
+            if (MATCHED == lineEnd) {
+                return INCOMPLETE - result - lineTerminator.length;
+            }
+            result++;
+        }
+        return endOfFile ? INCOMPLETE - bytes.length : INCOMPLETE;
+    }
+    
+    private int decodeField(final byte[] bytes, final int fieldStart, final boolean endOfFile, final List<String> values) {
+        value.reset();
+        boolean escapedNull = false;
+        int index = fieldStart;
+        while (index < bytes.length) {
+            byte each = bytes[index];
+            if (NONE != escape && escape == each) {
+                if (index + 1 == bytes.length) {
+                    break;
+                }
+                escapedNull = index == fieldStart && 'N' == bytes[index + 1];
+                value.write(unescape(bytes[index + 1]));
+                index += 2;
+                continue;
+            }
+            int result = matchTerminator(bytes, index, endOfFile);
+            if (INCOMPLETE == result) {
+                return INCOMPLETE;
+            }
+            if (MATCHED == result) {
+                values.add(escapedNull && 1 == value.size() || isNullWord() ? null : createValue());
+                return index + (rowEnded ? lineTerminator.length : fieldTerminator.length);
+            }
+            value.write(each);
+            index++;
+        }
+        if (!endOfFile) {
+            return INCOMPLETE;
+        }
+        if (index < bytes.length) {
+            value.write(bytes[index]);
+        }
+        values.add(escapedNull && 1 == value.size() || isNullWord() ? null : createValue());
+        rowEnded = true;
+        return bytes.length;
+    }
+    
+    private int decodeEnclosedField(final byte[] bytes, final int fieldStart, final boolean endOfFile, final List<String> values) {
+        value.reset();
+        int index = fieldStart;
+        while (index < bytes.length) {
+            byte each = bytes[index];
+            if (NONE != escape && escape == each && index + 1 < bytes.length) {
+                value.write(unescape(bytes[index + 1]));
+                index += 2;
+                continue;
+            }
+            if (enclosure == each) {
+                if (index + 1 == bytes.length) {
+                    break;
+                }
+                if (enclosure == bytes[index + 1]) {
+                    value.write(each);
+                    index += 2;
+                    continue;
+                }
+                int result = matchTerminator(bytes, index + 1, endOfFile);
+                if (INCOMPLETE == result) {
+                    return INCOMPLETE;
+                }
+                if (MATCHED == result) {
+                    values.add(createValue());
+                    return index + 1 + (rowEnded ? lineTerminator.length : fieldTerminator.length);
+                }
+            }
+            value.write(each);
+            index++;
+        }
+        if (!endOfFile) {
+            return INCOMPLETE;
+        }
+        if (index < bytes.length && enclosure != bytes[index]) {
+            value.write(bytes[index]);
+        }
+        values.add(createValue());
+        rowEnded = true;
+        return bytes.length;
+    }
+    
+    private int matchTerminator(final byte[] bytes, final int index, final boolean endOfFile) {
+        int result = match(bytes, index, fieldTerminator, endOfFile);
+        if (UNMATCHED != result) {
+            return result;
+        }
+        result = match(bytes, index, lineTerminator, endOfFile);
+        rowEnded = MATCHED == result;
+        return result;
+    }
+    
+    private int match(final byte[] bytes, final int index, final byte[] expected, final boolean endOfFile) {
+        for (int i = 0; i < expected.length; i++) {
+            if (index + i == bytes.length) {
+                return endOfFile ? UNMATCHED : INCOMPLETE;
+            }
+            if (expected[i] != bytes[index + i]) {
+                return UNMATCHED;
+            }
+        }
+        return MATCHED;
+    }
+    
+    private int unescape(final byte escaped) {
+        switch (escaped) {
+            case '0':
+                return 0;
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return 0x1A;
+            default:
+                return escaped;
+        }
+    }
+    
+    private boolean isNullWord() {
+        return NONE != enclosure && 4 == value.size() && "NULL".equals(createValue());
+    }
+    
+    private String createValue() {
+        return new String(value.toByteArray(), charset);
+    }
+}
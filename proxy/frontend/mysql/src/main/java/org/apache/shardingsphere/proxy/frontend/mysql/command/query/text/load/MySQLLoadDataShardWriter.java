@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadShardWriter;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * LOAD DATA LOCAL INFILE writer of one data node, which inserts rows by multiple rows insert statements.
+ */
+public final class MySQLLoadDataShardWriter extends BulkLoadShardWriter<List<List<String>>> {
+    
+    private final MySQLLoadDataCommand loadDataCommand;
+    
+    private final String actualTableName;
+    
+    private final List<String> columnNames;
+    
+    private final int batchSize;
+    
+    private PreparedStatement fullBatchStatement;
+    
+    private long affectedRows;
+    
+    public MySQLLoadDataShardWriter(final DataSource dataSource, final MySQLLoadDataCommand loadDataCommand, final String actualTableName, final List<String> columnNames,
+                                    final int batchSize) throws SQLException {
+        super(dataSource);
+        this.loadDataCommand = loadDataCommand;
+        this.actualTableName = actualTableName;
+        this.columnNames = columnNames;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    protected void writeBuffer(final List<List<String>> rows) throws SQLException {
+        if (batchSize != rows.size()) {
+            try (PreparedStatement preparedStatement = getConnection().prepareStatement(loadDataCommand.toActualInsertSQL(actualTableName, columnNames, rows.size()))) {
+                affectedRows += executeInsert(preparedStatement, rows);
+            }
+            return;
+        }
+        if (null == fullBatchStatement) {
+            fullBatchStatement = getConnection().prepareStatement(loadDataCommand.toActualInsertSQL(actualTableName, columnNames, batchSize));
+        }
+        affectedRows += executeInsert(fullBatchStatement, rows);
+    }
+    
+    private int executeInsert(final PreparedStatement preparedStatement, final List<List<String>> rows) throws SQLException {
+        int parameterIndex = 1;
+        for (List<String> each : rows) {
+            for (String eachValue : each) {
+                preparedStatement.setObject(parameterIndex++, eachValue);
+            }
+        }
+        return preparedStatement.executeUpdate();
+    }
+    
+    @Override
+    protected long endWriting() throws SQLException {
+        if (null != fullBatchStatement) {
+            fullBatchStatement.close();
+        }
+        return affectedRows;
+    }
+}
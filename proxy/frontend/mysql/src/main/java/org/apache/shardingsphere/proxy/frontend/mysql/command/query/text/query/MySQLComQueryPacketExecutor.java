@@ -21,23 +21,28 @@ import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowsPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ParameterizedQueryContextFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLResultSetRowEncodableExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
@@ -46,12 +51,17 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateState
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * COM_QUERY command packet executor for MySQL.
  */
-public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
+public final class MySQLComQueryPacketExecutor implements MySQLResultSetRowEncodableExecutor {
     
     private final ConnectionSession connectionSession;
     
@@ -62,13 +72,25 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     @Getter
     private volatile ResponseType responseType;
     
+    private MySQLTextResultSetRowEncoder rowEncoder;
+    
+    private Object[] rowValues;
+    
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
-        DatabaseType databaseType = DatabaseTypeFactory.getInstance("MySQL");
+        proxyBackendHandler = createProxyBackendHandler(packet, connectionSession, DatabaseTypeFactory.getInstance("MySQL"));
+        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+    }
+    
+    private ProxyBackendHandler createProxyBackendHandler(final MySQLComQueryPacket packet, final ConnectionSession connectionSession, final DatabaseType databaseType) throws SQLException {
+        Optional<QueryContext> parameterizedQueryContext = ParameterizedQueryContextFactory.newInstance(databaseType, packet.getSql(), connectionSession, packet.getHintValueContext());
+        if (parameterizedQueryContext.isPresent()) {
+            connectionSession.setQueryContext(parameterizedQueryContext.get());
+            return ProxyBackendHandlerFactory.newInstance(databaseType, parameterizedQueryContext.get(), connectionSession, false);
+        }
         SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
+        return areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
                 : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession, packet.getHintValueContext());
-        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
@@ -89,7 +111,15 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
-        ResponseHeader responseHeader = proxyBackendHandler.execute();
+        return processResponseHeader(proxyBackendHandler.execute());
+    }
+    
+    @Override
+    public CompletableFuture<Collection<DatabasePacket<?>>> executeFuture(final Executor executor) throws SQLException {
+        return proxyBackendHandler.executeFuture(executor).thenApply(this::processResponseHeader);
+    }
+    
+    private Collection<DatabasePacket<?>> processResponseHeader(final ResponseHeader responseHeader) {
         if (responseHeader instanceof QueryResponseHeader) {
             return processQuery((QueryResponseHeader) responseHeader);
         }
@@ -99,6 +129,12 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        List<Integer> columnTypes = new ArrayList<>(queryResponseHeader.getQueryHeaders().size());
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            columnTypes.add(each.getColumnType());
+        }
+        rowEncoder = new MySQLTextResultSetRowEncoder(columnTypes);
+        rowValues = new Object[columnTypes.size()];
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession));
     }
     
@@ -111,11 +147,28 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return proxyBackendHandler.next();
     }
     
+    @Override
+    public boolean isNextReady() {
+        return proxyBackendHandler.isNextReady();
+    }
+    
+    @Override
+    public CompletableFuture<Void> awaitNextReady() {
+        return proxyBackendHandler.awaitNextReady();
+    }
+    
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
         return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
     }
     
+    @Override
+    public void encodeQueryRow(final MySQLResultSetRowsPacket rowsPacket) throws SQLException {
+        proxyBackendHandler.fillRowData(rowValues);
+        rowEncoder.encode(rowsPacket.startRow(), rowValues);
+        rowsPacket.finishRow();
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -44,6 +44,16 @@ public final class MySQLFrontendContextTest {
         assertFalse(actual.isRequiredSameThreadForConnection(comStmtExecuteMessage));
     }
     
+    @Test
+    public void assertIsRequiredSameThreadForConnectionWhenLocalInfileRequested() {
+        MySQLFrontendContext actual = new MySQLFrontendContext();
+        actual.setLocalInfileRequested(true);
+        assertTrue(actual.isRequiredSameThreadForConnection(Unpooled.wrappedBuffer(new byte[]{'1', '\t', 'a', '\n'})));
+        assertTrue(actual.isRequiredSameThreadForConnection(Unpooled.EMPTY_BUFFER));
+        actual.setLocalInfileRequested(false);
+        assertFalse(actual.isRequiredSameThreadForConnection(Unpooled.wrappedBuffer(new byte[]{0x00, (byte) MySQLCommandPacketType.COM_STMT_EXECUTE.getValue()})));
+    }
+    
     @Test
     public void assertNoEnoughReadableBytes() {
         MySQLFrontendContext actual = new MySQLFrontendContext();
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.authority.rule.builder.AuthorityRuleBuilder;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLResultSetRowsEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
@@ -112,6 +113,12 @@ public final class MySQLFrontendEngineTest extends ProxyContextRestorer {
         verify(context).writeAndFlush(isA(MySQLHandshakePacket.class));
     }
     
+    @Test
+    public void assertGetMessageEncoders() {
+        assertThat(mysqlFrontendEngine.getMessageEncoders().size(), is(1));
+        assertTrue(mysqlFrontendEngine.getMessageEncoders().iterator().next() instanceof MySQLResultSetRowsEncoder);
+    }
+    
     @Test
     public void assertAuthWhenLoginSuccess() {
         setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.p
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -54,6 +55,7 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execu
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLocalInfileDataExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
 import org.junit.Before;
 import org.junit.Test;
@@ -174,6 +176,12 @@ public final class MySQLCommandExecutorFactoryTest extends ProxyContextRestorer
                 instanceOf(MySQLComResetConnectionExecutor.class));
     }
     
+    @Test
+    public void assertNewInstanceWithLocalInfileData() throws SQLException {
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.LOCAL_INFILE_DATA, mock(MySQLLocalInfileDataPacket.class), connectionSession),
+                instanceOf(MySQLComLocalInfileDataExecutor.class));
+    }
+    
     @Test
     public void assertNewInstanceWithUnsupportedCommand() throws SQLException {
         assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_REFRESH, mock(CommandPacket.class), connectionSession), instanceOf(MySQLUnsupportedCommandExecutor.class));
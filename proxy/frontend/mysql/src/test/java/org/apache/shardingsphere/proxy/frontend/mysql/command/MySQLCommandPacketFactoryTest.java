@@ -32,6 +32,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.p
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -229,4 +230,9 @@ public final class MySQLCommandPacketFactoryTest {
     public void assertNewInstanceWithComBinlogDumpGTIDPacket() {
         assertThat(MySQLCommandPacketFactory.newInstance(MySQLCommandPacketType.COM_BINLOG_DUMP_GTID, payload, connectionSession, false), instanceOf(MySQLUnsupportedCommandPacket.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithLocalInfileDataPacket() {
+        assertThat(MySQLCommandPacketFactory.newInstance(MySQLCommandPacketType.LOCAL_INFILE_DATA, payload, connectionSession, false), instanceOf(MySQLLocalInfileDataPacket.class));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLLoadDataCommandTest {
+    
+    @Test
+    public void assertParseNotLoadDataLocalInfile() {
+        assertFalse(MySQLLoadDataCommand.parse("SELECT * FROM t_order").isPresent());
+        assertFalse(MySQLLoadDataCommand.parse("LOAD DATA INFILE '/tmp/t_order.txt' INTO TABLE t_order").isPresent());
+    }
+    
+    @Test
+    public void assertParseWithDefaultOptions() {
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse("load data local infile '/tmp/t_order.txt' into table t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getFileName(), is("/tmp/t_order.txt"));
+        assertFalse(actual.get().isReplace());
+        assertThat(actual.get().getDatabaseName(), nullValue());
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertThat(actual.get().getColumnNames(), is(Collections.emptyList()));
+        assertThat(actual.get().getFieldsTerminatedBy(), is("\t"));
+        assertThat(actual.get().getFieldsEnclosedBy(), is(""));
+        assertThat(actual.get().getFieldsEscapedBy(), is("\\"));
+        assertThat(actual.get().getLinesStartingBy(), is(""));
+        assertThat(actual.get().getLinesTerminatedBy(), is("\n"));
+        assertThat(actual.get().getIgnoreLines(), is(0L));
+    }
+    
+    @Test
+    public void assertParseWithOptions() {
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse("LOAD DATA LOW_PRIORITY LOCAL INFILE 'C:\\\\data\\\\t_order.csv' REPLACE INTO TABLE `sharding_db`.`t_order` "
+                + "CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES STARTING BY '>' TERMINATED BY '\\r\\n' "
+                + "IGNORE 1 LINES (order_id, `user_id`, status);");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getFileName(), is("C:\\data\\t_order.csv"));
+        assertTrue(actual.get().isReplace());
+        assertThat(actual.get().getDatabaseName(), is("sharding_db"));
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertThat(actual.get().getColumnNames(), is(Arrays.asList("order_id", "user_id", "status")));
+        assertThat(actual.get().getFieldsTerminatedBy(), is(","));
+        assertThat(actual.get().getFieldsEnclosedBy(), is("\""));
+        assertThat(actual.get().getFieldsEscapedBy(), is("\\"));
+        assertThat(actual.get().getLinesStartingBy(), is(">"));
+        assertThat(actual.get().getLinesTerminatedBy(), is("\r\n"));
+        assertThat(actual.get().getIgnoreLines(), is(1L));
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertParseWithSetClause() {
+        MySQLLoadDataCommand.parse("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order (order_id, @status) SET status = UPPER(@status)");
+    }
+    
+    @Test
+    public void assertToActualInsertSQL() {
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().toActualInsertSQL("t_order_0", Arrays.asList("order_id", "status"), 2), is("INSERT IGNORE INTO `t_order_0` (`order_id`, `status`) VALUES (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    public void assertToActualReplaceSQL() {
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' REPLACE INTO TABLE t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().toActualInsertSQL("t_order_0", Collections.singletonList("order_id"), 1), is("REPLACE INTO `t_order_0` (`order_id`) VALUES (?)"));
+    }
+}
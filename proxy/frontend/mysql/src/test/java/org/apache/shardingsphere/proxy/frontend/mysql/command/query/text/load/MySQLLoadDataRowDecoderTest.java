@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLLoadDataRowDecoderTest {
+    
+    @Test
+    public void assertDecodeRowsSplitAcrossPackets() {
+        MySQLLoadDataRowDecoder decoder = createDecoder("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order");
+        assertThat(decoder.decode(bytes("1\tfoo\n2\tba")), is(Collections.singletonList(Arrays.asList("1", "foo"))));
+        assertThat(decoder.decode(bytes("r\n3\t\\N")), is(Collections.singletonList(Arrays.asList("2", "bar"))));
+        assertThat(decoder.finish(), is(Collections.singletonList(Arrays.asList("3", null))));
+    }
+    
+    @Test
+    public void assertDecodeEscapedValues() {
+        MySQLLoadDataRowDecoder decoder = createDecoder("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order");
+        assertThat(decoder.decode(bytes("1\ta\\tb\\\\c\\\nd\n")), is(Collections.singletonList(Arrays.asList("1", "a\tb\\c\nd"))));
+    }
+    
+    @Test
+    public void assertDecodeEnclosedValues() {
+        MySQLLoadDataRowDecoder decoder = createDecoder("LOAD DATA LOCAL INFILE '/tmp/t_order.csv' INTO TABLE t_order FIELDS TERMINATED BY ',' ENCLOSED BY '\"' LINES TERMINATED BY '\\r\\n'");
+        List<List<String>> actual = decoder.decode(bytes("1,\"a,b\r\nc\",NULL\r\n2,\"say \"\"hi\"\"\",\"NULL\"\r"));
+        assertThat(actual, is(Collections.singletonList(Arrays.asList("1", "a,b\r\nc", null))));
+        assertThat(decoder.decode(bytes("\n")), is(Collections.singletonList(Arrays.asList("2", "say \"hi\"", "NULL"))));
+    }
+    
+    @Test
+    public void assertDecodeWithIgnoreLinesAndLinesStartingBy() {
+        MySQLLoadDataRowDecoder decoder = createDecoder("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order FIELDS TERMINATED BY ',' LINES STARTING BY 'xxx' IGNORE 1 LINES");
+        assertThat(decoder.decode(bytes("xxxid,status\nxxx1,a\nskipped line\n")), is(Collections.singletonList(Arrays.asList("1", "a"))));
+        assertThat(decoder.decode(bytes("yyyxxx2,b")), is(Collections.emptyList()));
+        assertThat(decoder.finish(), is(Collections.singletonList(Arrays.asList("2", "b"))));
+    }
+    
+    private MySQLLoadDataRowDecoder createDecoder(final String sql) {
+        return new MySQLLoadDataRowDecoder(MySQLLoadDataCommand.parse(sql).orElseThrow(IllegalArgumentException::new), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
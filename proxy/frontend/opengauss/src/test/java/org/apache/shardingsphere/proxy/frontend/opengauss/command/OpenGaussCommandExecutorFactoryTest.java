@@ -57,6 +57,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
@@ -93,15 +94,17 @@ public final class OpenGaussCommandExecutorFactoryTest {
     }
     
     @Test
-    public void assertAggregatedPacketNotBatchedStatements() throws SQLException {
+    public void assertAggregatedPacketNotBatchedStatements() throws SQLException, ReflectiveOperationException {
         PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
         when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
         PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
-        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
+        when(bindPacket.getPortal()).thenReturn("");
         PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
         when(describePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.DESCRIBE_COMMAND);
         PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
         when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
+        when(executePacket.getPortal()).thenReturn("");
+        when(executePacket.getMaxRows()).thenReturn(100);
         PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
         when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
         PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
@@ -111,7 +114,9 @@ public final class OpenGaussCommandExecutorFactoryTest {
         assertThat(actual, instanceOf(PostgreSQLAggregatedCommandExecutor.class));
         Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComParseExecutor.class));
-        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComBindExecutor.class));
+        CommandExecutor actualBindExecutor = actualPacketsIterator.next();
+        assertThat(actualBindExecutor, instanceOf(PostgreSQLComBindExecutor.class));
+        assertThat(Plugins.getMemberAccessor().get(PostgreSQLComBindExecutor.class.getDeclaredField("fetchSize"), actualBindExecutor), is(100));
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComDescribeExecutor.class));
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComExecuteExecutor.class));
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComSyncExecutor.class));
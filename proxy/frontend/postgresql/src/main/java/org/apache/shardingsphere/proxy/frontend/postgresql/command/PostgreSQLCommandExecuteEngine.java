@@ -27,22 +27,27 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketTypeLoader;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDonePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataFlusher;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyOutExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrPacketFactory;
 
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Command execute engine for PostgreSQL.
@@ -76,50 +81,64 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public CompletableFuture<Void> writeQueryData(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                                                  final int headerPackagesCount, final Executor executor) throws SQLException {
         if (ResponseType.QUERY == queryCommandExecutor.getResponseType() && !context.channel().isActive()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), 0));
-            return;
+            return CompletableFuture.completedFuture(null);
         }
-        processSimpleQuery(context, backendConnection, queryCommandExecutor);
-    }
-    
-    private void processSimpleQuery(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryExecutor) throws SQLException {
-        if (ResponseType.UPDATE == queryExecutor.getResponseType()) {
-            context.write(backendConnection.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
-                    : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
-            return;
+        if (ResponseType.UPDATE == queryCommandExecutor.getResponseType()) {
+            writeReadyForQuery(context, backendConnection);
+            return CompletableFuture.completedFuture(null);
         }
-        long dataRows = writeDataPackets(context, backendConnection, queryExecutor);
-        if (ResponseType.QUERY == queryExecutor.getResponseType()) {
-            context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
-        }
-        context.write(backendConnection.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
-                : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, backendConnection.getResourceLock(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        return writeDataPackets(context, backendConnection, queryCommandExecutor, flusher, 0L, executor);
     }
     
-    private long writeDataPackets(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
-        long dataRows = 0;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            flushCount++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
+    private CompletableFuture<Void> writeDataPackets(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                                                     final QueryDataFlusher flusher, final long writtenDataRows, final Executor executor) throws SQLException {
+        long dataRows = writtenDataRows;
+        while (queryCommandExecutor.isNextReady()) {
+            if (!queryCommandExecutor.next()) {
+                writeCompletePackets(context, backendConnection, queryCommandExecutor, dataRows);
+                return CompletableFuture.completedFuture(null);
             }
+            flusher.awaitWritable();
             DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
+            flusher.write(resultValue, -1);
+            if (resultValue instanceof PostgreSQLDataRowPacket || resultValue instanceof PostgreSQLCopyDataPacket) {
                 dataRows++;
             }
         }
-        return dataRows;
+        flusher.flush();
+        long suspendedDataRows = dataRows;
+        return queryCommandExecutor.awaitNextReady()
+                .thenComposeAsync(unused -> resumeWritingDataPackets(context, backendConnection, queryCommandExecutor, flusher, suspendedDataRows, executor), executor);
+    }
+    
+    private CompletableFuture<Void> resumeWritingDataPackets(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                                                             final QueryDataFlusher flusher, final long writtenDataRows, final Executor executor) {
+        try {
+            return writeDataPackets(context, backendConnection, queryCommandExecutor, flusher, writtenDataRows, executor);
+        } catch (final SQLException ex) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(ex);
+            return result;
+        }
+    }
+    
+    private void writeCompletePackets(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final long dataRows) {
+        if (queryCommandExecutor instanceof PostgreSQLComCopyOutExecutor) {
+            context.write(new PostgreSQLCopyDonePacket());
+            context.write(new PostgreSQLCommandCompletePacket("COPY", dataRows));
+        } else if (ResponseType.QUERY == queryCommandExecutor.getResponseType()) {
+            context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
+        }
+        writeReadyForQuery(context, backendConnection);
+    }
+    
+    private void writeReadyForQuery(final ChannelHandlerContext context, final BackendConnection backendConnection) {
+        context.write(backendConnection.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
+                : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
     }
 }
@@ -22,6 +22,8 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -33,8 +35,15 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyInExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyOutExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyCommand;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -46,6 +55,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -74,11 +84,36 @@ public final class PostgreSQLCommandExecutorFactory {
         if (aggregatedCommandPacket.isContainsBatchedStatements()) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
         }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        for (int i = 0; i < packets.size(); i++) {
+            PostgreSQLCommandPacket each = packets.get(i);
+            result.add(each instanceof PostgreSQLComBindPacket
+                    ? new PostgreSQLComBindExecutor(portalContext, (PostgreSQLComBindPacket) each, connectionSession, getFetchSize(packets, i))
+                    : getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
-        return new PostgreSQLAggregatedCommandExecutor(result);
+        return new PostgreSQLPipelinedCommandExecutor(portalContext, connectionSession, packets, result);
+    }
+    
+    /**
+     * Get fetch size of portal bound by aggregated packets, which is max rows of the following execute for the same portal.
+     *
+     * @param packets aggregated packets
+     * @param bindIndex index of bind packet
+     * @return fetch size, 0 means no fetch size
+     */
+    public static int getFetchSize(final List<PostgreSQLCommandPacket> packets, final int bindIndex) {
+        String portal = ((PostgreSQLComBindPacket) packets.get(bindIndex)).getPortal();
+        for (int i = bindIndex + 1; i < packets.size(); i++) {
+            PostgreSQLCommandPacket each = packets.get(i);
+            if (each instanceof PostgreSQLComExecutePacket && portal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
+                return ((PostgreSQLComExecutePacket) each).getMaxRows();
+            }
+            if (each instanceof PostgreSQLComBindPacket && portal.equals(((PostgreSQLComBindPacket) each).getPortal())) {
+                return 0;
+            }
+        }
+        return 0;
     }
     
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket, final ConnectionSession connectionSession,
@@ -103,11 +138,11 @@ public final class PostgreSQLCommandExecutorFactory {
                                                       final PortalContext portalContext) throws SQLException {
         switch (commandPacketType) {
             case SIMPLE_QUERY:
-                return new PostgreSQLComQueryExecutor(portalContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                return getComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, connectionSession, portalContext);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, connectionSession);
             case BIND_COMMAND:
-                return new PostgreSQLComBindExecutor(portalContext, (PostgreSQLComBindPacket) commandPacket, connectionSession);
+                return new PostgreSQLComBindExecutor(portalContext, (PostgreSQLComBindPacket) commandPacket, connectionSession, 0);
             case DESCRIBE_COMMAND:
                 return new PostgreSQLComDescribeExecutor(portalContext, (PostgreSQLComDescribePacket) commandPacket, connectionSession);
             case EXECUTE_COMMAND:
@@ -116,10 +151,25 @@ public final class PostgreSQLCommandExecutorFactory {
                 return new PostgreSQLComSyncExecutor(connectionSession);
             case CLOSE_COMMAND:
                 return new PostgreSQLComCloseExecutor(portalContext, (PostgreSQLComClosePacket) commandPacket, connectionSession);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor((PostgreSQLComCopyDataPacket) commandPacket, connectionSession);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionSession);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor((PostgreSQLComCopyFailPacket) commandPacket, connectionSession);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final PostgreSQLComQueryPacket commandPacket, final ConnectionSession connectionSession,
+                                                       final PortalContext portalContext) throws SQLException {
+        Optional<PostgreSQLCopyCommand> copyCommand = PostgreSQLCopyCommand.parse(commandPacket.getSql());
+        if (!copyCommand.isPresent()) {
+            return new PostgreSQLComQueryExecutor(portalContext, commandPacket, connectionSession);
+        }
+        return copyCommand.get().isCopyIn() ? new PostgreSQLComCopyInExecutor(copyCommand.get(), connectionSession) : new PostgreSQLComCopyOutExecutor(copyCommand.get(), connectionSession);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Command COPY TO STDOUT executor for PostgreSQL, which copies data nodes of table one by one.
+ */
+public final class PostgreSQLComCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final BulkLoadRouter router;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.QUERY;
+    
+    private Iterator<DataNode> dataNodes;
+    
+    private boolean firstDataNode = true;
+    
+    private Connection currentConnection;
+    
+    private CopyOut currentCopyOut;
+    
+    private byte[] currentData;
+    
+    public PostgreSQLComCopyOutExecutor(final PostgreSQLCopyCommand copyCommand, final ConnectionSession connectionSession) {
+        ShardingSpherePreconditions.checkState(PostgreSQLCopyFormat.BINARY != copyCommand.getFormat(), () -> new UnsupportedSQLOperationException("COPY TO STDOUT in binary format"));
+        this.copyCommand = copyCommand;
+        router = new BulkLoadRouter(connectionSession, copyCommand, PostgreSQLInsertStatement::new);
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        dataNodes = router.routeAll().iterator();
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(router.getColumnCount(), false));
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (true) {
+            if (null != currentCopyOut) {
+                currentData = currentCopyOut.readFromCopy();
+                if (null != currentData) {
+                    return true;
+                }
+                closeCurrentConnection();
+            }
+            if (!dataNodes.hasNext()) {
+                return false;
+            }
+            openCopyOut(dataNodes.next());
+        }
+    }
+    
+    private void openCopyOut(final DataNode dataNode) throws SQLException {
+        currentConnection = router.getDataSource(dataNode).getConnection();
+        currentCopyOut = currentConnection.unwrap(PGConnection.class).getCopyAPI().copyOut(copyCommand.toActualSQL(dataNode.getTableName(), firstDataNode && copyCommand.isHeader()));
+        firstDataNode = false;
+    }
+    
+    @Override
+    public DatabasePacket<?> getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentData);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null == currentConnection) {
+            return;
+        }
+        try {
+            if (currentCopyOut.isActive()) {
+                currentCopyOut.cancelCopy();
+            }
+        } finally {
+            closeCurrentConnection();
+        }
+    }
+    
+    private void closeCurrentConnection() throws SQLException {
+        currentCopyOut = null;
+        Connection connection = currentConnection;
+        currentConnection = null;
+        connection.close();
+    }
+}
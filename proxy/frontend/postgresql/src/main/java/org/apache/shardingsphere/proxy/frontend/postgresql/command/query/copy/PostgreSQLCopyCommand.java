@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadCommand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * COPY command of PostgreSQL which copies data between table and client.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyCommand implements BulkLoadCommand {
+    
+    private static final Pattern COPY_PATTERN = Pattern.compile(
+            "^\\s*COPY\\s+(?:((?:\"[^\"]+\"|[\\w$]+))\\s*\\.\\s*)?((?:\"[^\"]+\"|[\\w$]+))\\s*(\\([^)]*\\))?\\s*(FROM|TO)\\s+(STDIN|STDOUT)\\b(.*?)[;\\s]*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final Pattern OPTION_TOKEN_PATTERN = Pattern.compile("E?'((?:[^']|'')*)'|[^\\s,()']+", Pattern.CASE_INSENSITIVE);
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final boolean copyIn;
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final boolean header;
+    
+    /**
+     * Parse COPY command which copies from STDIN or to STDOUT.
+     *
+     * @param sql SQL
+     * @return parsed COPY command, empty if SQL is not COPY FROM STDIN or COPY TO STDOUT of a table
+     */
+    public static Optional<PostgreSQLCopyCommand> parse(final String sql) {
+        if (sql.length() < 4 || !sql.trim().regionMatches(true, 0, "COPY", 0, 4)) {
+            return Optional.empty();
+        }
+        Matcher matcher = COPY_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        boolean copyIn = "FROM".equalsIgnoreCase(matcher.group(4));
+        if (copyIn != "STDIN".equalsIgnoreCase(matcher.group(5))) {
+            return Optional.empty();
+        }
+        List<String> columnNames = null == matcher.group(3) ? Collections.emptyList() : parseColumnNames(matcher.group(3));
+        Iterator<String> tokens = tokenizeOptions(matcher.group(6)).iterator();
+        PostgreSQLCopyFormat format = PostgreSQLCopyFormat.TEXT;
+        Character delimiter = null;
+        String nullString = null;
+        char quote = '"';
+        Character escape = null;
+        boolean header = false;
+        while (tokens.hasNext()) {
+            String each = tokens.next().toUpperCase();
+            switch (each) {
+                case "FORMAT":
+                    format = PostgreSQLCopyFormat.valueOf(nextValue(tokens).toUpperCase());
+                    break;
+                case "CSV":
+                case "BINARY":
+                    format = PostgreSQLCopyFormat.valueOf(each);
+                    break;
+                case "DELIMITER":
+                    delimiter = nextValue(tokens).charAt(0);
+                    break;
+                case "NULL":
+                    nullString = nextValue(tokens);
+                    break;
+                case "QUOTE":
+                    quote = nextValue(tokens).charAt(0);
+                    break;
+                case "ESCAPE":
+                    escape = nextValue(tokens).charAt(0);
+                    break;
+                case "HEADER":
+                    header = true;
+                    break;
+                case "FALSE":
+                case "OFF":
+                case "0":
+                    header = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+        boolean csv = PostgreSQLCopyFormat.CSV == format;
+        return Optional.of(new PostgreSQLCopyCommand(null == matcher.group(1) ? null : unquote(matcher.group(1)), unquote(matcher.group(2)), columnNames, copyIn, format,
+                null == delimiter ? csv ? ',' : '\t' : delimiter, null == nullString ? csv ? "" : "\\N" : nullString, quote, null == escape ? quote : escape, header));
+    }
+    
+    private static List<String> parseColumnNames(final String columnNamesSegment) {
+        String[] columnNames = columnNamesSegment.substring(1, columnNamesSegment.length() - 1).split(",");
+        List<String> result = new ArrayList<>(columnNames.length);
+        for (String each : columnNames) {
+            result.add(unquote(each.trim()));
+        }
+        return result;
+    }
+    
+    private static List<String> tokenizeOptions(final String options) {
+        List<String> result = new LinkedList<>();
+        Matcher matcher = OPTION_TOKEN_PATTERN.matcher(options);
+        while (matcher.find()) {
+            if (null == matcher.group(1)) {
+                result.add(matcher.group());
+            } else {
+                String value = matcher.group(1).replace("''", "'");
+                result.add('\'' == matcher.group().charAt(0) ? value : value.replace("\\t", "\t").replace("\\n", "\n").replace("\\\\", "\\"));
+            }
+        }
+        if (!result.isEmpty() && "WITH".equalsIgnoreCase(result.get(0))) {
+            result.remove(0);
+        }
+        return result;
+    }
+    
+    private static String nextValue(final Iterator<String> tokens) {
+        String result = tokens.next();
+        return "AS".equalsIgnoreCase(result) ? tokens.next() : result;
+    }
+    
+    private static String unquote(final String identifier) {
+        return identifier.startsWith("\"") ? identifier.substring(1, identifier.length() - 1) : identifier.toLowerCase();
+    }
+    
+    @Override
+    public String getCommandName() {
+        return copyIn ? "COPY FROM STDIN" : "COPY TO STDOUT";
+    }
+    
+    /**
+     * Create COPY SQL to be executed by storage node.
+     *
+     * @param actualTableName actual table name
+     * @param includeHeader whether include header or not
+     * @return COPY SQL
+     */
+    public String toActualSQL(final String actualTableName, final boolean includeHeader) {
+        StringBuilder result = new StringBuilder("COPY ");
+        if (null != schemaName) {
+            result.append(quoteIdentifier(schemaName)).append('.');
+        }
+        result.append(quoteIdentifier(actualTableName));
+        if (!columnNames.isEmpty()) {
+            result.append(" (");
+            for (int i = 0; i < columnNames.size(); i++) {
+                result.append(0 == i ? "" : ", ").append(quoteIdentifier(columnNames.get(i)));
+            }
+            result.append(')');
+        }
+        result.append(copyIn ? " FROM STDIN" : " TO STDOUT").append(" WITH (FORMAT ").append(format.name());
+        if (PostgreSQLCopyFormat.BINARY != format) {
+            result.append(", DELIMITER ").append(quoteLiteral(String.valueOf(delimiter))).append(", NULL ").append(quoteLiteral(nullString));
+        }
+        if (PostgreSQLCopyFormat.CSV == format) {
+            result.append(", QUOTE ").append(quoteLiteral(String.valueOf(quote))).append(", ESCAPE ").append(quoteLiteral(String.valueOf(escape))).append(", HEADER ").append(includeHeader);
+        }
+        return result.append(')').toString();
+    }
+    
+    private static String quoteIdentifier(final String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+    
+    private static String quoteLiteral(final String literal) {
+        return literal.indexOf('\\') < 0 ? "'" + literal.replace("'", "''") + "'" : "E'" + literal.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+}
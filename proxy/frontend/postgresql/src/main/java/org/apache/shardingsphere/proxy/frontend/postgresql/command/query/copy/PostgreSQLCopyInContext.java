@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadContext;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadShardWriter;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * COPY FROM STDIN context of PostgreSQL, which routes rows of COPY data to data nodes.
+ */
+public final class PostgreSQLCopyInContext extends BulkLoadContext<byte[]> {
+    
+    private static final int ROUTE_BATCH_SIZE = 1000;
+    
+    private static final int SHARD_CHUNK_SIZE = 64 * 1024;
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final PostgreSQLCopyRowDecoder rowDecoder;
+    
+    private final BulkLoadRouter router;
+    
+    private final Map<DataNode, ByteArrayOutputStream> shardChunks = new LinkedHashMap<>();
+    
+    private List<PostgreSQLCopyRow> pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    private long rowCount;
+    
+    public PostgreSQLCopyInContext(final ConnectionSession connectionSession, final PostgreSQLCopyCommand copyCommand) {
+        this.copyCommand = copyCommand;
+        rowDecoder = new PostgreSQLCopyRowDecoder(copyCommand, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        router = new BulkLoadRouter(connectionSession, copyCommand, PostgreSQLInsertStatement::new);
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return router.getColumnCount();
+    }
+    
+    /**
+     * Write COPY data.
+     *
+     * @param data COPY data
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        pendingRows.addAll(rowDecoder.decode(data));
+        if (pendingRows.size() >= ROUTE_BATCH_SIZE) {
+            dispatchPendingRows();
+        }
+    }
+    
+    private void dispatchPendingRows() throws SQLException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        Iterator<Collection<DataNode>> dataNodes = router.route(pendingRows.stream().map(PostgreSQLCopyRow::getValues).collect(Collectors.toList())).iterator();
+        for (PostgreSQLCopyRow each : pendingRows) {
+            for (DataNode eachDataNode : dataNodes.next()) {
+                ByteArrayOutputStream chunk = shardChunks.computeIfAbsent(eachDataNode, unused -> new ByteArrayOutputStream(SHARD_CHUNK_SIZE));
+                chunk.write(each.getData(), 0, each.getData().length);
+                if (chunk.size() >= SHARD_CHUNK_SIZE) {
+                    writeToShard(eachDataNode, chunk.toByteArray());
+                    chunk.reset();
+                }
+            }
+        }
+        rowCount += pendingRows.size();
+        pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    }
+    
+    @Override
+    protected BulkLoadShardWriter<byte[]> createShardWriter(final DataNode dataNode) throws SQLException {
+        return new PostgreSQLCopyInShardStream(router.getDataSource(dataNode), copyCommand.toActualSQL(dataNode.getTableName(), false));
+    }
+    
+    /**
+     * Finish COPY, COPY of all data nodes are committed only after all of them are finished.
+     *
+     * @return copied row count
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        pendingRows.addAll(rowDecoder.finish());
+        dispatchPendingRows();
+        for (Entry<DataNode, ByteArrayOutputStream> entry : shardChunks.entrySet()) {
+            if (entry.getValue().size() > 0) {
+                writeToShard(entry.getKey(), entry.getValue().toByteArray());
+            }
+        }
+        shardChunks.clear();
+        finishShardWriters();
+        return rowCount;
+    }
+    
+    @Override
+    public void cancel() {
+        cancelShardWriters();
+        shardChunks.clear();
+        pendingRows.clear();
+    }
+}
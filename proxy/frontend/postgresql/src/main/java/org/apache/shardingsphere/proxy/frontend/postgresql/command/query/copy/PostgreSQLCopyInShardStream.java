@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadShardWriter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * COPY FROM STDIN stream of one data node.
+ */
+public final class PostgreSQLCopyInShardStream extends BulkLoadShardWriter<byte[]> {
+    
+    private final CopyIn copyIn;
+    
+    public PostgreSQLCopyInShardStream(final DataSource dataSource, final String sql) throws SQLException {
+        super(dataSource);
+        try {
+            copyIn = getConnection().unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        } catch (final SQLException ex) {
+            cancel();
+            throw ex;
+        }
+    }
+    
+    @Override
+    protected void writeBuffer(final byte[] buffer) throws SQLException {
+        copyIn.writeToCopy(buffer, 0, buffer.length);
+    }
+    
+    @Override
+    protected long endWriting() throws SQLException {
+        return copyIn.endCopy();
+    }
+}
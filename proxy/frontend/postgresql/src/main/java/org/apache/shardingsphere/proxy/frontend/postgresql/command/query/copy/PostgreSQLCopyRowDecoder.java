@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Row decoder of PostgreSQL COPY data in text or CSV format.
+ *
+ * <p>COPY data may split rows at any byte, so the incomplete tail of each COPY data message is kept until the rest of the row arrives.</p>
+ */
+public final class PostgreSQLCopyRowDecoder {
+    
+    private static final byte[] END_OF_DATA = {'\\', '.'};
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final Charset charset;
+    
+    private final boolean utf8;
+    
+    private final byte delimiter;
+    
+    private final byte quote;
+    
+    private final byte escape;
+    
+    private final byte[] nullBytes;
+    
+    private byte[] pending = new byte[0];
+    
+    private boolean headerSkipped;
+    
+    private boolean ended;
+    
+    public PostgreSQLCopyRowDecoder(final PostgreSQLCopyCommand copyCommand, final Charset charset) {
+        if (PostgreSQLCopyFormat.BINARY == copyCommand.getFormat()) {
+            throw new UnsupportedSQLOperationException("COPY FROM STDIN in binary format");
+        }
+        this.copyCommand = copyCommand;
+        this.charset = charset;
+        utf8 = StandardCharsets.UTF_8.equals(charset);
+        delimiter = (byte) copyCommand.getDelimiter();
+        quote = (byte) copyCommand.getQuote();
+        escape = (byte) copyCommand.getEscape();
+        nullBytes = copyCommand.getNullString().getBytes(charset);
+        headerSkipped = !copyCommand.isHeader() || PostgreSQLCopyFormat.CSV != copyCommand.getFormat();
+    }
+    
+    /**
+     * Decode complete rows of COPY data.
+     *
+     * @param data COPY data
+     * @return decoded rows
+     */
+    public List<PostgreSQLCopyRow> decode(final byte[] data) {
+        if (ended) {
+            return Collections.emptyList();
+        }
+        byte[] bytes = concat(pending, data);
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        int rowStart = 0;
+        int rowEnd;
+        while (!ended && (rowEnd = findRowEnd(bytes, rowStart)) >= 0) {
+            decodeRow(bytes, rowStart, rowEnd).ifPresent(result::add);
+            rowStart = rowEnd + 1;
+        }
+        pending = ended ? new byte[0] : Arrays.copyOfRange(bytes, rowStart, bytes.length);
+        return result;
+    }
+    
+    /**
+     * Decode the last row which is not terminated by newline.
+     *
+     * @return decoded rows
+     */
+    public List<PostgreSQLCopyRow> finish() {
+        if (ended || 0 == pending.length) {
+            return Collections.emptyList();
+        }
+        byte[] bytes = pending;
+        pending = new byte[0];
+        return decodeRow(bytes, 0, bytes.length).map(Collections::singletonList).orElse(Collections.emptyList());
+    }
+    
+    private byte[] concat(final byte[] first, final byte[] second) {
+        if (0 == first.length) {
+            return second;
+        }
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+    
+    private int findRowEnd(final byte[] bytes, final int rowStart) {
+        boolean csv = PostgreSQLCopyFormat.CSV == copyCommand.getFormat();
+        boolean quoted = false;
+        int index = rowStart;
+        while (index < bytes.length) {
+            byte each = bytes[index];
+            if (csv && quoted && escape != quote && escape == each && index + 1 < bytes.length) {
+                index++;
+            } else if (csv && quote == each) {
+                quoted = !quoted;
+            } else if (!quoted && '\n' == each) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private Optional<PostgreSQLCopyRow> decodeRow(final byte[] bytes, final int rowStart, final int rowEnd) {
+        int contentEnd = rowEnd > rowStart && '\r' == bytes[rowEnd - 1] ? rowEnd - 1 : rowEnd;
+        if (contentEnd - rowStart == END_OF_DATA.length && END_OF_DATA[0] == bytes[rowStart] && END_OF_DATA[1] == bytes[rowStart + 1]) {
+            ended = true;
+            return Optional.empty();
+        }
+        if (!headerSkipped) {
+            headerSkipped = true;
+            return Optional.empty();
+        }
+        List<String> values = PostgreSQLCopyFormat.CSV == copyCommand.getFormat() ? decodeCSVValues(bytes, rowStart, contentEnd) : decodeTextValues(bytes, rowStart, contentEnd);
+        return Optional.of(new PostgreSQLCopyRow(createRowData(bytes, rowStart, contentEnd), values));
+    }
+    
+    private byte[] createRowData(final byte[] bytes, final int rowStart, final int contentEnd) {
+        if (utf8) {
+            byte[] result = Arrays.copyOfRange(bytes, rowStart, contentEnd + 1);
+            result[result.length - 1] = '\n';
+            return result;
+        }
+        return (new String(bytes, rowStart, contentEnd - rowStart, charset) + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private List<String> decodeTextValues(final byte[] bytes, final int start, final int end) {
+        List<String> result = new ArrayList<>();
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        int valueStart = start;
+        int index = start;
+        while (index <= end) {
+            if (index == end || delimiter == bytes[index]) {
+                result.add(isNull(bytes, valueStart, index) ? null : new String(value.toByteArray(), charset));
+                value.reset();
+                valueStart = index + 1;
+            } else if ('\\' == bytes[index] && index + 1 < end) {
+                index = unescape(bytes, index + 1, end, value);
+            } else {
+                value.write(bytes[index]);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private int unescape(final byte[] bytes, final int index, final int end, final ByteArrayOutputStream value) {
+        byte each = bytes[index];
+        switch (each) {
+            case 'b':
+                value.write('\b');
+                return index;
+            case 'f':
+                value.write('\f');
+                return index;
+            case 'n':
+                value.write('\n');
+                return index;
+            case 'r':
+                value.write('\r');
+                return index;
+            case 't':
+                value.write('\t');
+                return index;
+            case 'v':
+                value.write(0x0B);
+                return index;
+            default:
+                break;
+        }
+        if (each >= '0' && each <= '7') {
+            int result = index;
+            int octal = 0;
+            while (result < end && result < index + 3 && bytes[result] >= '0' && bytes[result] <= '7') {
+                octal = octal * 8 + bytes[result++] - '0';
+            }
+            value.write(octal);
+            return result - 1;
+        }
+        value.write(each);
+        return index;
+    }
+    
+    private List<String> decodeCSVValues(final byte[] bytes, final int start, final int end) {
+        List<String> result = new ArrayList<>();
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        int valueStart = start;
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int index = start;
+        while (index <= end) {
+            if (index == end || !quoted && delimiter == bytes[index]) {
+                result.add(!wasQuoted && isNull(bytes, valueStart, index) ? null : new String(value.toByteArray(), charset));
+                value.reset();
+                valueStart = index + 1;
+                wasQuoted = false;
+            } else if (quoted && escape == bytes[index] && index + 1 < end && (quote == bytes[index + 1] || escape == bytes[index + 1])) {
+                value.write(bytes[++index]);
+            } else if (quote == bytes[index]) {
+                quoted = !quoted;
+                wasQuoted = true;
+            } else {
+                value.write(bytes[index]);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private boolean isNull(final byte[] bytes, final int start, final int end) {
+        if (end - start != nullBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < nullBytes.length; i++) {
+            if (nullBytes[i] != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -32,8 +32,6 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.infra.binder.QueryContext;
-import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -45,11 +43,13 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 
 import java.sql.SQLException;
@@ -75,32 +75,53 @@ public final class Portal {
     
     private final BackendConnection backendConnection;
     
+    private final int fetchSize;
+    
     private ResponseHeader responseHeader;
     
     public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
                   final BackendConnection backendConnection) throws SQLException {
+        this(name, preparedStatement, params, resultFormats, backendConnection, 0);
+    }
+    
+    public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
+                  final BackendConnection backendConnection, final int fetchSize) throws SQLException {
         this.name = name;
         this.sqlStatement = preparedStatement.getSqlStatementContext().getSqlStatement();
         this.resultFormats = resultFormats;
         this.backendConnection = backendConnection;
+        this.fetchSize = fetchSize;
         String databaseName = backendConnection.getConnectionSession().getDefaultDatabaseName();
-        SQLStatementContext<?> sqlStatementContext = preparedStatement.getSqlStatementContext();
-        if (sqlStatementContext instanceof ParameterAware) {
-            ((ParameterAware) sqlStatementContext).setUpParameters(params);
-        }
         DatabaseType protocolType = ProxyContext.getInstance().getDatabase(databaseName).getProtocolType();
-        QueryContext queryContext = new QueryContext(sqlStatementContext, preparedStatement.getSql(), params);
+        QueryContext queryContext = new QueryContext(preparedStatement.bindParameters(params), preparedStatement.getSql(), params);
         backendConnection.getConnectionSession().setQueryContext(queryContext);
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(protocolType, queryContext, backendConnection.getConnectionSession(), true);
     }
     
     /**
      * Do bind.
+     *
+     * <p>Query bound with fetch size in connection held transaction is executed as streaming cursor,
+     * which keeps one backend cursor per shard open and fetches rows by fetch size while portal is suspended.</p>
      * 
      * @throws SQLException SQL exception
      */
     public void bind() throws SQLException {
-        responseHeader = proxyBackendHandler.execute();
+        if (!isStreamingCursor()) {
+            responseHeader = proxyBackendHandler.execute();
+            return;
+        }
+        ConnectionSession connectionSession = backendConnection.getConnectionSession();
+        connectionSession.setCursorFetchSize(fetchSize);
+        try {
+            responseHeader = proxyBackendHandler.execute();
+        } finally {
+            connectionSession.setCursorFetchSize(0);
+        }
+    }
+    
+    private boolean isStreamingCursor() {
+        return fetchSize > 0 && sqlStatement instanceof SelectStatement && backendConnection.getConnectionSession().getTransactionStatus().isInConnectionHeldTransaction();
     }
     
     /**
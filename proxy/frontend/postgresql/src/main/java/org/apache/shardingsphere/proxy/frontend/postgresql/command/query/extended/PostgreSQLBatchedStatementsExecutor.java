@@ -19,9 +19,6 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extend
 
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.binder.QueryContext;
-import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
-import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -88,40 +85,28 @@ public final class PostgreSQLBatchedStatementsExecutor {
         metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         this.preparedStatement = preparedStatement;
         Iterator<List<Object>> parameterSetsIterator = parameterSets.iterator();
-        SQLStatementContext<?> sqlStatementContext = null;
         ExecutionContext executionContext = null;
         if (parameterSetsIterator.hasNext()) {
-            List<Object> firstGroupOfParam = parameterSetsIterator.next();
-            sqlStatementContext = createSQLStatementContext(firstGroupOfParam);
-            executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam));
+            executionContext = createExecutionContext(createQueryContext(parameterSetsIterator.next()));
             for (ExecutionUnit each : executionContext.getExecutionUnits()) {
                 executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
             }
         }
         anyExecutionContext = executionContext;
-        prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext);
+        prepareForRestOfParametersSet(parameterSetsIterator);
     }
     
-    private SQLStatementContext<?> createSQLStatementContext(final List<Object> params) {
-        return SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData(), params, preparedStatement.getSqlStatementContext().getSqlStatement(),
-                connectionSession.getDatabaseName());
-    }
-    
-    private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator, final SQLStatementContext<?> sqlStatementContext) {
+    private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator) {
         while (paramSetsIterator.hasNext()) {
-            List<Object> eachGroupOfParam = paramSetsIterator.next();
-            if (sqlStatementContext instanceof ParameterAware) {
-                ((ParameterAware) sqlStatementContext).setUpParameters(eachGroupOfParam);
-            }
-            ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam));
+            ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(paramSetsIterator.next()));
             for (ExecutionUnit each : eachExecutionContext.getExecutionUnits()) {
                 executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
             }
         }
     }
     
-    private QueryContext createQueryContext(final SQLStatementContext<?> sqlStatementContext, final List<Object> params) {
-        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params);
+    private QueryContext createQueryContext(final List<Object> params) {
+        return new QueryContext(preparedStatement.bindParameters(params), preparedStatement.getSql(), params);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext) {
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelined command executor for PostgreSQL.
+ * 
+ * <p>Independent queries bound before Sync are executed concurrently if they target different data sources, and their responses are still returned in order of commands.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLPipelinedCommandExecutor implements CommandExecutor {
+    
+    private static final ExecutorService BIND_EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+            0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("PostgreSQL-Pipeline-%d"), new ThreadPoolExecutor.CallerRunsPolicy());
+    
+    private final PortalContext portalContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final List<PostgreSQLCommandPacket> packets;
+    
+    private final List<CommandExecutor> executors;
+    
+    private final List<Portal> pendingPortals = new ArrayList<>();
+    
+    private final Map<Portal, Collection<String>> pendingPortalDataSourceNames = new IdentityHashMap<>();
+    
+    private final Collection<SQLStatementContext<?>> pendingStatementContexts = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    private final List<PendingResponse> pendingResponses = new LinkedList<>();
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        for (int i = 0; i < packets.size(); i++) {
+            if (!pipeline(packets.get(i), executors.get(i))) {
+                result.addAll(executePendingCommands());
+                result.addAll(executeAndClose(executors.get(i)));
+            }
+        }
+        result.addAll(executePendingCommands());
+        return Collections.singletonList(new PostgreSQLAggregatedResponsesPacket(result));
+    }
+    
+    private boolean pipeline(final PostgreSQLCommandPacket packet, final CommandExecutor executor) throws SQLException {
+        if (packet instanceof PostgreSQLComBindPacket) {
+            return pipelineBind((PostgreSQLComBindPacket) packet);
+        }
+        if (packet instanceof PostgreSQLComExecutePacket) {
+            Optional<Portal> portal = findPendingPortal(((PostgreSQLComExecutePacket) packet).getPortal());
+            portal.ifPresent(optional -> pendingResponses.add(() -> optional.execute(((PostgreSQLComExecutePacket) packet).getMaxRows())));
+            return portal.isPresent();
+        }
+        if (packet instanceof PostgreSQLComDescribePacket && 'P' == ((PostgreSQLComDescribePacket) packet).getType()) {
+            Optional<Portal> portal = findPendingPortal(((PostgreSQLComDescribePacket) packet).getName());
+            portal.ifPresent(optional -> pendingResponses.add(() -> Collections.singletonList(optional.describe())));
+            return portal.isPresent();
+        }
+        if (!pendingPortals.isEmpty() && (packet instanceof PostgreSQLComParsePacket || packet instanceof PostgreSQLComDescribePacket)) {
+            Collection<DatabasePacket<?>> responses = executeAndClose(executor);
+            pendingResponses.add(() -> responses);
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean pipelineBind(final PostgreSQLComBindPacket packet) throws SQLException {
+        PostgreSQLServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(packet.getStatementId());
+        if (null == preparedStatement || !isPipelinable(packet.getPortal(), preparedStatement.getSqlStatementContext())) {
+            return false;
+        }
+        Portal portal = new Portal(packet.getPortal(), preparedStatement, packet.readParameters(preparedStatement.getParameterTypes()), packet.readResultFormats(),
+                connectionSession.getBackendConnection());
+        pendingPortals.add(portal);
+        pendingPortalDataSourceNames.put(portal, getTargetDataSourceNames(preparedStatement.getSqlStatementContext()));
+        pendingStatementContexts.add(preparedStatement.getSqlStatementContext());
+        pendingResponses.add(() -> {
+            portalContext.add(portal);
+            return Collections.singletonList(PostgreSQLBindCompletePacket.getInstance());
+        });
+        return true;
+    }
+    
+    private boolean isPipelinable(final String portalName, final SQLStatementContext<?> sqlStatementContext) {
+        if (connectionSession.getTransactionStatus().isInTransaction() || !connectionSession.isAutoCommit() || isHintEnabled()) {
+            return false;
+        }
+        if (!portalName.isEmpty() && (null != portalContext.get(portalName) || findPendingPortal(portalName).isPresent())) {
+            return false;
+        }
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        return sqlStatement instanceof SelectStatement && !SelectStatementHandler.getLockSegment((SelectStatement) sqlStatement).isPresent()
+                && !pendingStatementContexts.contains(sqlStatementContext);
+    }
+    
+    private Collection<String> getTargetDataSourceNames(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof TableAvailable)) {
+            return Collections.emptySet();
+        }
+        Collection<String> result = new HashSet<>();
+        ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(connectionSession.getDefaultDatabaseName());
+        for (String each : ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames()) {
+            Collection<String> dataSourceNames = getTargetDataSourceNames(database, each);
+            if (dataSourceNames.isEmpty()) {
+                return Collections.emptySet();
+            }
+            result.addAll(dataSourceNames);
+        }
+        return result;
+    }
+    
+    private Collection<String> getTargetDataSourceNames(final ShardingSphereDatabase database, final String tableName) {
+        Collection<String> result = new HashSet<>();
+        for (DataNodeContainedRule each : database.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            each.getDataNodesByTableName(tableName).forEach(dataNode -> result.add(dataNode.getDataSourceName()));
+        }
+        return result;
+    }
+    
+    private boolean isHintEnabled() {
+        return HintManager.isInstantiated()
+                || ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED);
+    }
+    
+    private Optional<Portal> findPendingPortal(final String portalName) {
+        for (int i = pendingPortals.size() - 1; i >= 0; i--) {
+            if (pendingPortals.get(i).getName().equals(portalName)) {
+                return Optional.of(pendingPortals.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<DatabasePacket<?>> executePendingCommands() throws SQLException {
+        if (pendingResponses.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            bindPendingPortals();
+            List<DatabasePacket<?>> result = new LinkedList<>();
+            for (PendingResponse each : pendingResponses) {
+                result.addAll(each.get());
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            closeUnregisteredPendingPortals(ex);
+            throw ex;
+        } finally {
+            pendingPortals.clear();
+            pendingPortalDataSourceNames.clear();
+            pendingStatementContexts.clear();
+            pendingResponses.clear();
+        }
+    }
+    
+    private void bindPendingPortals() throws SQLException {
+        for (List<Portal> each : groupPendingPortalsByDataSources()) {
+            bindConcurrently(each);
+        }
+    }
+    
+    private List<List<Portal>> groupPendingPortalsByDataSources() {
+        List<List<Portal>> result = new LinkedList<>();
+        List<Portal> group = new LinkedList<>();
+        Collection<String> groupDataSourceNames = new HashSet<>();
+        for (Portal each : pendingPortals) {
+            Collection<String> dataSourceNames = pendingPortalDataSourceNames.get(each);
+            if (!group.isEmpty() && (groupDataSourceNames.isEmpty() || dataSourceNames.isEmpty() || !Collections.disjoint(groupDataSourceNames, dataSourceNames))) {
+                result.add(group);
+                group = new LinkedList<>();
+                groupDataSourceNames = new HashSet<>();
+            }
+            group.add(each);
+            groupDataSourceNames.addAll(dataSourceNames);
+        }
+        if (!group.isEmpty()) {
+            result.add(group);
+        }
+        return result;
+    }
+    
+    private void bindConcurrently(final List<Portal> portals) throws SQLException {
+        if (1 == portals.size()) {
+            portals.get(0).bind();
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(portals.size());
+        for (Portal each : portals) {
+            futures.add(BIND_EXECUTOR_SERVICE.submit(() -> {
+                each.bind();
+                return null;
+            }));
+        }
+        Throwable cause = null;
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cause = null == cause ? ex : cause;
+            } catch (final ExecutionException ex) {
+                cause = null == cause ? ex.getCause() : cause;
+            }
+        }
+        throwIfNecessary(cause);
+    }
+    
+    private void closeUnregisteredPendingPortals(final Exception cause) {
+        for (Portal each : pendingPortals) {
+            if (each == portalContext.get(each.getName())) {
+                continue;
+            }
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                cause.addSuppressed(ex);
+            }
+        }
+    }
+    
+    private void throwIfNecessary(final Throwable cause) throws SQLException {
+        if (null == cause) {
+            return;
+        }
+        if (cause instanceof SQLException) {
+            throw (SQLException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new SQLException(cause);
+    }
+    
+    private Collection<DatabasePacket<?>> executeAndClose(final CommandExecutor executor) throws SQLException {
+        try {
+            return executor.execute();
+        } finally {
+            executor.close();
+        }
+    }
+    
+    private interface PendingResponse {
+        
+        Collection<? extends DatabasePacket<?>> get() throws SQLException;
+    }
+}
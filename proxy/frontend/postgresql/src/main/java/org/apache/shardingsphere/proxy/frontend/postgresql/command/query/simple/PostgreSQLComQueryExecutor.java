@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
@@ -53,6 +54,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Command query executor for PostgreSQL.
@@ -73,7 +76,16 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
-        ResponseHeader responseHeader = proxyBackendHandler.execute();
+        return processResponseHeader(proxyBackendHandler.execute());
+    }
+    
+    @Override
+    public CompletableFuture<Collection<DatabasePacket<?>>> executeFuture(final Executor executor) throws SQLException {
+        return proxyBackendHandler.executeFuture(executor).thenApply(this::processResponseHeader);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private Collection<DatabasePacket<?>> processResponseHeader(final ResponseHeader responseHeader) {
         if (responseHeader instanceof QueryResponseHeader) {
             return Collections.singleton(createRowDescriptionPacket((QueryResponseHeader) responseHeader));
         }
@@ -121,6 +133,16 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
         return proxyBackendHandler.next();
     }
     
+    @Override
+    public boolean isNextReady() {
+        return proxyBackendHandler.isNextReady();
+    }
+    
+    @Override
+    public CompletableFuture<Void> awaitNextReady() {
+        return proxyBackendHandler.awaitNextReady();
+    }
+    
     @Override
     public PostgreSQLPacket getQueryRowPacket() throws SQLException {
         return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
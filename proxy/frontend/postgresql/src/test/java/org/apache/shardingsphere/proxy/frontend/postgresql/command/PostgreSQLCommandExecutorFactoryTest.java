@@ -37,6 +37,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.Postg
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -57,6 +58,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
@@ -103,25 +105,29 @@ public final class PostgreSQLCommandExecutorFactoryTest {
     }
     
     @Test
-    public void assertAggregatedPacketNotBatchedStatements() throws SQLException {
+    public void assertAggregatedPacketNotBatchedStatements() throws SQLException, ReflectiveOperationException {
         PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
         when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
         PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
-        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
+        when(bindPacket.getPortal()).thenReturn("");
         PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
         when(describePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.DESCRIBE_COMMAND);
         PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
         when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
+        when(executePacket.getPortal()).thenReturn("");
+        when(executePacket.getMaxRows()).thenReturn(100);
         PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
         when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
         PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
         when(packet.isContainsBatchedStatements()).thenReturn(false);
         when(packet.getPackets()).thenReturn(Arrays.asList(parsePacket, bindPacket, describePacket, executePacket, syncPacket));
         CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
-        assertThat(actual, instanceOf(PostgreSQLAggregatedCommandExecutor.class));
-        Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
+        assertThat(actual, instanceOf(PostgreSQLPipelinedCommandExecutor.class));
+        Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromPipelinedCommandExecutor((PostgreSQLPipelinedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComParseExecutor.class));
-        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComBindExecutor.class));
+        CommandExecutor actualBindExecutor = actualPacketsIterator.next();
+        assertThat(actualBindExecutor, instanceOf(PostgreSQLComBindExecutor.class));
+        assertThat(Plugins.getMemberAccessor().get(PostgreSQLComBindExecutor.class.getDeclaredField("fetchSize"), actualBindExecutor), is(100));
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComDescribeExecutor.class));
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComExecuteExecutor.class));
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLComSyncExecutor.class));
@@ -157,6 +163,12 @@ public final class PostgreSQLCommandExecutorFactoryTest {
         return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLAggregatedCommandExecutor.class.getDeclaredField("executors"), executor);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @SuppressWarnings("unchecked")
+    private static List<CommandExecutor> getExecutorsFromPipelinedCommandExecutor(final PostgreSQLPipelinedCommandExecutor executor) {
+        return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLPipelinedCommandExecutor.class.getDeclaredField("executors"), executor);
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class InputOutput {
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyCommandTest {
+    
+    @Test
+    public void assertParseCopyFromStdinInTextFormat() {
+        PostgreSQLCopyCommand actual = PostgreSQLCopyCommand.parse("copy t_order (order_id, \"Status\") from stdin;").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("order_id", "Status")));
+        assertTrue(actual.isCopyIn());
+        assertThat(actual.getFormat(), is(PostgreSQLCopyFormat.TEXT));
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertThat(actual.toActualSQL("t_order_0", false), is("COPY \"t_order_0\" (\"order_id\", \"Status\") FROM STDIN WITH (FORMAT TEXT, DELIMITER '\t', NULL E'\\\\N')"));
+    }
+    
+    @Test
+    public void assertParseCopyToStdoutInCSVFormat() {
+        PostgreSQLCopyCommand actual = PostgreSQLCopyCommand.parse("COPY public.t_order TO STDOUT WITH (FORMAT csv, DELIMITER '|', HEADER)").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSchemaName(), is("public"));
+        assertFalse(actual.isCopyIn());
+        assertThat(actual.getFormat(), is(PostgreSQLCopyFormat.CSV));
+        assertThat(actual.getDelimiter(), is('|'));
+        assertTrue(actual.isHeader());
+        assertThat(actual.toActualSQL("t_order_1", false),
+                is("COPY \"public\".\"t_order_1\" TO STDOUT WITH (FORMAT CSV, DELIMITER '|', NULL '', QUOTE '\"', ESCAPE '\"', HEADER false)"));
+    }
+    
+    @Test
+    public void assertParseNotCopyStatement() {
+        assertFalse(PostgreSQLCopyCommand.parse("SELECT * FROM t_order").isPresent());
+        assertFalse(PostgreSQLCopyCommand.parse("COPY t_order FROM '/tmp/t_order.csv'").isPresent());
+        assertFalse(PostgreSQLCopyCommand.parse("COPY t_order FROM STDOUT").isPresent());
+    }
+}
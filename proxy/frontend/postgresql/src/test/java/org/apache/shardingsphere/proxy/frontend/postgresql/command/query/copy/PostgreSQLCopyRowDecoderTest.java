@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyRowDecoderTest {
+    
+    @Test
+    public void assertDecodeTextRowsSplitAcrossData() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyCommand.parse("COPY t_order FROM STDIN").orElseThrow(IllegalStateException::new), StandardCharsets.UTF_8);
+        assertTrue(decoder.decode(bytes("1\tfo")).isEmpty());
+        List<PostgreSQLCopyRow> actual = decoder.decode(bytes("o\\tbar\n2\t\\N\n\\.\n3\tignored\n"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getData(), is(bytes("1\tfoo\\tbar\n")));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "foo\tbar")));
+        assertThat(actual.get(1).getValues(), is(Arrays.asList("2", null)));
+        assertTrue(decoder.finish().isEmpty());
+    }
+    
+    @Test
+    public void assertDecodeCSVRows() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyCommand.parse("COPY t_order FROM STDIN WITH (FORMAT csv, HEADER true)").orElseThrow(IllegalStateException::new),
+                StandardCharsets.UTF_8);
+        List<PostgreSQLCopyRow> actual = decoder.decode(bytes("order_id,status\r\n1,\"a,\"\"b\"\"\nc\"\r\n2,,\"\""));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "a,\"b\"\nc")));
+        assertThat(actual.get(0).getData(), is(bytes("1,\"a,\"\"b\"\"\nc\"\n")));
+        List<PostgreSQLCopyRow> last = decoder.finish();
+        assertThat(last.size(), is(1));
+        assertThat(last.get(0).getValues(), is(Arrays.asList("2", null, "")));
+        assertThat(last.get(0).getData(), is(bytes("2,,\"\"\n")));
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
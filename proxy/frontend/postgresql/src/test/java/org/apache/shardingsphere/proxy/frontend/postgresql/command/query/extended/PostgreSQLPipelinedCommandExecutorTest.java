@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.ProxyContextRestorer;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLPipelinedCommandExecutorTest extends ProxyContextRestorer {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    private final ServerPreparedStatementRegistry preparedStatementRegistry = new ServerPreparedStatementRegistry();
+    
+    private final PortalContext portalContext = new PortalContext();
+    
+    private MockedStatic<ProxyBackendHandlerFactory> mockedStatic;
+    
+    @Before
+    public void setup() {
+        ProxyContext.init(contextManager);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(contextManager.getMetaDataContexts().getMetaData().containsDatabase("db")).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("db").getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        when(connectionSession.getDefaultDatabaseName()).thenReturn("db");
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        when(connectionSession.isAutoCommit()).thenReturn(true);
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(preparedStatementRegistry);
+        when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
+        when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class);
+        when(rule.getDataNodesByTableName("t_order_0")).thenReturn(Collections.singletonList(new DataNode("ds_0", "t_order_0")));
+        when(rule.getDataNodesByTableName("t_order_1")).thenReturn(Collections.singletonList(new DataNode("ds_1", "t_order_1")));
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("db").getRuleMetaData().findRules(DataNodeContainedRule.class)).thenReturn(Collections.singletonList(rule));
+        mockedStatic = mockStatic(ProxyBackendHandlerFactory.class);
+    }
+    
+    @After
+    public void tearDown() {
+        mockedStatic.close();
+    }
+    
+    @Test
+    public void assertExecuteIndependentQueriesConcurrently() throws SQLException, ReflectiveOperationException {
+        CountDownLatch latch = new CountDownLatch(2);
+        ProxyBackendHandler firstHandler = mockConcurrentHandler(latch);
+        ProxyBackendHandler secondHandler = mockConcurrentHandler(latch);
+        mockedStatic.when(() -> ProxyBackendHandlerFactory.newInstance(any(PostgreSQLDatabaseType.class), any(QueryContext.class), eq(connectionSession), anyBoolean()))
+                .thenReturn(firstHandler, secondHandler);
+        prepareSelectStatement("S_1", "t_order_0");
+        prepareSelectStatement("S_2", "t_order_1");
+        CommandExecutor syncExecutor = mock(CommandExecutor.class);
+        when(syncExecutor.execute()).thenReturn(Collections.singletonList(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        List<PostgreSQLCommandPacket> packets = Arrays.asList(mockBindPacket("S_1"), mockExecutePacket(), mockBindPacket("S_2"), mockExecutePacket(), mock(PostgreSQLComSyncPacket.class));
+        List<CommandExecutor> executors = Arrays.asList(mock(CommandExecutor.class), mock(CommandExecutor.class), mock(CommandExecutor.class), mock(CommandExecutor.class), syncExecutor);
+        Iterator<DatabasePacket<?>> actual = getResponses(new PostgreSQLPipelinedCommandExecutor(portalContext, connectionSession, packets, executors).execute()).iterator();
+        assertThat(actual.next(), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actual.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.next(), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actual.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.next(), instanceOf(PostgreSQLReadyForQueryPacket.class));
+        assertFalse(actual.hasNext());
+        verify(syncExecutor).close();
+        assertNotNull(portalContext.get(""));
+    }
+    
+    @Test
+    public void assertBindQueriesOnSameDataSourceSequentially() throws SQLException, ReflectiveOperationException {
+        ProxyBackendHandler firstHandler = mockHandler();
+        ProxyBackendHandler secondHandler = mockHandler();
+        mockedStatic.when(() -> ProxyBackendHandlerFactory.newInstance(any(PostgreSQLDatabaseType.class), any(QueryContext.class), eq(connectionSession), anyBoolean()))
+                .thenReturn(firstHandler, secondHandler);
+        prepareSelectStatement("S_1", "t_order_0");
+        prepareSelectStatement("S_2", "t_order_0");
+        List<PostgreSQLCommandPacket> packets = Arrays.asList(mockBindPacket("S_1"), mockExecutePacket(), mockBindPacket("S_2"), mockExecutePacket());
+        List<CommandExecutor> executors = Arrays.asList(mock(CommandExecutor.class), mock(CommandExecutor.class), mock(CommandExecutor.class), mock(CommandExecutor.class));
+        assertThat(getResponses(new PostgreSQLPipelinedCommandExecutor(portalContext, connectionSession, packets, executors).execute()).size(), is(4));
+        InOrder inOrder = inOrder(firstHandler, secondHandler);
+        inOrder.verify(firstHandler).execute();
+        inOrder.verify(secondHandler).execute();
+    }
+    
+    @Test
+    public void assertCloseDroppedPortalsWhenBindFailed() throws SQLException {
+        ProxyBackendHandler firstHandler = mock(ProxyBackendHandler.class);
+        SQLException expected = new SQLException("mock");
+        when(firstHandler.execute()).thenThrow(expected);
+        ProxyBackendHandler secondHandler = mock(ProxyBackendHandler.class);
+        mockedStatic.when(() -> ProxyBackendHandlerFactory.newInstance(any(PostgreSQLDatabaseType.class), any(QueryContext.class), eq(connectionSession), anyBoolean()))
+                .thenReturn(firstHandler, secondHandler);
+        prepareSelectStatement("S_1", "t_order_0");
+        prepareSelectStatement("S_2", "t_order_0");
+        List<PostgreSQLCommandPacket> packets = Arrays.asList(mockBindPacket("S_1"), mockExecutePacket(), mockBindPacket("S_2"), mockExecutePacket());
+        List<CommandExecutor> executors = Arrays.asList(mock(CommandExecutor.class), mock(CommandExecutor.class), mock(CommandExecutor.class), mock(CommandExecutor.class));
+        try {
+            new PostgreSQLPipelinedCommandExecutor(portalContext, connectionSession, packets, executors).execute();
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(expected));
+        }
+        verify(secondHandler, never()).execute();
+        verify(firstHandler).close();
+        verify(secondHandler).close();
+        assertNull(portalContext.get(""));
+    }
+    
+    @Test
+    public void assertExecuteSequentiallyInTransaction() throws SQLException, ReflectiveOperationException {
+        TransactionStatus transactionStatus = new TransactionStatus(TransactionType.LOCAL);
+        transactionStatus.setInTransaction(true);
+        when(connectionSession.getTransactionStatus()).thenReturn(transactionStatus);
+        prepareSelectStatement("S_1", "t_order_0");
+        CommandExecutor bindExecutor = mock(CommandExecutor.class);
+        when(bindExecutor.execute()).thenReturn(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance()));
+        List<PostgreSQLCommandPacket> packets = Collections.singletonList(mockBindPacket("S_1"));
+        Collection<DatabasePacket<?>> actual = getResponses(new PostgreSQLPipelinedCommandExecutor(portalContext, connectionSession, packets, Collections.singletonList(bindExecutor)).execute());
+        assertThat(actual, is(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance())));
+        verify(bindExecutor).close();
+    }
+    
+    private ProxyBackendHandler mockConcurrentHandler(final CountDownLatch latch) throws SQLException {
+        ProxyBackendHandler result = mock(ProxyBackendHandler.class);
+        when(result.execute()).thenAnswer(invocation -> {
+            latch.countDown();
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+            return new UpdateResponseHeader(new PostgreSQLSelectStatement());
+        });
+        return result;
+    }
+    
+    private ProxyBackendHandler mockHandler() throws SQLException {
+        ProxyBackendHandler result = mock(ProxyBackendHandler.class);
+        when(result.execute()).thenReturn(new UpdateResponseHeader(new PostgreSQLSelectStatement()));
+        return result;
+    }
+    
+    private void prepareSelectStatement(final String statementId, final String tableName) {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new PostgreSQLSelectStatement());
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton(tableName));
+        preparedStatementRegistry.addPreparedStatement(statementId, new PostgreSQLServerPreparedStatement("SELECT 1", sqlStatementContext, Collections.emptyList()));
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getPortal()).thenReturn("");
+        when(result.getStatementId()).thenReturn(statementId);
+        return result;
+    }
+    
+    private PostgreSQLComExecutePacket mockExecutePacket() {
+        PostgreSQLComExecutePacket result = mock(PostgreSQLComExecutePacket.class);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<DatabasePacket<?>> getResponses(final Collection<DatabasePacket<?>> actual) throws ReflectiveOperationException {
+        assertThat(actual.size(), is(1));
+        DatabasePacket<?> actualPacket = actual.iterator().next();
+        assertThat(actualPacket, instanceOf(PostgreSQLAggregatedResponsesPacket.class));
+        return (Collection<DatabasePacket<?>>) Plugins.getMemberAccessor().get(PostgreSQLAggregatedResponsesPacket.class.getDeclaredField("packets"), actualPacket);
+    }
+}
@@ -37,7 +37,6 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -66,9 +65,6 @@ public final class PostgreSQLComBindExecutorTest extends ProxyContextRestorer {
     @Mock
     private ConnectionSession connectionSession;
     
-    @InjectMocks
-    private PostgreSQLComBindExecutor executor;
-    
     @Test
     public void assertExecuteBind() throws SQLException {
         ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
@@ -90,7 +86,7 @@ public final class PostgreSQLComBindExecutorTest extends ProxyContextRestorer {
         when(bindPacket.getPortal()).thenReturn("C_1");
         when(bindPacket.readParameters(anyList())).thenReturn(Collections.emptyList());
         when(bindPacket.readResultFormats()).thenReturn(Collections.emptyList());
-        Collection<DatabasePacket<?>> actual = executor.execute();
+        Collection<DatabasePacket<?>> actual = new PostgreSQLComBindExecutor(portalContext, bindPacket, connectionSession, 0).execute();
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next(), is(PostgreSQLBindCompletePacket.getInstance()));
         verify(portalContext).add(any(Portal.class));
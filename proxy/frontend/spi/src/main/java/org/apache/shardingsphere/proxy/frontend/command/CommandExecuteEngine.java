@@ -29,6 +29,8 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Command execute engine.
@@ -84,11 +86,16 @@ public interface CommandExecuteEngine {
     /**
      * Write query data.
      *
+     * <p>Writing is suspended while next result value is not ready, and resumed by executor once it is ready.</p>
+     *
      * @param context channel handler context
      * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
      * @param headerPackagesCount count of header packages
+     * @param executor executor to resume writing
+     * @return future which is completed once query data written
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    CompletableFuture<Void> writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount,
+                                           Executor executor) throws SQLException;
 }
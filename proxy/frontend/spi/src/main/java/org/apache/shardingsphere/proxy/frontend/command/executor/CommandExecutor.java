@@ -21,6 +21,8 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor.
@@ -35,6 +37,17 @@ public interface CommandExecutor {
      */
     Collection<DatabasePacket<?>> execute() throws SQLException;
     
+    /**
+     * Execute command without waiting for storage units if supported.
+     *
+     * @param executor executor to continue executing if storage units do not respond immediately
+     * @return future of database packets to be sent
+     * @throws SQLException SQL exception
+     */
+    default CompletableFuture<Collection<DatabasePacket<?>>> executeFuture(final Executor executor) throws SQLException {
+        return CompletableFuture.completedFuture(execute());
+    }
+    
     /**
      * Close command executor.
      *
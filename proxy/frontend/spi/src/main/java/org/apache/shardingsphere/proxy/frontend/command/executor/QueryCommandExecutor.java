@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.command.executor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Query command executor.
@@ -41,6 +42,24 @@ public interface QueryCommandExecutor extends CommandExecutor {
      */
     boolean next() throws SQLException;
     
+    /**
+     * Judge whether next result value can be got without waiting for storage units.
+     *
+     * @return next result value is ready or not
+     */
+    default boolean isNextReady() {
+        return true;
+    }
+    
+    /**
+     * Await next result value ready.
+     *
+     * @return future which is completed once next result value is ready
+     */
+    default CompletableFuture<Void> awaitNextReady() {
+        return CompletableFuture.completedFuture(null);
+    }
+    
     /**
      * Get query row packet.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.spi;
 
+import io.netty.channel.ChannelOutboundHandler;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
@@ -24,6 +25,9 @@ import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Database protocol frontend engine.
  */
@@ -52,6 +56,15 @@ public interface DatabaseProtocolFrontendEngine extends TypedSPI {
      */
     DatabasePacketCodecEngine<?> getCodecEngine();
     
+    /**
+     * Get encoders of messages which are not database packets.
+     * 
+     * @return encoders of messages which are not database packets
+     */
+    default Collection<ChannelOutboundHandler> getMessageEncoders() {
+        return Collections.emptyList();
+    }
+    
     /**
      * Get authentication engine.
      * 
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract kernel benchmark.
+ * 
+ * <p>Each trial builds its own {@link KernelBenchmarkContext} for the database type and rule scenario parameters,
+ * so one fork measures exactly one combination of dialect and rules.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public abstract class AbstractKernelBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    @Param({"SINGLE", "SHARDING", "ENCRYPT", "READWRITE_SPLITTING"})
+    private RuleScenario ruleScenario;
+    
+    private KernelBenchmarkContext context;
+    
+    /**
+     * Set up kernel benchmark context.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public final void setUpContext() throws Exception {
+        context = new KernelBenchmarkContext(databaseType, ruleScenario);
+        prepare(context);
+    }
+    
+    /**
+     * Tear down kernel benchmark context.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public final void tearDownContext() throws Exception {
+        context.close();
+    }
+    
+    protected abstract void prepare(KernelBenchmarkContext context) throws Exception;
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import com.google.common.io.ByteStreams;
+import lombok.Getter;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRootConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.resource.YamlDataSourceConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Kernel benchmark context.
+ * 
+ * <p>Builds a standalone ShardingSphere data source on top of in-memory H2 storage units described by {@link RuleScenario},
+ * and exposes the meta data which is required to drive each kernel stage directly.</p>
+ */
+@Getter
+public final class KernelBenchmarkContext implements AutoCloseable {
+    
+    private static final String DATABASE_NAME = "benchmark_db";
+    
+    private final String databaseType;
+    
+    private final DataSource dataSource;
+    
+    private final ShardingSphereConnection connection;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    public KernelBenchmarkContext(final String databaseType, final RuleScenario ruleScenario) throws SQLException, IOException {
+        this.databaseType = databaseType;
+        YamlRootConfiguration rootConfig = YamlEngine.unmarshal(loadConfiguration(ruleScenario.getConfigFile()), YamlRootConfiguration.class);
+        dataSource = ShardingSphereDataSourceFactory.createDataSource(DATABASE_NAME, createDataSources(rootConfig),
+                new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(rootConfig.getRules()), createProperties(rootConfig));
+        connection = (ShardingSphereConnection) dataSource.getConnection();
+        metaData = connection.getContextManager().getMetaDataContexts().getMetaData();
+        database = metaData.getDatabase(DATABASE_NAME);
+        sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(databaseType);
+    }
+    
+    private byte[] loadConfiguration(final String configFile) throws IOException {
+        try (InputStream inputStream = Objects.requireNonNull(KernelBenchmarkContext.class.getClassLoader().getResourceAsStream(configFile), configFile)) {
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+    
+    private Map<String, DataSource> createDataSources(final YamlRootConfiguration rootConfig) {
+        String h2Mode = "PostgreSQL".equals(databaseType) || "openGauss".equals(databaseType) ? ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE" : ";MODE=" + databaseType + ";DATABASE_TO_UPPER=FALSE";
+        for (Map<String, Object> each : rootConfig.getDataSources().values()) {
+            each.put("jdbcUrl", each.get("jdbcUrl") + h2Mode);
+        }
+        return new YamlDataSourceConfigurationSwapper().swapToDataSources(rootConfig.getDataSources());
+    }
+    
+    private Properties createProperties(final YamlRootConfiguration rootConfig) {
+        Properties result = new Properties();
+        result.putAll(rootConfig.getProps());
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), databaseType);
+        return result;
+    }
+    
+    /**
+     * Get connection context.
+     *
+     * @return connection context
+     */
+    public ConnectionContext getConnectionContext() {
+        return connection.getConnectionContext();
+    }
+    
+    /**
+     * Parse SQL case.
+     *
+     * @param sqlCase SQL case
+     * @param useCache whether use cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final SQLCase sqlCase, final boolean useCache) {
+        return sqlParserEngine.parse(sqlCase.getSql(), useCache);
+    }
+    
+    /**
+     * Create query context as prepared statement does for each execution.
+     *
+     * @param sqlCase SQL case
+     * @param sqlStatement SQL statement
+     * @return query context
+     */
+    public QueryContext createQueryContext(final SQLCase sqlCase, final SQLStatement sqlStatement) {
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, sqlStatement, DATABASE_NAME);
+        List<Object> params = new ArrayList<>(sqlCase.getParameters());
+        if (sqlStatementContext instanceof ParameterAware) {
+            ((ParameterAware) sqlStatementContext).setUpParameters(params);
+        }
+        return new QueryContext(sqlStatementContext, sqlCase.getSql(), params);
+    }
+    
+    @Override
+    public void close() throws Exception {
+        connection.close();
+        ((AutoCloseable) dataSource).close();
+    }
+}
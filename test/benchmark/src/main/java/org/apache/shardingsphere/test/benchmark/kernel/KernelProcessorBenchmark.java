@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.test.benchmark.fixture.AbstractKernelBenchmark;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.apache.shardingsphere.test.benchmark.fixture.SQLCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmark for {@link KernelProcessor#generateExecutionContext}.
+ */
+public class KernelProcessorBenchmark extends AbstractKernelBenchmark {
+    
+    @Param({"POINT_SELECT", "ORDER_BY_SELECT", "GROUP_BY_SELECT", "JOIN_SELECT", "INSERT", "UPDATE"})
+    private SQLCase sqlCase;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private KernelBenchmarkContext context;
+    
+    private QueryContext queryContext;
+    
+    @Override
+    protected void prepare(final KernelBenchmarkContext context) {
+        this.context = context;
+        queryContext = context.createQueryContext(sqlCase, context.parse(sqlCase, false));
+    }
+    
+    /**
+     * Generate execution context with bound query context, as re-executed prepared statement does.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generateExecutionContext() {
+        return kernelProcessor.generateExecutionContext(queryContext, context.getDatabase(), context.getMetaData().getGlobalRuleMetaData(), context.getMetaData().getProps(),
+                context.getConnectionContext());
+    }
+    
+    /**
+     * Parse, bind and generate execution context, as statement does for each SQL.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext parseAndGenerateExecutionContext() {
+        return kernelProcessor.generateExecutionContext(context.createQueryContext(sqlCase, context.parse(sqlCase, true)), context.getDatabase(),
+                context.getMetaData().getGlobalRuleMetaData(), context.getMetaData().getProps(), context.getConnectionContext());
+    }
+}
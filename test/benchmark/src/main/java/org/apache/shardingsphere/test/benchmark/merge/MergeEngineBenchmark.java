@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.test.benchmark.fixture.AbstractKernelBenchmark;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.apache.shardingsphere.test.benchmark.fixture.SQLCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark for {@link MergeEngine#merge}.
+ * 
+ * <p>Every execution unit of the routed SQL gets an in-memory query result with {@code rowCount} rows ordered by all columns,
+ * and the whole merged result is consumed in each invocation.</p>
+ */
+public class MergeEngineBenchmark extends AbstractKernelBenchmark {
+    
+    @Param({"POINT_SELECT", "ORDER_BY_SELECT", "GROUP_BY_SELECT"})
+    private SQLCase sqlCase;
+    
+    @Param({"10", "1000"})
+    private int rowCount;
+    
+    private MergeEngine mergeEngine;
+    
+    private SelectStatementContext sqlStatementContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    @Override
+    protected void prepare(final KernelBenchmarkContext context) {
+        mergeEngine = new MergeEngine(context.getDatabase(), context.getMetaData().getProps(), context.getConnectionContext());
+        QueryContext queryContext = context.createQueryContext(sqlCase, context.parse(sqlCase, false));
+        sqlStatementContext = (SelectStatementContext) queryContext.getSqlStatementContext();
+        int executionUnitCount = new KernelProcessor().generateExecutionContext(queryContext, context.getDatabase(), context.getMetaData().getGlobalRuleMetaData(),
+                context.getMetaData().getProps(), context.getConnectionContext()).getExecutionUnits().size();
+        List<Projection> projections = sqlStatementContext.getProjectionsContext().getExpandProjections();
+        queryResultMetaData = createQueryResultMetaData(projections);
+        Object statusValue = createStatusValue(context);
+        shardRows = new ArrayList<>(executionUnitCount);
+        for (int i = 0; i < executionUnitCount; i++) {
+            shardRows.add(createRows(projections, statusValue));
+        }
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData(final List<Projection> projections) {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(projections.size());
+        for (Projection each : projections) {
+            String label = each.getColumnLabel();
+            if (isStatusColumn(label)) {
+                columns.add(new RawQueryResultColumnMetaData("t_order", label, label, Types.VARCHAR, "VARCHAR", 255, 0));
+            } else if (isAmountColumn(label)) {
+                columns.add(new RawQueryResultColumnMetaData("t_order", label, label, Types.DECIMAL, "DECIMAL", 10, 2));
+            } else {
+                columns.add(new RawQueryResultColumnMetaData("t_order", label, label, Types.BIGINT, "BIGINT", 20, 0));
+            }
+        }
+        return new RawQueryResultMetaData(columns);
+    }
+    
+    private Object createStatusValue(final KernelBenchmarkContext context) {
+        ShardingSphereDatabase database = context.getDatabase();
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName());
+        return database.getRuleMetaData().findSingleRule(EncryptRule.class)
+                .<Object>map(optional -> optional.getEncryptValues(database.getName(), schemaName, "t_order", "status", Collections.singletonList("PAID")).get(0)).orElse("PAID");
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows(final List<Projection> projections, final Object statusValue) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCount);
+        for (long i = 0; i < rowCount; i++) {
+            List<Object> values = new ArrayList<>(projections.size());
+            for (Projection each : projections) {
+                String label = each.getColumnLabel();
+                if (isStatusColumn(label)) {
+                    values.add(statusValue);
+                } else if (isAmountColumn(label)) {
+                    values.add(BigDecimal.valueOf(i));
+                } else {
+                    values.add(i);
+                }
+            }
+            result.add(new MemoryQueryResultDataRow(values));
+        }
+        return result;
+    }
+    
+    private boolean isStatusColumn(final String columnLabel) {
+        return "status".equalsIgnoreCase(columnLabel);
+    }
+    
+    private boolean isAmountColumn(final String columnLabel) {
+        return columnLabel.toLowerCase().contains("amount");
+    }
+    
+    /**
+     * Merge query results and consume merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardRows.size());
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = mergeEngine.merge(queryResults, sqlStatementContext);
+        int columnCount = queryResultMetaData.getColumnCount();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
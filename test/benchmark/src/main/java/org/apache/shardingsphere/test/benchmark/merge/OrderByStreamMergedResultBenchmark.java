@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.apache.shardingsphere.test.benchmark.fixture.RuleScenario;
+import org.apache.shardingsphere.test.benchmark.fixture.SQLCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merging of {@link OrderByStreamMergedResult}.
+ * 
+ * <p>Each of {@code inputCount} in-memory query results holds {@code rowCount} rows of interleaved order IDs,
+ * and the loser tree merging of {@link OrderByStreamMergedResult} is compared with merging by a priority queue.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OrderByStreamMergedResultBenchmark {
+    
+    @Param({"16", "128", "1024"})
+    private int inputCount;
+    
+    @Param("100")
+    private int rowCount;
+    
+    private KernelBenchmarkContext context;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingSphereSchema schema;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> inputRows;
+    
+    /**
+     * Set up query results to be merged.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new KernelBenchmarkContext("MySQL", RuleScenario.SHARDING);
+        selectStatementContext = (SelectStatementContext) context.createQueryContext(SQLCase.ORDER_BY_SELECT, context.parse(SQLCase.ORDER_BY_SELECT, false)).getSqlStatementContext();
+        ShardingSphereDatabase database = context.getDatabase();
+        schema = database.getSchema(DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()));
+        queryResultMetaData = new RawQueryResultMetaData(Arrays.asList(new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 255, 0)));
+        Map<String, Integer> columnLabelIndexMap = new HashMap<>(3, 1);
+        for (int i = 1; i <= queryResultMetaData.getColumnCount(); i++) {
+            columnLabelIndexMap.put(queryResultMetaData.getColumnLabel(i), i);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        inputRows = new ArrayList<>(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            inputRows.add(createRows(i));
+        }
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows(final int inputIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCount);
+        for (long i = 0; i < rowCount; i++) {
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(i * inputCount + inputIndex, inputIndex, "PAID")));
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down benchmark context.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+    }
+    
+    /**
+     * Merge query results by loser tree of order by stream merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeByLoserTree(final Blackhole blackhole) throws SQLException {
+        OrderByStreamMergedResult mergedResult = new OrderByStreamMergedResult(createQueryResults(), selectStatementContext, schema);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    /**
+     * Merge query results by priority queue.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeByPriorityQueue(final Blackhole blackhole) throws SQLException {
+        Queue<OrderByValue> orderByValues = new PriorityQueue<>(inputCount);
+        for (QueryResult each : createQueryResults()) {
+            OrderByValue orderByValue = new OrderByValue(each, selectStatementContext.getOrderByContext().getItems(), selectStatementContext, schema);
+            if (orderByValue.next()) {
+                orderByValues.offer(orderByValue);
+            }
+        }
+        while (!orderByValues.isEmpty()) {
+            OrderByValue firstOrderByValue = orderByValues.poll();
+            blackhole.consume(firstOrderByValue.getQueryResult().getValue(1, Object.class));
+            if (firstOrderByValue.next()) {
+                orderByValues.offer(firstOrderByValue);
+            }
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(inputRows.size());
+        for (List<MemoryQueryResultDataRow> each : inputRows) {
+            result.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.config.props.FrontendTransportType;
+import org.apache.shardingsphere.proxy.frontend.netty.FrontendTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark for COM_QUERY round trips through proxy frontend transports.
+ *
+ * <p>The server decodes COM_QUERY and answers OK packet by MySQL packet codec on the transport created by {@link FrontendTransport}, without backend execution.
+ * The sample time mode reports p99 latency. Syscalls per round trip are reported by running with {@code -prof "perfnorm:events=raw_syscalls:sys_enter"} on Linux.
+ * io_uring transport falls back to epoll unless netty-incubator-transport-io_uring is on class path.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FrontendTransportBenchmark {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = 1";
+    
+    @Param({"NIO", "EPOLL", "IO_URING"})
+    private FrontendTransportType transportType;
+    
+    private EventLoopGroup bossGroup;
+    
+    private EventLoopGroup workerGroup;
+    
+    private int port;
+    
+    /**
+     * Start server.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        FrontendTransport transport = FrontendTransport.create(transportType);
+        bossGroup = transport.createEventLoopGroup(1);
+        workerGroup = transport.createEventLoopGroup(1);
+        Channel serverChannel = new ServerBootstrap().group(bossGroup, workerGroup)
+                .channel(transport.getServerChannelClass())
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    
+                    @Override
+                    protected void initChannel(final Channel channel) {
+                        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+                        channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID).set(new AtomicInteger());
+                        channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()), new ComQueryHandler());
+                    }
+                }).bind(InetAddress.getLoopbackAddress(), 0).sync().channel();
+        port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+    
+    /**
+     * Stop server.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bossGroup.shutdownGracefully().syncUninterruptibly();
+        workerGroup.shutdownGracefully().syncUninterruptibly();
+    }
+    
+    /**
+     * Execute COM_QUERY round trip.
+     *
+     * @param client client connection
+     * @return header of response
+     * @throws IOException IO exception
+     */
+    @Benchmark
+    public int comQuery(final Client client) throws IOException {
+        return client.execute();
+    }
+    
+    /**
+     * Client connection of every benchmark thread, which uses blocking socket to keep client cost same for every transport.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        
+        private Socket socket;
+        
+        private OutputStream out;
+        
+        private DataInputStream in;
+        
+        private byte[] comQueryPacket;
+        
+        private byte[] response;
+        
+        /**
+         * Connect to server.
+         *
+         * @param benchmark benchmark of server
+         * @throws IOException IO exception
+         */
+        @Setup(Level.Trial)
+        public void setUp(final FrontendTransportBenchmark benchmark) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), benchmark.port);
+            socket.setTcpNoDelay(true);
+            out = socket.getOutputStream();
+            in = new DataInputStream(socket.getInputStream());
+            comQueryPacket = createComQueryPacket();
+            response = new byte[1024];
+        }
+        
+        private byte[] createComQueryPacket() {
+            byte[] sql = SQL.getBytes(StandardCharsets.UTF_8);
+            int payloadLength = sql.length + 1;
+            byte[] result = new byte[4 + payloadLength];
+            result[0] = (byte) payloadLength;
+            result[1] = (byte) (payloadLength >>> 8);
+            result[2] = (byte) (payloadLength >>> 16);
+            result[4] = (byte) MySQLCommandPacketType.COM_QUERY.getValue();
+            System.arraycopy(sql, 0, result, 5, sql.length);
+            return result;
+        }
+        
+        /**
+         * Close connection.
+         *
+         * @throws IOException IO exception
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            socket.close();
+        }
+        
+        private int execute() throws IOException {
+            out.write(comQueryPacket);
+            out.flush();
+            in.readFully(response, 0, 4);
+            int payloadLength = (response[0] & 0xff) | (response[1] & 0xff) << 8 | (response[2] & 0xff) << 16;
+            in.readFully(response, 0, payloadLength);
+            return response[0];
+        }
+    }
+    
+    private static final class ComQueryHandler extends ChannelInboundHandlerAdapter {
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext context, final Object message) {
+            MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message, StandardCharsets.UTF_8);
+            try {
+                payload.readInt1();
+                new MySQLComQueryPacket(payload, false);
+            } finally {
+                payload.close();
+            }
+            context.writeAndFlush(new MySQLOKPacket(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.algorithm.sharding.datetime.IntervalShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link IntervalShardingAlgorithm}.
+ *
+ * <p>Daily sharded tables over {@code years} years are looked up by the interval index of {@link IntervalShardingAlgorithm},
+ * and compared with stepping through every interval from datetime lower and matching suffixes of all available tables.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IntervalShardingAlgorithmBenchmark {
+    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    private static final DateTimeFormatter SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    
+    private static final LocalDateTime DATE_TIME_LOWER = LocalDateTime.of(2016, 1, 1, 0, 0, 0);
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 8, '0');
+    
+    @Param({"1", "10"})
+    private int years;
+    
+    private IntervalShardingAlgorithm shardingAlgorithm;
+    
+    private LocalDateTime dateTimeUpper;
+    
+    private Collection<String> availableTargetNames;
+    
+    private PreciseShardingValue<Comparable<?>> preciseShardingValue;
+    
+    private RangeShardingValue<Comparable<?>> rangeShardingValue;
+    
+    /**
+     * Set up interval sharding algorithm and available tables.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        dateTimeUpper = DATE_TIME_LOWER.plusYears(years).minusDays(1);
+        Properties props = new Properties();
+        props.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        props.setProperty("datetime-lower", DATE_TIME_FORMATTER.format(DATE_TIME_LOWER));
+        props.setProperty("datetime-upper", DATE_TIME_FORMATTER.format(dateTimeUpper));
+        props.setProperty("sharding-suffix-pattern", "yyyyMMdd");
+        shardingAlgorithm = new IntervalShardingAlgorithm();
+        shardingAlgorithm.init(props);
+        availableTargetNames = new LinkedHashSet<>();
+        for (LocalDateTime each = DATE_TIME_LOWER; !each.isAfter(dateTimeUpper); each = each.plusDays(1)) {
+            availableTargetNames.add("t_order_" + SUFFIX_FORMATTER.format(each));
+        }
+        LocalDateTime middle = DATE_TIME_LOWER.plusDays(availableTargetNames.size() / 2);
+        preciseShardingValue = new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, DATE_TIME_FORMATTER.format(middle.plusHours(12)));
+        rangeShardingValue = new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO,
+                Range.closed(DATE_TIME_FORMATTER.format(middle), DATE_TIME_FORMATTER.format(middle.plusDays(7))));
+    }
+    
+    /**
+     * Find table of precise sharding value by interval index.
+     *
+     * @return matched table
+     */
+    @Benchmark
+    public String preciseByIndex() {
+        return shardingAlgorithm.doSharding(availableTargetNames, preciseShardingValue);
+    }
+    
+    /**
+     * Find tables of range sharding value by interval index.
+     *
+     * @return matched tables
+     */
+    @Benchmark
+    public Collection<String> rangeByIndex() {
+        return shardingAlgorithm.doSharding(availableTargetNames, rangeShardingValue);
+    }
+    
+    /**
+     * Find table of precise sharding value by stepping through intervals.
+     *
+     * @return matched tables
+     */
+    @Benchmark
+    public Collection<String> preciseByStepScan() {
+        return scan(Range.singleton(LocalDateTime.parse(preciseShardingValue.getValue().toString(), DATE_TIME_FORMATTER)));
+    }
+    
+    /**
+     * Find tables of range sharding value by stepping through intervals.
+     *
+     * @return matched tables
+     */
+    @Benchmark
+    public Collection<String> rangeByStepScan() {
+        Range<Comparable<?>> valueRange = rangeShardingValue.getValueRange();
+        return scan(Range.closed(LocalDateTime.parse(valueRange.lowerEndpoint().toString(), DATE_TIME_FORMATTER), LocalDateTime.parse(valueRange.upperEndpoint().toString(), DATE_TIME_FORMATTER)));
+    }
+    
+    private Collection<String> scan(final Range<LocalDateTime> valueRange) {
+        Set<String> result = new HashSet<>();
+        for (LocalDateTime each = DATE_TIME_LOWER; !each.isAfter(dateTimeUpper); each = each.plus(1, ChronoUnit.DAYS)) {
+            Range<LocalDateTime> intervalRange = Range.closedOpen(each, each.plus(1, ChronoUnit.DAYS));
+            if (intervalRange.isConnected(valueRange) && !intervalRange.intersection(valueRange).isEmpty()) {
+                String suffix = SUFFIX_FORMATTER.format(each);
+                for (String target : availableTargetNames) {
+                    if (target.endsWith(suffix)) {
+                        result.add(target);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.test.benchmark.fixture.AbstractKernelBenchmark;
+import org.apache.shardingsphere.test.benchmark.fixture.KernelBenchmarkContext;
+import org.apache.shardingsphere.test.benchmark.fixture.SQLCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmark for {@link SQLRouteEngine#route(ConnectionContext, QueryContext, ShardingSphereDatabase)}.
+ */
+public class SQLRouteEngineBenchmark extends AbstractKernelBenchmark {
+    
+    @Param({"POINT_SELECT", "ORDER_BY_SELECT", "GROUP_BY_SELECT", "JOIN_SELECT", "INSERT", "UPDATE"})
+    private SQLCase sqlCase;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private ConnectionContext connectionContext;
+    
+    private ShardingSphereDatabase database;
+    
+    private QueryContext queryContext;
+    
+    @Override
+    protected void prepare(final KernelBenchmarkContext context) {
+        database = context.getDatabase();
+        sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), context.getMetaData().getProps());
+        connectionContext = context.getConnectionContext();
+        queryContext = context.createQueryContext(sqlCase, context.parse(sqlCase, false));
+    }
+    
+    /**
+     * Route SQL.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return sqlRouteEngine.route(connectionContext, queryContext, database);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+CREATE TABLE IF NOT EXISTS t_order_0 (order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, amount DECIMAL(10, 2) NULL, PRIMARY KEY (order_id));
+CREATE TABLE IF NOT EXISTS t_order_1 (order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, amount DECIMAL(10, 2) NULL, PRIMARY KEY (order_id));
+CREATE TABLE IF NOT EXISTS t_order_2 (order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, amount DECIMAL(10, 2) NULL, PRIMARY KEY (order_id));
+CREATE TABLE IF NOT EXISTS t_order_3 (order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, amount DECIMAL(10, 2) NULL, PRIMARY KEY (order_id));
+CREATE TABLE IF NOT EXISTS t_order_item_0 (item_id BIGINT NOT NULL, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT NULL, PRIMARY KEY (item_id));
+CREATE TABLE IF NOT EXISTS t_order_item_1 (item_id BIGINT NOT NULL, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT NULL, PRIMARY KEY (item_id));
+CREATE TABLE IF NOT EXISTS t_order_item_2 (item_id BIGINT NOT NULL, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT NULL, PRIMARY KEY (item_id));
+CREATE TABLE IF NOT EXISTS t_order_item_3 (item_id BIGINT NOT NULL, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT NULL, PRIMARY KEY (item_id));